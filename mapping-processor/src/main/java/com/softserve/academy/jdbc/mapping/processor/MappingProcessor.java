@@ -0,0 +1,171 @@
+package com.softserve.academy.jdbc.mapping.processor;
+
+import com.softserve.academy.jdbc.mapping.Column;
+import com.softserve.academy.jdbc.mapping.Table;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the Mapping class of every {@link Table} class: its column list, a SELECT of those columns
+ * and a row mapper that reads them by index and passes them to the constructor annotated with
+ * {@link Column}. springapp1 runs it from its annotation processor path, see its pom.xml.
+ */
+@SupportedAnnotationTypes("com.softserve.academy.jdbc.mapping.Table")
+public class MappingProcessor extends AbstractProcessor {
+    private static final String SUFFIX = "Mapping";
+    private static final Map<String, String> GETTERS = Map.of(
+            "long", "getLong(%s)",
+            "int", "getInt(%s)",
+            "double", "getDouble(%s)",
+            "boolean", "getBoolean(%s)",
+            "java.lang.String", "getString(%s)",
+            "java.lang.Long", "getObject(%s, Long.class)",
+            "java.lang.Integer", "getObject(%s, Integer.class)",
+            "java.lang.Double", "getObject(%s, Double.class)",
+            "java.lang.Boolean", "getObject(%s, Boolean.class)");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Table.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@Table must be on a class");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            if (type.getNestingKind() != NestingKind.TOP_LEVEL || !type.getTypeParameters().isEmpty()) {
+                error(type, "@Table must be on a top-level class without type parameters");
+                continue;
+            }
+            ExecutableElement constructor = findConstructor(type);
+            if (constructor == null) {
+                continue;
+            }
+            List<String> columns = new ArrayList<>();
+            List<String> getters = new ArrayList<>();
+            for (VariableElement parameter : constructor.getParameters()) {
+                String getter = GETTERS.get(parameter.asType().toString());
+                if (getter == null) {
+                    error(parameter, "Unsupported column type " + parameter.asType());
+                    continue;
+                }
+                columns.add(parameter.getAnnotation(Column.class).value());
+                getters.add(getter);
+            }
+            if (getters.size() == constructor.getParameters().size()) {
+                write(type, type.getAnnotation(Table.class).value(), columns, getters);
+            }
+        }
+        return true;
+    }
+
+    private ExecutableElement findConstructor(TypeElement type) {
+        ExecutableElement found = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()
+                    || !constructor.getParameters().stream().allMatch(p -> p.getAnnotation(Column.class) != null)) {
+                continue;
+            }
+            if (found != null) {
+                error(constructor, "Only one constructor of a @Table class may have @Column parameters");
+                return null;
+            }
+            if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                error(constructor, "The @Column constructor must not be private");
+                return null;
+            }
+            found = constructor;
+        }
+        if (found == null) {
+            error(type, "A @Table class needs a constructor whose parameters all have @Column");
+        }
+        return found;
+    }
+
+    private void write(TypeElement type, String table, List<String> columns, List<String> getters) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String entity = type.getSimpleName().toString();
+        String mapping = entity + SUFFIX;
+        String columnList = String.join(", ", columns);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.softserve.academy.jdbc.dao.RowMapper;\n\n")
+                .append("import javax.annotation.processing.Generated;\n")
+                .append("import java.sql.ResultSet;\n")
+                .append("import java.sql.SQLException;\n\n")
+                .append("/**\n")
+                .append(" * Columns and row mapper of {@link ").append(entity).append("} for the table ").append(table)
+                .append(",\n * generated from its @Table and @Column annotations.\n")
+                .append(" */\n")
+                .append("@Generated(\"").append(MappingProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(mapping).append(" {\n")
+                .append("    /** The table the rows are read from. */\n")
+                .append("    public static final String TABLE = \"").append(table).append("\";\n")
+                .append("    /** The mapped columns, in the order {@link #map} reads them. */\n")
+                .append("    public static final String COLUMNS = \"").append(columnList).append("\";\n")
+                .append("    /** Selects the mapped columns of every row; append WHERE or ORDER BY as needed. */\n")
+                .append("    public static final String SELECT = \"SELECT ").append(columnList).append(" FROM ")
+                .append(table).append("\";\n")
+                .append("    /** Maps a row of {@link #SELECT}. */\n")
+                .append("    public static final RowMapper<").append(entity).append("> MAPPER = ").append(mapping)
+                .append("::map;\n\n")
+                .append("    private ").append(mapping).append("() {\n")
+                .append("    }\n\n")
+                .append("    public static ").append(entity).append(" map(ResultSet rs) throws SQLException {\n")
+                .append("        return map(rs, 0);\n")
+                .append("    }\n\n")
+                .append("    /**\n")
+                .append("     * Maps a row in which the columns of {@link #COLUMNS} follow the first offset columns.\n")
+                .append("     */\n")
+                .append("    public static ").append(entity)
+                .append(" map(ResultSet rs, int offset) throws SQLException {\n")
+                .append("        return new ").append(entity).append("(");
+        for (int i = 0; i < getters.size(); i++) {
+            source.append(i == 0 ? "\n                " : ",\n                ")
+                    .append("rs.").append(String.format(getters.get(i), "offset + " + (i + 1)));
+        }
+        source.append(");\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String name = packageName.isEmpty() ? mapping : packageName + "." + mapping;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            error(type, "Cannot write " + name + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
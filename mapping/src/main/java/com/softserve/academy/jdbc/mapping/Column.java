@@ -0,0 +1,20 @@
+package com.softserve.academy.jdbc.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the column a constructor parameter of a {@link Table} class is read from. Parameters may be
+ * long, int, double, boolean or String, or Long, Integer, Double or Boolean for nullable columns.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface Column {
+
+    /**
+     * @return The name of the column.
+     */
+    String value();
+}
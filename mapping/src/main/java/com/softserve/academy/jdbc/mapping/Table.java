@@ -0,0 +1,22 @@
+package com.softserve.academy.jdbc.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose rows are read from the given table. At compile time, MappingProcessor generates a
+ * class named after it with the suffix "Mapping", in the same package, holding a SELECT with an explicit
+ * column list and a row mapper that reads those columns by index. The mapped constructor is the one
+ * whose parameters are all annotated with {@link Column}; the columns are selected in parameter order.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Table {
+
+    /**
+     * @return The name of the table.
+     */
+    String value();
+}
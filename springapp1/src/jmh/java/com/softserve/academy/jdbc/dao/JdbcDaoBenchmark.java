@@ -0,0 +1,177 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.example.TranscriptEntry;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JMH benchmarks of the JDBC DAOs on an in-memory H2 database behind a {@link ConnectionPool}.
+ * The student table holds {@code rows} students; the first {@value #ENROLLED_STUDENTS} of them
+ * take {@value #COURSES_PER_STUDENT} courses each, so transcripts do not depend on the table size.
+ * Run with more JMH threads (-t) to measure the DAOs under contention for the pool and the tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class JdbcDaoBenchmark {
+    static final int ENROLLED_STUDENTS = 10_000;
+    static final int COURSES_PER_STUDENT = 5;
+    static final int BULK_ROWS = 1_000;
+    private static final int COURSES = 500;
+    private static final int TEACHERS = 50;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConnectionPool pool;
+    private StudentDAO studentDAO;
+    private TranscriptDAO transcriptDAO;
+    private long[] studentIds;
+    private long lastSeededId;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        pool = ConnectionPool.builder("jdbc:h2:mem:jmh-jdbc-" + rows + ";DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(64)
+                .build();
+        try (Connection conn = pool.getConnection()) {
+            SchemaManager.createSchema(conn);
+        }
+        studentDAO = new StudentDAO(pool);
+        transcriptDAO = new TranscriptDAO(pool);
+
+        List<Teacher> teachers = new ArrayList<>(TEACHERS);
+        for (int i = 0; i < TEACHERS; i++) {
+            teachers.add(new Teacher(0L, "Teacher " + i, "Department " + (i % 10)));
+        }
+        long[] teacherIds = new TeacherDAO(pool).addTeachers(teachers).getGeneratedIds();
+        List<Course> courses = new ArrayList<>(COURSES);
+        for (int i = 0; i < COURSES; i++) {
+            courses.add(new Course(0L, "Course " + i, teacherIds[i % TEACHERS]));
+        }
+        long[] courseIds = new CourseDAO(pool).addCourses(courses).getGeneratedIds();
+
+        studentIds = new long[rows];
+        List<Student> students = new ArrayList<>(10_000);
+        for (int i = 0; i < rows; i++) {
+            students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+            if (students.size() == 10_000 || i == rows - 1) {
+                long[] ids = studentDAO.addStudents(students, 1_000).getGeneratedIds();
+                System.arraycopy(ids, 0, studentIds, i + 1 - ids.length, ids.length);
+                students.clear();
+            }
+        }
+        lastSeededId = studentIds[rows - 1];
+
+        EnrollmentDAO enrollmentDAO = new EnrollmentDAO(pool);
+        String[] grades = {"A", "B", "C", "D", "E"};
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (int i = 0; i < Math.min(rows, ENROLLED_STUDENTS); i++) {
+            for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+                enrollments.add(new Enrollment(0L, studentIds[i], courseIds[(i + j * 7) % COURSES],
+                        grades[(i + j) % grades.length]));
+            }
+        }
+        enrollmentDAO.addEnrollments(enrollments, 1_000);
+    }
+
+    /**
+     * Removes the students added by crud and bulkInsert, so every iteration starts from the same table.
+     */
+    @TearDown(Level.Iteration)
+    public void removeAddedStudents() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM student WHERE id > " + lastSeededId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        pool.close();
+    }
+
+    /**
+     * Inserts, reads, updates and deletes one student.
+     */
+    @Benchmark
+    public boolean crud() throws SQLException {
+        long n = sequence.incrementAndGet();
+        long id = studentDAO.addStudent(new Student(0L, "Crud " + n, "crud" + n + "@example.com"));
+        Student student = studentDAO.getStudentById(id);
+        studentDAO.updateStudent(new Student(id, student.getName() + " Updated", student.getEmail()));
+        return studentDAO.deleteStudent(id);
+    }
+
+    @Benchmark
+    public Student getById() throws SQLException {
+        return studentDAO.getStudentById(randomStudentId());
+    }
+
+    @Benchmark
+    public List<Student> getAll() throws SQLException {
+        return studentDAO.getAllStudents();
+    }
+
+    @Benchmark
+    public List<TranscriptEntry> transcript() throws SQLException {
+        return transcriptDAO.getTranscript(studentIds[ThreadLocalRandom.current().nextInt(enrolledStudents())]);
+    }
+
+    /**
+     * Inserts {@value #BULK_ROWS} students in one batch; the score is the time per row.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BULK_ROWS)
+    public BatchResult bulkInsert() throws SQLException {
+        long first = sequence.getAndAdd(BULK_ROWS);
+        List<Student> students = new ArrayList<>(BULK_ROWS);
+        for (int i = 0; i < BULK_ROWS; i++) {
+            students.add(new Student(0L, "Bulk " + (first + i), "bulk" + (first + i) + "@example.com"));
+        }
+        return studentDAO.addStudents(students, BULK_ROWS);
+    }
+
+    private long randomStudentId() {
+        return studentIds[ThreadLocalRandom.current().nextInt(rows)];
+    }
+
+    private int enrolledStudents() {
+        return Math.min(rows, ENROLLED_STUDENTS);
+    }
+}
@@ -0,0 +1,137 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.EnrollmentMapping;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.StudentMapping;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-row cost of the row mappers generated by MappingProcessor, which read columns by index, compared
+ * with the mappers the DAOs used before, which read them by label from SELECT *. Each benchmark walks
+ * the same scrollable H2 result again, so the query itself is not measured; scores are per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+    private static final int ROWS = 10_000;
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+    private static final RowMapper<Student> STUDENT_BY_LABEL = rs -> new Student(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("email")
+    );
+    private static final RowMapper<Enrollment> ENROLLMENT_BY_LABEL = rs -> new Enrollment(
+            rs.getLong("id"),
+            rs.getLong("student_id"),
+            rs.getLong("course_id"),
+            rs.getString("grade")
+    );
+
+    private Connection conn;
+    private ResultSet studentsSelectAll;
+    private ResultSet studentsGenerated;
+    private ResultSet enrollmentsSelectAll;
+    private ResultSet enrollmentsGenerated;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:h2:mem:jmh-rowmapper-" + DATABASES.incrementAndGet(), "sa", "");
+        SchemaManager.createSchema(conn);
+        try (Statement insert = conn.createStatement()) {
+            insert.executeUpdate("INSERT INTO teacher (name, department) VALUES ('Teacher', 'Department')");
+            insert.executeUpdate("INSERT INTO course (title, teacher_id) VALUES ('Course', 1)");
+            insert.executeUpdate("INSERT INTO student (name, email) SELECT 'Student ' || X, 'student' || X "
+                    + "|| '@example.com' FROM SYSTEM_RANGE(1, " + ROWS + ")");
+            insert.executeUpdate("INSERT INTO enrollment (student_id, course_id, grade) SELECT id, 1, 'A' "
+                    + "FROM student");
+        }
+        studentsSelectAll = scroll("SELECT * FROM student");
+        studentsGenerated = scroll(StudentMapping.SELECT);
+        enrollmentsSelectAll = scroll("SELECT * FROM enrollment");
+        enrollmentsGenerated = scroll(EnrollmentMapping.SELECT);
+
+        if (!readAll(studentsSelectAll, STUDENT_BY_LABEL).equals(readAll(studentsGenerated, StudentMapping.MAPPER))
+                || !readAll(enrollmentsSelectAll, ENROLLMENT_BY_LABEL)
+                .equals(readAll(enrollmentsGenerated, EnrollmentMapping.MAPPER))) {
+            throw new IllegalStateException("The generated mappers read different rows");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void studentByLabel(Blackhole blackhole) throws SQLException {
+        walk(studentsSelectAll, STUDENT_BY_LABEL, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void studentGenerated(Blackhole blackhole) throws SQLException {
+        walk(studentsGenerated, StudentMapping.MAPPER, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void enrollmentByLabel(Blackhole blackhole) throws SQLException {
+        walk(enrollmentsSelectAll, ENROLLMENT_BY_LABEL, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void enrollmentGenerated(Blackhole blackhole) throws SQLException {
+        walk(enrollmentsGenerated, EnrollmentMapping.MAPPER, blackhole);
+    }
+
+    private ResultSet scroll(String sql) throws SQLException {
+        return conn.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY).executeQuery(sql);
+    }
+
+    private static <T> void walk(ResultSet rs, RowMapper<T> mapper, Blackhole blackhole) throws SQLException {
+        rs.beforeFirst();
+        while (rs.next()) {
+            blackhole.consume(mapper.mapRow(rs));
+        }
+    }
+
+    private static <T> List<T> readAll(ResultSet rs, RowMapper<T> mapper) throws SQLException {
+        List<T> rows = new ArrayList<>(ROWS);
+        rs.beforeFirst();
+        while (rs.next()) {
+            rows.add(mapper.mapRow(rs));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,89 @@
+package com.softserve.academy.jdbc.metrics;
+
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of {@link JdbcMetrics}: recording into a histogram, and getStudentById on the bare pool
+ * compared with the instrumented provider at the given sample interval (0 is off).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcMetricsBenchmark {
+    private static final int STUDENTS = 1_000;
+
+    @Param({"0", "100", "1"})
+    public int sampleInterval;
+
+    private ConnectionPool pool;
+    private StudentDAO bareDAO;
+    private StudentDAO instrumentedDAO;
+    private long[] ids;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        pool = ConnectionPool.builder("jdbc:h2:mem:jmh-metrics;DB_CLOSE_DELAY=-1", "sa", "").maxSize(64).build();
+        try (Connection conn = pool.getConnection()) {
+            SchemaManager.createSchema(conn);
+        }
+        bareDAO = new StudentDAO(pool);
+        instrumentedDAO = new StudentDAO(new JdbcMetrics(sampleInterval).instrument(pool));
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+        }
+        ids = bareDAO.addStudents(students).getGeneratedIds();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        pool.close();
+    }
+
+    @Benchmark
+    public void recordHistogram() {
+        histogram.record(ThreadLocalRandom.current().nextLong(1_000_000));
+    }
+
+    @Benchmark
+    public Student getByIdBare() throws SQLException {
+        return bareDAO.getStudentById(ids[ThreadLocalRandom.current().nextInt(STUDENTS)]);
+    }
+
+    @Benchmark
+    public Student getByIdInstrumented() throws SQLException {
+        return instrumentedDAO.getStudentById(ids[ThreadLocalRandom.current().nextInt(STUDENTS)]);
+    }
+}
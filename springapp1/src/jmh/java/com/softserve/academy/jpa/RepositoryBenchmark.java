@@ -0,0 +1,200 @@
+package com.softserve.academy.jpa;
+
+import hibernate.model.Course;
+import hibernate.model.Enrollment;
+import hibernate.model.Student;
+import hibernate.model.Teacher;
+import hibernate.projection.TranscriptLineView;
+import hibernate.repository.EnrollmentRepository;
+import hibernate.repository.StudentRepository;
+import hibernate.repository.TeacherRepository;
+import hibernate.service.BulkSaveService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JMH benchmarks of the Spring Data repositories in hibernate.repository on an in-memory H2 database,
+ * with the JPA setup of DemoApp including the second-level cache. The data has the same shape as in
+ * JdbcDaoBenchmark: {@code rows} students, the first {@value #ENROLLED_STUDENTS} of them taking
+ * {@value #COURSES_PER_STUDENT} courses each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RepositoryBenchmark {
+    static final int ENROLLED_STUDENTS = 10_000;
+    static final int COURSES_PER_STUDENT = 5;
+    static final int BULK_ROWS = 1_000;
+    private static final int COURSES = 500;
+    private static final int TEACHERS = 50;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private StudentRepository studentRepository;
+    private EnrollmentRepository enrollmentRepository;
+    private BulkSaveService bulkSaveService;
+    private JdbcTemplate jdbcTemplate;
+    private long[] studentIds;
+    private long lastSeededId;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(JpaRunnerApplication.class, H2Args.of("jmh-jpa-" + rows,
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--spring.datasource.hikari.maximum-pool-size=64"));
+        studentRepository = context.getBean(StudentRepository.class);
+        enrollmentRepository = context.getBean(EnrollmentRepository.class);
+        bulkSaveService = context.getBean(BulkSaveService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<Teacher> teachers = new ArrayList<>(TEACHERS);
+        for (int i = 0; i < TEACHERS; i++) {
+            teachers.add(Teacher.builder()
+                    .firstName("Teacher").lastName("Number" + i).email("teacher" + i + "@example.com")
+                    .position("Professor").department("Department " + (i % 10))
+                    .build());
+        }
+        teachers = context.getBean(TeacherRepository.class).saveAll(teachers);
+        List<Course> courses = new ArrayList<>(COURSES);
+        for (int i = 0; i < COURSES; i++) {
+            courses.add(Course.builder().title("Course " + i).teacher(teachers.get(i % TEACHERS)).build());
+        }
+        bulkSaveService.saveCourses(courses);
+
+        studentIds = new long[rows];
+        List<Student> enrolled = new ArrayList<>(ENROLLED_STUDENTS);
+        List<Student> students = new ArrayList<>(10_000);
+        for (int i = 0; i < rows; i++) {
+            students.add(newStudent("Student", i));
+            if (students.size() == 10_000 || i == rows - 1) {
+                bulkSaveService.saveStudents(students);
+                for (int j = 0; j < students.size(); j++) {
+                    studentIds[i + 1 - students.size() + j] = students.get(j).getId();
+                }
+                if (enrolled.size() < ENROLLED_STUDENTS) {
+                    enrolled.addAll(students.subList(0, Math.min(students.size(),
+                            ENROLLED_STUDENTS - enrolled.size())));
+                }
+                students = new ArrayList<>(10_000);
+            }
+        }
+        lastSeededId = studentIds[rows - 1];
+
+        String[] grades = {"A", "B", "C", "D", "E"};
+        List<Enrollment> enrollments = new ArrayList<>(enrolled.size() * COURSES_PER_STUDENT);
+        for (int i = 0; i < enrolled.size(); i++) {
+            for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+                enrollments.add(Enrollment.builder().student(enrolled.get(i))
+                        .course(courses.get((i + j * 7) % COURSES)).grade(grades[(i + j) % grades.length])
+                        .build());
+            }
+        }
+        bulkSaveService.saveEnrollments(enrollments);
+    }
+
+    /**
+     * Removes the students added by crud and bulkInsert, so every iteration starts from the same table.
+     */
+    @TearDown(Level.Iteration)
+    public void removeAddedStudents() {
+        jdbcTemplate.update("DELETE FROM students WHERE id > ?", lastSeededId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Inserts, reads, updates and deletes one student, each in its own transaction.
+     */
+    @Benchmark
+    public Student crud() {
+        long n = sequence.incrementAndGet();
+        Student student = studentRepository.save(newStudent("Crud", n));
+        student = studentRepository.findById(student.getId()).orElseThrow();
+        student.setGroup("CS-updated");
+        student = studentRepository.save(student);
+        studentRepository.deleteById(student.getId());
+        return student;
+    }
+
+    @Benchmark
+    public Student getById() {
+        return studentRepository.findById(studentIds[ThreadLocalRandom.current().nextInt(rows)]).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Student> getAll() {
+        return studentRepository.findAll();
+    }
+
+    /**
+     * The transcript as entities with their course and teacher; the query result is cached.
+     */
+    @Benchmark
+    public List<Enrollment> transcript() {
+        return enrollmentRepository.findByStudentId(randomEnrolledStudentId());
+    }
+
+    /**
+     * The transcript as read-only rows from one joined query, which is not cached.
+     */
+    @Benchmark
+    public List<TranscriptLineView> transcriptProjection() {
+        return enrollmentRepository.findTranscriptLinesByStudentId(randomEnrolledStudentId());
+    }
+
+    /**
+     * Saves {@value #BULK_ROWS} students with BulkSaveService; the score is the time per row.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BULK_ROWS)
+    public List<Student> bulkInsert() {
+        long first = sequence.getAndAdd(BULK_ROWS);
+        List<Student> students = new ArrayList<>(BULK_ROWS);
+        for (int i = 0; i < BULK_ROWS; i++) {
+            students.add(newStudent("Bulk", first + i));
+        }
+        bulkSaveService.saveStudents(students);
+        return students;
+    }
+
+    private long randomEnrolledStudentId() {
+        return studentIds[ThreadLocalRandom.current().nextInt(Math.min(rows, ENROLLED_STUDENTS))];
+    }
+
+    private static Student newStudent(String kind, long n) {
+        return Student.builder()
+                .firstName(kind).lastName("Number" + n).email(kind.toLowerCase() + n + "@example.com")
+                .group("CS-" + (n % 40))
+                .build();
+    }
+}
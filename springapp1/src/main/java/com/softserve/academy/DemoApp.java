@@ -8,15 +8,20 @@ import hibernate.repository.CourseRepository;
 import hibernate.repository.EnrollmentRepository;
 import hibernate.repository.StudentRepository;
 import hibernate.repository.TeacherRepository;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
 import org.antlr.v4.runtime.misc.LogManager;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import javax.sql.DataSource;
+
 @SpringBootApplication
 @AllArgsConstructor
 @EnableJpaRepositories(basePackages = "hibernate.repository")
@@ -34,6 +39,15 @@ public class DemoApp implements CommandLineRunner {
         SpringApplication.run(DemoApp.class, args);
     }
 
+    /**
+     * Keeps the DataSource and the EntityManagerFactory eager when spring.main.lazy-initialization is on,
+     * so that a database that cannot be reached or a schema that fails validation stops the startup.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerPersistence() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class);
+    }
+
     @Override
     public void run(String... args) throws Exception {
         System.out.println("Starting application...");
@@ -0,0 +1,110 @@
+package com.softserve.academy.jdbc.async;
+
+import com.softserve.academy.jdbc.dao.BatchResult;
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.RowCallback;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link CourseDAO}: every operation runs on the given executor and
+ * completes its future with the result, or exceptionally with the SQLException or
+ * IllegalArgumentException the DAO threw. Streams are left out, since they hold a connection until
+ * closed; use {@link #forEachCourse} instead.
+ */
+public class AsyncCourseDAO {
+    private final CourseDAO dao;
+    private final AsyncDaoExecutor executor;
+
+    /**
+     * @param connectionProvider The provider the operations get their connections from; it must hand out
+     *                           a separate connection per call, like ConnectionPool does.
+     * @param executor           The executor that runs the operations.
+     */
+    public AsyncCourseDAO(ConnectionProvider connectionProvider, AsyncDaoExecutor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.dao = new CourseDAO(connectionProvider);
+        this.executor = executor;
+    }
+
+    /**
+     * @see CourseDAO#addCourse(Course)
+     */
+    public CompletableFuture<Long> addCourse(Course course) {
+        return executor.submit(() -> dao.addCourse(course));
+    }
+
+    /**
+     * @see CourseDAO#addCourses(List, int)
+     */
+    public CompletableFuture<BatchResult> addCourses(List<Course> courses, int batchSize) {
+        return executor.submit(() -> dao.addCourses(courses, batchSize));
+    }
+
+    /**
+     * @see CourseDAO#updateCourse(Course)
+     */
+    public CompletableFuture<Boolean> updateCourse(Course course) {
+        return executor.submit(() -> dao.updateCourse(course));
+    }
+
+    /**
+     * @see CourseDAO#deleteCourse(long)
+     */
+    public CompletableFuture<Boolean> deleteCourse(long id) {
+        return executor.submit(() -> dao.deleteCourse(id));
+    }
+
+    /**
+     * @see CourseDAO#getCourseById(long)
+     */
+    public CompletableFuture<Course> getCourseById(long id) {
+        return executor.submit(() -> dao.getCourseById(id));
+    }
+
+    /**
+     * Looks up several courses at once, each on its own connection.
+     *
+     * @param ids The IDs of the courses.
+     * @return A future of the courses by ID, null for the missing ones; see {@link AsyncDaoExecutor#allByKey}.
+     */
+    public CompletableFuture<Map<Long, Course>> getCoursesById(Collection<Long> ids) {
+        return AsyncDaoExecutor.allByKey(ids, this::getCourseById);
+    }
+
+    /**
+     * @see CourseDAO#getCoursesByTitle(String)
+     */
+    public CompletableFuture<List<Course>> getCoursesByTitle(String title) {
+        return executor.submit(() -> dao.getCoursesByTitle(title));
+    }
+
+    /**
+     * @see CourseDAO#getAllCourses()
+     */
+    public CompletableFuture<List<Course>> getAllCourses() {
+        return executor.submit(dao::getAllCourses);
+    }
+
+    /**
+     * Runs {@link CourseDAO#forEachCourse} on the executor; the callback is called on the executor's thread.
+     */
+    public CompletableFuture<Long> forEachCourse(int fetchSize, RowCallback<Course> callback) {
+        return executor.submit(() -> dao.forEachCourse(fetchSize, callback));
+    }
+
+    /**
+     * @see CourseDAO#getCoursesPage(String, int)
+     */
+    public CompletableFuture<KeysetPage<Course>> getCoursesPage(String continuationToken, int pageSize) {
+        return executor.submit(() -> dao.getCoursesPage(continuationToken, pageSize));
+    }
+}
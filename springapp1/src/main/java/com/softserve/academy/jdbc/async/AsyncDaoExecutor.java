@@ -0,0 +1,318 @@
+package com.softserve.academy.jdbc.async;
+
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs blocking DAO operations off the calling thread and returns their results as CompletableFutures.
+ * <p>
+ * On a JVM with virtual threads every operation gets its own virtual thread; otherwise the operations
+ * share a pool of platform threads, one per permit. Either way at most {@code maxConcurrency}
+ * operations run at the same time, which should be the number of connections of the pool the DAOs
+ * use, so that waiting for a connection happens here, in FIFO order, instead of in the pool.
+ * <p>
+ * Cancelling a future, or a timeout completing it, stops an operation that is still waiting for a
+ * permit; it then never touches the database. An operation that is already executing runs to the
+ * end, because interrupting a JDBC call can break the connection, and its result is discarded.
+ * Like any CompletableFuture, cancelling a dependent stage does not cancel the operation; cancel the
+ * future returned by {@link #submit} or by the fan-out helpers.
+ */
+public class AsyncDaoExecutor implements AutoCloseable {
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long timeoutMillis;
+
+    /**
+     * Creates an executor that runs as many operations at once as the pool has connections.
+     *
+     * @param pool The pool the DAOs get their connections from.
+     */
+    public AsyncDaoExecutor(ConnectionPool pool) {
+        this(pool.getMetrics().getMaxSize(), 0);
+    }
+
+    /**
+     * @param maxConcurrency The maximum number of operations running at the same time.
+     * @param timeoutMillis  The time after which every future fails with a TimeoutException; 0 for none.
+     */
+    public AsyncDaoExecutor(int maxConcurrency, long timeoutMillis) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeout cannot be negative");
+        }
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtualThreads ? virtual : Executors.newFixedThreadPool(maxConcurrency, daemonThreads());
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Runs an operation with the default timeout of this executor.
+     *
+     * @param call The operation.
+     * @return A future completed with the result, or exceptionally with what the operation threw.
+     */
+    public <T> CompletableFuture<T> submit(DaoCall<T> call) {
+        return submit(call, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs an operation that fails with a TimeoutException if it has not completed in time.
+     *
+     * @param call    The operation.
+     * @param timeout The timeout; 0 for none.
+     * @param unit    The unit of the timeout.
+     * @return A future completed with the result, or exceptionally with what the operation threw.
+     */
+    public <T> CompletableFuture<T> submit(DaoCall<T> call, long timeout, TimeUnit unit) {
+        if (call == null) {
+            throw new IllegalArgumentException("Call cannot be null");
+        }
+        OperationFuture<T> future = new OperationFuture<>();
+        executor.execute(() -> run(call, future));
+        if (timeout > 0) {
+            future.orTimeout(timeout, unit);
+        }
+        return future;
+    }
+
+    /**
+     * Waits for all futures and collects their results in order. If one of them fails, the result fails
+     * with the same exception and the others are cancelled; cancelling the result, or a timeout
+     * completing it, cancels all of them.
+     *
+     * @param futures The futures, typically from {@link #submit}.
+     * @return A future of the results.
+     */
+    public static <T> CompletableFuture<List<T>> all(List<? extends CompletableFuture<? extends T>> futures) {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        if (futures.isEmpty()) {
+            result.complete(Collections.emptyList());
+            return result;
+        }
+        Object[] values = new Object[futures.size()];
+        AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            futures.get(i).whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(unwrap(error));
+                    return;
+                }
+                values[index] = value;
+                if (remaining.decrementAndGet() == 0) {
+                    List<T> list = new ArrayList<>(values.length);
+                    for (Object element : values) {
+                        @SuppressWarnings("unchecked")
+                        T typed = (T) element;
+                        list.add(typed);
+                    }
+                    result.complete(list);
+                }
+            });
+        }
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Starts one operation per key and collects the results by key, in the iteration order of the keys,
+     * with the failure and cancellation rules of {@link #all}.
+     *
+     * @param keys      The keys, e.g. IDs to look up.
+     * @param operation Starts the operation for a key, e.g. {@code id -> asyncDao.getStudentById(id)}.
+     * @return A future of the results by key.
+     */
+    public static <K, V> CompletableFuture<Map<K, V>> allByKey(Collection<K> keys,
+                                                               Function<? super K, CompletableFuture<V>> operation) {
+        List<K> keyList = new ArrayList<>(keys);
+        List<CompletableFuture<V>> futures = new ArrayList<>(keyList.size());
+        for (K key : keyList) {
+            futures.add(operation.apply(key));
+        }
+        CompletableFuture<Map<K, V>> result = new CompletableFuture<>();
+        CompletableFuture<List<V>> values = all(futures);
+        values.whenComplete((list, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+                return;
+            }
+            Map<K, V> map = new LinkedHashMap<>();
+            for (int i = 0; i < keyList.size(); i++) {
+                map.put(keyList.get(i), list.get(i));
+            }
+            result.complete(map);
+        });
+        result.whenComplete((map, error) -> {
+            if (error != null) {
+                values.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns whether the operations run on virtual threads rather than a pool of platform threads.
+     *
+     * @return True on a JVM with virtual threads.
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of operations waiting for a permit because maxConcurrency others are running.
+     *
+     * @return An estimate of the number of waiting operations.
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Stops accepting operations and waits up to five seconds for the submitted ones to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> void run(DaoCall<T> call, OperationFuture<T> future) {
+        if (!future.startWaiting()) {
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            future.stopWaiting();
+            return;
+        }
+        try {
+            if (!future.stopWaiting()) {
+                return;
+            }
+            future.complete(call.call());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return (error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Calls Executors.newVirtualThreadPerTaskExecutor reflectively, since this code is compiled for a
+     * release without it.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "dao-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A future that interrupts its operation while it waits for a permit, when the future is cancelled
+     * or fails, e.g. by a timeout. Dependent stages are plain CompletableFutures.
+     */
+    private static final class OperationFuture<T> extends CompletableFuture<T> {
+        private Thread waiter;
+
+        synchronized boolean startWaiting() {
+            if (isDone()) {
+                return false;
+            }
+            waiter = Thread.currentThread();
+            return true;
+        }
+
+        /**
+         * @return False if the future was completed while waiting; clears a pending interrupt either way.
+         */
+        synchronized boolean stopWaiting() {
+            waiter = null;
+            Thread.interrupted();
+            return !isDone();
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable ex) {
+            boolean completed = super.completeExceptionally(ex);
+            if (completed) {
+                interruptWaiter();
+            }
+            return completed;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                interruptWaiter();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new CompletableFuture<>();
+        }
+
+        private synchronized void interruptWaiter() {
+            if (waiter != null) {
+                waiter.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.softserve.academy.jdbc.async;
+
+import com.softserve.academy.jdbc.dao.BatchResult;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.RowCallback;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link EnrollmentDAO}: every operation runs on the given executor and
+ * completes its future with the result, or exceptionally with the SQLException or
+ * IllegalArgumentException the DAO threw. Streams are left out, since they hold a connection until
+ * closed; use {@link #forEachEnrollment} instead.
+ */
+public class AsyncEnrollmentDAO {
+    private final EnrollmentDAO dao;
+    private final AsyncDaoExecutor executor;
+
+    /**
+     * @param connectionProvider The provider the operations get their connections from; it must hand out
+     *                           a separate connection per call, like ConnectionPool does.
+     * @param executor           The executor that runs the operations.
+     */
+    public AsyncEnrollmentDAO(ConnectionProvider connectionProvider, AsyncDaoExecutor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.dao = new EnrollmentDAO(connectionProvider);
+        this.executor = executor;
+    }
+
+    /**
+     * @see EnrollmentDAO#addEnrollment(Enrollment)
+     */
+    public CompletableFuture<Long> addEnrollment(Enrollment enrollment) {
+        return executor.submit(() -> dao.addEnrollment(enrollment));
+    }
+
+    /**
+     * @see EnrollmentDAO#addEnrollments(List, int)
+     */
+    public CompletableFuture<BatchResult> addEnrollments(List<Enrollment> enrollments, int batchSize) {
+        return executor.submit(() -> dao.addEnrollments(enrollments, batchSize));
+    }
+
+    /**
+     * @see EnrollmentDAO#updateEnrollment(Enrollment)
+     */
+    public CompletableFuture<Boolean> updateEnrollment(Enrollment enrollment) {
+        return executor.submit(() -> dao.updateEnrollment(enrollment));
+    }
+
+    /**
+     * @see EnrollmentDAO#deleteEnrollment(long)
+     */
+    public CompletableFuture<Boolean> deleteEnrollment(long id) {
+        return executor.submit(() -> dao.deleteEnrollment(id));
+    }
+
+    /**
+     * @see EnrollmentDAO#getEnrollmentById(long)
+     */
+    public CompletableFuture<Enrollment> getEnrollmentById(long id) {
+        return executor.submit(() -> dao.getEnrollmentById(id));
+    }
+
+    /**
+     * Looks up several enrollments at once, each on its own connection.
+     *
+     * @param ids The IDs of the enrollments.
+     * @return A future of the enrollments by ID, null for the missing ones; see {@link AsyncDaoExecutor#allByKey}.
+     */
+    public CompletableFuture<Map<Long, Enrollment>> getEnrollmentsById(Collection<Long> ids) {
+        return AsyncDaoExecutor.allByKey(ids, this::getEnrollmentById);
+    }
+
+    /**
+     * @see EnrollmentDAO#getAllEnrollments()
+     */
+    public CompletableFuture<List<Enrollment>> getAllEnrollments() {
+        return executor.submit(dao::getAllEnrollments);
+    }
+
+    /**
+     * Runs {@link EnrollmentDAO#forEachEnrollment} on the executor; the callback is called on the executor's thread.
+     */
+    public CompletableFuture<Long> forEachEnrollment(int fetchSize, RowCallback<Enrollment> callback) {
+        return executor.submit(() -> dao.forEachEnrollment(fetchSize, callback));
+    }
+
+    /**
+     * @see EnrollmentDAO#getEnrollmentsPage(String, int)
+     */
+    public CompletableFuture<KeysetPage<Enrollment>> getEnrollmentsPage(String continuationToken, int pageSize) {
+        return executor.submit(() -> dao.getEnrollmentsPage(continuationToken, pageSize));
+    }
+}
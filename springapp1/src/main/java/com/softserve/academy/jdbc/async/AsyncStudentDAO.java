@@ -0,0 +1,103 @@
+package com.softserve.academy.jdbc.async;
+
+import com.softserve.academy.jdbc.dao.BatchResult;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.RowCallback;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link StudentDAO}: every operation runs on the given executor and
+ * completes its future with the result, or exceptionally with the SQLException or
+ * IllegalArgumentException the DAO threw. Streams are left out, since they hold a connection until
+ * closed; use {@link #forEachStudent} instead.
+ */
+public class AsyncStudentDAO {
+    private final StudentDAO dao;
+    private final AsyncDaoExecutor executor;
+
+    /**
+     * @param connectionProvider The provider the operations get their connections from; it must hand out
+     *                           a separate connection per call, like ConnectionPool does.
+     * @param executor           The executor that runs the operations.
+     */
+    public AsyncStudentDAO(ConnectionProvider connectionProvider, AsyncDaoExecutor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.dao = new StudentDAO(connectionProvider);
+        this.executor = executor;
+    }
+
+    /**
+     * @see StudentDAO#addStudent(Student)
+     */
+    public CompletableFuture<Long> addStudent(Student student) {
+        return executor.submit(() -> dao.addStudent(student));
+    }
+
+    /**
+     * @see StudentDAO#addStudents(List, int)
+     */
+    public CompletableFuture<BatchResult> addStudents(List<Student> students, int batchSize) {
+        return executor.submit(() -> dao.addStudents(students, batchSize));
+    }
+
+    /**
+     * @see StudentDAO#updateStudent(Student)
+     */
+    public CompletableFuture<Boolean> updateStudent(Student student) {
+        return executor.submit(() -> dao.updateStudent(student));
+    }
+
+    /**
+     * @see StudentDAO#deleteStudent(long)
+     */
+    public CompletableFuture<Boolean> deleteStudent(long id) {
+        return executor.submit(() -> dao.deleteStudent(id));
+    }
+
+    /**
+     * @see StudentDAO#getStudentById(long)
+     */
+    public CompletableFuture<Student> getStudentById(long id) {
+        return executor.submit(() -> dao.getStudentById(id));
+    }
+
+    /**
+     * Looks up several students at once, each on its own connection.
+     *
+     * @param ids The IDs of the students.
+     * @return A future of the students by ID, null for the missing ones; see {@link AsyncDaoExecutor#allByKey}.
+     */
+    public CompletableFuture<Map<Long, Student>> getStudentsById(Collection<Long> ids) {
+        return AsyncDaoExecutor.allByKey(ids, this::getStudentById);
+    }
+
+    /**
+     * @see StudentDAO#getAllStudents()
+     */
+    public CompletableFuture<List<Student>> getAllStudents() {
+        return executor.submit(dao::getAllStudents);
+    }
+
+    /**
+     * Runs {@link StudentDAO#forEachStudent} on the executor; the callback is called on the executor's thread.
+     */
+    public CompletableFuture<Long> forEachStudent(int fetchSize, RowCallback<Student> callback) {
+        return executor.submit(() -> dao.forEachStudent(fetchSize, callback));
+    }
+
+    /**
+     * @see StudentDAO#getStudentsPage(String, int)
+     */
+    public CompletableFuture<KeysetPage<Student>> getStudentsPage(String continuationToken, int pageSize) {
+        return executor.submit(() -> dao.getStudentsPage(continuationToken, pageSize));
+    }
+}
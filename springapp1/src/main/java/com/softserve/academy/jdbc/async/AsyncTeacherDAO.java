@@ -0,0 +1,110 @@
+package com.softserve.academy.jdbc.async;
+
+import com.softserve.academy.jdbc.dao.BatchResult;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.dao.RowCallback;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link TeacherDAO}: every operation runs on the given executor and
+ * completes its future with the result, or exceptionally with the SQLException or
+ * IllegalArgumentException the DAO threw. Streams are left out, since they hold a connection until
+ * closed; use {@link #forEachTeacher} instead.
+ */
+public class AsyncTeacherDAO {
+    private final TeacherDAO dao;
+    private final AsyncDaoExecutor executor;
+
+    /**
+     * @param connectionProvider The provider the operations get their connections from; it must hand out
+     *                           a separate connection per call, like ConnectionPool does.
+     * @param executor           The executor that runs the operations.
+     */
+    public AsyncTeacherDAO(ConnectionProvider connectionProvider, AsyncDaoExecutor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.dao = new TeacherDAO(connectionProvider);
+        this.executor = executor;
+    }
+
+    /**
+     * @see TeacherDAO#addTeacher(Teacher)
+     */
+    public CompletableFuture<Long> addTeacher(Teacher teacher) {
+        return executor.submit(() -> dao.addTeacher(teacher));
+    }
+
+    /**
+     * @see TeacherDAO#addTeachers(List, int)
+     */
+    public CompletableFuture<BatchResult> addTeachers(List<Teacher> teachers, int batchSize) {
+        return executor.submit(() -> dao.addTeachers(teachers, batchSize));
+    }
+
+    /**
+     * @see TeacherDAO#updateTeacher(Teacher)
+     */
+    public CompletableFuture<Boolean> updateTeacher(Teacher teacher) {
+        return executor.submit(() -> dao.updateTeacher(teacher));
+    }
+
+    /**
+     * @see TeacherDAO#deleteTeacher(long)
+     */
+    public CompletableFuture<Boolean> deleteTeacher(long id) {
+        return executor.submit(() -> dao.deleteTeacher(id));
+    }
+
+    /**
+     * @see TeacherDAO#getTeacherById(long)
+     */
+    public CompletableFuture<Teacher> getTeacherById(long id) {
+        return executor.submit(() -> dao.getTeacherById(id));
+    }
+
+    /**
+     * Looks up several teachers at once, each on its own connection.
+     *
+     * @param ids The IDs of the teachers.
+     * @return A future of the teachers by ID, null for the missing ones; see {@link AsyncDaoExecutor#allByKey}.
+     */
+    public CompletableFuture<Map<Long, Teacher>> getTeachersById(Collection<Long> ids) {
+        return AsyncDaoExecutor.allByKey(ids, this::getTeacherById);
+    }
+
+    /**
+     * @see TeacherDAO#getTeachersByName(String)
+     */
+    public CompletableFuture<List<Teacher>> getTeachersByName(String name) {
+        return executor.submit(() -> dao.getTeachersByName(name));
+    }
+
+    /**
+     * @see TeacherDAO#getAllTeachers()
+     */
+    public CompletableFuture<List<Teacher>> getAllTeachers() {
+        return executor.submit(dao::getAllTeachers);
+    }
+
+    /**
+     * Runs {@link TeacherDAO#forEachTeacher} on the executor; the callback is called on the executor's thread.
+     */
+    public CompletableFuture<Long> forEachTeacher(int fetchSize, RowCallback<Teacher> callback) {
+        return executor.submit(() -> dao.forEachTeacher(fetchSize, callback));
+    }
+
+    /**
+     * @see TeacherDAO#getTeachersPage(String, int)
+     */
+    public CompletableFuture<KeysetPage<Teacher>> getTeachersPage(String continuationToken, int pageSize) {
+        return executor.submit(() -> dao.getTeachersPage(continuationToken, pageSize));
+    }
+}
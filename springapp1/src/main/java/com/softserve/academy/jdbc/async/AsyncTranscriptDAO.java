@@ -0,0 +1,55 @@
+package com.softserve.academy.jdbc.async;
+
+import com.softserve.academy.jdbc.dao.TranscriptDAO;
+import com.softserve.academy.jdbc.example.TranscriptEntry;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link TranscriptDAO}: every read runs on the given executor and
+ * completes its future with the result, or exceptionally with the exception the DAO threw.
+ */
+public class AsyncTranscriptDAO {
+    private final TranscriptDAO dao;
+    private final AsyncDaoExecutor executor;
+
+    /**
+     * @param connectionProvider The provider the reads get their connections from; it must hand out
+     *                           a separate connection per call, like ConnectionPool does.
+     * @param executor           The executor that runs the reads.
+     */
+    public AsyncTranscriptDAO(ConnectionProvider connectionProvider, AsyncDaoExecutor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.dao = new TranscriptDAO(connectionProvider);
+        this.executor = executor;
+    }
+
+    /**
+     * @see TranscriptDAO#getTranscript(long)
+     */
+    public CompletableFuture<List<TranscriptEntry>> getTranscript(long studentId) {
+        return executor.submit(() -> dao.getTranscript(studentId));
+    }
+
+    /**
+     * @see TranscriptDAO#getRoster(long)
+     */
+    public CompletableFuture<List<TranscriptEntry>> getRoster(long courseId) {
+        return executor.submit(() -> dao.getRoster(courseId));
+    }
+
+    /**
+     * Reads the transcripts of many students in one IN-list query per chunk, on a single connection.
+     *
+     * @see TranscriptDAO#getTranscripts(Collection)
+     */
+    public CompletableFuture<Map<Long, List<TranscriptEntry>>> getTranscripts(Collection<Long> studentIds) {
+        return executor.submit(() -> dao.getTranscripts(studentIds));
+    }
+}
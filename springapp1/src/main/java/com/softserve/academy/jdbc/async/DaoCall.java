@@ -0,0 +1,20 @@
+package com.softserve.academy.jdbc.async;
+
+import java.sql.SQLException;
+
+/**
+ * A blocking DAO operation run by {@link AsyncDaoExecutor}.
+ *
+ * @param <T> The result type.
+ */
+@FunctionalInterface
+public interface DaoCall<T> {
+
+    /**
+     * Runs the operation.
+     *
+     * @return The result of the operation.
+     * @throws SQLException If a database access error occurs.
+     */
+    T call() throws SQLException;
+}
@@ -0,0 +1,64 @@
+package com.softserve.academy.jdbc.cache;
+
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.tx.TransactionManager;
+
+import java.sql.SQLException;
+
+/**
+ * The {@link EntityCache} of a caching DAO, together with the rules that keep it consistent with transactions.
+ * Writes invalidate the entity once the statement has run. When the provider is a {@link TransactionManager}
+ * and the write runs inside its transaction, the entity is invalidated again after the commit, because other
+ * threads can cache the old row until then; reads inside a transaction bypass the cache, so that rows the
+ * transaction has not committed yet are never cached.
+ *
+ * @param <T> The entity type.
+ */
+final class CachedLookup<T> {
+    private final EntityCache<T> cache;
+    private final TransactionManager transactionManager;
+
+    CachedLookup(ConnectionProvider connectionProvider, EntityCache<T> cache) {
+        if (cache == null) {
+            throw new IllegalArgumentException("Cache cannot be null");
+        }
+        this.cache = cache;
+        this.transactionManager = connectionProvider instanceof TransactionManager
+                ? (TransactionManager) connectionProvider : null;
+    }
+
+    /**
+     * Returns the entity from the cache, or straight from the loader inside a transaction.
+     *
+     * @param id     The ID of the entity.
+     * @param loader Loads the entity from the database.
+     * @return The entity, or null if it does not exist.
+     * @throws SQLException If a database access error occurs.
+     */
+    T get(long id, EntityCache.Loader<T> loader) throws SQLException {
+        if (isInTransaction()) {
+            return loader.load(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Invalidates the entity now and, inside a transaction, once more after the commit.
+     *
+     * @param id The ID of the entity that was written.
+     */
+    void invalidate(long id) {
+        cache.invalidate(id);
+        if (isInTransaction()) {
+            transactionManager.afterCommit(() -> cache.invalidate(id));
+        }
+    }
+
+    EntityCache<T> getCache() {
+        return cache;
+    }
+
+    private boolean isInTransaction() {
+        return transactionManager != null && transactionManager.isInTransaction();
+    }
+}
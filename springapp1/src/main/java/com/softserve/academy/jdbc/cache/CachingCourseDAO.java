@@ -0,0 +1,54 @@
+package com.softserve.academy.jdbc.cache;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.sql.SQLException;
+
+/**
+ * CourseDAO that serves getCourseById from an {@link EntityCache}.
+ * updateCourse and deleteCourse invalidate the course; {@link CachedLookup} describes how the cache stays
+ * consistent with transactions.
+ */
+public class CachingCourseDAO extends CourseDAO {
+    private final CachedLookup<Course> lookup;
+
+    public CachingCourseDAO(ConnectionProvider connectionProvider) {
+        this(connectionProvider, TinyLfuCache.builder().build());
+    }
+
+    public CachingCourseDAO(ConnectionProvider connectionProvider, EntityCache<Course> cache) {
+        super(connectionProvider);
+        this.lookup = new CachedLookup<>(connectionProvider, cache);
+    }
+
+    @Override
+    public boolean updateCourse(Course course) throws SQLException {
+        try {
+            return super.updateCourse(course);
+        } finally {
+            if (course != null) {
+                lookup.invalidate(course.getId());
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteCourse(long id) throws SQLException {
+        try {
+            return super.deleteCourse(id);
+        } finally {
+            lookup.invalidate(id);
+        }
+    }
+
+    @Override
+    public Course getCourseById(long id) throws SQLException {
+        return lookup.get(id, super::getCourseById);
+    }
+
+    public EntityCache<Course> getCache() {
+        return lookup.getCache();
+    }
+}
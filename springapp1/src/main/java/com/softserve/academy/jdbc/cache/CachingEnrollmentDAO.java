@@ -0,0 +1,54 @@
+package com.softserve.academy.jdbc.cache;
+
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.sql.SQLException;
+
+/**
+ * EnrollmentDAO that serves getEnrollmentById from an {@link EntityCache}.
+ * updateEnrollment and deleteEnrollment invalidate the enrollment; {@link CachedLookup} describes how the cache stays
+ * consistent with transactions.
+ */
+public class CachingEnrollmentDAO extends EnrollmentDAO {
+    private final CachedLookup<Enrollment> lookup;
+
+    public CachingEnrollmentDAO(ConnectionProvider connectionProvider) {
+        this(connectionProvider, TinyLfuCache.builder().build());
+    }
+
+    public CachingEnrollmentDAO(ConnectionProvider connectionProvider, EntityCache<Enrollment> cache) {
+        super(connectionProvider);
+        this.lookup = new CachedLookup<>(connectionProvider, cache);
+    }
+
+    @Override
+    public boolean updateEnrollment(Enrollment enrollment) throws SQLException {
+        try {
+            return super.updateEnrollment(enrollment);
+        } finally {
+            if (enrollment != null) {
+                lookup.invalidate(enrollment.getId());
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteEnrollment(long id) throws SQLException {
+        try {
+            return super.deleteEnrollment(id);
+        } finally {
+            lookup.invalidate(id);
+        }
+    }
+
+    @Override
+    public Enrollment getEnrollmentById(long id) throws SQLException {
+        return lookup.get(id, super::getEnrollmentById);
+    }
+
+    public EntityCache<Enrollment> getCache() {
+        return lookup.getCache();
+    }
+}
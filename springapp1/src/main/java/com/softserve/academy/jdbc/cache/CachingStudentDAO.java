@@ -0,0 +1,54 @@
+package com.softserve.academy.jdbc.cache;
+
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.sql.SQLException;
+
+/**
+ * StudentDAO that serves getStudentById from an {@link EntityCache}.
+ * updateStudent and deleteStudent invalidate the student; {@link CachedLookup} describes how the cache stays
+ * consistent with transactions.
+ */
+public class CachingStudentDAO extends StudentDAO {
+    private final CachedLookup<Student> lookup;
+
+    public CachingStudentDAO(ConnectionProvider connectionProvider) {
+        this(connectionProvider, TinyLfuCache.builder().build());
+    }
+
+    public CachingStudentDAO(ConnectionProvider connectionProvider, EntityCache<Student> cache) {
+        super(connectionProvider);
+        this.lookup = new CachedLookup<>(connectionProvider, cache);
+    }
+
+    @Override
+    public boolean updateStudent(Student student) throws SQLException {
+        try {
+            return super.updateStudent(student);
+        } finally {
+            if (student != null) {
+                lookup.invalidate(student.getId());
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteStudent(long id) throws SQLException {
+        try {
+            return super.deleteStudent(id);
+        } finally {
+            lookup.invalidate(id);
+        }
+    }
+
+    @Override
+    public Student getStudentById(long id) throws SQLException {
+        return lookup.get(id, super::getStudentById);
+    }
+
+    public EntityCache<Student> getCache() {
+        return lookup.getCache();
+    }
+}
@@ -0,0 +1,54 @@
+package com.softserve.academy.jdbc.cache;
+
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.sql.SQLException;
+
+/**
+ * TeacherDAO that serves getTeacherById from an {@link EntityCache}.
+ * updateTeacher and deleteTeacher invalidate the teacher; {@link CachedLookup} describes how the cache stays
+ * consistent with transactions.
+ */
+public class CachingTeacherDAO extends TeacherDAO {
+    private final CachedLookup<Teacher> lookup;
+
+    public CachingTeacherDAO(ConnectionProvider connectionProvider) {
+        this(connectionProvider, TinyLfuCache.builder().build());
+    }
+
+    public CachingTeacherDAO(ConnectionProvider connectionProvider, EntityCache<Teacher> cache) {
+        super(connectionProvider);
+        this.lookup = new CachedLookup<>(connectionProvider, cache);
+    }
+
+    @Override
+    public boolean updateTeacher(Teacher teacher) throws SQLException {
+        try {
+            return super.updateTeacher(teacher);
+        } finally {
+            if (teacher != null) {
+                lookup.invalidate(teacher.getId());
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteTeacher(long id) throws SQLException {
+        try {
+            return super.deleteTeacher(id);
+        } finally {
+            lookup.invalidate(id);
+        }
+    }
+
+    @Override
+    public Teacher getTeacherById(long id) throws SQLException {
+        return lookup.get(id, super::getTeacherById);
+    }
+
+    public EntityCache<Teacher> getCache() {
+        return lookup.getCache();
+    }
+}
@@ -0,0 +1,60 @@
+package com.softserve.academy.jdbc.cache;
+
+import java.sql.SQLException;
+
+/**
+ * A read-through cache of entities keyed by their database ID.
+ * Implementations must never return a value that was loaded before a later {@link #invalidate(long)}
+ * of the same ID, even when the load and the invalidation run concurrently.
+ *
+ * @param <T> The entity type.
+ */
+public interface EntityCache<T> {
+
+    /**
+     * Loads an entity from the database on a cache miss.
+     *
+     * @param <T> The entity type.
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+        /**
+         * @param id The ID of the entity.
+         * @return The entity, or null if it does not exist.
+         * @throws SQLException If a database access error occurs.
+         */
+        T load(long id) throws SQLException;
+    }
+
+    /**
+     * Returns the cached entity, loading and caching it on a miss. Missing entities are not cached.
+     *
+     * @param id     The ID of the entity.
+     * @param loader Loads the entity on a miss.
+     * @return The entity, or null if the loader found none.
+     * @throws SQLException If the loader fails.
+     */
+    T get(long id, Loader<T> loader) throws SQLException;
+
+    /**
+     * Removes an entity, and discards any load of it that is still in flight.
+     *
+     * @param id The ID of the entity.
+     */
+    void invalidate(long id);
+
+    /**
+     * Removes all entities, and discards any loads that are still in flight.
+     */
+    void invalidateAll();
+
+    /**
+     * @return The number of cached entities.
+     */
+    int size();
+
+    /**
+     * @return The counters of this cache.
+     */
+    CacheStats getStats();
+}
@@ -0,0 +1,184 @@
+package com.softserve.academy.jdbc.cache;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A size-bounded {@link EntityCache} with TinyLFU admission and a time-to-live.
+ * Entries are kept in least-recently-used order. When the cache is full, a newly loaded entity only
+ * replaces the least recently used entry if the {@link FrequencySketch} has seen its ID requested more
+ * often; otherwise it is returned to the caller without being cached. One-off reads, such as a scan over
+ * all students, therefore cannot push out the teachers and courses that are read all the time.
+ * <p>
+ * Loads run outside the lock, so a slow query never holds up lookups of other entities; concurrent misses
+ * on the same ID may each run the query. To keep a load that raced with an update from caching the old row,
+ * every {@link #invalidate(long)} advances a generation counter, and a load is only cached if the
+ * generation of its ID did not change while it ran.
+ *
+ * @param <T> The entity type.
+ */
+public class TinyLfuCache<T> implements EntityCache<T> {
+    private static final int GENERATION_STRIPES = 64;
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final Object lock = new Object();
+    private final LinkedHashMap<Long, Entry<T>> entries;
+    private final FrequencySketch sketch;
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private final CacheStats stats = new CacheStats();
+
+    private TinyLfuCache(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(builder.timeToLiveMillis);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(builder.maximumSize);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public T get(long id, Loader<T> loader) throws SQLException {
+        if (loader == null) {
+            throw new IllegalArgumentException("Loader cannot be null");
+        }
+        long generation;
+        synchronized (lock) {
+            sketch.increment(id);
+            Entry<T> entry = entries.get(id);
+            if (entry != null) {
+                if (!isExpired(entry, System.nanoTime())) {
+                    stats.recordHit();
+                    return entry.value;
+                }
+                entries.remove(id);
+                stats.recordExpiration();
+            }
+            stats.recordMiss();
+            generation = generations[stripe(id)];
+        }
+
+        T value = loader.load(id);
+        if (value == null) {
+            return null;
+        }
+        synchronized (lock) {
+            // An invalidation while loading means the value may predate an update; return it but do not cache it
+            if (generations[stripe(id)] == generation) {
+                admit(id, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidate(long id) {
+        synchronized (lock) {
+            generations[stripe(id)]++;
+            if (entries.remove(id) != null) {
+                stats.recordInvalidation();
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (lock) {
+            for (int i = 0; i < generations.length; i++) {
+                generations[i]++;
+            }
+            stats.recordInvalidations(entries.size());
+            entries.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    private void admit(long id, T value) {
+        long now = System.nanoTime();
+        if (entries.containsKey(id) || entries.size() < maximumSize) {
+            entries.put(id, new Entry<>(value, now));
+            return;
+        }
+        Iterator<Map.Entry<Long, Entry<T>>> eldest = entries.entrySet().iterator();
+        Map.Entry<Long, Entry<T>> victim = eldest.next();
+        if (isExpired(victim.getValue(), now)) {
+            eldest.remove();
+            stats.recordExpiration();
+        } else if (sketch.frequency(id) > sketch.frequency(victim.getKey())) {
+            eldest.remove();
+            stats.recordEviction();
+        } else {
+            stats.recordRejection();
+            return;
+        }
+        entries.put(id, new Entry<>(value, now));
+    }
+
+    private boolean isExpired(Entry<T> entry, long now) {
+        return timeToLiveNanos > 0 && now - entry.loadedNanos >= timeToLiveNanos;
+    }
+
+    private static int stripe(long id) {
+        return (int) (id ^ (id >>> 32)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long loadedNanos;
+
+        private Entry(T value, long loadedNanos) {
+            this.value = value;
+            this.loadedNanos = loadedNanos;
+        }
+    }
+
+    /**
+     * Builder for {@link TinyLfuCache}.
+     */
+    public static class Builder {
+        private int maximumSize = 10_000;
+        private long timeToLiveMillis = 300_000;
+
+        private Builder() {
+        }
+
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long an entity is served after it was loaded; 0 keeps entities until they are evicted or invalidated.
+         */
+        public Builder timeToLiveMillis(long timeToLiveMillis) {
+            if (timeToLiveMillis < 0) {
+                throw new IllegalArgumentException("Time to live cannot be negative");
+            }
+            this.timeToLiveMillis = timeToLiveMillis;
+            return this;
+        }
+
+        public <T> TinyLfuCache<T> build() {
+            return new TinyLfuCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.softserve.academy.jdbc.columnar;
+
+import java.util.Objects;
+
+/**
+ * A named, typed column of a columnar file.
+ */
+public final class Column {
+
+    /**
+     * The value type of a column, which also determines its encoding.
+     */
+    public enum Type {
+        /**
+         * 64-bit integers such as IDs, stored as zigzag varint deltas from the previous value.
+         */
+        LONG,
+        /**
+         * Nullable strings, dictionary-encoded while the column has few distinct values and
+         * stored as plain UTF-8 otherwise.
+         */
+        STRING
+    }
+
+    private final String name;
+    private final Type type;
+
+    private Column(String name, Type type) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Column name cannot be empty");
+        }
+        this.name = name;
+        this.type = type;
+    }
+
+    public static Column ofLong(String name) {
+        return new Column(name, Type.LONG);
+    }
+
+    public static Column ofString(String name) {
+        return new Column(name, Type.STRING);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Column column = (Column) o;
+        return name.equals(column.name) && type == column.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, type);
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + type;
+    }
+}
@@ -0,0 +1,140 @@
+package com.softserve.academy.jdbc.columnar;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.RowCallback;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Exports the university tables to columnar files by streaming them from the DAOs.
+ * Each table is read over a forward-only cursor and written row group by row group, so neither the
+ * table nor the file is ever held in memory. The columns are named after the table columns.
+ */
+public final class ColumnarExport {
+    public static final int DEFAULT_FETCH_SIZE = 1_000;
+
+    public static final List<Column> STUDENT_COLUMNS =
+            List.of(Column.ofLong("id"), Column.ofString("name"), Column.ofString("email"));
+    public static final List<Column> TEACHER_COLUMNS =
+            List.of(Column.ofLong("id"), Column.ofString("name"), Column.ofString("department"));
+    public static final List<Column> COURSE_COLUMNS =
+            List.of(Column.ofLong("id"), Column.ofString("title"), Column.ofLong("teacher_id"));
+    public static final List<Column> ENROLLMENT_COLUMNS = List.of(Column.ofLong("id"), Column.ofLong("student_id"),
+            Column.ofLong("course_id"), Column.ofString("grade"));
+
+    private ColumnarExport() {
+    }
+
+    /**
+     * Reads a table with a DAO forEach method.
+     */
+    @FunctionalInterface
+    private interface TableScan<T> {
+        long forEach(int fetchSize, RowCallback<T> callback) throws SQLException;
+    }
+
+    /**
+     * Copies the fields of one row into the current row of a writer.
+     */
+    @FunctionalInterface
+    private interface RowEncoder<T> {
+        void encode(ColumnarWriter writer, T row);
+    }
+
+    /**
+     * Exports all students.
+     *
+     * @param dao  The DAO to read the students with.
+     * @param file The file to write; an existing file is replaced.
+     * @return The number of exported rows.
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the file cannot be written.
+     */
+    public static long exportStudents(StudentDAO dao, Path file) throws SQLException, IOException {
+        return export(dao::forEachStudent, file, "student", STUDENT_COLUMNS, (writer, student) -> {
+            writer.setLong(0, student.getId());
+            writer.setString(1, student.getName());
+            writer.setString(2, student.getEmail());
+        });
+    }
+
+    /**
+     * Exports all teachers.
+     *
+     * @param dao  The DAO to read the teachers with.
+     * @param file The file to write; an existing file is replaced.
+     * @return The number of exported rows.
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the file cannot be written.
+     */
+    public static long exportTeachers(TeacherDAO dao, Path file) throws SQLException, IOException {
+        return export(dao::forEachTeacher, file, "teacher", TEACHER_COLUMNS, (writer, teacher) -> {
+            writer.setLong(0, teacher.getId());
+            writer.setString(1, teacher.getName());
+            writer.setString(2, teacher.getDepartment());
+        });
+    }
+
+    /**
+     * Exports all courses.
+     *
+     * @param dao  The DAO to read the courses with.
+     * @param file The file to write; an existing file is replaced.
+     * @return The number of exported rows.
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the file cannot be written.
+     */
+    public static long exportCourses(CourseDAO dao, Path file) throws SQLException, IOException {
+        return export(dao::forEachCourse, file, "course", COURSE_COLUMNS, (writer, course) -> {
+            writer.setLong(0, course.getId());
+            writer.setString(1, course.getTitle());
+            writer.setLong(2, course.getTeacherId());
+        });
+    }
+
+    /**
+     * Exports all enrollments.
+     *
+     * @param dao  The DAO to read the enrollments with.
+     * @param file The file to write; an existing file is replaced.
+     * @return The number of exported rows.
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the file cannot be written.
+     */
+    public static long exportEnrollments(EnrollmentDAO dao, Path file) throws SQLException, IOException {
+        return export(dao::forEachEnrollment, file, "enrollment", ENROLLMENT_COLUMNS, (writer, enrollment) -> {
+            writer.setLong(0, enrollment.getId());
+            writer.setLong(1, enrollment.getStudentId());
+            writer.setLong(2, enrollment.getCourseId());
+            writer.setString(3, enrollment.getGrade());
+        });
+    }
+
+    private static <T> long export(TableScan<T> scan, Path file, String table, List<Column> columns,
+                                   RowEncoder<T> encoder) throws SQLException, IOException {
+        try (ColumnarWriter writer = ColumnarWriter.create(file, table, columns)) {
+            scan.forEach(DEFAULT_FETCH_SIZE, row -> {
+                encoder.encode(writer, row);
+                try {
+                    writer.endRow();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return writer.getRowCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.softserve.academy.jdbc.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Reads a file written by {@link ColumnarWriter} one column at a time.
+ * Only the header, the footer and the small directory at the start of each row group are read when
+ * the file is opened. Iterating a column memory-maps the file in windows of up to {@link #MAP_WINDOW_SIZE}
+ * bytes and decodes the column's values one by one from each row group in turn, so no row objects are
+ * built and small row groups share one mapping instead of taking one each.
+ * The iterators of a reader may be used after each other or side by side, but not after it is closed.
+ */
+public class ColumnarReader implements Closeable {
+    public static final int MAP_WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int TRAILER_SIZE = 8 + ColumnarWriter.MAGIC.length;
+
+    private final FileChannel channel;
+    private final long size;
+    private final String table;
+    private final List<Column> columns;
+    private final long rowCount;
+    private final int[] groupRows;
+    private final long[][] columnOffsets;
+    private final int[][] columnLengths;
+
+    private ColumnarReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        if (size < ColumnarWriter.MAGIC.length + 1 + TRAILER_SIZE) {
+            throw new IOException("File is too short to be a columnar file");
+        }
+        ByteBuffer trailer = read(size - TRAILER_SIZE, TRAILER_SIZE);
+        long footerOffset = trailer.getLong();
+        checkMagic(trailer);
+        ByteBuffer footer = read(footerOffset, (int) (size - TRAILER_SIZE - footerOffset));
+        int groupCount = footer.getInt();
+        this.rowCount = footer.getLong();
+        long[] groupOffsets = new long[groupCount];
+        for (int g = 0; g < groupCount; g++) {
+            groupOffsets[g] = footer.getLong();
+        }
+
+        ByteBuffer header = read(0, (int) (groupCount > 0 ? groupOffsets[0] : footerOffset));
+        checkMagic(header);
+        if (header.get() != ColumnarWriter.VERSION) {
+            throw new IOException("Unsupported columnar file version");
+        }
+        this.table = readString(header);
+        int columnCount = (int) ByteSink.readVarLong(header);
+        List<Column> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = readString(header);
+            columns.add(header.get() == Column.Type.LONG.ordinal() ? Column.ofLong(name) : Column.ofString(name));
+        }
+        this.columns = Collections.unmodifiableList(columns);
+
+        this.groupRows = new int[groupCount];
+        this.columnOffsets = new long[groupCount][columnCount];
+        this.columnLengths = new int[groupCount][columnCount];
+        for (int g = 0; g < groupCount; g++) {
+            ByteBuffer directory = read(groupOffsets[g], 4 + 4 * columnCount);
+            groupRows[g] = directory.getInt();
+            long offset = groupOffsets[g] + 4 + 4L * columnCount;
+            for (int i = 0; i < columnCount; i++) {
+                columnLengths[g][i] = directory.getInt();
+                columnOffsets[g][i] = offset;
+                offset += columnLengths[g][i];
+            }
+        }
+    }
+
+    /**
+     * Opens a columnar file.
+     *
+     * @param file The file to read.
+     * @return A reader; it must be closed after use.
+     * @throws IOException If the file cannot be read or is not a columnar file.
+     */
+    public static ColumnarReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new ColumnarReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public String getTableName() {
+        return table;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public int getRowGroupCount() {
+        return groupRows.length;
+    }
+
+    /**
+     * Iterates the values of a LONG column in row order.
+     * Errors reading the file during iteration are thrown as {@link UncheckedIOException}.
+     *
+     * @param name The column name.
+     * @return An iterator over all values of the column.
+     */
+    public PrimitiveIterator.OfLong longColumn(String name) {
+        return new LongCursor(indexOf(name, Column.Type.LONG));
+    }
+
+    /**
+     * Iterates the values of a STRING column in row order, with null for null values.
+     * Values of a dictionary-encoded column are returned as shared instances, decoded once per file.
+     * Errors reading the file during iteration are thrown as {@link UncheckedIOException}.
+     *
+     * @param name The column name.
+     * @return An iterator over all values of the column.
+     */
+    public Iterator<String> stringColumn(String name) {
+        return new StringCursor(indexOf(name, Column.Type.STRING));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int indexOf(String name, Column.Type type) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equals(name)) {
+                if (columns.get(i).getType() != type) {
+                    throw new IllegalArgumentException("Column " + name + " is not a " + type + " column");
+                }
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No column " + name + " in " + table);
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of columnar file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void checkMagic(ByteBuffer buffer) throws IOException {
+        byte[] magic = new byte[ColumnarWriter.MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, ColumnarWriter.MAGIC)) {
+            throw new IOException("Not a columnar file");
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] utf8 = new byte[(int) ByteSink.readVarLong(buffer)];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Walks the row groups of one column, mapping a new window only when a group's column bytes
+     * are not inside the current one.
+     */
+    private abstract class ColumnCursor {
+        final int column;
+        int group = -1;
+        int remaining;
+        ByteBuffer buffer;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        ColumnCursor(int column) {
+            this.column = column;
+        }
+
+        public boolean hasNext() {
+            while (remaining == 0) {
+                if (group + 1 >= groupRows.length) {
+                    return false;
+                }
+                group++;
+                long offset = columnOffsets[group][column];
+                int length = columnLengths[group][column];
+                if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+                    try {
+                        window = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                                Math.max(length, Math.min(MAP_WINDOW_SIZE, size - offset)));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    windowStart = offset;
+                }
+                buffer = window.slice((int) (offset - windowStart), length);
+                remaining = groupRows[group];
+                startGroup(buffer.get());
+            }
+            return true;
+        }
+
+        void advance() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+        }
+
+        abstract void startGroup(byte encoding);
+    }
+
+    private final class LongCursor extends ColumnCursor implements PrimitiveIterator.OfLong {
+        private long previous;
+
+        private LongCursor(int column) {
+            super(column);
+        }
+
+        @Override
+        void startGroup(byte encoding) {
+            if (encoding != ColumnarWriter.ENCODING_DELTA) {
+                throw new UncheckedIOException(new IOException("Unknown LONG encoding " + encoding));
+            }
+            previous = 0;
+        }
+
+        @Override
+        public long nextLong() {
+            advance();
+            previous += ByteSink.readZigZag(buffer);
+            return previous;
+        }
+    }
+
+    private final class StringCursor extends ColumnCursor implements Iterator<String> {
+        private final List<String> dictionary = new ArrayList<>();
+        private boolean plain;
+        private byte[] utf8 = new byte[256];
+
+        private StringCursor(int column) {
+            super(column);
+        }
+
+        @Override
+        void startGroup(byte encoding) {
+            if (encoding == ColumnarWriter.ENCODING_PLAIN) {
+                plain = true;
+            } else if (encoding == ColumnarWriter.ENCODING_DICTIONARY) {
+                plain = false;
+                long added = ByteSink.readVarLong(buffer);
+                for (long i = 0; i < added; i++) {
+                    dictionary.add(readString(buffer));
+                }
+            } else {
+                throw new UncheckedIOException(new IOException("Unknown STRING encoding " + encoding));
+            }
+        }
+
+        @Override
+        public String next() {
+            advance();
+            if (!plain) {
+                int code = (int) ByteSink.readVarLong(buffer);
+                return code == 0 ? null : dictionary.get(code - 1);
+            }
+            int length = (int) ByteSink.readVarLong(buffer) - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > utf8.length) {
+                utf8 = new byte[Math.max(length, utf8.length * 2)];
+            }
+            buffer.get(utf8, 0, length);
+            return new String(utf8, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.softserve.academy.jdbc.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a table to a columnar file, row by row.
+ * Rows are buffered into row groups of {@link #DEFAULT_ROW_GROUP_SIZE} rows; each full group is
+ * written column after column, so a reader can scan one column without touching the others.
+ * <p>
+ * File layout, all integers big-endian:
+ * <pre>
+ * header:    "UCOL" version table-name column-count (column-name column-type)*
+ * row group: row-count (column-byte-length)* (column-bytes)*
+ * footer:    row-group-count row-count (row-group-offset)* footer-offset "UCOL"
+ * </pre>
+ * A LONG column is stored as zigzag varint deltas from the previous value in the group, so sorted IDs
+ * take one byte each. A STRING column is stored as varint codes into a dictionary that grows with
+ * every group, each group carrying the entries it adds; code 0 is null. Once a column has more
+ * than {@link #MAX_DICTIONARY_SIZE} distinct values, such as emails, its remaining groups are stored
+ * as plain length-prefixed UTF-8 instead.
+ */
+public class ColumnarWriter implements Closeable {
+    public static final int DEFAULT_ROW_GROUP_SIZE = 65_536;
+    public static final int MAX_DICTIONARY_SIZE = 65_536;
+    static final byte[] MAGIC = {'U', 'C', 'O', 'L'};
+    static final byte VERSION = 1;
+    static final byte ENCODING_DELTA = 1;
+    static final byte ENCODING_DICTIONARY = 2;
+    static final byte ENCODING_PLAIN = 3;
+
+    private final FileChannel channel;
+    private final List<Column> columns;
+    private final int rowGroupSize;
+    private final long[][] longValues;
+    private final String[][] stringValues;
+    private final List<Map<String, Integer>> dictionaries = new ArrayList<>();
+    private final boolean[] assigned;
+    private final ByteSink[] columnBytes;
+    private final ByteSink groupHeader = new ByteSink();
+    private final List<Long> groupOffsets = new ArrayList<>();
+    private long position;
+    private int groupRows;
+    private long rowCount;
+    private boolean closed;
+
+    private ColumnarWriter(FileChannel channel, String table, List<Column> columns, int rowGroupSize)
+            throws IOException {
+        this.channel = channel;
+        this.columns = List.copyOf(columns);
+        this.rowGroupSize = rowGroupSize;
+        this.longValues = new long[columns.size()][];
+        this.stringValues = new String[columns.size()][];
+        this.assigned = new boolean[columns.size()];
+        this.columnBytes = new ByteSink[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getType() == Column.Type.LONG) {
+                longValues[i] = new long[rowGroupSize];
+            } else {
+                stringValues[i] = new String[rowGroupSize];
+            }
+            dictionaries.add(columns.get(i).getType() == Column.Type.STRING ? new HashMap<>() : null);
+            columnBytes[i] = new ByteSink();
+        }
+
+        ByteSink header = new ByteSink();
+        header.writeBytes(MAGIC);
+        header.writeByte(VERSION);
+        header.writeString(table);
+        header.writeVarLong(columns.size());
+        for (Column column : columns) {
+            header.writeString(column.getName());
+            header.writeByte(column.getType().ordinal());
+        }
+        write(header.toByteBuffer());
+    }
+
+    /**
+     * Creates or replaces a columnar file with the default row group size.
+     *
+     * @param file    The file to write.
+     * @param table   The name of the exported table.
+     * @param columns The columns of every row, in order.
+     * @return A writer; it must be closed to complete the file.
+     * @throws IOException If the file cannot be created.
+     */
+    public static ColumnarWriter create(Path file, String table, List<Column> columns) throws IOException {
+        return create(file, table, columns, DEFAULT_ROW_GROUP_SIZE);
+    }
+
+    /**
+     * Creates or replaces a columnar file.
+     *
+     * @param file         The file to write.
+     * @param table        The name of the exported table.
+     * @param columns      The columns of every row, in order.
+     * @param rowGroupSize The number of rows buffered and written together.
+     * @return A writer; it must be closed to complete the file.
+     * @throws IOException If the file cannot be created.
+     */
+    public static ColumnarWriter create(Path file, String table, List<Column> columns, int rowGroupSize)
+            throws IOException {
+        if (file == null || table == null || columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("File, table and columns cannot be empty");
+        }
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("Row group size must be positive");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new ColumnarWriter(channel, table, columns, rowGroupSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void setLong(int column, long value) {
+        checkColumn(column, Column.Type.LONG);
+        longValues[column][groupRows] = value;
+        assigned[column] = true;
+    }
+
+    public void setString(int column, String value) {
+        checkColumn(column, Column.Type.STRING);
+        stringValues[column][groupRows] = value;
+        assigned[column] = true;
+    }
+
+    /**
+     * Completes the current row; every LONG column must have been set, unset STRING columns are null.
+     *
+     * @throws IOException If the row completes a row group and the group cannot be written.
+     */
+    public void endRow() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (!assigned[i] && columns.get(i).getType() == Column.Type.LONG) {
+                throw new IllegalStateException("Column " + columns.get(i).getName() + " was not set");
+            }
+            assigned[i] = false;
+        }
+        groupRows++;
+        rowCount++;
+        if (groupRows == rowGroupSize) {
+            writeGroup();
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the last row group and the footer and closes the file.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (FileChannel ignored = channel) {
+            if (groupRows > 0) {
+                writeGroup();
+            }
+            long footerOffset = position;
+            ByteSink footer = new ByteSink();
+            footer.writeInt(groupOffsets.size());
+            footer.writeLong(rowCount);
+            for (long offset : groupOffsets) {
+                footer.writeLong(offset);
+            }
+            footer.writeLong(footerOffset);
+            footer.writeBytes(MAGIC);
+            write(footer.toByteBuffer());
+        }
+    }
+
+    private void writeGroup() throws IOException {
+        groupHeader.clear();
+        groupHeader.writeInt(groupRows);
+        for (int i = 0; i < columns.size(); i++) {
+            ByteSink out = columnBytes[i];
+            out.clear();
+            if (columns.get(i).getType() == Column.Type.LONG) {
+                encodeLongs(longValues[i], out);
+            } else {
+                encodeStrings(i, out);
+            }
+            groupHeader.writeInt(out.size());
+        }
+        groupOffsets.add(position);
+        write(groupHeader.toByteBuffer());
+        for (ByteSink out : columnBytes) {
+            write(out.toByteBuffer());
+        }
+        groupRows = 0;
+    }
+
+    private void encodeLongs(long[] values, ByteSink out) {
+        out.writeByte(ENCODING_DELTA);
+        long previous = 0;
+        for (int row = 0; row < groupRows; row++) {
+            out.writeZigZag(values[row] - previous);
+            previous = values[row];
+        }
+    }
+
+    private void encodeStrings(int column, ByteSink out) {
+        String[] values = stringValues[column];
+        Map<String, Integer> dictionary = dictionaries.get(column);
+        if (dictionary != null) {
+            List<String> added = new ArrayList<>();
+            int next = dictionary.size() + 1;
+            Map<String, Integer> groupEntries = new HashMap<>();
+            for (int row = 0; row < groupRows; row++) {
+                String value = values[row];
+                if (value != null && !dictionary.containsKey(value) && !groupEntries.containsKey(value)) {
+                    groupEntries.put(value, next++);
+                    added.add(value);
+                }
+            }
+            if (dictionary.size() + added.size() > MAX_DICTIONARY_SIZE) {
+                // Too many distinct values to pay off; this and all later groups are stored plain
+                dictionaries.set(column, null);
+                dictionary = null;
+            } else {
+                dictionary.putAll(groupEntries);
+                out.writeByte(ENCODING_DICTIONARY);
+                out.writeVarLong(added.size());
+                for (String value : added) {
+                    out.writeString(value);
+                }
+                for (int row = 0; row < groupRows; row++) {
+                    out.writeVarLong(values[row] == null ? 0 : dictionary.get(values[row]));
+                }
+            }
+        }
+        if (dictionary == null) {
+            out.writeByte(ENCODING_PLAIN);
+            for (int row = 0; row < groupRows; row++) {
+                if (values[row] == null) {
+                    out.writeVarLong(0);
+                } else {
+                    byte[] utf8 = values[row].getBytes(StandardCharsets.UTF_8);
+                    out.writeVarLong(utf8.length + 1L);
+                    out.writeBytes(utf8);
+                }
+            }
+        }
+        Arrays.fill(values, 0, groupRows, null);
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+    }
+
+    private void checkColumn(int column, Column.Type type) {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        if (column < 0 || column >= columns.size() || columns.get(column).getType() != type) {
+            throw new IllegalArgumentException("Column " + column + " is not a " + type + " column");
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package com.softserve.academy.jdbc.csv;
+
+import com.softserve.academy.jdbc.dao.BatchResult;
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.pool.SingleConnectionProvider;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Loads teachers, students, courses and enrollments from CSV files, in that order.
+ * The columns of each file are given by {@link ImportEntity}; courses and enrollments refer to
+ * teachers, students and courses by their source key, which is resolved to the generated ID
+ * through in-memory lookup tables filled while the referenced table is loaded.
+ * <p>
+ * Each table is loaded by two threads. A reader thread streams the file, validates the records and
+ * resolves their keys, and hands them over in chunks through a bounded queue; the calling thread
+ * inserts each chunk with the DAO batch methods. When the database is slower than the parser the
+ * queue fills up and the reader blocks, so memory use is bounded by the queue capacity times the
+ * chunk size, plus the lookup tables.
+ * <p>
+ * Invalid records and rows the database rejects are counted and reported; they do not stop the import.
+ * Every chunk is committed together with the job's checkpoint, see {@link ImportCheckpoint}. If an
+ * import fails, running it again with the same job name skips the records that were committed and
+ * continues with the first chunk that was not.
+ */
+public class CsvImporter {
+    public static final int DEFAULT_CHUNK_SIZE = 5_000;
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int MAX_FIELD_LENGTH = 255;
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+    private static final Pattern GRADE = Pattern.compile("^[A-F]$");
+
+    private final ConnectionProvider connectionProvider;
+    private final ImportCheckpoint checkpoint;
+    private final String jobName;
+    private final Map<ImportEntity, Path> files;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    private CsvImporter(Builder builder) {
+        this.connectionProvider = builder.connectionProvider;
+        this.jobName = builder.jobName;
+        this.checkpoint = new ImportCheckpoint(builder.jobName);
+        this.files = new EnumMap<>(builder.files);
+        this.chunkSize = builder.chunkSize;
+        this.queueCapacity = builder.queueCapacity;
+        this.batchSize = builder.batchSize;
+    }
+
+    /**
+     * @param connectionProvider The provider of the connection the chunks are written with.
+     * @param jobName            The name under which the progress of the import is checkpointed.
+     * @return A builder for an importer.
+     */
+    public static Builder builder(ConnectionProvider connectionProvider, String jobName) {
+        return new Builder(connectionProvider, jobName);
+    }
+
+    /**
+     * Runs the import, or resumes it from its checkpoint if an earlier run with the same job name failed.
+     * A table without a file is not loaded, but the keys imported into it by earlier runs of the job
+     * can still be referenced.
+     *
+     * @return The counts and timings of each table.
+     * @throws SQLException If a database access error occurs; the chunks committed so far are kept.
+     * @throws IOException  If a file cannot be read, has an unexpected header or is not valid CSV.
+     */
+    public ImportReport run() throws SQLException, IOException {
+        long start = System.nanoTime();
+        try (Connection conn = connectionProvider.getConnection()) {
+            ImportCheckpoint.createTables(conn);
+        }
+        Map<String, Long> teacherIds = new HashMap<>();
+        Map<String, Long> studentIds = new HashMap<>();
+        Map<String, Long> courseIds = new HashMap<>();
+        List<StageReport> stages = new ArrayList<>();
+
+        runStage(ImportEntity.TEACHERS, teacherIds, stages,
+                record -> new Teacher(0L, text(record, 1, "name"), text(record, 2, "department")),
+                (provider, rows) -> new TeacherDAO(provider).addTeachers(rows, batchSize));
+        runStage(ImportEntity.STUDENTS, studentIds, stages,
+                record -> new Student(0L, text(record, 1, "name"), email(record, 2)),
+                (provider, rows) -> new StudentDAO(provider).addStudents(rows, batchSize));
+        runStage(ImportEntity.COURSES, courseIds, stages,
+                record -> new Course(0L, text(record, 1, "title"), resolve(teacherIds, record, 2, "teacher")),
+                (provider, rows) -> new CourseDAO(provider).addCourses(rows, batchSize));
+        runStage(ImportEntity.ENROLLMENTS, null, stages,
+                record -> new Enrollment(0L, resolve(studentIds, record, 0, "student"),
+                        resolve(courseIds, record, 1, "course"), grade(record, 2)),
+                (provider, rows) -> new EnrollmentDAO(provider).addEnrollments(rows, batchSize));
+        return new ImportReport(stages, System.nanoTime() - start);
+    }
+
+    /**
+     * Deletes the checkpoint and the key mappings of this job. The imported rows are not touched.
+     * Once a job is deleted, running it again imports every file from the beginning.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void deleteCheckpoint() throws SQLException {
+        try (Connection conn = connectionProvider.getConnection()) {
+            ImportCheckpoint.createTables(conn);
+            checkpoint.delete(conn);
+        }
+    }
+
+    /**
+     * Parses one CSV record into a row; an IllegalArgumentException rejects the record.
+     */
+    @FunctionalInterface
+    private interface RowParser<T> {
+        T parse(List<String> record);
+    }
+
+    /**
+     * Inserts the rows of a chunk on the stage's connection.
+     */
+    @FunctionalInterface
+    private interface ChunkInserter<T> {
+        BatchResult insert(ConnectionProvider provider, List<T> rows) throws SQLException;
+    }
+
+    /**
+     * Records handed from the reader to the writer. Rows and their keys and line numbers share indexes.
+     */
+    private static final class Chunk<T> {
+        private final List<T> rows = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<Long> lines = new ArrayList<>();
+        private final List<Long> rejectedLines = new ArrayList<>();
+        private final List<String> rejectedReasons = new ArrayList<>();
+        private int records;
+        private boolean last;
+        private Exception failure;
+    }
+
+    private <T> void runStage(ImportEntity entity, Map<String, Long> keys, List<StageReport> stages,
+                              RowParser<T> parser, ChunkInserter<T> inserter) throws SQLException, IOException {
+        Path file = files.get(entity);
+        long start = System.nanoTime();
+        try (Connection conn = connectionProvider.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                ImportCheckpoint.Progress progress = checkpoint.start(conn, entity);
+                conn.commit();
+                if (keys != null) {
+                    checkpoint.loadKeys(conn, entity, keys);
+                }
+                if (file == null) {
+                    return;
+                }
+                StageReport report = new StageReport(entity);
+                report.rowsSkipped = progress.rowsDone;
+                stages.add(report);
+                if (progress.completed) {
+                    return;
+                }
+                write(conn, entity, file, progress.rowsDone, keys, parser, inserter, report);
+                report.wallNanos = System.nanoTime() - start;
+            } catch (SQLException | IOException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private <T> void write(Connection conn, ImportEntity entity, Path file, long rowsDone, Map<String, Long> keys,
+                           RowParser<T> parser, ChunkInserter<T> inserter, StageReport report)
+            throws SQLException, IOException {
+        BlockingQueue<Chunk<T>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Thread reader = new Thread(() -> read(entity, file, rowsDone, parser, queue, report),
+                "csv-import-" + entity.name().toLowerCase(Locale.ROOT));
+        reader.setDaemon(true);
+        reader.start();
+        // One statement cache for the whole stage; the provider never closes the connection
+        SingleConnectionProvider provider = new SingleConnectionProvider(conn);
+        long position = rowsDone;
+        try {
+            while (true) {
+                long waitStart = System.nanoTime();
+                Chunk<T> chunk = queue.take();
+                long writeStart = System.nanoTime();
+                report.starvedNanos += writeStart - waitStart;
+                if (chunk.failure instanceof IOException) {
+                    throw (IOException) chunk.failure;
+                }
+                if (chunk.failure != null) {
+                    throw (RuntimeException) chunk.failure;
+                }
+                position += chunk.records;
+                Map<String, Long> inserted = writeChunk(provider, chunk, keys, inserter, report);
+                checkpoint.saveKeys(conn, entity, inserted);
+                checkpoint.advance(conn, entity, position, chunk.last);
+                conn.commit();
+                if (keys != null) {
+                    // Only now are the rows and their keys durable
+                    keys.putAll(inserted);
+                }
+                report.chunks++;
+                report.writeNanos += System.nanoTime() - writeStart;
+                if (chunk.last) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import of " + entity + " was interrupted");
+        } finally {
+            reader.interrupt();
+            try {
+                reader.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Inserts the rows of a chunk whose key is not taken yet and records the rejected ones.
+     *
+     * @return The keys of the inserted rows with their generated IDs; empty for a table without keys.
+     */
+    private <T> Map<String, Long> writeChunk(ConnectionProvider provider, Chunk<T> chunk, Map<String, Long> keys,
+                                             ChunkInserter<T> inserter, StageReport report) throws SQLException {
+        for (int i = 0; i < chunk.rejectedLines.size(); i++) {
+            report.reject(chunk.rejectedLines.get(i), chunk.rejectedReasons.get(i));
+        }
+        List<T> rows = new ArrayList<>(chunk.rows.size());
+        List<String> rowKeys = new ArrayList<>(chunk.rows.size());
+        List<Long> rowLines = new ArrayList<>(chunk.rows.size());
+        Set<String> chunkKeys = new HashSet<>();
+        for (int i = 0; i < chunk.rows.size(); i++) {
+            String key = chunk.keys.isEmpty() ? null : chunk.keys.get(i);
+            if (key != null && (keys.containsKey(key) || !chunkKeys.add(key))) {
+                report.reject(chunk.lines.get(i), "Duplicate key " + key);
+                continue;
+            }
+            rows.add(chunk.rows.get(i));
+            rowKeys.add(key);
+            rowLines.add(chunk.lines.get(i));
+        }
+        report.rowsRead += chunk.records;
+        Map<String, Long> inserted = new LinkedHashMap<>();
+        if (rows.isEmpty()) {
+            return inserted;
+        }
+
+        BatchResult result = inserter.insert(provider, rows);
+        for (int i = 0; i < rows.size(); i++) {
+            if (!result.isSuccessful(i)) {
+                report.reject(rowLines.get(i), String.valueOf(result.getFailures().get(i).getMessage()));
+                continue;
+            }
+            report.rowsInserted++;
+            if (rowKeys.get(i) != null) {
+                inserted.put(rowKeys.get(i), result.getGeneratedId(i));
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Reader thread: parses the file after the skipped records and queues it in chunks.
+     * Any failure is handed to the writer in place of the next chunk.
+     */
+    private <T> void read(ImportEntity entity, Path file, long skip, RowParser<T> parser,
+                          BlockingQueue<Chunk<T>> queue, StageReport report) {
+        Chunk<T> chunk = new Chunk<>();
+        long readNanos = 0;
+        long backPressureNanos = 0;
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            long readStart = System.nanoTime();
+            checkHeader(entity, file, csv.readRecord());
+            for (long i = 0; i < skip; i++) {
+                if (csv.readRecord() == null) {
+                    throw new IOException(file + " has fewer records than the checkpoint of job " + jobName);
+                }
+            }
+            List<String> record = csv.readRecord();
+            while (true) {
+                if (record != null) {
+                    parse(entity, parser, record, csv.getLineNumber(), chunk);
+                    record = csv.readRecord();
+                }
+                chunk.last = record == null;
+                if (chunk.records == chunkSize || chunk.last) {
+                    long putStart = System.nanoTime();
+                    readNanos += putStart - readStart;
+                    queue.put(chunk);
+                    readStart = System.nanoTime();
+                    backPressureNanos += readStart - putStart;
+                    if (chunk.last) {
+                        break;
+                    }
+                    chunk = new Chunk<>();
+                }
+            }
+        } catch (InterruptedException e) {
+            // The writer failed and stopped taking chunks
+            return;
+        } catch (IOException | RuntimeException e) {
+            Chunk<T> failed = new Chunk<>();
+            failed.failure = e;
+            queue.clear();
+            queue.offer(failed);
+            return;
+        }
+        // Published to the writer by Thread.join
+        report.readNanos = readNanos;
+        report.backPressureNanos = backPressureNanos;
+    }
+
+    private static <T> void parse(ImportEntity entity, RowParser<T> parser, List<String> record, long line,
+                                  Chunk<T> chunk) {
+        chunk.records++;
+        try {
+            if (record.size() != entity.getHeader().size()) {
+                throw new IllegalArgumentException("Expected " + entity.getHeader().size() + " fields but found "
+                        + record.size());
+            }
+            T row = parser.parse(record);
+            if (entity.hasKey()) {
+                chunk.keys.add(text(record, 0, "key"));
+            }
+            chunk.rows.add(row);
+            chunk.lines.add(line);
+        } catch (IllegalArgumentException e) {
+            chunk.rejectedLines.add(line);
+            chunk.rejectedReasons.add(e.getMessage());
+        }
+    }
+
+    private static void checkHeader(ImportEntity entity, Path file, List<String> header) throws IOException {
+        List<String> normalized = new ArrayList<>();
+        if (header != null) {
+            for (String column : header) {
+                normalized.add(column.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        if (!normalized.equals(entity.getHeader())) {
+            throw new IOException(file + " must start with the header " + String.join(",", entity.getHeader())
+                    + " but starts with " + (header == null ? "nothing" : String.join(",", header)));
+        }
+    }
+
+    private static String text(List<String> record, int index, String column) {
+        String value = record.get(index).trim();
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Column " + column + " cannot be empty");
+        }
+        if (value.length() > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("Column " + column + " is longer than " + MAX_FIELD_LENGTH);
+        }
+        return value;
+    }
+
+    private static String email(List<String> record, int index) {
+        String email = text(record, index, "email");
+        if (!EMAIL.matcher(email).matches()) {
+            throw new IllegalArgumentException("Invalid email " + email);
+        }
+        return email;
+    }
+
+    private static String grade(List<String> record, int index) {
+        String grade = record.get(index).trim();
+        if (grade.isEmpty()) {
+            return null;
+        }
+        if (!GRADE.matcher(grade).matches()) {
+            throw new IllegalArgumentException("Grade must be a letter from A to F but is " + grade);
+        }
+        return grade;
+    }
+
+    private static long resolve(Map<String, Long> ids, List<String> record, int index, String column) {
+        String key = text(record, index, column + "_key");
+        Long id = ids.get(key);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown " + column + " key " + key);
+        }
+        return id;
+    }
+
+    /**
+     * Builder for {@link CsvImporter}.
+     */
+    public static class Builder {
+        private final ConnectionProvider connectionProvider;
+        private final String jobName;
+        private final Map<ImportEntity, Path> files = new EnumMap<>(ImportEntity.class);
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder(ConnectionProvider connectionProvider, String jobName) {
+            if (connectionProvider == null) {
+                throw new IllegalArgumentException("Connection provider cannot be null");
+            }
+            if (jobName == null || jobName.isBlank() || jobName.length() > MAX_FIELD_LENGTH) {
+                throw new IllegalArgumentException("Job name must be between 1 and " + MAX_FIELD_LENGTH
+                        + " characters");
+            }
+            this.connectionProvider = connectionProvider;
+            this.jobName = jobName;
+        }
+
+        /**
+         * Sets the CSV file of a table; tables without a file are not loaded.
+         */
+        public Builder file(ImportEntity entity, Path file) {
+            if (entity == null || file == null) {
+                throw new IllegalArgumentException("Entity and file cannot be null");
+            }
+            files.put(entity, file);
+            return this;
+        }
+
+        /**
+         * Sets the number of records per chunk; each chunk is committed with its checkpoint.
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets how many parsed chunks may wait for the writer before the reader blocks.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be positive");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows sent to the database in one JDBC batch.
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public CsvImporter build() {
+            return new CsvImporter(this);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.softserve.academy.jdbc.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for RFC 4180 CSV: comma-separated fields, optionally enclosed in double quotes,
+ * with doubled quotes inside a quoted field and LF, CRLF or CR line endings.
+ * Quoted fields may contain commas and line breaks. Blank lines are skipped.
+ * Only one record is held in memory at a time, so files of any size can be read.
+ */
+public final class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvReader(Reader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The fields of the record, or null at the end of the input.
+     * @throws IOException If the input cannot be read or ends inside a quoted field.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = next();
+        while (c == '\n' || c == '\r') {
+            endLine(c);
+            c = next();
+        }
+        if (c == EOF) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        while (true) {
+            if (c == '"' && field.length() == 0) {
+                c = readQuoted();
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                c = next();
+            } else if (c == '\n' || c == '\r' || c == EOF) {
+                fields.add(field.toString());
+                if (c != EOF) {
+                    endLine(c);
+                }
+                return fields;
+            } else {
+                field.append((char) c);
+                c = next();
+            }
+        }
+    }
+
+    /**
+     * Returns the line on which the record last returned by {@link #readRecord()} started.
+     *
+     * @return The 1-based line number.
+     */
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads a quoted field after its opening quote and returns the character following the closing quote.
+     */
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = next();
+            if (c == EOF) {
+                throw new IOException("Unterminated quoted field starting on line " + recordLine);
+            }
+            if (c == '"') {
+                c = next();
+                if (c != '"') {
+                    return c;
+                }
+            } else if (c == '\r' || c == '\n') {
+                line++;
+                if (c == '\r' && peek() == '\n') {
+                    field.append('\r');
+                    c = next();
+                }
+            }
+            field.append((char) c);
+        }
+    }
+
+    /**
+     * Consumes the rest of a line ending that starts with the given character.
+     */
+    private void endLine(int c) throws IOException {
+        line++;
+        if (c == '\r' && peek() == '\n') {
+            next();
+        }
+    }
+
+    private int next() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
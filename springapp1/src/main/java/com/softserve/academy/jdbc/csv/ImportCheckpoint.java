@@ -0,0 +1,130 @@
+package com.softserve.academy.jdbc.csv;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Progress of an import job, stored in the database next to the imported rows.
+ * For every table the number of CSV records consumed is kept in import_checkpoint, and the
+ * generated ID of every imported source key in import_key. Both are written on the connection
+ * and in the transaction of the chunk they describe, so a chunk and its checkpoint are
+ * committed or rolled back together.
+ */
+final class ImportCheckpoint {
+    private static final String CREATE_CHECKPOINT_TABLE = "CREATE TABLE IF NOT EXISTS import_checkpoint ("
+            + "job_name VARCHAR(255) NOT NULL, entity VARCHAR(32) NOT NULL, rows_done BIGINT NOT NULL, "
+            + "completed BOOLEAN NOT NULL, PRIMARY KEY (job_name, entity))";
+    private static final String CREATE_KEY_TABLE = "CREATE TABLE IF NOT EXISTS import_key ("
+            + "job_name VARCHAR(255) NOT NULL, entity VARCHAR(32) NOT NULL, source_key VARCHAR(255) NOT NULL, "
+            + "target_id BIGINT NOT NULL, PRIMARY KEY (job_name, entity, source_key))";
+
+    private final String jobName;
+
+    ImportCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * The position of a table in the import.
+     */
+    static final class Progress {
+        final long rowsDone;
+        final boolean completed;
+
+        private Progress(long rowsDone, boolean completed) {
+            this.rowsDone = rowsDone;
+            this.completed = completed;
+        }
+    }
+
+    static void createTables(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(CREATE_CHECKPOINT_TABLE);
+            stmt.executeUpdate(CREATE_KEY_TABLE);
+        }
+    }
+
+    /**
+     * Returns the progress of a table, creating its checkpoint row if the table was never started.
+     */
+    Progress start(Connection conn, ImportEntity entity) throws SQLException {
+        String sql = "SELECT rows_done, completed FROM import_checkpoint WHERE job_name = ? AND entity = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, jobName);
+            pstmt.setString(2, entity.name());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return new Progress(rs.getLong("rows_done"), rs.getBoolean("completed"));
+                }
+            }
+        }
+        String insert = "INSERT INTO import_checkpoint (job_name, entity, rows_done, completed) "
+                + "VALUES (?, ?, 0, FALSE)";
+        try (PreparedStatement pstmt = conn.prepareStatement(insert)) {
+            pstmt.setString(1, jobName);
+            pstmt.setString(2, entity.name());
+            pstmt.executeUpdate();
+        }
+        return new Progress(0, false);
+    }
+
+    /**
+     * Loads the source keys of a table imported so far, with their generated IDs.
+     */
+    void loadKeys(Connection conn, ImportEntity entity, Map<String, Long> keys) throws SQLException {
+        String sql = "SELECT source_key, target_id FROM import_key WHERE job_name = ? AND entity = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, jobName);
+            pstmt.setString(2, entity.name());
+            pstmt.setFetchSize(10_000);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    keys.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+        }
+    }
+
+    void saveKeys(Connection conn, ImportEntity entity, Map<String, Long> keys) throws SQLException {
+        if (keys.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO import_key (job_name, entity, source_key, target_id) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (Map.Entry<String, Long> key : keys.entrySet()) {
+                pstmt.setString(1, jobName);
+                pstmt.setString(2, entity.name());
+                pstmt.setString(3, key.getKey());
+                pstmt.setLong(4, key.getValue());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    void advance(Connection conn, ImportEntity entity, long rowsDone, boolean completed) throws SQLException {
+        String sql = "UPDATE import_checkpoint SET rows_done = ?, completed = ? WHERE job_name = ? AND entity = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, rowsDone);
+            pstmt.setBoolean(2, completed);
+            pstmt.setString(3, jobName);
+            pstmt.setString(4, entity.name());
+            if (pstmt.executeUpdate() != 1) {
+                throw new SQLException("No checkpoint for " + entity + " of import job " + jobName);
+            }
+        }
+    }
+
+    void delete(Connection conn) throws SQLException {
+        for (String table : new String[]{"import_key", "import_checkpoint"}) {
+            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM " + table + " WHERE job_name = ?")) {
+                pstmt.setString(1, jobName);
+                pstmt.executeUpdate();
+            }
+        }
+    }
+}
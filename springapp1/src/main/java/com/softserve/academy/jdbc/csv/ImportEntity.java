@@ -0,0 +1,39 @@
+package com.softserve.academy.jdbc.csv;
+
+import java.util.List;
+
+/**
+ * The tables loaded by {@link CsvImporter}, in dependency order, with the header their CSV file must have.
+ * Teachers, students and courses carry a source key: the identifier the university uses for the row.
+ * Courses reference their teacher, and enrollments their student and course, by that key.
+ */
+public enum ImportEntity {
+    TEACHERS("key", "name", "department"),
+    STUDENTS("key", "name", "email"),
+    COURSES("key", "title", "teacher_key"),
+    ENROLLMENTS("student_key", "course_key", "grade");
+
+    private final List<String> header;
+
+    ImportEntity(String... header) {
+        this.header = List.of(header);
+    }
+
+    /**
+     * Returns the column names expected in the first line of the CSV file, in order.
+     *
+     * @return The header columns.
+     */
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns whether rows of this table have a source key other tables can refer to.
+     *
+     * @return True if the first column is the source key of the row.
+     */
+    public boolean hasKey() {
+        return this != ENROLLMENTS;
+    }
+}
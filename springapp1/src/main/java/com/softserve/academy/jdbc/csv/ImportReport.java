@@ -0,0 +1,64 @@
+package com.softserve.academy.jdbc.csv;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of a {@link CsvImporter} run: one {@link StageReport} per table, in load order.
+ */
+public class ImportReport {
+    private static final String HEADER = String.format("%-12s %10s %10s %9s %9s %11s %9s %9s %9s %9s %9s",
+            "table", "read", "inserted", "rejected", "skipped", "rows/s",
+            "read ms", "wait ms", "write ms", "idle ms", "wall ms");
+
+    private final List<StageReport> stages;
+    private final long wallNanos;
+
+    ImportReport(List<StageReport> stages, long wallNanos) {
+        this.stages = Collections.unmodifiableList(stages);
+        this.wallNanos = wallNanos;
+    }
+
+    public List<StageReport> getStages() {
+        return stages;
+    }
+
+    public long getRowsRead() {
+        return stages.stream().mapToLong(StageReport::getRowsRead).sum();
+    }
+
+    public long getRowsInserted() {
+        return stages.stream().mapToLong(StageReport::getRowsInserted).sum();
+    }
+
+    public long getRowsRejected() {
+        return stages.stream().mapToLong(StageReport::getRowsRejected).sum();
+    }
+
+    public long getWallMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(wallNanos);
+    }
+
+    /**
+     * Returns the number of records read per second over the whole import.
+     */
+    public double getRowsPerSecond() {
+        return wallNanos == 0 ? 0 : getRowsRead() / (wallNanos / 1e9);
+    }
+
+    /**
+     * Formats the report as a table with one line per stage, where "wait" is back-pressure on the
+     * reader and "idle" is the time the writer waited for the reader.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(HEADER).append('\n');
+        for (StageReport stage : stages) {
+            sb.append(stage).append('\n');
+        }
+        sb.append(String.format("%,d rows read, %,d inserted, %,d rejected in %,d ms (%,.0f rows/s)",
+                getRowsRead(), getRowsInserted(), getRowsRejected(), getWallMillis(), getRowsPerSecond()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.softserve.academy.jdbc.csv;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts and timings of one table of an import.
+ * The reader thread parses and validates records while the writer thread inserts the previous
+ * chunk, so the stage times overlap; together with the wall time they show which side limits the
+ * import. Back-pressure is the time the reader waited for room in the queue because the writer was
+ * behind; starvation is the time the writer waited for the reader.
+ */
+public class StageReport {
+    static final int MAX_REJECTIONS = 100;
+
+    private final ImportEntity entity;
+    long rowsSkipped;
+    long rowsRead;
+    long rowsInserted;
+    long rowsRejected;
+    long chunks;
+    long readNanos;
+    long backPressureNanos;
+    long writeNanos;
+    long starvedNanos;
+    long wallNanos;
+    private final List<String> rejections = new ArrayList<>();
+
+    StageReport(ImportEntity entity) {
+        this.entity = entity;
+    }
+
+    void reject(long line, String reason) {
+        rowsRejected++;
+        if (rejections.size() < MAX_REJECTIONS) {
+            rejections.add("line " + line + ": " + reason);
+        }
+    }
+
+    public ImportEntity getEntity() {
+        return entity;
+    }
+
+    /**
+     * Returns the number of records skipped because an earlier run had already imported them.
+     */
+    public long getRowsSkipped() {
+        return rowsSkipped;
+    }
+
+    /**
+     * Returns the number of records read by this run, excluding the header and skipped records.
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsInserted() {
+        return rowsInserted;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    /**
+     * Returns the reasons of the first {@value #MAX_REJECTIONS} rejected records, with their line numbers.
+     */
+    public List<String> getRejections() {
+        return Collections.unmodifiableList(rejections);
+    }
+
+    public long getChunks() {
+        return chunks;
+    }
+
+    public long getReadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(readNanos);
+    }
+
+    public long getBackPressureMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(backPressureNanos);
+    }
+
+    public long getWriteMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(writeNanos);
+    }
+
+    public long getStarvedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(starvedNanos);
+    }
+
+    public long getWallMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(wallNanos);
+    }
+
+    /**
+     * Returns the number of records read per second of wall time.
+     */
+    public double getRowsPerSecond() {
+        return wallNanos == 0 ? 0 : rowsRead / (wallNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-12s %,10d %,10d %,9d %,9d %,11.0f %,9d %,9d %,9d %,9d %,9d",
+                entity, rowsRead, rowsInserted, rowsRejected, rowsSkipped, getRowsPerSecond(),
+                getReadMillis(), getBackPressureMillis(), getWriteMillis(), getStarvedMillis(), getWallMillis());
+    }
+}
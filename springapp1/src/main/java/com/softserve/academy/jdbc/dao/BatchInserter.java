@@ -0,0 +1,158 @@
+package com.softserve.academy.jdbc.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Shared JDBC batching logic for the add* batch methods of the DAOs.
+ * Rows are sent in chunks of a configurable size. A chunk is applied atomically: if the
+ * driver rejects it, the chunk is rolled back and replayed row by row so that the rows
+ * which can be inserted still are, and the others are reported individually.
+ */
+final class BatchInserter {
+    static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Binds the values of one row to the parameters of an insert statement.
+     */
+    @FunctionalInterface
+    interface RowBinder<T> {
+        void bind(PreparedStatement pstmt, T row) throws SQLException;
+    }
+
+    private BatchInserter() {
+    }
+
+    /**
+     * Inserts the given rows using JDBC batching.
+     * If the connection is in auto-commit mode every chunk is committed on its own,
+     * otherwise the rows join the caller's transaction and are isolated by savepoints.
+     *
+     * @param conn      The connection to insert with.
+     * @param sql       The single-row INSERT statement.
+     * @param rows      The rows to be inserted.
+     * @param batchSize The maximum number of rows sent in one batch.
+     * @param validator Validation applied to each row; an IllegalArgumentException marks the row as failed.
+     * @param binder    Binds a row to the statement parameters.
+     * @return The generated IDs in input order and the per-row failures.
+     * @throws SQLException If a database access error occurs outside of a single row.
+     */
+    static <T> BatchResult insert(Connection conn, String sql, List<T> rows, int batchSize,
+                                  Consumer<T> validator, RowBinder<T> binder) throws SQLException {
+        if (rows == null) {
+            throw new IllegalArgumentException("Rows cannot be null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        long[] ids = new long[rows.size()];
+        Arrays.fill(ids, BatchResult.NO_ID);
+        Map<Integer, Exception> failures = new HashMap<>();
+        if (rows.isEmpty()) {
+            return new BatchResult(ids, failures);
+        }
+
+        boolean ownTransaction = conn.getAutoCommit();
+        if (ownTransaction) {
+            conn.setAutoCommit(false);
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int[] pending = new int[Math.min(batchSize, rows.size())];
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                int to = Math.min(rows.size(), from + batchSize);
+                int count = 0;
+                for (int i = from; i < to; i++) {
+                    try {
+                        validator.accept(rows.get(i));
+                        pending[count++] = i;
+                    } catch (IllegalArgumentException e) {
+                        failures.put(i, e);
+                    }
+                }
+                if (count > 0) {
+                    executeChunk(conn, ownTransaction, pstmt, rows, pending, count, binder, ids, failures);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (ownTransaction) {
+                conn.rollback();
+            }
+            throw e;
+        } finally {
+            if (ownTransaction) {
+                conn.setAutoCommit(true);
+            }
+        }
+        return new BatchResult(ids, failures);
+    }
+
+    private static <T> void executeChunk(Connection conn, boolean ownTransaction, PreparedStatement pstmt,
+                                         List<T> rows, int[] pending, int count, RowBinder<T> binder,
+                                         long[] ids, Map<Integer, Exception> failures) throws SQLException {
+        Savepoint savepoint = conn.setSavepoint();
+        try {
+            for (int i = 0; i < count; i++) {
+                binder.bind(pstmt, rows.get(pending[i]));
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                for (int i = 0; i < count; i++) {
+                    if (!rs.next()) {
+                        throw new SQLException("Driver returned fewer generated keys than batched rows");
+                    }
+                    ids[pending[i]] = rs.getLong(1);
+                }
+            }
+            complete(conn, ownTransaction, savepoint);
+        } catch (SQLException e) {
+            pstmt.clearBatch();
+            conn.rollback(savepoint);
+            for (int i = 0; i < count; i++) {
+                ids[pending[i]] = BatchResult.NO_ID;
+            }
+            // Replay the chunk one row at a time to find the rows that cannot be inserted
+            for (int i = 0; i < count; i++) {
+                insertSingle(conn, ownTransaction, pstmt, rows, pending[i], binder, ids, failures);
+            }
+        }
+    }
+
+    private static <T> void insertSingle(Connection conn, boolean ownTransaction, PreparedStatement pstmt,
+                                         List<T> rows, int index, RowBinder<T> binder,
+                                         long[] ids, Map<Integer, Exception> failures) throws SQLException {
+        Savepoint savepoint = conn.setSavepoint();
+        try {
+            binder.bind(pstmt, rows.get(index));
+            pstmt.executeUpdate();
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                if (!rs.next()) {
+                    throw new SQLException("Failed to retrieve generated ID for row " + index);
+                }
+                ids[index] = rs.getLong(1);
+            }
+            complete(conn, ownTransaction, savepoint);
+        } catch (SQLException e) {
+            conn.rollback(savepoint);
+            ids[index] = BatchResult.NO_ID;
+            failures.put(index, e);
+        }
+    }
+
+    private static void complete(Connection conn, boolean ownTransaction, Savepoint savepoint) throws SQLException {
+        if (ownTransaction) {
+            conn.commit();
+        } else {
+            conn.releaseSavepoint(savepoint);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.softserve.academy.jdbc.dao;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * BatchResult holds the outcome of a batch insert.
+ * Generated IDs are kept in the same order as the input rows; rows that could not be
+ * inserted have no ID and their failure is reported by row index.
+ */
+public class BatchResult {
+    /**
+     * Marker stored in place of a generated ID for a row that was not inserted.
+     */
+    public static final long NO_ID = -1L;
+
+    private final long[] generatedIds;
+    private final Map<Integer, Exception> failures;
+
+    BatchResult(long[] generatedIds, Map<Integer, Exception> failures) {
+        this.generatedIds = generatedIds;
+        this.failures = Collections.unmodifiableMap(new TreeMap<>(failures));
+    }
+
+    /**
+     * Returns the generated IDs in input order.
+     *
+     * @return A copy of the generated IDs, with {@link #NO_ID} for failed rows.
+     */
+    public long[] getGeneratedIds() {
+        return Arrays.copyOf(generatedIds, generatedIds.length);
+    }
+
+    /**
+     * Returns the generated ID of a single row.
+     *
+     * @param index The index of the row in the input list.
+     * @return The generated ID, or {@link #NO_ID} if the row failed.
+     */
+    public long getGeneratedId(int index) {
+        return generatedIds[index];
+    }
+
+    /**
+     * Returns the failures by row index, in ascending index order.
+     *
+     * @return An unmodifiable map from input row index to the cause of its failure.
+     */
+    public Map<Integer, Exception> getFailures() {
+        return failures;
+    }
+
+    public boolean isSuccessful(int index) {
+        return !failures.containsKey(index);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public int size() {
+        return generatedIds.length;
+    }
+
+    public int getSuccessCount() {
+        return generatedIds.length - failures.size();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{rows=" + generatedIds.length + ", inserted=" + getSuccessCount()
+                + ", failed=" + failures.keySet() + "}";
+    }
+}
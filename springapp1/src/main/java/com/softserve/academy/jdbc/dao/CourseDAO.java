@@ -0,0 +1,256 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.CourseMapping;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.pool.SingleConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * CourseDAO class is responsible for data access operations related to Course entities.
+ * It provides methods to interact with the database and perform CRUD operations.
+ */
+public class CourseDAO {
+    private static final String INSERT_SQL = "INSERT INTO course (title, teacher_id) VALUES (?, ?)";
+
+    private final ConnectionProvider connectionProvider;
+
+    public CourseDAO(Connection conn) {
+        this(new SingleConnectionProvider(conn));
+    }
+
+    public CourseDAO(ConnectionProvider connectionProvider) {
+        if (connectionProvider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Adds a new course to the database.
+     *
+     * @param course The course object to be added.
+     * @return The generated ID of the new course.
+     * @throws SQLException If a database access error occurs.
+     */
+    public long addCourse(Course course) throws SQLException {
+        validateCourse(course);
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(pstmt, course);
+            pstmt.executeUpdate();
+
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+            throw new SQLException("Failed to retrieve generated ID for the new course");
+        }
+    }
+
+    /**
+     * Adds several courses to the database using JDBC batching with the default batch size.
+     *
+     * @param courses The course objects to be added.
+     * @return The generated IDs in input order and the rows that failed.
+     * @throws SQLException If a database access error occurs.
+     */
+    public BatchResult addCourses(List<Course> courses) throws SQLException {
+        return addCourses(courses, BatchInserter.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Adds several courses to the database using JDBC batching.
+     *
+     * @param courses   The course objects to be added.
+     * @param batchSize The maximum number of rows sent to the database in one batch.
+     * @return The generated IDs in input order and the rows that failed.
+     * @throws SQLException If a database access error occurs.
+     */
+    public BatchResult addCourses(List<Course> courses, int batchSize) throws SQLException {
+        try (Connection conn = connectionProvider.getConnection()) {
+            return BatchInserter.insert(conn, INSERT_SQL, courses, batchSize,
+                    CourseDAO::validateCourse, CourseDAO::bindInsert);
+        }
+    }
+
+    /**
+     * Updates an existing course in the database.
+     *
+     * @param course The course object with updated data.
+     * @return True if the course was updated, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public boolean updateCourse(Course course) throws SQLException {
+        validateCourse(course);
+        String sql = "UPDATE course SET title = ?, teacher_id = ? WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, course.getTitle());
+            pstmt.setLong(2, course.getTeacherId());
+            pstmt.setLong(3, course.getId());
+            int rowsAffected = pstmt.executeUpdate();
+            return rowsAffected > 0;
+        }
+    }
+
+    /**
+     * Deletes a course from the database.
+     *
+     * @param id The ID of the course to be deleted.
+     * @return True if the course was deleted, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public boolean deleteCourse(long id) throws SQLException {
+        String sql = "DELETE FROM course WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            int rowsAffected = pstmt.executeUpdate();
+            return rowsAffected > 0;
+        }
+    }
+
+    /**
+     * Retrieves a course by ID from the database.
+     *
+     * @param id The ID of the course to be retrieved.
+     * @return The course object if found, null otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Course getCourseById(long id) throws SQLException {
+        String sql = CourseMapping.SELECT + " WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return CourseMapping.MAPPER.mapRow(rs);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves courses by title from the database.
+     *
+     * @param title The title of the courses to be retrieved.
+     * @return A list of course objects with the given title.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<Course> getCoursesByTitle(String title) throws SQLException {
+        if (title == null) {
+            throw new IllegalArgumentException("Title cannot be null");
+        }
+        List<Course> courses = new ArrayList<>();
+        String sql = CourseMapping.SELECT + " WHERE title = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, title);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    courses.add(CourseMapping.MAPPER.mapRow(rs));
+                }
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Retrieves all courses from the database.
+     *
+     * @return A list of all course objects.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<Course> getAllCourses() throws SQLException {
+        List<Course> courses = new ArrayList<>();
+        String sql = CourseMapping.SELECT;
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                courses.add(CourseMapping.MAPPER.mapRow(rs));
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Streams all courses from the database with the default fetch size.
+     *
+     * @return A lazily populated stream of course objects; it must be closed after use.
+     * @throws SQLException If a database access error occurs.
+     * @see #streamCourses(int)
+     */
+    public Stream<Course> streamCourses() throws SQLException {
+        return streamCourses(CursorReader.DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Streams all courses from the database over a forward-only, read-only cursor.
+     * Rows are fetched from the database as the stream is consumed. The connection is held
+     * until the stream is closed or exhausted, so use it in a try-with-resources block.
+     * Database errors during iteration are thrown as {@link UncheckedSQLException}.
+     *
+     * @param fetchSize The number of rows fetched from the database at a time.
+     * @return A lazily populated stream of course objects; it must be closed after use.
+     * @throws SQLException If the query cannot be executed.
+     */
+    public Stream<Course> streamCourses(int fetchSize) throws SQLException {
+        return CursorReader.stream(connectionProvider, CourseMapping.SELECT, fetchSize, CourseMapping.MAPPER);
+    }
+
+    /**
+     * Reads all courses from the database and passes them to the callback one at a time.
+     * All resources are closed before this method returns.
+     *
+     * @param fetchSize The number of rows fetched from the database at a time.
+     * @param callback  The callback receiving each course.
+     * @return The number of courses read.
+     * @throws SQLException If a database access error occurs or the callback aborts.
+     */
+    public long forEachCourse(int fetchSize, RowCallback<Course> callback) throws SQLException {
+        return CursorReader.forEach(connectionProvider, CourseMapping.SELECT, fetchSize, CourseMapping.MAPPER,
+                callback);
+    }
+
+    /**
+     * Retrieves one page of courses ordered by ID using keyset pagination.
+     * The page is located by seeking past the last ID of the previous page, so the cost
+     * of a page does not depend on how deep it is.
+     *
+     * @param continuationToken The token of the previous page, or null for the first page.
+     * @param pageSize          The maximum number of courses on the page.
+     * @return The page and the token of the next page, if any.
+     * @throws SQLException If a database access error occurs.
+     */
+    public KeysetPage<Course> getCoursesPage(String continuationToken, int pageSize) throws SQLException {
+        return KeysetReader.page(connectionProvider, CourseMapping.SELECT + " WHERE id > ? ORDER BY id LIMIT ?",
+                continuationToken, pageSize, CourseMapping.MAPPER, Course::getId);
+    }
+
+    private static void validateCourse(Course course) {
+        if (course == null || course.getTitle() == null) {
+            throw new IllegalArgumentException("Course and its title cannot be null");
+        }
+        if (course.getTeacherId() <= 0) {
+            throw new IllegalArgumentException("Teacher ID must be positive");
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Course course) throws SQLException {
+        pstmt.setString(1, course.getTitle());
+        pstmt.setLong(2, course.getTeacherId());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Shared logic for the streaming reads of the DAOs.
+ * Queries run on a forward-only, read-only cursor with the requested fetch size, and rows are
+ * mapped one at a time. Whether the driver honours the fetch size depends on the database:
+ * PostgreSQL only uses a server-side cursor outside auto-commit, so an auto-commit connection is
+ * switched to manual commit for the lifetime of the cursor and switched back when it is closed;
+ * H2 only streams results with LAZY_QUERY_EXECUTION=1 in the URL and otherwise materialises the
+ * whole result before the first row is returned. Connections already inside a transaction are
+ * left as they are.
+ */
+final class CursorReader {
+    static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private CursorReader() {
+    }
+
+    /**
+     * Reads all rows of a query and passes each one to the callback.
+     * The connection, statement and result set are closed before this method returns.
+     *
+     * @return The number of rows processed.
+     */
+    static <T> long forEach(ConnectionProvider connectionProvider, String sql, int fetchSize,
+                            RowMapper<T> mapper, RowCallback<T> callback) throws SQLException {
+        if (callback == null) {
+            throw new IllegalArgumentException("Callback cannot be null");
+        }
+        validateFetchSize(fetchSize);
+        long count = 0;
+        try (Connection conn = connectionProvider.getConnection()) {
+            boolean ownTransaction = beginCursor(conn);
+            try (PreparedStatement pstmt = prepare(conn, sql, fetchSize);
+                 ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    callback.processRow(mapper.mapRow(rs));
+                    count++;
+                }
+            } finally {
+                if (ownTransaction) {
+                    conn.setAutoCommit(true);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Opens a lazily populated stream over the rows of a query.
+     * The cursor is closed when the stream is closed, when it is exhausted, or when reading fails;
+     * callers should use the stream in a try-with-resources block.
+     */
+    static <T> Stream<T> stream(ConnectionProvider connectionProvider, String sql, int fetchSize,
+                                RowMapper<T> mapper) throws SQLException {
+        validateFetchSize(fetchSize);
+        Connection conn = connectionProvider.getConnection();
+        boolean ownTransaction = false;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            ownTransaction = beginCursor(conn);
+            pstmt = prepare(conn, sql, fetchSize);
+            rs = pstmt.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            closeAll(rs, pstmt, conn, ownTransaction, e);
+            throw e;
+        }
+        Cursor<T> cursor = new Cursor<>(conn, ownTransaction, pstmt, rs, mapper);
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    /**
+     * Turns auto-commit off so that the driver may keep a server-side cursor open between fetches.
+     *
+     * @return Whether auto-commit was on and has to be turned back on when the cursor is closed.
+     */
+    private static boolean beginCursor(Connection conn) throws SQLException {
+        boolean ownTransaction = conn.getAutoCommit();
+        if (ownTransaction) {
+            conn.setAutoCommit(false);
+        }
+        return ownTransaction;
+    }
+
+    private static PreparedStatement prepare(Connection conn, String sql, int fetchSize) throws SQLException {
+        PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        pstmt.setFetchSize(fetchSize);
+        return pstmt;
+    }
+
+    private static void validateFetchSize(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+    }
+
+    private static void closeAll(ResultSet rs, PreparedStatement pstmt, Connection conn, boolean ownTransaction,
+                                 Exception primary) {
+        AutoCloseable[] resources = {rs, pstmt, ownTransaction ? () -> conn.setAutoCommit(true) : null, conn};
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                if (primary != null) {
+                    primary.addSuppressed(e);
+                }
+            }
+        }
+    }
+
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Connection conn;
+        private final boolean ownTransaction;
+        private final PreparedStatement pstmt;
+        private final ResultSet rs;
+        private final RowMapper<T> mapper;
+        private boolean closed;
+
+        private Cursor(Connection conn, boolean ownTransaction, PreparedStatement pstmt, ResultSet rs,
+                       RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.ownTransaction = ownTransaction;
+            this.pstmt = pstmt;
+            this.rs = rs;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            T row;
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                row = mapper.mapRow(rs);
+            } catch (SQLException e) {
+                UncheckedSQLException failure = new UncheckedSQLException(e);
+                closeAll(rs, pstmt, conn, ownTransaction, failure);
+                closed = true;
+                throw failure;
+            }
+            action.accept(row);
+            return true;
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                UncheckedSQLException failure = null;
+                try {
+                    rs.close();
+                } catch (SQLException e) {
+                    failure = new UncheckedSQLException(e);
+                }
+                closeAll(null, pstmt, conn, ownTransaction, failure);
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.EnrollmentMapping;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.pool.SingleConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * DAO class for managing enrollments in the database.
+ * This class is responsible for data access operations related to the Enrollment entity.
+ * It provides methods to interact with the database and perform CRUD operations.
+ */
+public class EnrollmentDAO {
+    private static final String INSERT_SQL = "INSERT INTO enrollment (student_id, course_id, grade) VALUES (?, ?, ?)";
+
+    private final ConnectionProvider connectionProvider;
+
+    public EnrollmentDAO(Connection conn) {
+        this(new SingleConnectionProvider(conn));
+    }
+
+    public EnrollmentDAO(ConnectionProvider connectionProvider) {
+        if (connectionProvider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Adds a new enrollment to the database.
+     *
+     * @param enrollment The enrollment object to be added.
+     * @return The generated ID of the new enrollment.
+     * @throws SQLException If a database access error occurs.
+     */
+    public long addEnrollment(Enrollment enrollment) throws SQLException {
+        validateEnrollment(enrollment);
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(pstmt, enrollment);
+            pstmt.executeUpdate();
+
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+            throw new SQLException("Failed to retrieve generated ID for the new enrollment");
+        }
+    }
+
+    /**
+     * Adds several enrollments to the database using JDBC batching with the default batch size.
+     *
+     * @param enrollments The enrollment objects to be added.
+     * @return The generated IDs in input order and the rows that failed.
+     * @throws SQLException If a database access error occurs.
+     */
+    public BatchResult addEnrollments(List<Enrollment> enrollments) throws SQLException {
+        return addEnrollments(enrollments, BatchInserter.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Adds several enrollments to the database using JDBC batching.
+     *
+     * @param enrollments The enrollment objects to be added.
+     * @param batchSize   The maximum number of rows sent to the database in one batch.
+     * @return The generated IDs in input order and the rows that failed.
+     * @throws SQLException If a database access error occurs.
+     */
+    public BatchResult addEnrollments(List<Enrollment> enrollments, int batchSize) throws SQLException {
+        try (Connection conn = connectionProvider.getConnection()) {
+            return BatchInserter.insert(conn, INSERT_SQL, enrollments, batchSize,
+                    EnrollmentDAO::validateEnrollment, EnrollmentDAO::bindInsert);
+        }
+    }
+
+    /**
+     * Updates an existing enrollment in the database.
+     *
+     * @param enrollment The enrollment object with updated data.
+     * @return True if the enrollment was updated, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public boolean updateEnrollment(Enrollment enrollment) throws SQLException {
+        validateEnrollment(enrollment);
+        String sql = "UPDATE enrollment SET student_id = ?, course_id = ?, grade = ? WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, enrollment.getStudentId());
+            pstmt.setLong(2, enrollment.getCourseId());
+            pstmt.setString(3, enrollment.getGrade());
+            pstmt.setLong(4, enrollment.getId());
+            int rowsAffected = pstmt.executeUpdate();
+            return rowsAffected > 0;
+        }
+    }
+
+    /**
+     * Deletes an enrollment from the database.
+     *
+     * @param id The ID of the enrollment to be deleted.
+     * @return True if the enrollment was deleted, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public boolean deleteEnrollment(long id) throws SQLException {
+        String sql = "DELETE FROM enrollment WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            int rowsAffected = pstmt.executeUpdate();
+            return rowsAffected > 0;
+        }
+    }
+
+    /**
+     * Retrieves an enrollment by ID from the database.
+     *
+     * @param id The ID of the enrollment to be retrieved.
+     * @return The enrollment object if found, null otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Enrollment getEnrollmentById(long id) throws SQLException {
+        String sql = EnrollmentMapping.SELECT + " WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return EnrollmentMapping.MAPPER.mapRow(rs);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves all enrollments from the database.
+     *
+     * @return A list of all enrollment objects.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<Enrollment> getAllEnrollments() throws SQLException {
+        List<Enrollment> enrollments = new ArrayList<>();
+        String sql = EnrollmentMapping.SELECT;
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                enrollments.add(EnrollmentMapping.MAPPER.mapRow(rs));
+            }
+        }
+        return enrollments;
+    }
+
+    /**
+     * Streams all enrollments from the database with the default fetch size.
+     *
+     * @return A lazily populated stream of enrollment objects; it must be closed after use.
+     * @throws SQLException If a database access error occurs.
+     * @see #streamEnrollments(int)
+     */
+    public Stream<Enrollment> streamEnrollments() throws SQLException {
+        return streamEnrollments(CursorReader.DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Streams all enrollments from the database over a forward-only, read-only cursor.
+     * Rows are fetched from the database as the stream is consumed. The connection is held
+     * until the stream is closed or exhausted, so use it in a try-with-resources block.
+     * Database errors during iteration are thrown as {@link UncheckedSQLException}.
+     *
+     * @param fetchSize The number of rows fetched from the database at a time.
+     * @return A lazily populated stream of enrollment objects; it must be closed after use.
+     * @throws SQLException If the query cannot be executed.
+     */
+    public Stream<Enrollment> streamEnrollments(int fetchSize) throws SQLException {
+        return CursorReader.stream(connectionProvider, EnrollmentMapping.SELECT, fetchSize, EnrollmentMapping.MAPPER);
+    }
+
+    /**
+     * Reads all enrollments from the database and passes them to the callback one at a time.
+     * All resources are closed before this method returns.
+     *
+     * @param fetchSize The number of rows fetched from the database at a time.
+     * @param callback  The callback receiving each enrollment.
+     * @return The number of enrollments read.
+     * @throws SQLException If a database access error occurs or the callback aborts.
+     */
+    public long forEachEnrollment(int fetchSize, RowCallback<Enrollment> callback) throws SQLException {
+        return CursorReader.forEach(connectionProvider, EnrollmentMapping.SELECT, fetchSize, EnrollmentMapping.MAPPER,
+                callback);
+    }
+
+    /**
+     * Retrieves one page of enrollments ordered by ID using keyset pagination.
+     * The page is located by seeking past the last ID of the previous page, so the cost
+     * of a page does not depend on how deep it is.
+     *
+     * @param continuationToken The token of the previous page, or null for the first page.
+     * @param pageSize          The maximum number of enrollments on the page.
+     * @return The page and the token of the next page, if any.
+     * @throws SQLException If a database access error occurs.
+     */
+    public KeysetPage<Enrollment> getEnrollmentsPage(String continuationToken, int pageSize) throws SQLException {
+        return KeysetReader.page(connectionProvider, EnrollmentMapping.SELECT + " WHERE id > ? ORDER BY id LIMIT ?",
+                continuationToken, pageSize, EnrollmentMapping.MAPPER, Enrollment::getId);
+    }
+
+    private static void validateEnrollment(Enrollment enrollment) {
+        if (enrollment == null) {
+            throw new IllegalArgumentException("Enrollment cannot be null");
+        }
+        if (enrollment.getStudentId() <= 0) {
+            throw new IllegalArgumentException("Student ID must be positive");
+        }
+        if (enrollment.getCourseId() <= 0) {
+            throw new IllegalArgumentException("Course ID must be positive");
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Enrollment enrollment) throws SQLException {
+        pstmt.setLong(1, enrollment.getStudentId());
+        pstmt.setLong(2, enrollment.getCourseId());
+        pstmt.setString(3, enrollment.getGrade());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.paging.ContinuationToken;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Shared logic for the keyset paginated reads of the DAOs.
+ * The query seeks past the last key of the previous page using the primary key index,
+ * so reading a deep page costs the same as reading the first one.
+ */
+final class KeysetReader {
+    /**
+     * The initial capacity of the row list; a short last page does not pay for the full page size.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    private KeysetReader() {
+    }
+
+    /**
+     * Reads one page.
+     *
+     * @param sql A query with two parameters, the key to start after and the row limit,
+     *            ordered by that key, e.g. {@code SELECT * FROM t WHERE id > ? ORDER BY id LIMIT ?}.
+     */
+    static <T> KeysetPage<T> page(ConnectionProvider connectionProvider, String sql, String continuationToken,
+                                  int pageSize, RowMapper<T> mapper, ToLongFunction<T> key) throws SQLException {
+        KeysetPage.checkPageSize(pageSize);
+        long afterKey = ContinuationToken.decode(continuationToken);
+        List<T> rows = new ArrayList<>(Math.min(pageSize + 1, INITIAL_CAPACITY));
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, afterKey);
+            pstmt.setInt(2, pageSize + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapper.mapRow(rs));
+                }
+            }
+        }
+        return KeysetPage.of(rows, pageSize, key);
+    }
+}
@@ -0,0 +1,20 @@
+package com.softserve.academy.jdbc.dao;
+
+import java.sql.SQLException;
+
+/**
+ * Receives the rows of a streaming read one at a time.
+ *
+ * @param <T> The type of the rows.
+ */
+@FunctionalInterface
+public interface RowCallback<T> {
+
+    /**
+     * Processes one row. The row is not referenced by the DAO afterwards.
+     *
+     * @param row The mapped row.
+     * @throws SQLException To abort the read; the exception is passed on to the caller.
+     */
+    void processRow(T row) throws SQLException;
+}
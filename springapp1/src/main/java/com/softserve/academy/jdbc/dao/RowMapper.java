@@ -0,0 +1,22 @@
+package com.softserve.academy.jdbc.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a result set to an object.
+ *
+ * @param <T> The type of the mapped object.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Maps the current row. Implementations must not move the cursor.
+     *
+     * @param rs The result set positioned on the row to map.
+     * @return The mapped object.
+     * @throws SQLException If a database access error occurs.
+     */
+    T mapRow(ResultSet rs) throws SQLException;
+}
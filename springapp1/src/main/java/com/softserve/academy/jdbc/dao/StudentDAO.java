@@ -0,0 +1,229 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.StudentMapping;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.pool.SingleConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * StudentDAO class is responsible for data access operations related to Student entities.
+ * It provides methods to interact with the database and perform CRUD operations.
+ */
+public class StudentDAO {
+    private static final String INSERT_SQL = "INSERT INTO student (name, email) VALUES (?, ?)";
+
+    private final ConnectionProvider connectionProvider;
+
+    public StudentDAO(Connection conn) {
+        this(new SingleConnectionProvider(conn));
+    }
+
+    public StudentDAO(ConnectionProvider connectionProvider) {
+        if (connectionProvider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Adds a new student to the database.
+     *
+     * @param student The student object to be added.
+     * @return The generated ID of the new student.
+     * @throws SQLException If a database access error occurs.
+     */
+    public long addStudent(Student student) throws SQLException {
+        validateStudent(student);
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(pstmt, student);
+            pstmt.executeUpdate();
+
+            // Отримання згенерованого ID
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+            throw new SQLException("Failed to retrieve generated ID for the new student");
+        }
+    }
+
+    /**
+     * Adds several students to the database using JDBC batching with the default batch size.
+     *
+     * @param students The student objects to be added.
+     * @return The generated IDs in input order and the rows that failed.
+     * @throws SQLException If a database access error occurs.
+     */
+    public BatchResult addStudents(List<Student> students) throws SQLException {
+        return addStudents(students, BatchInserter.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Adds several students to the database using JDBC batching.
+     *
+     * @param students  The student objects to be added.
+     * @param batchSize The maximum number of rows sent to the database in one batch.
+     * @return The generated IDs in input order and the rows that failed.
+     * @throws SQLException If a database access error occurs.
+     */
+    public BatchResult addStudents(List<Student> students, int batchSize) throws SQLException {
+        try (Connection conn = connectionProvider.getConnection()) {
+            return BatchInserter.insert(conn, INSERT_SQL, students, batchSize,
+                    StudentDAO::validateStudent, StudentDAO::bindInsert);
+        }
+    }
+
+    /**
+     * Updates an existing student in the database.
+     *
+     * @param student The student object with updated data.
+     * @return True if the student was updated, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public boolean updateStudent(Student student) throws SQLException {
+        validateStudent(student);
+        String sql = "UPDATE student SET name = ?, email = ? WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, student.getName());
+            pstmt.setString(2, student.getEmail());
+            pstmt.setLong(3, student.getId());
+            int rowsAffected = pstmt.executeUpdate();
+            return rowsAffected > 0;
+        }
+    }
+
+    /**
+     * Deletes a student from the database.
+     *
+     * @param id The ID of the student to be deleted.
+     * @return True if the student was deleted, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public boolean deleteStudent(long id) throws SQLException {
+        String sql = "DELETE FROM student WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            int rowsAffected = pstmt.executeUpdate();
+            return rowsAffected > 0;
+        }
+    }
+
+    /**
+     * Retrieves a student by ID from the database.
+     *
+     * @param id The ID of the student to be retrieved.
+     * @return The student object if found, null otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Student getStudentById(long id) throws SQLException {
+        String sql = StudentMapping.SELECT + " WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return StudentMapping.MAPPER.mapRow(rs);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves all students from the database.
+     *
+     * @return A list of all student objects.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<Student> getAllStudents() throws SQLException {
+        List<Student> students = new ArrayList<>();
+        String sql = StudentMapping.SELECT;
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                students.add(StudentMapping.MAPPER.mapRow(rs));
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Streams all students from the database with the default fetch size.
+     *
+     * @return A lazily populated stream of student objects; it must be closed after use.
+     * @throws SQLException If a database access error occurs.
+     * @see #streamStudents(int)
+     */
+    public Stream<Student> streamStudents() throws SQLException {
+        return streamStudents(CursorReader.DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Streams all students from the database over a forward-only, read-only cursor.
+     * Rows are fetched from the database as the stream is consumed. The connection is held
+     * until the stream is closed or exhausted, so use it in a try-with-resources block.
+     * Database errors during iteration are thrown as {@link UncheckedSQLException}.
+     *
+     * @param fetchSize The number of rows fetched from the database at a time.
+     * @return A lazily populated stream of student objects; it must be closed after use.
+     * @throws SQLException If the query cannot be executed.
+     */
+    public Stream<Student> streamStudents(int fetchSize) throws SQLException {
+        return CursorReader.stream(connectionProvider, StudentMapping.SELECT, fetchSize, StudentMapping.MAPPER);
+    }
+
+    /**
+     * Reads all students from the database and passes them to the callback one at a time.
+     * All resources are closed before this method returns.
+     *
+     * @param fetchSize The number of rows fetched from the database at a time.
+     * @param callback  The callback receiving each student.
+     * @return The number of students read.
+     * @throws SQLException If a database access error occurs or the callback aborts.
+     */
+    public long forEachStudent(int fetchSize, RowCallback<Student> callback) throws SQLException {
+        return CursorReader.forEach(connectionProvider, StudentMapping.SELECT, fetchSize, StudentMapping.MAPPER,
+                callback);
+    }
+
+    /**
+     * Retrieves one page of students ordered by ID using keyset pagination.
+     * The page is located by seeking past the last ID of the previous page, so the cost
+     * of a page does not depend on how deep it is.
+     *
+     * @param continuationToken The token of the previous page, or null for the first page.
+     * @param pageSize          The maximum number of students on the page.
+     * @return The page and the token of the next page, if any.
+     * @throws SQLException If a database access error occurs.
+     */
+    public KeysetPage<Student> getStudentsPage(String continuationToken, int pageSize) throws SQLException {
+        return KeysetReader.page(connectionProvider, StudentMapping.SELECT + " WHERE id > ? ORDER BY id LIMIT ?",
+                continuationToken, pageSize, StudentMapping.MAPPER, Student::getId);
+    }
+
+    private static void validateStudent(Student student) {
+        if (student == null || student.getName() == null || student.getEmail() == null) {
+            throw new IllegalArgumentException("Student and its fields cannot be null");
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Student student) throws SQLException {
+        pstmt.setString(1, student.getName());
+        pstmt.setString(2, student.getEmail());
+    }
+}
\ No newline at end of file
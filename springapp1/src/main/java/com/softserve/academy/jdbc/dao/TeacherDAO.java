@@ -0,0 +1,253 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.example.TeacherMapping;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.pool.SingleConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * DAO class for Teacher entity.
+ * This class is responsible for data access operations related to the Teacher entity.
+ */
+public class TeacherDAO {
+    private static final String INSERT_SQL = "INSERT INTO teacher (name, department) VALUES (?, ?)";
+
+    private final ConnectionProvider connectionProvider;
+
+    public TeacherDAO(Connection conn) {
+        this(new SingleConnectionProvider(conn));
+    }
+
+    public TeacherDAO(ConnectionProvider connectionProvider) {
+        if (connectionProvider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Adds a new teacher to the database.
+     *
+     * @param teacher The teacher object to be added.
+     * @return The generated ID of the new teacher.
+     * @throws SQLException If a database access error occurs.
+     */
+    public long addTeacher(Teacher teacher) throws SQLException {
+        validateTeacher(teacher);
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(pstmt, teacher);
+            pstmt.executeUpdate();
+
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+            throw new SQLException("Failed to retrieve generated ID for the new teacher");
+        }
+    }
+
+    /**
+     * Adds several teachers to the database using JDBC batching with the default batch size.
+     *
+     * @param teachers The teacher objects to be added.
+     * @return The generated IDs in input order and the rows that failed.
+     * @throws SQLException If a database access error occurs.
+     */
+    public BatchResult addTeachers(List<Teacher> teachers) throws SQLException {
+        return addTeachers(teachers, BatchInserter.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Adds several teachers to the database using JDBC batching.
+     *
+     * @param teachers  The teacher objects to be added.
+     * @param batchSize The maximum number of rows sent to the database in one batch.
+     * @return The generated IDs in input order and the rows that failed.
+     * @throws SQLException If a database access error occurs.
+     */
+    public BatchResult addTeachers(List<Teacher> teachers, int batchSize) throws SQLException {
+        try (Connection conn = connectionProvider.getConnection()) {
+            return BatchInserter.insert(conn, INSERT_SQL, teachers, batchSize,
+                    TeacherDAO::validateTeacher, TeacherDAO::bindInsert);
+        }
+    }
+
+    /**
+     * Updates an existing teacher in the database.
+     *
+     * @param teacher The teacher object with updated data.
+     * @return True if the teacher was updated, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public boolean updateTeacher(Teacher teacher) throws SQLException {
+        validateTeacher(teacher);
+        String sql = "UPDATE teacher SET name = ?, department = ? WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, teacher.getName());
+            pstmt.setString(2, teacher.getDepartment());
+            pstmt.setLong(3, teacher.getId());
+            int rowsAffected = pstmt.executeUpdate();
+            return rowsAffected > 0;
+        }
+    }
+
+    /**
+     * Deletes a teacher from the database.
+     *
+     * @param id The ID of the teacher to be deleted.
+     * @return True if the teacher was deleted, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public boolean deleteTeacher(long id) throws SQLException {
+        String sql = "DELETE FROM teacher WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            int rowsAffected = pstmt.executeUpdate();
+            return rowsAffected > 0;
+        }
+    }
+
+    /**
+     * Retrieves a teacher by ID from the database.
+     *
+     * @param id The ID of the teacher to be retrieved.
+     * @return The teacher object if found, null otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Teacher getTeacherById(long id) throws SQLException {
+        String sql = TeacherMapping.SELECT + " WHERE id = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return TeacherMapping.MAPPER.mapRow(rs);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves all teachers from the database.
+     *
+     * @return A list of all teacher objects.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<Teacher> getAllTeachers() throws SQLException {
+        List<Teacher> teachers = new ArrayList<>();
+        String sql = TeacherMapping.SELECT;
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                teachers.add(TeacherMapping.MAPPER.mapRow(rs));
+            }
+        }
+        return teachers;
+    }
+
+    /**
+     * Streams all teachers from the database with the default fetch size.
+     *
+     * @return A lazily populated stream of teacher objects; it must be closed after use.
+     * @throws SQLException If a database access error occurs.
+     * @see #streamTeachers(int)
+     */
+    public Stream<Teacher> streamTeachers() throws SQLException {
+        return streamTeachers(CursorReader.DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Streams all teachers from the database over a forward-only, read-only cursor.
+     * Rows are fetched from the database as the stream is consumed. The connection is held
+     * until the stream is closed or exhausted, so use it in a try-with-resources block.
+     * Database errors during iteration are thrown as {@link UncheckedSQLException}.
+     *
+     * @param fetchSize The number of rows fetched from the database at a time.
+     * @return A lazily populated stream of teacher objects; it must be closed after use.
+     * @throws SQLException If the query cannot be executed.
+     */
+    public Stream<Teacher> streamTeachers(int fetchSize) throws SQLException {
+        return CursorReader.stream(connectionProvider, TeacherMapping.SELECT, fetchSize, TeacherMapping.MAPPER);
+    }
+
+    /**
+     * Reads all teachers from the database and passes them to the callback one at a time.
+     * All resources are closed before this method returns.
+     *
+     * @param fetchSize The number of rows fetched from the database at a time.
+     * @param callback  The callback receiving each teacher.
+     * @return The number of teachers read.
+     * @throws SQLException If a database access error occurs or the callback aborts.
+     */
+    public long forEachTeacher(int fetchSize, RowCallback<Teacher> callback) throws SQLException {
+        return CursorReader.forEach(connectionProvider, TeacherMapping.SELECT, fetchSize, TeacherMapping.MAPPER,
+                callback);
+    }
+
+    /**
+     * Retrieves one page of teachers ordered by ID using keyset pagination.
+     * The page is located by seeking past the last ID of the previous page, so the cost
+     * of a page does not depend on how deep it is.
+     *
+     * @param continuationToken The token of the previous page, or null for the first page.
+     * @param pageSize          The maximum number of teachers on the page.
+     * @return The page and the token of the next page, if any.
+     * @throws SQLException If a database access error occurs.
+     */
+    public KeysetPage<Teacher> getTeachersPage(String continuationToken, int pageSize) throws SQLException {
+        return KeysetReader.page(connectionProvider, TeacherMapping.SELECT + " WHERE id > ? ORDER BY id LIMIT ?",
+                continuationToken, pageSize, TeacherMapping.MAPPER, Teacher::getId);
+    }
+
+    /**
+     * Retrieves teachers by name from the database.
+     *
+     * @param name The name of the teacher to be retrieved.
+     * @return A list of teacher objects with the given name.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<Teacher> getTeachersByName(String name) throws SQLException {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        List<Teacher> teachers = new ArrayList<>();
+        String sql = TeacherMapping.SELECT + " WHERE name = ?";
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, name);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    teachers.add(TeacherMapping.MAPPER.mapRow(rs));
+                }
+            }
+        }
+        return teachers;
+    }
+
+    private static void validateTeacher(Teacher teacher) {
+        if (teacher == null || teacher.getName() == null || teacher.getDepartment() == null) {
+            throw new IllegalArgumentException("Teacher and its fields cannot be null");
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Teacher teacher) throws SQLException {
+        pstmt.setString(1, teacher.getName());
+        pstmt.setString(2, teacher.getDepartment());
+    }
+}
\ No newline at end of file
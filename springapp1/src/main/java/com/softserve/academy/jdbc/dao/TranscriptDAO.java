@@ -0,0 +1,181 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.example.TranscriptEntry;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.pool.SingleConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DAO class for transcripts and course rosters.
+ * Each read fetches enrollments together with their student, course and teacher in one joined query,
+ * instead of loading every course and teacher separately. Within one result, rows that refer
+ * to the same student, course or teacher share a single instance.
+ */
+public class TranscriptDAO {
+    /**
+     * The largest number of student IDs sent in one IN list by {@link #getTranscripts(Collection)}.
+     */
+    static final int MAX_IN_LIST_SIZE = 512;
+
+    private static final String SELECT_ENTRIES = "SELECT e.id, e.student_id, e.course_id, e.grade, " +
+            "s.name AS student_name, s.email AS student_email, " +
+            "c.title AS course_title, c.teacher_id, " +
+            "t.name AS teacher_name, t.department AS teacher_department " +
+            "FROM enrollment e " +
+            "JOIN student s ON s.id = e.student_id " +
+            "JOIN course c ON c.id = e.course_id " +
+            "JOIN teacher t ON t.id = c.teacher_id ";
+
+    private final ConnectionProvider connectionProvider;
+
+    public TranscriptDAO(Connection conn) {
+        this(new SingleConnectionProvider(conn));
+    }
+
+    public TranscriptDAO(ConnectionProvider connectionProvider) {
+        if (connectionProvider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Retrieves the transcript of a student.
+     *
+     * @param studentId The ID of the student.
+     * @return The transcript entries ordered by enrollment ID; empty if the student has no enrollments.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<TranscriptEntry> getTranscript(long studentId) throws SQLException {
+        return query(SELECT_ENTRIES + "WHERE e.student_id = ? ORDER BY e.id", studentId);
+    }
+
+    /**
+     * Retrieves the roster of a course.
+     *
+     * @param courseId The ID of the course.
+     * @return The roster entries ordered by enrollment ID; empty if nobody is enrolled.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<TranscriptEntry> getRoster(long courseId) throws SQLException {
+        return query(SELECT_ENTRIES + "WHERE e.course_id = ? ORDER BY e.id", courseId);
+    }
+
+    /**
+     * Retrieves the transcripts of many students at once.
+     * Student IDs are sent in IN lists of up to {@value #MAX_IN_LIST_SIZE}; the lists are padded to
+     * a power of two so that only a handful of distinct statements is ever prepared.
+     *
+     * @param studentIds The IDs of the students.
+     * @return The transcripts by student ID, in the order of the given IDs; students without enrollments map to an empty list.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Map<Long, List<TranscriptEntry>> getTranscripts(Collection<Long> studentIds) throws SQLException {
+        if (studentIds == null) {
+            throw new IllegalArgumentException("Student IDs cannot be null");
+        }
+        Map<Long, List<TranscriptEntry>> transcripts = new LinkedHashMap<>();
+        for (Long id : new LinkedHashSet<>(studentIds)) {
+            if (id == null) {
+                throw new IllegalArgumentException("Student ID cannot be null");
+            }
+            transcripts.put(id, new ArrayList<>());
+        }
+        if (transcripts.isEmpty()) {
+            return transcripts;
+        }
+
+        IdentityMap identityMap = new IdentityMap();
+        List<Long> ids = new ArrayList<>(transcripts.keySet());
+        try (Connection conn = connectionProvider.getConnection()) {
+            for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IN_LIST_SIZE));
+                int size = Integer.highestOneBit(chunk.size() - 1) << 1;
+                size = Math.max(1, Math.min(size, MAX_IN_LIST_SIZE));
+                String sql = SELECT_ENTRIES + "WHERE e.student_id IN (" + placeholders(size) + ") ORDER BY e.id";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < size; i++) {
+                        // Padding repeats the last ID, which does not change the result
+                        pstmt.setLong(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            TranscriptEntry entry = identityMap.mapRow(rs);
+                            transcripts.get(entry.getStudent().getId()).add(entry);
+                        }
+                    }
+                }
+            }
+        }
+        return transcripts;
+    }
+
+    private List<TranscriptEntry> query(String sql, long id) throws SQLException {
+        IdentityMap identityMap = new IdentityMap();
+        List<TranscriptEntry> entries = new ArrayList<>();
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(identityMap.mapRow(rs));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * Maps joined rows and keeps one instance per student, course and teacher ID.
+     */
+    private static final class IdentityMap implements RowMapper<TranscriptEntry> {
+        private final Map<Long, Student> students = new HashMap<>();
+        private final Map<Long, Course> courses = new HashMap<>();
+        private final Map<Long, Teacher> teachers = new HashMap<>();
+
+        @Override
+        public TranscriptEntry mapRow(ResultSet rs) throws SQLException {
+            long studentId = rs.getLong("student_id");
+            long courseId = rs.getLong("course_id");
+            long teacherId = rs.getLong("teacher_id");
+
+            Student student = students.get(studentId);
+            if (student == null) {
+                student = new Student(studentId, rs.getString("student_name"), rs.getString("student_email"));
+                students.put(studentId, student);
+            }
+            Teacher teacher = teachers.get(teacherId);
+            if (teacher == null) {
+                teacher = new Teacher(teacherId, rs.getString("teacher_name"), rs.getString("teacher_department"));
+                teachers.put(teacherId, teacher);
+            }
+            Course course = courses.get(courseId);
+            if (course == null) {
+                course = new Course(courseId, rs.getString("course_title"), teacherId);
+                courses.put(courseId, course);
+            }
+            Enrollment enrollment = new Enrollment(rs.getLong("id"), studentId, courseId, rs.getString("grade"));
+            return new TranscriptEntry(enrollment, student, course, teacher);
+        }
+    }
+}
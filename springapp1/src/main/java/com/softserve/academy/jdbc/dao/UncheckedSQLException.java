@@ -0,0 +1,18 @@
+package com.softserve.academy.jdbc.dao;
+
+import java.sql.SQLException;
+
+/**
+ * Wraps a SQLException thrown where checked exceptions cannot be declared, e.g. inside a Stream.
+ */
+public class UncheckedSQLException extends RuntimeException {
+
+    public UncheckedSQLException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
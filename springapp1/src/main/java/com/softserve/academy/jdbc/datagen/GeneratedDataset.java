@@ -0,0 +1,67 @@
+package com.softserve.academy.jdbc.datagen;
+
+/**
+ * Row counts and wall time of one {@link UniversityDataGenerator} run.
+ */
+public final class GeneratedDataset {
+    private final long teachers;
+    private final long students;
+    private final long courses;
+    private final long enrollments;
+    private final long failedRows;
+    private final long elapsedNanos;
+
+    GeneratedDataset(long teachers, long students, long courses, long enrollments, long failedRows,
+                     long elapsedNanos) {
+        this.teachers = teachers;
+        this.students = students;
+        this.courses = courses;
+        this.enrollments = enrollments;
+        this.failedRows = failedRows;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getTeachers() {
+        return teachers;
+    }
+
+    public long getStudents() {
+        return students;
+    }
+
+    public long getCourses() {
+        return courses;
+    }
+
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    /**
+     * Returns the number of rows the database rejected when writing through the DAOs; 0 for files.
+     *
+     * @return The rejected row count.
+     */
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getRows() {
+        return teachers + students + courses + enrollments;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : getRows() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GeneratedDataset{teachers=%d, students=%d, courses=%d, enrollments=%d, failed=%d, "
+                        + "time=%.1fs, %.0f rows/s}", teachers, students, courses, enrollments, failedRows,
+                elapsedNanos / 1e9, getRowsPerSecond());
+    }
+}
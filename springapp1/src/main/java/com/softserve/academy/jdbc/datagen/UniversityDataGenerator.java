@@ -0,0 +1,509 @@
+package com.softserve.academy.jdbc.datagen;
+
+import com.softserve.academy.jdbc.csv.CsvWriter;
+import com.softserve.academy.jdbc.csv.ImportEntity;
+import com.softserve.academy.jdbc.dao.BatchResult;
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates a synthetic university of any size, identical for the same seed and scale.
+ * <p>
+ * A scale of 1 is {@value #STUDENTS_PER_SCALE} students, one teacher per 100 students and one course
+ * per 20. Each student takes 1 to 8 courses, four on average. Course popularity follows a Zipf
+ * distribution over a seeded random ranking of the courses, so a few courses are crowded and most
+ * are small. Departments are skewed too, and grades follow a fixed distribution with 5% of
+ * enrollments still ungraded.
+ * <p>
+ * Every table is cut into blocks of rows, and every block draws from its own random generator seeded
+ * from the seed, the table and the block number only. Blocks are generated on several threads, but
+ * the data never depends on the number of threads or on their timing.
+ * <p>
+ * The data can be written as CSV files in the format read by CsvImporter, or inserted through the DAOs.
+ * Rows refer to each other by key, e.g. {@code s42} for the student with index 42. The files keep the
+ * keys. Through the DAOs the keys become the generated IDs.
+ */
+public final class UniversityDataGenerator {
+    public static final int STUDENTS_PER_SCALE = 100_000;
+
+    private static final String[] FIRST_NAMES = {"Olena", "Andrii", "Iryna", "Taras", "Sofia", "Maksym", "Anna",
+            "Dmytro", "Kateryna", "Oleksandr", "Maria", "Ivan", "Yulia", "Serhii", "Natalia", "Bohdan", "Daria",
+            "Mykola", "Viktoria", "Petro", "John", "Jane", "Alice", "Bob", "Carol", "David", "Emma", "Frank",
+            "Grace", "Henry", "Isabel", "Jack", "Laura", "Michael", "Nora", "Oscar", "Paula", "Robert", "Sara",
+            "Thomas"};
+    private static final String[] LAST_NAMES = {"Shevchenko", "Kovalenko", "Bondarenko", "Tkachenko",
+            "Kravchenko", "Oliinyk", "Shevchuk", "Polishchuk", "Lysenko", "Marchenko", "Moroz", "Savchenko",
+            "Rudenko", "Melnyk", "Boiko", "Smith", "Johnson", "Brown", "Green", "Taylor", "Wilson", "Davies",
+            "Evans", "Thomas", "Roberts", "Walker", "Wright", "Hall", "Wood", "Clarke"};
+    private static final String[] DEPARTMENTS = {"Computer Science", "Mathematics", "Economics", "Physics",
+            "Engineering", "Biology", "Psychology", "Chemistry", "Law", "History", "Linguistics", "Philosophy"};
+    private static final String[] COURSE_PREFIXES = {"Introduction to", "Foundations of", "Applied", "Advanced",
+            "Topics in", "Seminar in"};
+    private static final String[] GRADES = {"A", "B", "C", "D", "F", null};
+    private static final int[] GRADE_WEIGHTS = {20, 35, 25, 10, 5, 5};
+    private static final int[] COURSES_PER_STUDENT_WEIGHTS = {5, 10, 20, 25, 20, 10, 6, 4};
+
+    private final long seed;
+    private final int teachers;
+    private final int students;
+    private final int courses;
+    private final int threads;
+    private final int blockSize;
+    private final int batchSize;
+    private final ZipfSampler departmentSampler;
+    private final ZipfSampler courseSampler;
+    private final int[] courseByRank;
+
+    private UniversityDataGenerator(Builder builder) {
+        this.seed = builder.seed;
+        this.students = (int) Math.max(1, Math.round(STUDENTS_PER_SCALE * builder.scale));
+        this.teachers = Math.max(1, students / 100);
+        this.courses = Math.max(COURSES_PER_STUDENT_WEIGHTS.length * 2, students / 20);
+        this.threads = builder.threads;
+        this.blockSize = builder.blockSize;
+        this.batchSize = builder.batchSize;
+        this.departmentSampler = new ZipfSampler(DEPARTMENTS.length, 0.8);
+        this.courseSampler = new ZipfSampler(courses, builder.courseSkew);
+        this.courseByRank = new int[courses];
+        SplittableRandom random = new SplittableRandom(mix(seed));
+        for (int i = 0; i < courses; i++) {
+            int j = random.nextInt(i + 1);
+            courseByRank[i] = courseByRank[j];
+            courseByRank[j] = i;
+        }
+    }
+
+    /**
+     * @param seed The seed; the same seed and scale always produce the same rows.
+     * @return A builder for a generator.
+     */
+    public static Builder builder(long seed) {
+        return new Builder(seed);
+    }
+
+    /**
+     * Returns the name of the CSV file of a table written by {@link #writeCsv(Path)}.
+     *
+     * @param entity The table.
+     * @return The file name, e.g. "students.csv".
+     */
+    public static String fileName(ImportEntity entity) {
+        return entity.name().toLowerCase(Locale.ROOT) + ".csv";
+    }
+
+    public int getTeachers() {
+        return teachers;
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public int getCourses() {
+        return courses;
+    }
+
+    /**
+     * Writes one CSV file per table into a directory, with the header CsvImporter expects.
+     * Blocks are formatted in parallel and written in order.
+     *
+     * @param dir The directory; created if missing, existing files are replaced.
+     * @return The row counts.
+     * @throws IOException If a file cannot be written.
+     */
+    public GeneratedDataset writeCsv(Path dir) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(dir);
+        long[] counts = new long[ImportEntity.values().length];
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (ImportEntity entity : ImportEntity.values()) {
+                try (Writer writer = Files.newBufferedWriter(dir.resolve(fileName(entity)), StandardCharsets.UTF_8)) {
+                    CsvWriter csv = new CsvWriter(writer);
+                    csv.writeRecord(entity.getHeader().toArray(new String[0]));
+                    csv.flush();
+                    List<Callable<FormattedBlock>> blocks = new ArrayList<>();
+                    for (int block = 0; block < blockCount(entity); block++) {
+                        int index = block;
+                        blocks.add(() -> format(generate(entity, index)));
+                    }
+                    for (Future<FormattedBlock> block : inOrder(executor, blocks)) {
+                        FormattedBlock formatted = await(block, IOException.class);
+                        writer.write(formatted.text);
+                        counts[entity.ordinal()] += formatted.rows;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new GeneratedDataset(counts[ImportEntity.TEACHERS.ordinal()],
+                counts[ImportEntity.STUDENTS.ordinal()], counts[ImportEntity.COURSES.ordinal()],
+                counts[ImportEntity.ENROLLMENTS.ordinal()], 0, System.nanoTime() - start);
+    }
+
+    /**
+     * Inserts the data through the DAO batch methods, one block per call, from several threads.
+     * The provider must hand out a separate connection per call, like ConnectionPool does.
+     *
+     * @param connectionProvider The provider of the connections the blocks are inserted with.
+     * @return The row counts; rows the database rejected are counted as failed, as are the enrollments
+     * of a rejected student or course.
+     * @throws SQLException If a database access error occurs.
+     */
+    public GeneratedDataset insert(ConnectionProvider connectionProvider) throws SQLException {
+        long start = System.nanoTime();
+        TeacherDAO teacherDAO = new TeacherDAO(connectionProvider);
+        StudentDAO studentDAO = new StudentDAO(connectionProvider);
+        CourseDAO courseDAO = new CourseDAO(connectionProvider);
+        EnrollmentDAO enrollmentDAO = new EnrollmentDAO(connectionProvider);
+        AtomicLong failed = new AtomicLong();
+        long[] teacherIds = new long[teachers];
+        long[] studentIds = new long[students];
+        long[] courseIds = new long[courses];
+        AtomicLong enrollments = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            insertTable(executor, ImportEntity.TEACHERS, teacherIds, failed, records -> {
+                List<Teacher> rows = new ArrayList<>(records.size());
+                for (String[] record : records) {
+                    rows.add(new Teacher(0L, record[1], record[2]));
+                }
+                return teacherDAO.addTeachers(rows, batchSize);
+            });
+            insertTable(executor, ImportEntity.STUDENTS, studentIds, failed, records -> {
+                List<Student> rows = new ArrayList<>(records.size());
+                for (String[] record : records) {
+                    rows.add(new Student(0L, record[1], record[2]));
+                }
+                return studentDAO.addStudents(rows, batchSize);
+            });
+            insertTable(executor, ImportEntity.COURSES, courseIds, failed, records -> {
+                List<Course> rows = new ArrayList<>(records.size());
+                for (String[] record : records) {
+                    rows.add(new Course(0L, record[1], teacherIds[index(record[2])]));
+                }
+                return courseDAO.addCourses(rows, batchSize);
+            });
+            insertTable(executor, ImportEntity.ENROLLMENTS, null, failed, records -> {
+                List<Enrollment> rows = new ArrayList<>(records.size());
+                for (String[] record : records) {
+                    long studentId = studentIds[index(record[0])];
+                    long courseId = courseIds[index(record[1])];
+                    if (studentId == BatchResult.NO_ID || courseId == BatchResult.NO_ID) {
+                        failed.incrementAndGet();
+                    } else {
+                        rows.add(new Enrollment(0L, studentId, courseId, record[2]));
+                    }
+                }
+                enrollments.addAndGet(records.size());
+                return enrollmentDAO.addEnrollments(rows, batchSize);
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        return new GeneratedDataset(teachers, students, courses, enrollments.get(), failed.get(),
+                System.nanoTime() - start);
+    }
+
+    private static final class FormattedBlock {
+        private final String text;
+        private final int rows;
+
+        private FormattedBlock(String text, int rows) {
+            this.text = text;
+            this.rows = rows;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockInserter {
+        BatchResult insert(List<String[]> records) throws SQLException;
+    }
+
+    private void insertTable(ExecutorService executor, ImportEntity entity, long[] ids, AtomicLong failed,
+                             BlockInserter inserter) throws SQLException {
+        List<Callable<Void>> blocks = new ArrayList<>();
+        for (int block = 0; block < blockCount(entity); block++) {
+            int index = block;
+            blocks.add(() -> {
+                BatchResult result = inserter.insert(generate(entity, index));
+                failed.addAndGet(result.size() - result.getSuccessCount());
+                if (ids != null) {
+                    System.arraycopy(result.getGeneratedIds(), 0, ids, index * blockSize, result.size());
+                }
+                return null;
+            });
+        }
+        for (Future<Void> block : inOrder(executor, blocks)) {
+            await(block, SQLException.class);
+        }
+    }
+
+    /**
+     * Submits the tasks so that at most twice as many as there are threads are pending, and returns
+     * their futures in submission order; the caller consumes each one before the next is submitted.
+     */
+    private <T> Iterable<Future<T>> inOrder(ExecutorService executor, List<Callable<T>> tasks) {
+        return () -> new Iterator<>() {
+            private final Deque<Future<T>> window = new ArrayDeque<>();
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                fill();
+                return !window.isEmpty();
+            }
+
+            @Override
+            public Future<T> next() {
+                fill();
+                return window.poll();
+            }
+
+            private void fill() {
+                while (next < tasks.size() && window.size() < threads * 2) {
+                    window.add(executor.submit(tasks.get(next++)));
+                }
+            }
+        };
+    }
+
+    private static <T, E extends Exception> T await(Future<T> future, Class<E> checked) throws E {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating data", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (checked.isInstance(cause)) {
+                throw checked.cast(cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private int blockCount(ImportEntity entity) {
+        return (rowsOf(entity) + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * @return The number of rows of a table; for enrollments the number of students they are generated for.
+     */
+    private int rowsOf(ImportEntity entity) {
+        switch (entity) {
+            case TEACHERS:
+                return teachers;
+            case COURSES:
+                return courses;
+            default:
+                return students;
+        }
+    }
+
+    /**
+     * Generates one block of a table as CSV records with the columns of {@link ImportEntity}.
+     */
+    private List<String[]> generate(ImportEntity entity, int block) {
+        SplittableRandom random = new SplittableRandom(mix(mix(seed + entity.ordinal() + 1) + block));
+        int from = block * blockSize;
+        int to = Math.min(rowsOf(entity), from + blockSize);
+        List<String[]> records = new ArrayList<>(entity == ImportEntity.ENROLLMENTS ? (to - from) * 5 : to - from);
+        for (int i = from; i < to; i++) {
+            switch (entity) {
+                case TEACHERS:
+                    records.add(new String[]{"t" + i,
+                            (random.nextInt(3) == 0 ? "Prof. " : "Dr. ") + pick(FIRST_NAMES, random) + " "
+                                    + pick(LAST_NAMES, random),
+                            DEPARTMENTS[departmentSampler.next(random)]});
+                    break;
+                case STUDENTS:
+                    String first = pick(FIRST_NAMES, random);
+                    String last = pick(LAST_NAMES, random);
+                    records.add(new String[]{"s" + i, first + " " + last,
+                            (first + "." + last).toLowerCase(Locale.ROOT) + "." + i + "@example.edu"});
+                    break;
+                case COURSES:
+                    records.add(new String[]{"c" + i,
+                            pick(COURSE_PREFIXES, random) + " " + DEPARTMENTS[departmentSampler.next(random)] + " "
+                                    + (100 + random.nextInt(400)),
+                            "t" + random.nextInt(teachers)});
+                    break;
+                default:
+                    addEnrollments(records, i, random);
+                    break;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Picks distinct courses by popularity for one student; falls back to uniform picks if the popular
+     * courses keep repeating, which only happens with very few courses.
+     */
+    private void addEnrollments(List<String[]> records, int student, SplittableRandom random) {
+        int count = weighted(COURSES_PER_STUDENT_WEIGHTS, random) + 1;
+        int[] taken = new int[count];
+        int attempts = 0;
+        for (int n = 0; n < count; ) {
+            int course = attempts++ < count * 20 ? courseByRank[courseSampler.next(random)] : random.nextInt(courses);
+            boolean duplicate = false;
+            for (int j = 0; j < n && !duplicate; j++) {
+                duplicate = taken[j] == course;
+            }
+            if (!duplicate) {
+                taken[n++] = course;
+                records.add(new String[]{"s" + student, "c" + course, GRADES[weighted(GRADE_WEIGHTS, random)]});
+            }
+        }
+    }
+
+    private static FormattedBlock format(List<String[]> records) throws IOException {
+        StringWriter text = new StringWriter(records.size() * 48);
+        CsvWriter csv = new CsvWriter(text);
+        for (String[] record : records) {
+            csv.writeRecord(record);
+        }
+        return new FormattedBlock(text.toString(), records.size());
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int weighted(int[] weights, SplittableRandom random) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int value = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static int index(String key) {
+        return Integer.parseInt(key, 1, key.length(), 10);
+    }
+
+    /**
+     * The SplitMix64 finalizer: spreads nearby seeds, e.g. consecutive block numbers, over unrelated states.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Builder for {@link UniversityDataGenerator}.
+     */
+    public static class Builder {
+        private final long seed;
+        private double scale = 1;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int blockSize = 10_000;
+        private int batchSize = 1_000;
+        private double courseSkew = 1.0;
+
+        private Builder(long seed) {
+            this.seed = seed;
+        }
+
+        /**
+         * Sets the size of the data; 1 is {@value #STUDENTS_PER_SCALE} students, 10 a million.
+         */
+        public Builder scale(double scale) {
+            if (!(scale > 0)) {
+                throw new IllegalArgumentException("Scale must be positive");
+            }
+            this.scale = scale;
+            return this;
+        }
+
+        /**
+         * Sets the number of generator threads; it does not change the data.
+         */
+        public Builder threads(int threads) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("Threads must be positive");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows per block, the unit of parallel work. Changing it changes the data.
+         */
+        public Builder blockSize(int blockSize) {
+            if (blockSize <= 0) {
+                throw new IllegalArgumentException("Block size must be positive");
+            }
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        /**
+         * Sets the JDBC batch size used by {@link UniversityDataGenerator#insert(ConnectionProvider)}.
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the Zipf exponent of course popularity; 0 makes all courses equally popular.
+         */
+        public Builder courseSkew(double courseSkew) {
+            if (courseSkew < 0 || Double.isNaN(courseSkew)) {
+                throw new IllegalArgumentException("Course skew cannot be negative");
+            }
+            this.courseSkew = courseSkew;
+            return this;
+        }
+
+        public UniversityDataGenerator build() {
+            return new UniversityDataGenerator(this);
+        }
+    }
+}
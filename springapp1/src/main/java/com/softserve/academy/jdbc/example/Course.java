@@ -1,7 +1,11 @@
 package com.softserve.academy.jdbc.example;
 
+import com.softserve.academy.jdbc.mapping.Column;
+import com.softserve.academy.jdbc.mapping.Table;
+
 import java.util.Objects;
 
+@Table("course")
 public class Course {
     private final Long id;
     private final String title;
@@ -14,7 +18,7 @@ public class Course {
         this.teacherId = 0L;
     }
 
-    public Course(long id, String title, long teacherId) {
+    public Course(@Column("id") long id, @Column("title") String title, @Column("teacher_id") long teacherId) {
         if (title == null) {
             throw new IllegalArgumentException("Title cannot be null");
         }
@@ -43,7 +47,7 @@ public class Course {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Course course = (Course) o;
-        return id == course.id && teacherId == course.teacherId && Objects.equals(title, course.title);
+        return Objects.equals(id, course.id) && teacherId == course.teacherId && Objects.equals(title, course.title);
     }
 
     @Override
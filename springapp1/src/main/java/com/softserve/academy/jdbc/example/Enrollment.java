@@ -1,7 +1,11 @@
 package com.softserve.academy.jdbc.example;
 
+import com.softserve.academy.jdbc.mapping.Column;
+import com.softserve.academy.jdbc.mapping.Table;
+
 import java.util.Objects;
 
+@Table("enrollment")
 public class Enrollment {
     private final long id; // Змінено на long через BIGINT
     private final long studentId; // Змінено на long через BIGINT
@@ -17,7 +21,8 @@ public class Enrollment {
     }
 
     // Основний конструктор із валідацією
-    public Enrollment(long id, long studentId, long courseId, String grade) {
+    public Enrollment(@Column("id") long id, @Column("student_id") long studentId,
+                      @Column("course_id") long courseId, @Column("grade") String grade) {
         if (studentId <= 0) {
             throw new IllegalArgumentException("Student ID must be positive");
         }
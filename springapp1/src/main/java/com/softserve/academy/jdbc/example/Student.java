@@ -1,7 +1,11 @@
 package com.softserve.academy.jdbc.example;
 
+import com.softserve.academy.jdbc.mapping.Column;
+import com.softserve.academy.jdbc.mapping.Table;
+
 import java.util.Objects;
 
+@Table("student")
 public class Student {
     private final long id;
     private final String name;
@@ -14,7 +18,7 @@ public class Student {
         this.email = "";
     }
 
-    public Student(long id, String name, String email) {
+    public Student(@Column("id") long id, @Column("name") String name, @Column("email") String email) {
         if (name == null || email == null) {
             throw new IllegalArgumentException("Name and email cannot be null");
         }
@@ -1,7 +1,11 @@
 package com.softserve.academy.jdbc.example;
 
+import com.softserve.academy.jdbc.mapping.Column;
+import com.softserve.academy.jdbc.mapping.Table;
+
 import java.util.Objects;
 
+@Table("teacher")
 public class Teacher {
     private final long id;
     private final String name;
@@ -14,7 +18,8 @@ public class Teacher {
         this.department = null;
     }
 
-    public Teacher(long id, String name, String department) {
+    public Teacher(@Column("id") long id, @Column("name") String name,
+                   @Column("department") String department) {
         if (name == null || department == null) {
             throw new IllegalArgumentException("Name and department cannot be null");
         }
@@ -0,0 +1,64 @@
+package com.softserve.academy.jdbc.example;
+
+import java.util.Objects;
+
+/**
+ * One line of a student transcript or course roster: an enrollment together with
+ * the student, the course and the teacher of that course.
+ */
+public class TranscriptEntry {
+    private final Enrollment enrollment;
+    private final Student student;
+    private final Course course;
+    private final Teacher teacher;
+
+    public TranscriptEntry(Enrollment enrollment, Student student, Course course, Teacher teacher) {
+        if (enrollment == null || student == null || course == null || teacher == null) {
+            throw new IllegalArgumentException("Enrollment, student, course and teacher cannot be null");
+        }
+        this.enrollment = enrollment;
+        this.student = student;
+        this.course = course;
+        this.teacher = teacher;
+    }
+
+    public Enrollment getEnrollment() {
+        return enrollment;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public Teacher getTeacher() {
+        return teacher;
+    }
+
+    public String getGrade() {
+        return enrollment.getGrade();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TranscriptEntry that = (TranscriptEntry) o;
+        return enrollment.equals(that.enrollment) && student.equals(that.student)
+                && course.equals(that.course) && teacher.equals(that.teacher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enrollment, student, course, teacher);
+    }
+
+    @Override
+    public String toString() {
+        return "TranscriptEntry{student='" + student.getName() + "', course='" + course.getTitle()
+                + "', teacher='" + teacher.getName() + "', grade='" + enrollment.getGrade() + "'}";
+    }
+}
@@ -0,0 +1,200 @@
+package com.softserve.academy.jdbc.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Proxy handlers that time the statements created on a sampled connection.
+ * Prepared statements are attributed to their SQL when they are prepared, plain statements
+ * to the SQL passed to each execute call. Result sets are wrapped to count the rows read,
+ * which are added to the statement when the result set or its statement is closed.
+ */
+final class InstrumentedConnection implements InvocationHandler {
+    private final Connection delegate;
+    private final JdbcMetrics metrics;
+
+    private InstrumentedConnection(Connection delegate, JdbcMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    static Connection wrap(Connection delegate, JdbcMetrics metrics) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new InstrumentedConnection(delegate, metrics));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                break;
+        }
+        Object result = invokeDelegate(delegate, method, args);
+        switch (method.getName()) {
+            case "prepareStatement":
+                return StatementHandler.wrap((PreparedStatement) result, PreparedStatement.class,
+                        metrics.statement((String) args[0]), (Connection) proxy, metrics);
+            case "createStatement":
+                return StatementHandler.wrap((Statement) result, Statement.class, null, (Connection) proxy, metrics);
+            default:
+                return result;
+        }
+    }
+
+    private static Object invokeDelegate(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement delegate;
+        private final StatementMetrics prepared;
+        private final Connection owner;
+        private final JdbcMetrics metrics;
+        private StatementMetrics current;
+        private RowCounter openResultSet;
+
+        private StatementHandler(Statement delegate, StatementMetrics prepared, Connection owner,
+                                 JdbcMetrics metrics) {
+            this.delegate = delegate;
+            this.prepared = prepared;
+            this.current = prepared;
+            this.owner = owner;
+            this.metrics = metrics;
+        }
+
+        static <T extends Statement> T wrap(T delegate, Class<T> type, StatementMetrics prepared,
+                                            Connection owner, JdbcMetrics metrics) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(delegate, prepared, owner, metrics)));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "getConnection":
+                    return owner;
+                case "getResultSet":
+                    return countRows((ResultSet) invokeDelegate(delegate, method, args));
+                case "close":
+                    flushRows();
+                    return invokeDelegate(delegate, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                return invokeDelegate(delegate, method, args);
+            }
+            flushRows();
+            current = args != null && args.length > 0 && args[0] instanceof String
+                    ? metrics.statement((String) args[0])
+                    : prepared;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeDelegate(delegate, method, args);
+            } catch (Throwable e) {
+                if (current != null) {
+                    current.recordError(System.nanoTime() - start);
+                }
+                throw e;
+            }
+            long nanos = System.nanoTime() - start;
+            if (current == null) {
+                return result;
+            }
+            current.recordExecution(nanos);
+            if (result instanceof ResultSet) {
+                return countRows((ResultSet) result);
+            }
+            if (result instanceof Integer || result instanceof Long) {
+                current.recordRows(((Number) result).longValue());
+            } else if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    current.recordRows(count);
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    current.recordRows(count);
+                }
+            }
+            return result;
+        }
+
+        private ResultSet countRows(ResultSet resultSet) {
+            if (resultSet == null || current == null) {
+                return resultSet;
+            }
+            flushRows();
+            openResultSet = new RowCounter(resultSet, current);
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                    new Class<?>[]{ResultSet.class}, openResultSet);
+        }
+
+        private void flushRows() {
+            if (openResultSet != null) {
+                openResultSet.flush();
+                openResultSet = null;
+            }
+        }
+    }
+
+    private static final class RowCounter implements InvocationHandler {
+        private final ResultSet delegate;
+        private final StatementMetrics metrics;
+        private long rows;
+        private boolean flushed;
+
+        private RowCounter(ResultSet delegate, StatementMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    boolean hasRow = delegate.next();
+                    if (hasRow) {
+                        rows++;
+                    }
+                    return hasRow;
+                case "close":
+                    flush();
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            return invokeDelegate(delegate, method, args);
+        }
+
+        void flush() {
+            if (!flushed) {
+                flushed = true;
+                metrics.recordRows(rows);
+            }
+        }
+    }
+}
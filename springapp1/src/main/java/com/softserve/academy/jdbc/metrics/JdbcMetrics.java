@@ -0,0 +1,204 @@
+package com.softserve.academy.jdbc.metrics;
+
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histograms of the SQL statements run through instrumented connection providers.
+ * <p>
+ * {@link #instrument(ConnectionProvider)} wraps the provider a DAO is given. Each connection it hands
+ * out is sampled with probability 1/{@link #setSampleInterval(int) sample interval}: for a sampled
+ * connection the wait for the connection is recorded, and every statement executed on it is timed
+ * and its rows counted, per SQL text. A connection that is not sampled is the provider's own
+ * connection, so with sampling off the only cost is one volatile read per checkout.
+ * <p>
+ * At most {@value #MAX_STATEMENTS} distinct SQL texts are tracked; further ones are counted together
+ * under {@value #OTHER_STATEMENTS}.
+ */
+public class JdbcMetrics implements AutoCloseable {
+    public static final int MAX_STATEMENTS = 1_000;
+    public static final String OTHER_STATEMENTS = "<other statements>";
+    private static final int REPORT_SQL_LENGTH = 80;
+
+    private final ConcurrentHashMap<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+    private final StatementMetrics otherStatements = new StatementMetrics(OTHER_STATEMENTS);
+    private final LatencyHistogram connectionWait = new LatencyHistogram();
+    private volatile int sampleInterval;
+    private ScheduledExecutorService reporter;
+
+    /**
+     * Creates a registry that samples every connection.
+     */
+    public JdbcMetrics() {
+        this(1);
+    }
+
+    /**
+     * Creates a registry.
+     *
+     * @param sampleInterval See {@link #setSampleInterval(int)}.
+     */
+    public JdbcMetrics(int sampleInterval) {
+        setSampleInterval(sampleInterval);
+    }
+
+    /**
+     * Sets how many connection checkouts there are, on average, per sampled one.
+     *
+     * @param sampleInterval 1 to sample every connection, N to sample one in N, 0 to turn sampling off.
+     */
+    public void setSampleInterval(int sampleInterval) {
+        if (sampleInterval < 0) {
+            throw new IllegalArgumentException("Sample interval cannot be negative");
+        }
+        this.sampleInterval = sampleInterval;
+    }
+
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Wraps a provider so that the connections it hands out are sampled into this registry.
+     *
+     * @param provider The provider to instrument.
+     * @return A provider to give to the DAOs instead.
+     */
+    public ConnectionProvider instrument(ConnectionProvider provider) {
+        if (provider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        return () -> {
+            int interval = sampleInterval;
+            if (interval == 0 || (interval > 1 && ThreadLocalRandom.current().nextInt(interval) != 0)) {
+                return provider.getConnection();
+            }
+            long start = System.nanoTime();
+            Connection connection = provider.getConnection();
+            connectionWait.record(System.nanoTime() - start);
+            return InstrumentedConnection.wrap(connection, this);
+        };
+    }
+
+    /**
+     * Returns the time sampled callers waited for a connection from the instrumented providers.
+     *
+     * @return A snapshot of the wait times.
+     */
+    public HistogramSnapshot getConnectionWait() {
+        return connectionWait.snapshot();
+    }
+
+    /**
+     * Returns the live metrics of every statement seen so far, the most expensive first by total time.
+     *
+     * @return The statement metrics.
+     */
+    public List<StatementMetrics> getStatements() {
+        List<StatementMetrics> all = new ArrayList<>(statements.values());
+        if (otherStatements.totalNanos() > 0) {
+            all.add(otherStatements);
+        }
+        all.sort(Comparator.comparingLong(StatementMetrics::totalNanos).reversed());
+        return all;
+    }
+
+    /**
+     * Returns the live metrics of one statement.
+     *
+     * @param sql The SQL text.
+     * @return The metrics, or null if the statement was not executed on a sampled connection.
+     */
+    public StatementMetrics getStatement(String sql) {
+        return statements.get(sql);
+    }
+
+    /**
+     * Clears all histograms and counters.
+     */
+    public void reset() {
+        statements.values().forEach(StatementMetrics::reset);
+        otherStatements.reset();
+        connectionWait.reset();
+    }
+
+    /**
+     * Formats the connection wait and the executed statements as a table, the most expensive statement first.
+     *
+     * @return The report.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append("Connection wait: ").append(connectionWait.snapshot()).append('\n');
+        report.append(String.format("%10s %10s %10s %10s %10s %10s %8s  %s%n",
+                "count", "total ms", "p50 us", "p99 us", "max us", "rows/exec", "errors", "sql"));
+        for (StatementMetrics statement : getStatements()) {
+            HistogramSnapshot latency = statement.getLatency();
+            if (latency.getCount() == 0) {
+                continue;
+            }
+            String sql = statement.getSql();
+            report.append(String.format("%,10d %10.1f %10.1f %10.1f %10.1f %10.1f %8d  %s%n",
+                    latency.getCount(), latency.getTotalNanos() / 1e6, latency.getPercentileNanos(50) / 1e3,
+                    latency.getPercentileNanos(99) / 1e3, latency.getMaxNanos() / 1e3,
+                    (double) statement.getRows() / latency.getCount(),
+                    statement.getErrors(),
+                    sql.length() > REPORT_SQL_LENGTH ? sql.substring(0, REPORT_SQL_LENGTH - 3) + "..." : sql));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Prints {@link #report()} periodically from a daemon thread until this registry is closed.
+     *
+     * @param period The time between reports.
+     * @param unit   The unit of the period.
+     * @param out    The stream to print to.
+     */
+    public synchronized void startReporting(long period, TimeUnit unit, PrintStream out) {
+        if (period <= 0 || unit == null || out == null) {
+            throw new IllegalArgumentException("Period must be positive and unit and stream cannot be null");
+        }
+        if (reporter != null) {
+            throw new IllegalStateException("Reporting already started");
+        }
+        reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jdbc-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> out.print(report()), period, period, unit);
+    }
+
+    /**
+     * Stops periodic reporting; the metrics stay readable.
+     */
+    @Override
+    public synchronized void close() {
+        if (reporter != null) {
+            reporter.shutdownNow();
+            reporter = null;
+        }
+    }
+
+    StatementMetrics statement(String sql) {
+        StatementMetrics metrics = statements.get(sql);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (statements.size() >= MAX_STATEMENTS) {
+            return otherStatements;
+        }
+        return statements.computeIfAbsent(sql, StatementMetrics::new);
+    }
+}
@@ -0,0 +1,64 @@
+package com.softserve.academy.jdbc.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of one SQL statement: execution latency, rows read or changed, and failed executions.
+ * The latency of a query covers the execute call, not reading its result set.
+ */
+public class StatementMetrics {
+    private final String sql;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    StatementMetrics(String sql) {
+        this.sql = sql;
+    }
+
+    void recordExecution(long nanos) {
+        latency.record(nanos);
+    }
+
+    void recordRows(long count) {
+        if (count > 0) {
+            rows.add(count);
+        }
+    }
+
+    void recordError(long nanos) {
+        latency.record(nanos);
+        errors.increment();
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public HistogramSnapshot getLatency() {
+        return latency.snapshot();
+    }
+
+    /**
+     * Returns the number of rows returned by queries and changed by updates, over all executions.
+     *
+     * @return The total number of rows.
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    long totalNanos() {
+        return latency.totalNanos();
+    }
+
+    void reset() {
+        latency.reset();
+        rows.reset();
+        errors.reset();
+    }
+}
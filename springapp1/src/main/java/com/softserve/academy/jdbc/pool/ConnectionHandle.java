@@ -0,0 +1,71 @@
+package com.softserve.academy.jdbc.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Proxy handler for the connections handed out by a provider.
+ * Calling close() on the proxy runs the release action once instead of closing the
+ * physical connection; any later call on the proxy fails as if the connection were closed.
+ * If the physical connection has a statement cache, prepareStatement calls are served from it.
+ */
+class ConnectionHandle implements InvocationHandler {
+    private final Connection delegate;
+    private final StatementCache statementCache;
+    private final Runnable releaseAction;
+    private volatile boolean closed;
+
+    private ConnectionHandle(Connection delegate, StatementCache statementCache, Runnable releaseAction) {
+        this.delegate = delegate;
+        this.statementCache = statementCache;
+        this.releaseAction = releaseAction;
+    }
+
+    static Connection wrap(Connection delegate, StatementCache statementCache, Runnable releaseAction) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandle(delegate, statementCache, releaseAction));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                if (!closed) {
+                    closed = true;
+                    releaseAction.run();
+                }
+                return null;
+            case "isClosed":
+                return closed || delegate.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "ConnectionHandle{" + delegate + (closed ? ", closed" : "") + "}";
+            default:
+                break;
+        }
+        if (closed) {
+            throw new SQLException("Connection is closed");
+        }
+        if (statementCache != null && "prepareStatement".equals(method.getName())) {
+            PreparedStatement cached = statementCache.prepare((Connection) proxy, args);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.softserve.academy.jdbc.pool;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of JDBC connections.
+ * <p>
+ * The number of connections checked out at the same time never exceeds the maximum size;
+ * callers beyond that wait in FIFO order (when fair) up to the connection timeout.
+ * Connections that sat idle longer than the validation interval are checked with
+ * {@link Connection#isValid(int)} before being handed out, and broken ones are replaced.
+ * The pool opens its minimum number of connections up front, can report connections held
+ * longer than the leak detection threshold, and exposes wait time and utilisation through {@link #getMetrics()}.
+ * Each physical connection keeps an LRU cache of its prepared statements.
+ */
+public class ConnectionPool implements ConnectionProvider, AutoCloseable {
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int maxSize;
+    private final long connectionTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final long validationIntervalNanos;
+    private final long leakDetectionThresholdMillis;
+    private final int statementCacheSize;
+    private final StatementCacheStats statementCacheStats = new StatementCacheStats();
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> active = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ScheduledExecutorService leakDetector;
+    private volatile boolean closed;
+
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder leaksDetected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private ConnectionPool(Builder builder) throws SQLException {
+        this.url = builder.url;
+        this.username = builder.username;
+        this.password = builder.password;
+        this.maxSize = builder.maxSize;
+        this.connectionTimeoutMillis = builder.connectionTimeoutMillis;
+        this.validationTimeoutSeconds = builder.validationTimeoutSeconds;
+        this.validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(builder.validationIntervalMillis);
+        this.leakDetectionThresholdMillis = builder.leakDetectionThresholdMillis;
+        this.statementCacheSize = builder.statementCacheSize;
+        this.permits = new Semaphore(maxSize, builder.fair);
+
+        if (leakDetectionThresholdMillis > 0) {
+            leakDetector = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "connection-pool-leak-detector");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(1, leakDetectionThresholdMillis / 2);
+            leakDetector.scheduleAtFixedRate(this::detectLeaks, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            leakDetector = null;
+        }
+
+        // Warm-up: open the minimum number of connections before the first request arrives
+        try {
+            for (int i = 0; i < builder.minIdle; i++) {
+                idle.addLast(openConnection());
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts the configuration of a new pool.
+     *
+     * @param url      The JDBC URL of the database.
+     * @param username The database user.
+     * @param password The database password.
+     * @return A builder for the pool.
+     */
+    public static Builder builder(String url, String username, String password) {
+        return new Builder(url, username, password);
+    }
+
+    /**
+     * Checks out a connection, waiting up to the connection timeout if the pool is exhausted.
+     * Closing the returned connection returns it to the pool.
+     *
+     * @return A validated connection.
+     * @throws SQLException If the pool is closed, the wait timed out or a connection cannot be opened.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTimeoutException("Timed out after " + connectionTimeoutMillis
+                        + " ms waiting for a connection (max pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+
+        PooledConnection pooled;
+        try {
+            pooled = takeValidConnection();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        long waited = System.nanoTime() - start;
+        checkouts.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        pooled.checkoutNanos = System.nanoTime();
+        pooled.checkoutTrace = leakDetector != null ? new Throwable("Connection checked out here") : null;
+        pooled.leakReported = false;
+        active.add(pooled);
+        return ConnectionHandle.wrap(pooled.connection, pooled.statementCache, () -> release(pooled));
+    }
+
+    /**
+     * Returns a snapshot of the pool counters.
+     *
+     * @return The current pool metrics.
+     */
+    public PoolMetrics getMetrics() {
+        return new PoolMetrics(maxSize, totalConnections.get(), active.size(), idle.size(),
+                checkouts.sum(), timeouts.sum(), leaksDetected.sum(), totalWaitNanos.sum(), maxWaitNanos.get());
+    }
+
+    /**
+     * Returns the prepared statement cache counters of all connections of the pool.
+     *
+     * @return The live statement cache counters.
+     */
+    public StatementCacheStats getStatementCacheStats() {
+        return statementCacheStats;
+    }
+
+    /**
+     * Closes all idle connections and refuses new checkouts.
+     * Connections that are still checked out are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (leakDetector != null) {
+            leakDetector.shutdownNow();
+        }
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+    }
+
+    private PooledConnection takeValidConnection() throws SQLException {
+        PooledConnection pooled;
+        // Most recently used first, so the connections that stay idle can be validated and retired
+        while ((pooled = idle.pollFirst()) != null) {
+            if (System.nanoTime() - pooled.lastUsedNanos < validationIntervalNanos
+                    || pooled.connection.isValid(validationTimeoutSeconds)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return openConnection();
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, username, password);
+        totalConnections.incrementAndGet();
+        StatementCache statementCache = statementCacheSize > 0
+                ? new StatementCache(connection, statementCacheSize, statementCacheStats)
+                : null;
+        return new PooledConnection(connection, statementCache);
+    }
+
+    private void release(PooledConnection pooled) {
+        active.remove(pooled);
+        try {
+            if (closed || pooled.connection.isClosed()) {
+                discard(pooled);
+                return;
+            }
+            if (!pooled.connection.getAutoCommit()) {
+                pooled.connection.rollback();
+                pooled.connection.setAutoCommit(true);
+            }
+            pooled.connection.clearWarnings();
+            pooled.lastUsedNanos = System.nanoTime();
+            idle.addFirst(pooled);
+        } catch (SQLException e) {
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        if (pooled.statementCache != null) {
+            pooled.statementCache.clear();
+        }
+        try {
+            pooled.connection.close();
+        } catch (SQLException e) {
+            System.err.println("Failed to close pooled connection: " + e.getMessage());
+        }
+    }
+
+    private void detectLeaks() {
+        long now = System.nanoTime();
+        for (PooledConnection pooled : active) {
+            long heldMillis = TimeUnit.NANOSECONDS.toMillis(now - pooled.checkoutNanos);
+            if (!pooled.leakReported && heldMillis > leakDetectionThresholdMillis) {
+                pooled.leakReported = true;
+                leaksDetected.increment();
+                System.err.println("Possible connection leak: connection held for " + heldMillis + " ms");
+                if (pooled.checkoutTrace != null) {
+                    pooled.checkoutTrace.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private static final class PooledConnection {
+        private final Connection connection;
+        private final StatementCache statementCache;
+        private volatile long lastUsedNanos = System.nanoTime();
+        private volatile long checkoutNanos;
+        private volatile Throwable checkoutTrace;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection connection, StatementCache statementCache) {
+            this.connection = connection;
+            this.statementCache = statementCache;
+        }
+    }
+
+    /**
+     * Builder for {@link ConnectionPool}.
+     */
+    public static class Builder {
+        private final String url;
+        private final String username;
+        private final String password;
+        private int maxSize = 10;
+        private int minIdle = 2;
+        private long connectionTimeoutMillis = 30_000;
+        private int validationTimeoutSeconds = 2;
+        private long validationIntervalMillis = 500;
+        private long leakDetectionThresholdMillis;
+        private int statementCacheSize = 64;
+        private boolean fair = true;
+
+        private Builder(String url, String username, String password) {
+            if (url == null) {
+                throw new IllegalArgumentException("URL cannot be null");
+            }
+            this.url = url;
+            this.username = username;
+            this.password = password;
+        }
+
+        public Builder maxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("Max size must be positive");
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of connections opened when the pool starts.
+         */
+        public Builder minIdle(int minIdle) {
+            if (minIdle < 0) {
+                throw new IllegalArgumentException("Min idle cannot be negative");
+            }
+            this.minIdle = minIdle;
+            return this;
+        }
+
+        public Builder connectionTimeoutMillis(long connectionTimeoutMillis) {
+            if (connectionTimeoutMillis < 0) {
+                throw new IllegalArgumentException("Connection timeout cannot be negative");
+            }
+            this.connectionTimeoutMillis = connectionTimeoutMillis;
+            return this;
+        }
+
+        public Builder validationTimeoutSeconds(int validationTimeoutSeconds) {
+            if (validationTimeoutSeconds < 0) {
+                throw new IllegalArgumentException("Validation timeout cannot be negative");
+            }
+            this.validationTimeoutSeconds = validationTimeoutSeconds;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection may sit idle before it is validated again on checkout.
+         */
+        public Builder validationIntervalMillis(long validationIntervalMillis) {
+            if (validationIntervalMillis < 0) {
+                throw new IllegalArgumentException("Validation interval cannot be negative");
+            }
+            this.validationIntervalMillis = validationIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection may be held before it is reported as a possible leak; 0 disables detection.
+         */
+        public Builder leakDetectionThresholdMillis(long leakDetectionThresholdMillis) {
+            if (leakDetectionThresholdMillis < 0) {
+                throw new IllegalArgumentException("Leak detection threshold cannot be negative");
+            }
+            this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of prepared statements cached per connection; 0 disables the cache.
+         */
+        public Builder statementCacheSize(int statementCacheSize) {
+            if (statementCacheSize < 0) {
+                throw new IllegalArgumentException("Statement cache size cannot be negative");
+            }
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets whether waiting callers are served in arrival order.
+         */
+        public Builder fair(boolean fair) {
+            this.fair = fair;
+            return this;
+        }
+
+        /**
+         * Creates the pool and opens its initial connections.
+         *
+         * @return The started pool.
+         * @throws SQLException If the initial connections cannot be opened.
+         */
+        public ConnectionPool build() throws SQLException {
+            if (minIdle > maxSize) {
+                throw new IllegalArgumentException("Min idle cannot exceed max size");
+            }
+            return new ConnectionPool(this);
+        }
+    }
+}
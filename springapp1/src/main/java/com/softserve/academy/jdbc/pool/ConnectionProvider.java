@@ -0,0 +1,21 @@
+package com.softserve.academy.jdbc.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * ConnectionProvider is the source of database connections for the DAO classes.
+ * A DAO obtains a connection for every operation and closes it when done;
+ * closing hands the connection back to the provider instead of closing the physical connection.
+ */
+@FunctionalInterface
+public interface ConnectionProvider {
+
+    /**
+     * Obtains a connection. The caller must close it when the operation is finished.
+     *
+     * @return A connection ready for use.
+     * @throws SQLException If no connection can be obtained.
+     */
+    Connection getConnection() throws SQLException;
+}
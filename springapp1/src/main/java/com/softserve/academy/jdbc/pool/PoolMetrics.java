@@ -0,0 +1,91 @@
+package com.softserve.academy.jdbc.pool;
+
+/**
+ * Point-in-time snapshot of the usage counters of a {@link ConnectionPool}.
+ */
+public class PoolMetrics {
+    private final int maxSize;
+    private final int totalConnections;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final long checkouts;
+    private final long timeouts;
+    private final long leaksDetected;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    PoolMetrics(int maxSize, int totalConnections, int activeConnections, int idleConnections,
+                long checkouts, long timeouts, long leaksDetected, long totalWaitNanos, long maxWaitNanos) {
+        this.maxSize = maxSize;
+        this.totalConnections = totalConnections;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.checkouts = checkouts;
+        this.timeouts = timeouts;
+        this.leaksDetected = leaksDetected;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public long getCheckouts() {
+        return checkouts;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getLeaksDetected() {
+        return leaksDetected;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    /**
+     * Returns the average time callers waited for a connection.
+     *
+     * @return The average wait in nanoseconds, or 0 if nothing was checked out yet.
+     */
+    public double getAverageWaitNanos() {
+        return checkouts == 0 ? 0 : (double) totalWaitNanos / checkouts;
+    }
+
+    /**
+     * Returns the share of the pool capacity that is checked out.
+     *
+     * @return A value between 0 and 1.
+     */
+    public double getUtilisation() {
+        return (double) activeConnections / maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PoolMetrics{active=%d, idle=%d, total=%d, max=%d, utilisation=%.2f, checkouts=%d, "
+                        + "timeouts=%d, leaks=%d, avgWait=%.1fus, maxWait=%.1fus}",
+                activeConnections, idleConnections, totalConnections, maxSize, getUtilisation(), checkouts,
+                timeouts, leaksDetected, getAverageWaitNanos() / 1_000, maxWaitNanos / 1_000.0);
+    }
+}
@@ -0,0 +1,48 @@
+package com.softserve.academy.jdbc.pool;
+
+import java.sql.Connection;
+
+/**
+ * ConnectionProvider that always hands out the same connection.
+ * Closing a handed-out connection leaves the underlying connection open; its owner stays
+ * responsible for closing it. Like a bare Connection, this provider must not be shared between threads.
+ * Prepared statements are cached for the lifetime of the connection.
+ */
+public class SingleConnectionProvider implements ConnectionProvider {
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
+    private final Connection conn;
+    private final StatementCache statementCache;
+    private final StatementCacheStats statementCacheStats = new StatementCacheStats();
+
+    public SingleConnectionProvider(Connection conn) {
+        this(conn, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    /**
+     * @param conn               The connection to hand out.
+     * @param statementCacheSize The maximum number of cached prepared statements; 0 disables the cache.
+     */
+    public SingleConnectionProvider(Connection conn, int statementCacheSize) {
+        if (conn == null) {
+            throw new IllegalArgumentException("Connection cannot be null");
+        }
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Statement cache size cannot be negative");
+        }
+        this.conn = conn;
+        this.statementCache = statementCacheSize > 0
+                ? new StatementCache(conn, statementCacheSize, statementCacheStats)
+                : null;
+    }
+
+    @Override
+    public Connection getConnection() {
+        return ConnectionHandle.wrap(conn, statementCache, () -> {
+        });
+    }
+
+    public StatementCacheStats getStatementCacheStats() {
+        return statementCacheStats;
+    }
+}
@@ -0,0 +1,269 @@
+package com.softserve.academy.jdbc.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * LRU cache of prepared statements for one physical connection.
+ * <p>
+ * Statements are keyed by SQL text and creation options. A cached statement is handed out
+ * wrapped so that close() returns it to the cache with its parameters cleared. While a
+ * statement is in use, a second request for the same SQL gets a fresh, uncached statement.
+ * When the cache is full the least recently used idle statement is closed.
+ */
+class StatementCache {
+    private final Connection connection;
+    private final int maxSize;
+    private final StatementCacheStats stats;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(Connection connection, int maxSize, StatementCacheStats stats) {
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.stats = stats;
+    }
+
+    /**
+     * Returns the prepared statement for a prepareStatement call intercepted on the connection handle,
+     * or null if the call has a shape that is not cached.
+     */
+    PreparedStatement prepare(Connection owner, Object[] args) throws SQLException {
+        Key key = Key.of(args);
+        if (key == null) {
+            return null;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && !entry.inUse) {
+                entry.inUse = true;
+                stats.recordHit();
+                return entry.handle(owner);
+            }
+        }
+        stats.recordMiss();
+        PreparedStatement statement = key.prepare(connection);
+        if (entry != null) {
+            // The cached statement is busy, e.g. an open cursor; use a throwaway one
+            return statement;
+        }
+        Entry created = new Entry(key, statement);
+        created.inUse = true;
+        List<PreparedStatement> evicted = new ArrayList<>();
+        synchronized (this) {
+            if (entries.containsKey(key)) {
+                return statement;
+            }
+            entries.put(key, created);
+            Iterator<Entry> it = entries.values().iterator();
+            while (entries.size() > maxSize && it.hasNext()) {
+                Entry eldest = it.next();
+                if (!eldest.inUse) {
+                    it.remove();
+                    evicted.add(eldest.statement);
+                    stats.recordEviction();
+                }
+            }
+        }
+        for (PreparedStatement stale : evicted) {
+            closeQuietly(stale);
+        }
+        return created.handle(owner);
+    }
+
+    /**
+     * Closes every cached statement, e.g. before the physical connection is closed.
+     */
+    void clear() {
+        List<Entry> all;
+        synchronized (this) {
+            all = new ArrayList<>(entries.values());
+            entries.clear();
+        }
+        for (Entry entry : all) {
+            closeQuietly(entry.statement);
+        }
+    }
+
+    private void release(Entry entry) {
+        boolean reusable;
+        try {
+            entry.statement.clearParameters();
+            entry.statement.clearBatch();
+            entry.statement.clearWarnings();
+            entry.resetSettings();
+            reusable = !entry.statement.isClosed();
+        } catch (SQLException e) {
+            reusable = false;
+        }
+        synchronized (this) {
+            entry.inUse = false;
+            if (reusable && entries.get(entry.key) == entry) {
+                return;
+            }
+            entries.remove(entry.key, entry);
+        }
+        closeQuietly(entry.statement);
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Failed to close cached statement: " + e.getMessage());
+        }
+    }
+
+    private static final class Key {
+        private final String sql;
+        private final int autoGeneratedKeys;
+        private final int resultSetType;
+        private final int resultSetConcurrency;
+        private final int resultSetHoldability;
+
+        private Key(String sql, int autoGeneratedKeys, int resultSetType, int resultSetConcurrency,
+                    int resultSetHoldability) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.resultSetHoldability = resultSetHoldability;
+        }
+
+        static Key of(Object[] args) {
+            if (args == null || !(args[0] instanceof String)) {
+                return null;
+            }
+            String sql = (String) args[0];
+            switch (args.length) {
+                case 1:
+                    return new Key(sql, -1, -1, -1, -1);
+                case 2:
+                    return args[1] instanceof Integer ? new Key(sql, (Integer) args[1], -1, -1, -1) : null;
+                case 3:
+                    return new Key(sql, -1, (Integer) args[1], (Integer) args[2], -1);
+                case 4:
+                    return new Key(sql, -1, (Integer) args[1], (Integer) args[2], (Integer) args[3]);
+                default:
+                    return null;
+            }
+        }
+
+        PreparedStatement prepare(Connection connection) throws SQLException {
+            if (autoGeneratedKeys != -1) {
+                return connection.prepareStatement(sql, autoGeneratedKeys);
+            }
+            if (resultSetHoldability != -1) {
+                return connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+            }
+            if (resultSetType != -1) {
+                return connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+            }
+            return connection.prepareStatement(sql);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return autoGeneratedKeys == key.autoGeneratedKeys && resultSetType == key.resultSetType
+                    && resultSetConcurrency == key.resultSetConcurrency
+                    && resultSetHoldability == key.resultSetHoldability && sql.equals(key.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, autoGeneratedKeys, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+    }
+
+    private final class Entry implements InvocationHandler {
+        private final Key key;
+        private final PreparedStatement statement;
+        private final int defaultFetchSize;
+        private final int defaultMaxRows;
+        private final int defaultQueryTimeout;
+        private boolean inUse;
+        private boolean settingsChanged;
+        private Connection owner;
+        private PreparedStatement proxy;
+
+        private Entry(Key key, PreparedStatement statement) throws SQLException {
+            this.key = key;
+            this.statement = statement;
+            this.defaultFetchSize = statement.getFetchSize();
+            this.defaultMaxRows = statement.getMaxRows();
+            this.defaultQueryTimeout = statement.getQueryTimeout();
+        }
+
+        private PreparedStatement handle(Connection owner) {
+            this.owner = owner;
+            // A new proxy per checkout, so a stale reference cannot use the statement after close()
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    this);
+            return proxy;
+        }
+
+        private void resetSettings() throws SQLException {
+            if (settingsChanged) {
+                statement.setFetchSize(defaultFetchSize);
+                statement.setMaxRows(defaultMaxRows);
+                statement.setQueryTimeout(defaultQueryTimeout);
+                settingsChanged = false;
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (proxy != this.proxy) {
+                if ("close".equals(name)) {
+                    return null;
+                }
+                if ("isClosed".equals(name)) {
+                    return true;
+                }
+                throw new SQLException("Statement is closed");
+            }
+            switch (name) {
+                case "close":
+                    this.proxy = null;
+                    this.owner = null;
+                    release(this);
+                    return null;
+                case "getConnection":
+                    return owner;
+                case "setFetchSize":
+                case "setMaxRows":
+                case "setLargeMaxRows":
+                case "setQueryTimeout":
+                    settingsChanged = true;
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.async.AsyncCourseDAO;
+import com.softserve.academy.jdbc.async.AsyncDaoExecutor;
+import com.softserve.academy.jdbc.async.AsyncStudentDAO;
+import com.softserve.academy.jdbc.async.AsyncTeacherDAO;
+import com.softserve.academy.jdbc.async.AsyncTranscriptDAO;
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.dao.TranscriptDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the throughput of getStudentById through {@link AsyncStudentDAO} as the number of
+ * requests in flight grows, against the same number of platform threads calling StudentDAO directly,
+ * and the time to build a dashboard from four independent reads one after another and fanned out.
+ * In-memory H2 answers without any I/O to overlap, so every statement is delayed by a simulated
+ * round trip. It first checks that the async results match the blocking DAOs, that cancelled and
+ * timed-out operations never reach the database, and that a failing fan-out cancels its siblings.
+ * Exits with status 1 if a check fails.
+ * Usage: AsyncDaoBenchmark [connections] [roundTripMicros]
+ */
+public class AsyncDaoBenchmark {
+    private static final int STUDENTS = 1_000;
+    private static final int[] CALLERS = {1, 2, 4, 8, 16, 32, 64, 256};
+    private static final long MEASURE_MILLIS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        long roundTripMicros = args.length > 1 ? Long.parseLong(args[1]) : 1_000;
+        boolean passed = true;
+
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:asyncdao;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(connections)
+                .minIdle(connections)
+                .build();
+             AsyncDaoExecutor executor = new AsyncDaoExecutor(pool)) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            long[] ids = populate(pool);
+            ConnectionProvider remote = withRoundTrip(pool, roundTripMicros);
+            System.out.println("Connections: " + connections + ", simulated round trip: " + roundTripMicros
+                    + " us, virtual threads: " + executor.usesVirtualThreads());
+
+            passed &= checkResults(pool, executor, ids);
+            passed &= checkCancellation(pool, ids);
+            passed &= checkFanOutFailure(pool, ids);
+
+            StudentDAO studentDAO = new StudentDAO(remote);
+            AsyncStudentDAO asyncStudentDAO = new AsyncStudentDAO(remote, executor);
+            System.out.println("getStudentById throughput (ops/s):");
+            System.out.println("  in flight   blocking threads   async futures");
+            for (int callers : CALLERS) {
+                double blocking = blockingThroughput(studentDAO, ids, callers);
+                double async = asyncThroughput(asyncStudentDAO, ids, callers);
+                System.out.printf("  %9d   %16.0f   %13.0f%n", callers, blocking, async);
+            }
+            compareDashboard(remote, executor, ids);
+        }
+        System.out.println(passed ? "Async DAO checks passed" : "Async DAO check failed");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static long[] populate(ConnectionPool pool) throws SQLException {
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            teachers.add(new Teacher(0L, "Teacher " + i, "Department " + (i % 4)));
+        }
+        long[] teacherIds = new TeacherDAO(pool).addTeachers(teachers).getGeneratedIds();
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            courses.add(new Course(0L, "Course " + i, teacherIds[i % teacherIds.length]));
+        }
+        long[] courseIds = new CourseDAO(pool).addCourses(courses).getGeneratedIds();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+        }
+        long[] studentIds = new StudentDAO(pool).addStudents(students).getGeneratedIds();
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            for (int j = 0; j < 4; j++) {
+                enrollments.add(new Enrollment(0L, studentIds[i], courseIds[(i + j * 11) % courseIds.length], "A"));
+            }
+        }
+        new EnrollmentDAO(pool).addEnrollments(enrollments);
+        return studentIds;
+    }
+
+    private static boolean check(String what, boolean ok) {
+        System.out.println((ok ? "OK    " : "FAIL  ") + what);
+        return ok;
+    }
+
+    private static boolean checkResults(ConnectionPool pool, AsyncDaoExecutor executor, long[] ids)
+            throws Exception {
+        StudentDAO studentDAO = new StudentDAO(pool);
+        TranscriptDAO transcriptDAO = new TranscriptDAO(pool);
+        AsyncStudentDAO asyncStudentDAO = new AsyncStudentDAO(pool, executor);
+        AsyncTranscriptDAO asyncTranscriptDAO = new AsyncTranscriptDAO(pool, executor);
+        List<Long> lookup = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            lookup.add(ids[i * 7]);
+        }
+        lookup.add(-1L);
+        Map<Long, Student> students = asyncStudentDAO.getStudentsById(lookup).get(10, TimeUnit.SECONDS);
+        boolean same = students.keySet().equals(new LinkedHashSet<>(lookup));
+        for (long id : lookup) {
+            Student expected = studentDAO.getStudentById(id);
+            Student actual = students.get(id);
+            same &= expected == null ? actual == null
+                    : actual != null && actual.getId() == expected.getId()
+                    && actual.getName().equals(expected.getName());
+        }
+        same &= asyncTranscriptDAO.getTranscript(ids[3]).get(10, TimeUnit.SECONDS).size()
+                == transcriptDAO.getTranscript(ids[3]).size();
+        boolean ok = check("100 async lookups, a missing ID and a transcript match the blocking DAOs", same);
+
+        Throwable rejected = failureOf(asyncStudentDAO.addStudent(null));
+        ok &= check("a null student fails the future with " + rejected,
+                rejected instanceof IllegalArgumentException);
+        return ok;
+    }
+
+    /**
+     * With one permit held by a blocked operation, a cancelled and a timed-out operation must give up
+     * while waiting and never run.
+     */
+    private static boolean checkCancellation(ConnectionPool pool, long[] ids) throws Exception {
+        AtomicInteger ran = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        boolean ok;
+        try (AsyncDaoExecutor single = new AsyncDaoExecutor(1, 0)) {
+            StudentDAO dao = new StudentDAO(pool);
+            CompletableFuture<Student> blocker = single.submit(() -> {
+                awaitQuietly(release);
+                return dao.getStudentById(ids[0]);
+            });
+            CompletableFuture<Student> cancelled = single.submit(() -> {
+                ran.incrementAndGet();
+                return dao.getStudentById(ids[1]);
+            });
+            CompletableFuture<Student> timedOut = single.submit(() -> {
+                ran.incrementAndGet();
+                return dao.getStudentById(ids[2]);
+            }, 50, TimeUnit.MILLISECONDS);
+            awaitQueued(single, 2);
+            cancelled.cancel(true);
+            Throwable timeout = failureOf(timedOut);
+            release.countDown();
+            Student first = blocker.get(10, TimeUnit.SECONDS);
+            Student after = single.submit(() -> dao.getStudentById(ids[4])).get(10, TimeUnit.SECONDS);
+            ok = check("cancelled and timed-out operations did not run: " + ran.get() + " ran, timeout "
+                            + timeout, ran.get() == 0 && cancelled.isCancelled() && timeout instanceof TimeoutException
+                            && first != null && after != null);
+        }
+        return ok;
+    }
+
+    private static boolean checkFanOutFailure(ConnectionPool pool, long[] ids) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (AsyncDaoExecutor executor = new AsyncDaoExecutor(4, 0)) {
+            StudentDAO dao = new StudentDAO(pool);
+            CompletableFuture<Student> slow = executor.submit(() -> {
+                awaitQuietly(release);
+                return dao.getStudentById(ids[0]);
+            });
+            CompletableFuture<Student> failing = executor.submit(() -> {
+                throw new SQLException("Simulated failure");
+            });
+            Throwable failure = failureOf(AsyncDaoExecutor.all(List.of(slow, failing)));
+            release.countDown();
+            return check("a failing fan-out fails with " + failure + " and cancels the slow sibling",
+                    failure instanceof SQLException && slow.isCancelled());
+        }
+    }
+
+    private static Throwable failureOf(Future<?> future) throws InterruptedException {
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (TimeoutException e) {
+            return e;
+        }
+    }
+
+    private static void awaitQueued(AsyncDaoExecutor executor, int queued) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getQueueLength() < queued && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double blockingThroughput(StudentDAO dao, long[] ids, int callers) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(callers);
+        AtomicLong operations = new AtomicLong();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.MILLISECONDS.toNanos(MEASURE_MILLIS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < callers; t++) {
+                int offset = t;
+                futures.add(threads.submit(() -> {
+                    for (int i = offset; System.nanoTime() < end; i += callers) {
+                        dao.getStudentById(ids[i % ids.length]);
+                        operations.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            threads.shutdown();
+        }
+        return operations.get() * 1e9 / (System.nanoTime() - start);
+    }
+
+    /**
+     * Keeps the given number of lookups in flight, starting the next one as each completes,
+     * without a caller thread per request.
+     */
+    private static double asyncThroughput(AsyncStudentDAO dao, long[] ids, int inFlight) throws Exception {
+        AtomicLong operations = new AtomicLong();
+        CountDownLatch finished = new CountDownLatch(inFlight);
+        long start = System.nanoTime();
+        long end = start + TimeUnit.MILLISECONDS.toNanos(MEASURE_MILLIS);
+        for (int c = 0; c < inFlight; c++) {
+            lookupUntil(dao, ids, c, end, operations, finished);
+        }
+        finished.await();
+        return operations.get() * 1e9 / (System.nanoTime() - start);
+    }
+
+    private static void lookupUntil(AsyncStudentDAO dao, long[] ids, int index, long end, AtomicLong operations,
+                                    CountDownLatch finished) {
+        dao.getStudentById(ids[index % ids.length]).whenComplete((student, error) -> {
+            operations.incrementAndGet();
+            if (error == null && System.nanoTime() < end) {
+                lookupUntil(dao, ids, index + 1, end, operations, finished);
+            } else {
+                finished.countDown();
+            }
+        });
+    }
+
+    private static void compareDashboard(ConnectionProvider remote, AsyncDaoExecutor executor, long[] ids)
+            throws Exception {
+        StudentDAO studentDAO = new StudentDAO(remote);
+        TranscriptDAO transcriptDAO = new TranscriptDAO(remote);
+        CourseDAO courseDAO = new CourseDAO(remote);
+        TeacherDAO teacherDAO = new TeacherDAO(remote);
+        AsyncStudentDAO asyncStudentDAO = new AsyncStudentDAO(remote, executor);
+        AsyncTranscriptDAO asyncTranscriptDAO = new AsyncTranscriptDAO(remote, executor);
+        AsyncCourseDAO asyncCourseDAO = new AsyncCourseDAO(remote, executor);
+        AsyncTeacherDAO asyncTeacherDAO = new AsyncTeacherDAO(remote, executor);
+        int dashboards = 200;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            int sequentialRows = 0;
+            for (int i = 0; i < dashboards; i++) {
+                long id = ids[i];
+                Objects.requireNonNull(studentDAO.getStudentById(id));
+                sequentialRows += transcriptDAO.getTranscript(id).size();
+                sequentialRows += courseDAO.getCoursesByTitle("Course " + i % 50).size();
+                sequentialRows += teacherDAO.getTeachersByName("Teacher " + i % 20).size();
+            }
+            double sequentialMillis = (System.nanoTime() - start) / 1e6;
+
+            start = System.nanoTime();
+            int fannedOutRows = 0;
+            for (int i = 0; i < dashboards; i++) {
+                long id = ids[i];
+                List<?> parts = AsyncDaoExecutor.all(List.of(
+                        asyncStudentDAO.getStudentById(id),
+                        asyncTranscriptDAO.getTranscript(id),
+                        asyncCourseDAO.getCoursesByTitle("Course " + i % 50),
+                        asyncTeacherDAO.getTeachersByName("Teacher " + i % 20))).get(10, TimeUnit.SECONDS);
+                Objects.requireNonNull(parts.get(0));
+                for (int p = 1; p < parts.size(); p++) {
+                    fannedOutRows += ((List<?>) parts.get(p)).size();
+                }
+            }
+            double fannedOutMillis = (System.nanoTime() - start) / 1e6;
+            if (round == 2) {
+                System.out.printf("%d dashboards of 4 reads: one after another %.0f ms, fanned out %.0f ms "
+                        + "(%d and %d rows)%n", dashboards, sequentialMillis, fannedOutMillis, sequentialRows,
+                        fannedOutRows);
+            }
+        }
+    }
+
+    /**
+     * Delays every statement execution by the given time, as a network round trip to a database server would.
+     */
+    private static ConnectionProvider withRoundTrip(ConnectionProvider provider, long micros) {
+        long nanos = TimeUnit.MICROSECONDS.toNanos(micros);
+        return () -> {
+            Connection conn = provider.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(conn, method, args);
+                        if (method.getName().equals("prepareStatement")) {
+                            PreparedStatement statement = (PreparedStatement) result;
+                            return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                    new Class<?>[]{PreparedStatement.class}, (p, m, a) -> {
+                                        if (m.getName().startsWith("execute")) {
+                                            sleep(nanos);
+                                        }
+                                        return m.getName().equals("getConnection") ? proxy : invoke(statement, m, a);
+                                    });
+                        }
+                        return result;
+                    });
+        };
+    }
+
+    private static void sleep(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            LockSupport.parkNanos(end - System.nanoTime());
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
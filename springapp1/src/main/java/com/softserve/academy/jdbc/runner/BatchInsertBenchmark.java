@@ -0,0 +1,113 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.BatchResult;
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares row-by-row inserts with batch inserts on the in-memory H2 database used by DBRunner.
+ * Usage: BatchInsertBenchmark [rows] [batchSize]
+ */
+public class BatchInsertBenchmark {
+    public static void main(String[] args) throws SQLException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        // Warm up the JIT and the driver on a small data set first
+        run(2_000, batchSize, false);
+        run(rows, batchSize, true);
+    }
+
+    private static void run(int rows, int batchSize, boolean print) throws SQLException {
+        long singleStudents;
+        long batchStudents;
+        long singleEnrollments;
+        long batchEnrollments;
+
+        try (Connection conn = openDatabase("single")) {
+            StudentDAO studentDAO = new StudentDAO(conn);
+            EnrollmentDAO enrollmentDAO = new EnrollmentDAO(conn);
+            long courseId = createCourse(conn);
+
+            long start = System.nanoTime();
+            long[] studentIds = new long[rows];
+            for (int i = 0; i < rows; i++) {
+                studentIds[i] = studentDAO.addStudent(student(i));
+            }
+            singleStudents = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < rows; i++) {
+                enrollmentDAO.addEnrollment(new Enrollment(0L, studentIds[i], courseId, "A"));
+            }
+            singleEnrollments = System.nanoTime() - start;
+        }
+
+        try (Connection conn = openDatabase("batch")) {
+            StudentDAO studentDAO = new StudentDAO(conn);
+            EnrollmentDAO enrollmentDAO = new EnrollmentDAO(conn);
+            long courseId = createCourse(conn);
+
+            List<Student> students = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                students.add(student(i));
+            }
+            long start = System.nanoTime();
+            BatchResult studentResult = studentDAO.addStudents(students, batchSize);
+            batchStudents = System.nanoTime() - start;
+
+            List<Enrollment> enrollments = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                enrollments.add(new Enrollment(0L, studentResult.getGeneratedId(i), courseId, "A"));
+            }
+            start = System.nanoTime();
+            BatchResult enrollmentResult = enrollmentDAO.addEnrollments(enrollments, batchSize);
+            batchEnrollments = System.nanoTime() - start;
+
+            if (studentResult.hasFailures() || enrollmentResult.hasFailures()) {
+                throw new IllegalStateException("Unexpected failures: " + studentResult + ", " + enrollmentResult);
+            }
+        }
+
+        if (print) {
+            System.out.println("Rows: " + rows + ", batch size: " + batchSize);
+            report("student", rows, singleStudents, batchStudents);
+            report("enrollment", rows, singleEnrollments, batchEnrollments);
+        }
+    }
+
+    private static Connection openDatabase(String name) throws SQLException {
+        Connection conn = DriverManager.getConnection("jdbc:h2:mem:bench_" + name + ";DB_CLOSE_DELAY=0", "sa", "");
+        DBRunner.createTables(conn);
+        return conn;
+    }
+
+    private static long createCourse(Connection conn) throws SQLException {
+        long teacherId = new TeacherDAO(conn).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+        return new CourseDAO(conn).addCourse(new Course(0L, "Introduction to Programming", teacherId));
+    }
+
+    private static Student student(int i) {
+        return new Student(0L, "Student " + i, "student" + i + "@example.com");
+    }
+
+    private static void report(String table, int rows, long singleNanos, long batchNanos) {
+        System.out.printf("%-10s row-by-row: %8.1f ms (%,10.0f rows/s)   batch: %8.1f ms (%,10.0f rows/s)   speedup: %.1fx%n",
+                table,
+                singleNanos / 1e6, rows / (singleNanos / 1e9),
+                batchNanos / 1e6, rows / (batchNanos / 1e9),
+                (double) singleNanos / batchNanos);
+    }
+}
@@ -0,0 +1,218 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.columnar.ColumnarExport;
+import com.softserve.academy.jdbc.columnar.ColumnarReader;
+import com.softserve.academy.jdbc.csv.CsvReader;
+import com.softserve.academy.jdbc.csv.CsvWriter;
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Exports the university tables from H2 to columnar files and to CSV and compares size and speed.
+ * The round trips themselves are checked by ColumnarRoundTripTest, CsvRoundTripTest and ColumnarExportTest.
+ * Usage: ColumnarExportBenchmark [students]
+ */
+public class ColumnarExportBenchmark {
+    private static final int COURSES_PER_STUDENT = 5;
+    private static final int FETCH_SIZE = 1_000;
+
+    public static void main(String[] args) throws SQLException, IOException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        Path dir = Files.createTempDirectory("columnar-export");
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:columnar;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(2)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            StudentDAO studentDAO = new StudentDAO(pool);
+            TeacherDAO teacherDAO = new TeacherDAO(pool);
+            CourseDAO courseDAO = new CourseDAO(pool);
+            EnrollmentDAO enrollmentDAO = new EnrollmentDAO(pool);
+            populate(studentDAO, teacherDAO, courseDAO, enrollmentDAO, studentCount);
+
+            // Warm up both paths once so that the timed runs do not measure class loading and JIT
+            ColumnarExport.exportEnrollments(enrollmentDAO, dir.resolve("warmup.ucol"));
+            exportEnrollmentsCsv(enrollmentDAO, dir.resolve("warmup.csv"));
+
+            System.out.printf("%-11s %10s %12s %10s %12s %10s %7s%n",
+                    "table", "rows", "csv bytes", "csv ms", "col bytes", "col ms", "ratio");
+            long start = System.nanoTime();
+            ColumnarExport.exportTeachers(teacherDAO, dir.resolve("teacher.ucol"));
+            long columnarNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            long rows = exportTeachersCsv(teacherDAO, dir.resolve("teacher.csv"));
+            report("teacher", rows, dir, System.nanoTime() - start, columnarNanos);
+
+            start = System.nanoTime();
+            ColumnarExport.exportStudents(studentDAO, dir.resolve("student.ucol"));
+            columnarNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            rows = exportStudentsCsv(studentDAO, dir.resolve("student.csv"));
+            report("student", rows, dir, System.nanoTime() - start, columnarNanos);
+
+            start = System.nanoTime();
+            ColumnarExport.exportCourses(courseDAO, dir.resolve("course.ucol"));
+            columnarNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            rows = exportCoursesCsv(courseDAO, dir.resolve("course.csv"));
+            report("course", rows, dir, System.nanoTime() - start, columnarNanos);
+
+            start = System.nanoTime();
+            ColumnarExport.exportEnrollments(enrollmentDAO, dir.resolve("enrollment.ucol"));
+            columnarNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            rows = exportEnrollmentsCsv(enrollmentDAO, dir.resolve("enrollment.csv"));
+            report("enrollment", rows, dir, System.nanoTime() - start, columnarNanos);
+
+            compareScans(dir);
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void populate(StudentDAO studentDAO, TeacherDAO teacherDAO, CourseDAO courseDAO,
+                                 EnrollmentDAO enrollmentDAO, int studentCount) throws SQLException {
+        int teacherCount = Math.max(1, studentCount / 40);
+        int courseCount = Math.max(COURSES_PER_STUDENT, studentCount / 10);
+        List<Teacher> teachers = new ArrayList<>(teacherCount);
+        teachers.add(new Teacher(0L, "Łukasz Żółć, PhD", "Informatyka \"Stosowana\""));
+        for (int i = 1; i < teacherCount; i++) {
+            teachers.add(new Teacher(0L, "Teacher " + i, "Department " + (i % 20)));
+        }
+        long[] teacherIds = teacherDAO.addTeachers(teachers, 1000).getGeneratedIds();
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(new Course(0L, "Course " + (i % 500), teacherIds[i % teacherCount]));
+        }
+        long[] courseIds = courseDAO.addCourses(courses, 1000).getGeneratedIds();
+        List<Student> students = new ArrayList<>(studentCount);
+        students.add(new Student(0L, "", "empty.name@example.com"));
+        for (int i = 1; i < studentCount; i++) {
+            students.add(new Student(0L, "Student " + (i % 5000), "student" + i + "@example.com"));
+        }
+        long[] studentIds = studentDAO.addStudents(students, 1000).getGeneratedIds();
+        String[] grades = {"A", "B", "C", "D", "E", "F", null};
+        List<Enrollment> chunk = new ArrayList<>(10_000);
+        for (int i = 0; i < studentCount; i++) {
+            for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+                chunk.add(new Enrollment(0L, studentIds[i], courseIds[(i + j * 7) % courseCount],
+                        grades[(i + j) % grades.length]));
+            }
+            if (chunk.size() >= 10_000 || i == studentCount - 1) {
+                enrollmentDAO.addEnrollments(chunk, 1000);
+                chunk.clear();
+            }
+        }
+    }
+
+    private static long exportStudentsCsv(StudentDAO dao, Path file) throws SQLException, IOException {
+        try (CsvWriter csv = csvWriter(file)) {
+            csv.writeRecord("id", "name", "email");
+            return dao.forEachStudent(FETCH_SIZE, student -> writeCsv(csv,
+                    Long.toString(student.getId()), student.getName(), student.getEmail()));
+        }
+    }
+
+    private static long exportTeachersCsv(TeacherDAO dao, Path file) throws SQLException, IOException {
+        try (CsvWriter csv = csvWriter(file)) {
+            csv.writeRecord("id", "name", "department");
+            return dao.forEachTeacher(FETCH_SIZE, teacher -> writeCsv(csv,
+                    Long.toString(teacher.getId()), teacher.getName(), teacher.getDepartment()));
+        }
+    }
+
+    private static long exportCoursesCsv(CourseDAO dao, Path file) throws SQLException, IOException {
+        try (CsvWriter csv = csvWriter(file)) {
+            csv.writeRecord("id", "title", "teacher_id");
+            return dao.forEachCourse(FETCH_SIZE, course -> writeCsv(csv,
+                    Long.toString(course.getId()), course.getTitle(), Long.toString(course.getTeacherId())));
+        }
+    }
+
+    private static long exportEnrollmentsCsv(EnrollmentDAO dao, Path file) throws SQLException, IOException {
+        try (CsvWriter csv = csvWriter(file)) {
+            csv.writeRecord("id", "student_id", "course_id", "grade");
+            return dao.forEachEnrollment(FETCH_SIZE, enrollment -> writeCsv(csv,
+                    Long.toString(enrollment.getId()), Long.toString(enrollment.getStudentId()),
+                    Long.toString(enrollment.getCourseId()), enrollment.getGrade()));
+        }
+    }
+
+    private static CsvWriter csvWriter(Path file) throws IOException {
+        return new CsvWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+    }
+
+    private static void writeCsv(CsvWriter csv, String... fields) {
+        try {
+            csv.writeRecord(fields);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void report(String table, long rows, Path dir, long csvNanos, long columnarNanos)
+            throws IOException {
+        long csvBytes = Files.size(dir.resolve(table + ".csv"));
+        long columnarBytes = Files.size(dir.resolve(table + ".ucol"));
+        System.out.printf("%-11s %,10d %,12d %10.1f %,12d %10.1f %6.1fx%n", table, rows, csvBytes, csvNanos / 1e6,
+                columnarBytes, columnarNanos / 1e6, (double) csvBytes / columnarBytes);
+    }
+
+    /**
+     * Counts the A grades of all enrollments from the columnar file and by parsing the CSV file.
+     */
+    private static void compareScans(Path dir) throws IOException {
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            long columnarCount = 0;
+            try (ColumnarReader reader = ColumnarReader.open(dir.resolve("enrollment.ucol"))) {
+                Iterator<String> grades = reader.stringColumn("grade");
+                while (grades.hasNext()) {
+                    if ("A".equals(grades.next())) {
+                        columnarCount++;
+                    }
+                }
+            }
+            long columnarNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long csvCount = 0;
+            try (BufferedReader in = Files.newBufferedReader(dir.resolve("enrollment.csv"), StandardCharsets.UTF_8);
+                 CsvReader csv = new CsvReader(in)) {
+                csv.readRecord();
+                List<String> record;
+                while ((record = csv.readRecord()) != null) {
+                    if ("A".equals(record.get(3))) {
+                        csvCount++;
+                    }
+                }
+            }
+            long csvNanos = System.nanoTime() - start;
+            System.out.printf("grade scan run %d: columnar %,d in %.1f ms, csv %,d in %.1f ms%n",
+                    run + 1, columnarCount, columnarNanos / 1e6, csvCount, csvNanos / 1e6);
+        }
+    }
+}
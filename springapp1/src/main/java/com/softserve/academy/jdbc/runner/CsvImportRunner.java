@@ -0,0 +1,185 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.csv.CsvImporter;
+import com.softserve.academy.jdbc.csv.ImportEntity;
+import com.softserve.academy.jdbc.csv.ImportReport;
+import com.softserve.academy.jdbc.csv.StageReport;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Imports generated CSV files with {@link CsvImporter} into H2 and checks the result.
+ * The files contain a few invalid records, a quoted name with a comma and a duplicate enrollment.
+ * The first run is made to fail on a commit in the middle of the student file; the second run
+ * resumes from the checkpoint. Exits with status 1 unless every valid row is imported exactly once
+ * and exactly the invalid records are rejected.
+ * Usage: CsvImportRunner [students]
+ */
+public class CsvImportRunner {
+    private static final int CHUNK_SIZE = 5_000;
+    private static final int COURSES_PER_STUDENT = 5;
+    private static final int EXPECTED_REJECTIONS = 6;
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int teacherCount = Math.max(1, studentCount / 40);
+        int courseCount = Math.max(COURSES_PER_STUDENT, studentCount / 10);
+        Path dir = Files.createTempDirectory("csv-import");
+        try {
+            writeFiles(dir, teacherCount, studentCount, courseCount);
+            try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:csvimport;DB_CLOSE_DELAY=-1", "sa", "")
+                    .maxSize(2)
+                    .build()) {
+                try (Connection conn = pool.getConnection()) {
+                    DBRunner.createTables(conn);
+                }
+                // Teacher stage: 2 commits, then student checkpoint row, then 2 student chunks
+                int failingCommit = 6;
+                try {
+                    importer(failOnCommit(pool, failingCommit), dir).run();
+                    System.err.println("The first run was expected to fail");
+                    System.exit(1);
+                } catch (SQLException e) {
+                    System.out.println("First run failed as planned: " + e.getMessage());
+                }
+                ImportReport report = importer(pool, dir).run();
+                System.out.println(report);
+                for (StageReport stage : report.getStages()) {
+                    stage.getRejections().forEach(reason -> System.out.println(stage.getEntity() + " " + reason));
+                }
+                boolean passed = check(pool, report, teacherCount, studentCount, courseCount);
+                System.out.println(passed
+                        ? "Import resumed without losing or duplicating rows"
+                        : "Import check failed");
+                if (!passed) {
+                    System.exit(1);
+                }
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static CsvImporter importer(ConnectionProvider provider, Path dir) {
+        return CsvImporter.builder(provider, "runner")
+                .file(ImportEntity.TEACHERS, dir.resolve("teachers.csv"))
+                .file(ImportEntity.STUDENTS, dir.resolve("students.csv"))
+                .file(ImportEntity.COURSES, dir.resolve("courses.csv"))
+                .file(ImportEntity.ENROLLMENTS, dir.resolve("enrollments.csv"))
+                .chunkSize(CHUNK_SIZE)
+                .build();
+    }
+
+    private static boolean check(ConnectionProvider provider, ImportReport report, int teacherCount,
+                                 int studentCount, int courseCount) throws SQLException {
+        boolean passed = true;
+        passed &= expect(provider, "teachers", "SELECT COUNT(*) FROM teacher", teacherCount);
+        passed &= expect(provider, "students", "SELECT COUNT(*) FROM student", studentCount);
+        passed &= expect(provider, "distinct student emails", "SELECT COUNT(DISTINCT email) FROM student",
+                studentCount);
+        passed &= expect(provider, "courses", "SELECT COUNT(*) FROM course", courseCount);
+        passed &= expect(provider, "enrollments", "SELECT COUNT(*) FROM enrollment",
+                (long) studentCount * COURSES_PER_STUDENT);
+        passed &= expect(provider, "teacher with a comma",
+                "SELECT COUNT(*) FROM teacher WHERE name = 'Brown, Ivan'", 1);
+        long skipped = report.getStages().stream()
+                .filter(stage -> stage.getEntity() == ImportEntity.STUDENTS)
+                .mapToLong(StageReport::getRowsSkipped).sum();
+        boolean resumed = skipped == 2L * CHUNK_SIZE;
+        System.out.println((resumed ? "OK    " : "FAIL  ") + "students skipped on resume: " + skipped);
+        boolean rejected = report.getRowsRejected() == EXPECTED_REJECTIONS;
+        System.out.println((rejected ? "OK    " : "FAIL  ") + "rejected records: " + report.getRowsRejected());
+        return passed && resumed && rejected;
+    }
+
+    private static boolean expect(ConnectionProvider provider, String what, String sql, long expected)
+            throws SQLException {
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            long actual = rs.getLong(1);
+            System.out.println((actual == expected ? "OK    " : "FAIL  ") + what + ": " + actual
+                    + " (expected " + expected + ")");
+            return actual == expected;
+        }
+    }
+
+    private static void writeFiles(Path dir, int teacherCount, int studentCount, int courseCount) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(dir.resolve("teachers.csv"), StandardCharsets.UTF_8)) {
+            out.write("key,name,department\n");
+            out.write("T0,\"Brown, Ivan\",Computer Science\n");
+            for (int i = 1; i < teacherCount; i++) {
+                out.write("T" + i + ",Teacher " + i + ",Department " + (i % 20) + "\n");
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(dir.resolve("students.csv"), StandardCharsets.UTF_8)) {
+            out.write("key,name,email\n");
+            for (int i = 0; i < studentCount; i++) {
+                out.write("S" + i + ",Student " + i + ",student" + i + "@example.com\n");
+                if (i == studentCount / 2) {
+                    out.write("S-bad1,No Email,\n");
+                    out.write("S-bad2,Bad Email,not-an-email\n");
+                    out.write("S" + i + ",Duplicate Key,duplicate@example.com\n");
+                }
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(dir.resolve("courses.csv"), StandardCharsets.UTF_8)) {
+            out.write("key,title,teacher_key\n");
+            for (int i = 0; i < courseCount; i++) {
+                out.write("C" + i + ",Course " + i + ",T" + (i % teacherCount) + "\n");
+            }
+            out.write("C-bad,Orphan Course,T-unknown\n");
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(dir.resolve("enrollments.csv"), StandardCharsets.UTF_8)) {
+            out.write("student_key,course_key,grade\n");
+            String[] grades = {"A", "B", "C", "D", "E", "F", ""};
+            for (int i = 0; i < studentCount; i++) {
+                for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+                    out.write("S" + i + ",C" + (i + j * 7) % courseCount + ","
+                            + grades[(i + j) % grades.length] + "\n");
+                }
+            }
+            out.write("S0,C0,A\n");
+            out.write("S1,C1,Z\n");
+        }
+    }
+
+    /**
+     * Wraps a provider so that the given commit, counted over all its connections, fails.
+     */
+    private static ConnectionProvider failOnCommit(ConnectionProvider delegate, int failingCommit) {
+        AtomicInteger commits = new AtomicInteger();
+        return () -> {
+            Connection conn = delegate.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("commit") && commits.incrementAndGet() == failingCommit) {
+                            throw new SQLException("Simulated failure on commit " + failingCommit);
+                        }
+                        try {
+                            return method.invoke(conn, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        };
+    }
+}
@@ -4,15 +4,20 @@ import com.softserve.academy.jdbc.dao.CourseDAO;
 import com.softserve.academy.jdbc.dao.EnrollmentDAO;
 import com.softserve.academy.jdbc.dao.StudentDAO;
 import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.dao.TranscriptDAO;
 import com.softserve.academy.jdbc.example.Course;
 import com.softserve.academy.jdbc.example.Enrollment;
 import com.softserve.academy.jdbc.example.Student;
 import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.example.TranscriptEntry;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import com.softserve.academy.jdbc.workload.WorkloadConfig;
+import com.softserve.academy.jdbc.workload.WorkloadDriver;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.Arrays;
 
 
 /**
@@ -88,8 +93,18 @@ import java.sql.Statement;
 //    }
 //}
 //
+/**
+ * Demonstrates the DAO classes on an in-memory H2 database. With "load" as the first argument it
+ * instead runs a concurrent workload through {@link WorkloadDriver} and prints its throughput,
+ * error rates and latency percentiles, e.g.
+ * {@code DBRunner load --threads=16 --connections=8 --duration=30 --rate=5000 --mix=read=80,insert=20}.
+ */
 public class DBRunner {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("load")) {
+            runWorkload(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
 
         String jdbcUrl = "jdbc:h2:mem:university;DB_CLOSE_DELAY=-1";//in-memory database
         // String jdbcUrl = "jdbc:h2:~/university;DB_CLOSE_DELAY=-1";// if you want to use file-based database
@@ -106,18 +121,24 @@ public class DBRunner {
 //            return;
 //        }
 
-        // Connecting to the H2 database
-        try (Connection conn = DriverManager.getConnection(jdbcUrl, username, password)) {
+        // Connecting to the H2 database through a connection pool
+        try (ConnectionPool pool = ConnectionPool.builder(jdbcUrl, username, password)
+                .maxSize(Runtime.getRuntime().availableProcessors())
+                .minIdle(1)
+                .leakDetectionThresholdMillis(10_000)
+                .build()) {
             System.out.println("Successfully connected to H2 database: " + jdbcUrl);
 
             // Creating tables
-            createTables(conn);
+            try (Connection conn = pool.getConnection()) {
+                createTables(conn);
+            }
 
             // Initializing DAO classes
-            StudentDAO studentDAO = new StudentDAO(conn);
-            TeacherDAO teacherDAO = new TeacherDAO(conn);
-            CourseDAO courseDAO = new CourseDAO(conn);
-            EnrollmentDAO enrollmentDAO = new EnrollmentDAO(conn);
+            StudentDAO studentDAO = new StudentDAO(pool);
+            TeacherDAO teacherDAO = new TeacherDAO(pool);
+            CourseDAO courseDAO = new CourseDAO(pool);
+            EnrollmentDAO enrollmentDAO = new EnrollmentDAO(pool);
 
             // Adding test data
             insertTestData(studentDAO, teacherDAO, courseDAO, enrollmentDAO);
@@ -125,48 +146,42 @@ public class DBRunner {
             // Outputting data to verify the operations
             displayData(studentDAO, teacherDAO, courseDAO, enrollmentDAO);
 
+            // Outputting transcripts, each read with a single joined query
+            displayTranscripts(studentDAO, new TranscriptDAO(pool));
+
+            System.out.println("\n" + pool.getMetrics());
         } catch (SQLException e) {
             System.err.println("Failed to connect to the database or execute operations.");
             e.printStackTrace();
         }
     }
 
-    private static void createTables(Connection conn) throws SQLException {
-        try (Statement stmt = conn.createStatement()) {
-            // Creating the student table
-            stmt.executeUpdate("CREATE TABLE student (" +
-                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
-                    "name VARCHAR(255) NOT NULL, " +
-                    "email VARCHAR(255) NOT NULL" +
-                    ")");
-
-            // Creating the teacher table
-            stmt.executeUpdate("CREATE TABLE teacher (" +
-                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
-                    "name VARCHAR(255) NOT NULL, " +
-                    "department VARCHAR(255) NOT NULL" +
-                    ")");
-
-            // Creating the course table
-            stmt.executeUpdate("CREATE TABLE course (" +
-                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
-                    "title VARCHAR(255) NOT NULL, " +
-                    "teacher_id BIGINT NOT NULL, " +
-                    "FOREIGN KEY (teacher_id) REFERENCES teacher(id)" +
-                    ")");
-
-            // Creating the enrollment table
-            stmt.executeUpdate("CREATE TABLE enrollment (" +
-                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
-                    "student_id BIGINT NOT NULL, " +
-                    "course_id BIGINT NOT NULL, " +
-                    "grade VARCHAR(255), " +
-                    "FOREIGN KEY (student_id) REFERENCES student(id), " +
-                    "FOREIGN KEY (course_id) REFERENCES course(id)" +
-                    ")");
+    private static void runWorkload(String[] args) {
+        WorkloadConfig config;
+        try {
+            config = WorkloadConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: DBRunner load [--url=jdbc:h2:...] [--threads=N] [--connections=N] "
+                    + "[--duration=seconds] [--warmup=seconds] [--rate=ops/s] [--mix=" + WorkloadConfig.DEFAULT_MIX
+                    + "] [--students=N] [--seed=N]");
+            return;
+        }
+        try {
+            System.out.print(WorkloadDriver.run(config).report());
+        } catch (SQLException e) {
+            System.err.println("Failed to prepare the workload database.");
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
+    static void createTables(Connection conn) throws SQLException {
+        // Tables, constraints and indexes all come from university.sql
+        SchemaManager.createSchema(conn);
+    }
+
     private static void insertTestData(StudentDAO studentDAO, TeacherDAO teacherDAO,
                                        CourseDAO courseDAO, EnrollmentDAO enrollmentDAO) throws SQLException {
         // Addition of students
@@ -213,4 +228,15 @@ public class DBRunner {
             System.out.println(enrollment);
         }
     }
+
+    private static void displayTranscripts(StudentDAO studentDAO, TranscriptDAO transcriptDAO) throws SQLException {
+        System.out.println("\nTranscripts:");
+        for (Student student : studentDAO.getAllStudents()) {
+            System.out.println(student.getName() + ":");
+            for (TranscriptEntry entry : transcriptDAO.getTranscript(student.getId())) {
+                System.out.println("  " + entry.getCourse().getTitle() + " (" + entry.getTeacher().getName() + "): "
+                        + entry.getGrade());
+            }
+        }
+    }
 }
\ No newline at end of file
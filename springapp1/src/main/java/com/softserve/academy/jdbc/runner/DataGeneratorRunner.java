@@ -0,0 +1,186 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.csv.CsvImporter;
+import com.softserve.academy.jdbc.csv.ImportEntity;
+import com.softserve.academy.jdbc.csv.ImportReport;
+import com.softserve.academy.jdbc.datagen.GeneratedDataset;
+import com.softserve.academy.jdbc.datagen.UniversityDataGenerator;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * With an output directory, writes a generated university of the given scale and seed there as CSV
+ * files for CsvImporter. Without one, checks {@link UniversityDataGenerator}: the files must be
+ * byte-identical on one thread and on four, and differ for another seed. Course popularity and grades
+ * must follow their distributions. The files must import through CsvImporter without rejections,
+ * and loading the same data through the DAOs must give the same tables. Then it times the generation
+ * of the given scale. Exits with status 1 if a check fails.
+ * Usage: DataGeneratorRunner [scale] [seed] [outputDir]
+ */
+public class DataGeneratorRunner {
+    public static void main(String[] args) throws Exception {
+        double scale = args.length > 0 ? Double.parseDouble(args[0]) : 1;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        if (args.length > 2) {
+            GeneratedDataset dataset = UniversityDataGenerator.builder(seed).scale(scale).build()
+                    .writeCsv(Paths.get(args[2]));
+            System.out.println("Wrote " + dataset + " to " + args[2]);
+            return;
+        }
+
+        boolean passed = true;
+        Path dir = Files.createTempDirectory("datagen");
+        try {
+            UniversityDataGenerator small = UniversityDataGenerator.builder(seed).scale(0.2).threads(1).build();
+            GeneratedDataset dataset = small.writeCsv(dir.resolve("one"));
+            UniversityDataGenerator.builder(seed).scale(0.2).threads(4).build().writeCsv(dir.resolve("four"));
+            UniversityDataGenerator.builder(seed + 1).scale(0.2).build().writeCsv(dir.resolve("other"));
+            System.out.println(dataset);
+            passed &= check("one and four threads write identical files",
+                    digests(dir.resolve("one")).equals(digests(dir.resolve("four"))));
+            passed &= check("another seed writes different files",
+                    !digests(dir.resolve("one")).equals(digests(dir.resolve("other"))));
+
+            try (ConnectionPool imported = pool("datagen-csv");
+                 ConnectionPool inserted = pool("datagen-dao")) {
+                passed &= checkDistributions(imported, dir.resolve("one"), dataset);
+                GeneratedDataset viaDAOs = small.insert(inserted);
+                System.out.println("Through the DAOs: " + viaDAOs);
+                passed &= check("the DAOs rejected no rows", viaDAOs.getFailedRows() == 0);
+                for (String sql : new String[]{
+                        "SELECT COUNT(*), SUM(LENGTH(name)), SUM(LENGTH(department)) FROM teacher",
+                        "SELECT COUNT(*), SUM(LENGTH(name)), SUM(LENGTH(email)) FROM student",
+                        "SELECT COUNT(*), SUM(LENGTH(title)), COUNT(DISTINCT teacher_id) FROM course",
+                        "SELECT grade, COUNT(*) FROM enrollment GROUP BY grade ORDER BY grade",
+                        "SELECT COUNT(*) FROM (SELECT course_id FROM enrollment GROUP BY course_id "
+                                + "HAVING COUNT(*) >= 100) t"}) {
+                    List<String> viaFiles = query(imported, sql);
+                    List<String> viaDao = query(inserted, sql);
+                    passed &= check(sql + ": " + viaFiles + (viaFiles.equals(viaDao) ? "" : " but " + viaDao),
+                            viaFiles.equals(viaDao));
+                }
+            }
+
+            for (int threads : new int[]{1, Runtime.getRuntime().availableProcessors()}) {
+                Path out = dir.resolve("timed-" + threads);
+                GeneratedDataset timed = UniversityDataGenerator.builder(seed).scale(scale).threads(threads).build()
+                        .writeCsv(out);
+                long bytes = 0;
+                for (ImportEntity entity : ImportEntity.values()) {
+                    bytes += Files.size(out.resolve(UniversityDataGenerator.fileName(entity)));
+                }
+                System.out.printf("Scale %s on %d thread(s): %d rows, %.1f MB of CSV in %.2f s, %.0f rows/s%n",
+                        scale, threads, timed.getRows(), bytes / 1e6, timed.getElapsedNanos() / 1e9,
+                        timed.getRowsPerSecond());
+                delete(out);
+            }
+        } finally {
+            delete(dir);
+        }
+        System.out.println(passed
+                ? "Generated data is deterministic and loads cleanly"
+                : "Data generator check failed");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(String what, boolean ok) {
+        System.out.println((ok ? "OK    " : "FAIL  ") + what);
+        return ok;
+    }
+
+    private static ConnectionPool pool(String name) throws SQLException {
+        ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(4)
+                .build();
+        try (Connection conn = pool.getConnection()) {
+            DBRunner.createTables(conn);
+        }
+        return pool;
+    }
+
+    /**
+     * Imports the files and checks that the most popular 1% of the courses draw a large share of the
+     * enrollments, and that the grades follow their weights.
+     */
+    private static boolean checkDistributions(ConnectionPool pool, Path dir, GeneratedDataset dataset)
+            throws SQLException, IOException {
+        CsvImporter.Builder importer = CsvImporter.builder(pool, "datagen");
+        for (ImportEntity entity : ImportEntity.values()) {
+            importer.file(entity, dir.resolve(UniversityDataGenerator.fileName(entity)));
+        }
+        ImportReport report = importer.build().run();
+        boolean ok = check("CsvImporter read " + report.getRowsInserted() + " rows and rejected "
+                + report.getRowsRejected(), report.getRowsInserted() == dataset.getRows()
+                && report.getRowsRejected() == 0);
+
+        long topCourses = Math.max(1, dataset.getCourses() / 100);
+        double topShare = Double.parseDouble(query(pool, "SELECT CAST(SUM(n) AS DOUBLE) / " + dataset.getEnrollments()
+                + " FROM (SELECT COUNT(*) n FROM enrollment GROUP BY course_id ORDER BY n DESC LIMIT " + topCourses
+                + ") t").get(0));
+        ok &= check(String.format("the top 1%% of courses have %.1f%% of the enrollments", topShare * 100),
+                topShare > 0.2);
+        double ungraded = Double.parseDouble(query(pool, "SELECT CAST(COUNT(*) AS DOUBLE) / "
+                + dataset.getEnrollments() + " FROM enrollment WHERE grade IS NULL").get(0));
+        double gradeB = Double.parseDouble(query(pool, "SELECT CAST(COUNT(*) AS DOUBLE) / "
+                + dataset.getEnrollments() + " FROM enrollment WHERE grade = 'B'").get(0));
+        ok &= check(String.format("grades: %.1f%% B and %.1f%% ungraded (weights 35%% and 5%%)", gradeB * 100,
+                ungraded * 100), Math.abs(gradeB - 0.35) < 0.01 && Math.abs(ungraded - 0.05) < 0.005);
+        return ok;
+    }
+
+    private static List<String> query(ConnectionPool pool, String sql) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= columns; i++) {
+                    row.append(i > 1 ? "|" : "").append(rs.getString(i));
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+
+    private static List<String> digests(Path dir) throws IOException, NoSuchAlgorithmException {
+        List<String> digests = new ArrayList<>();
+        for (ImportEntity entity : ImportEntity.values()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = Files.newInputStream(dir.resolve(UniversityDataGenerator.fileName(entity)))) {
+                byte[] buffer = new byte[65_536];
+                for (int n; (n = in.read(buffer)) > 0; ) {
+                    digest.update(buffer, 0, n);
+                }
+            }
+            digests.add(new BigInteger(1, digest.digest()).toString(16));
+        }
+        return digests;
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
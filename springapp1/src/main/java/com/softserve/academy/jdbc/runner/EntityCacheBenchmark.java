@@ -0,0 +1,122 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.cache.CachingCourseDAO;
+import com.softserve.academy.jdbc.cache.TinyLfuCache;
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares getCourseById with and without a {@link TinyLfuCache} on H2 while one thread keeps renaming
+ * courses. Readers pick courses from a Zipf distribution, so a few courses are read most of the time.
+ * That no update is lost to a concurrent load is checked by TinyLfuCacheTest.
+ * Usage: EntityCacheBenchmark [threads] [seconds] [cacheSize]
+ */
+public class EntityCacheBenchmark {
+    private static final int COURSES = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int cacheSize = args.length > 2 ? Integer.parseInt(args[2]) : 2_000;
+
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:entitycache;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(threads + 1)
+                .minIdle(threads + 1)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            long teacherId = new TeacherDAO(pool).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+            List<Course> courses = new ArrayList<>(COURSES);
+            for (int i = 0; i < COURSES; i++) {
+                courses.add(new Course(0L, "Course " + i, teacherId));
+            }
+            long[] courseIds = new CourseDAO(pool).addCourses(courses).getGeneratedIds();
+            double[] zipf = zipfCumulative(COURSES);
+
+            CourseDAO plain = new CourseDAO(pool);
+            CachingCourseDAO cached = new CachingCourseDAO(pool,
+                    TinyLfuCache.builder().maximumSize(cacheSize).timeToLiveMillis(60_000).build());
+            System.out.println("Courses: " + COURSES + ", reader threads: " + threads + ", cache size: " + cacheSize);
+
+            double plainRate = run(plain, threads, seconds, courseIds, zipf);
+            System.out.printf("no cache    %,12.0f reads/s%n", plainRate);
+            double cachedRate = run(cached, threads, seconds, courseIds, zipf);
+            System.out.printf("TinyLFU     %,12.0f reads/s   %s%n", cachedRate, cached.getCache().getStats());
+        }
+    }
+
+    private static double run(CourseDAO dao, int threads, int seconds, long[] courseIds, double[] zipf)
+            throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        AtomicLong version = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long count = 0;
+                    while (running.get()) {
+                        dao.getCourseById(courseIds[sample(zipf)]);
+                        count++;
+                    }
+                    reads.addAndGet(count);
+                    return null;
+                }));
+            }
+            // Renames popular courses, which are the ones most likely to be loaded concurrently
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    long id = courseIds[sample(zipf)];
+                    Course course = dao.getCourseById(id);
+                    dao.updateCourse(new Course(id, "Course v" + version.incrementAndGet(), course.getTeacherId()));
+                    Thread.sleep(1);
+                }
+                return null;
+            }));
+            long start = System.nanoTime();
+            Thread.sleep(seconds * 1000L);
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return reads.get() / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static double[] zipfCumulative(int n) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+    }
+}
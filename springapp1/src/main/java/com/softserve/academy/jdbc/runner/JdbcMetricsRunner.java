@@ -0,0 +1,198 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.StudentMapping;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.metrics.HistogramSnapshot;
+import com.softserve.academy.jdbc.metrics.JdbcMetrics;
+import com.softserve.academy.jdbc.metrics.LatencyHistogram;
+import com.softserve.academy.jdbc.metrics.StatementMetrics;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs DAO calls through {@link JdbcMetrics} on H2 and checks that every execution, row and
+ * failure is counted against the right statement, and that the histogram percentiles are within
+ * their stated precision. Then compares the cost of getStudentById on the bare pool with the
+ * instrumented provider with sampling off, one in 100 and every call, and prints the periodic
+ * report of a concurrent workload. Exits with status 1 if a check fails.
+ * Usage: JdbcMetricsRunner [students] [lookups]
+ */
+public class JdbcMetricsRunner {
+    private static final String INSERT_STUDENT = "INSERT INTO student (name, email) VALUES (?, ?)";
+    private static final String SELECT_STUDENT = StudentMapping.SELECT + " WHERE id = ?";
+    private static final String SELECT_STUDENTS = StudentMapping.SELECT;
+    private static final String INSERT_ENROLLMENT = "INSERT INTO enrollment (student_id, course_id, grade) "
+            + "VALUES (?, ?, ?)";
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        boolean passed = checkHistogram();
+
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:jdbcmetrics;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(8)
+                .build();
+             JdbcMetrics metrics = new JdbcMetrics()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            ConnectionProvider instrumented = metrics.instrument(pool);
+            StudentDAO studentDAO = new StudentDAO(instrumented);
+            EnrollmentDAO enrollmentDAO = new EnrollmentDAO(instrumented);
+
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < studentCount / 2; i++) {
+                ids.add(studentDAO.addStudent(new Student(0L, "Student " + i, "student" + i + "@example.com")));
+            }
+            List<Student> batch = new ArrayList<>();
+            for (int i = studentCount / 2; i < studentCount; i++) {
+                batch.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+            }
+            studentDAO.addStudents(batch, 100);
+            for (long id : ids) {
+                studentDAO.getStudentById(id);
+            }
+            studentDAO.getAllStudents();
+            long teacherId = new TeacherDAO(pool).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+            long courseId = new CourseDAO(pool).addCourse(new Course(0L, "Databases", teacherId));
+            enrollmentDAO.addEnrollment(new Enrollment(0L, ids.get(0), courseId, "A"));
+            try {
+                enrollmentDAO.addEnrollment(new Enrollment(0L, ids.get(0), courseId, "B"));
+            } catch (SQLException e) {
+                System.out.println("Duplicate enrollment rejected as expected");
+            }
+            System.out.print(metrics.report());
+
+            int batches = (studentCount - studentCount / 2 + 99) / 100;
+            passed &= expect(metrics, INSERT_STUDENT, "executions", studentCount / 2 + batches,
+                    m -> m.getLatency().getCount());
+            passed &= expect(metrics, INSERT_STUDENT, "rows", studentCount, StatementMetrics::getRows);
+            passed &= expect(metrics, SELECT_STUDENT, "executions", ids.size(), m -> m.getLatency().getCount());
+            passed &= expect(metrics, SELECT_STUDENT, "rows", ids.size(), StatementMetrics::getRows);
+            passed &= expect(metrics, SELECT_STUDENTS, "rows", studentCount, StatementMetrics::getRows);
+            passed &= expect(metrics, INSERT_ENROLLMENT, "executions", 2, m -> m.getLatency().getCount());
+            passed &= expect(metrics, INSERT_ENROLLMENT, "errors", 1, StatementMetrics::getErrors);
+            long checkouts = metrics.getConnectionWait().getCount();
+            boolean waitCounted = checkouts == ids.size() * 2L + 1 + 1 + 2;
+            System.out.println((waitCounted ? "OK    " : "FAIL  ") + "sampled connection checkouts: " + checkouts);
+            passed &= waitCounted;
+
+            compareOverhead(pool, metrics, ids, lookups);
+            runConcurrently(instrumented, metrics, ids);
+        }
+        System.out.println(passed ? "All statements were measured correctly" : "JDBC metrics check failed");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private interface Counter {
+        long get(StatementMetrics metrics);
+    }
+
+    private static boolean expect(JdbcMetrics metrics, String sql, String what, long expected, Counter counter) {
+        StatementMetrics statement = metrics.getStatement(sql);
+        long actual = statement == null ? -1 : counter.get(statement);
+        System.out.println((actual == expected ? "OK    " : "FAIL  ") + what + " of " + sql + ": " + actual
+                + " (expected " + expected + ")");
+        return actual == expected;
+    }
+
+    /**
+     * Records 1 to 1,000,000 ns once each, so the exact p50 is 500,000 ns and the exact p99 990,000 ns.
+     */
+    private static boolean checkHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000_000; nanos++) {
+            histogram.record(nanos);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        boolean ok = snapshot.getCount() == 1_000_000 && snapshot.getMaxNanos() == 1_000_000
+                && within(snapshot.getPercentileNanos(50), 500_000)
+                && within(snapshot.getPercentileNanos(99), 990_000)
+                && within(snapshot.getPercentileNanos(99.9), 999_000)
+                && snapshot.getPercentileNanos(100) == 1_000_000;
+        System.out.println((ok ? "OK    " : "FAIL  ") + "histogram of 1..1,000,000 ns: " + snapshot);
+        return ok;
+    }
+
+    private static boolean within(long reported, long exact) {
+        return reported >= exact && reported <= exact + exact / 16;
+    }
+
+    private static void compareOverhead(ConnectionPool pool, JdbcMetrics metrics, List<Long> ids, int lookups)
+            throws SQLException {
+        StudentDAO bare = new StudentDAO(pool);
+        StudentDAO instrumented = new StudentDAO(metrics.instrument(pool));
+        int[] intervals = {0, 100, 1};
+        for (int run = 0; run < 3; run++) {
+            boolean print = run == 2;
+            double bareNanos = lookupNanos(bare, ids, lookups);
+            if (print) {
+                System.out.printf("getStudentById, bare pool:                 %8.0f ns/op%n", bareNanos);
+            }
+            for (int interval : intervals) {
+                metrics.setSampleInterval(interval);
+                double nanos = lookupNanos(instrumented, ids, lookups);
+                if (print) {
+                    System.out.printf("getStudentById, sample interval %-9d  %8.0f ns/op (%+.0f ns)%n",
+                            interval, nanos, nanos - bareNanos);
+                }
+            }
+        }
+        metrics.setSampleInterval(1);
+    }
+
+    private static double lookupNanos(StudentDAO dao, List<Long> ids, int lookups) throws SQLException {
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            dao.getStudentById(ids.get(i % ids.size()));
+        }
+        return (double) (System.nanoTime() - start) / lookups;
+    }
+
+    private static void runConcurrently(ConnectionProvider instrumented, JdbcMetrics metrics, List<Long> ids)
+            throws Exception {
+        metrics.reset();
+        metrics.startReporting(250, TimeUnit.MILLISECONDS, System.out);
+        StudentDAO dao = new StudentDAO(instrumented);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(600);
+                    for (int i = offset; System.nanoTime() < end; i += 16) {
+                        dao.getStudentById(ids.get(i % ids.size()));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            metrics.close();
+        }
+        System.out.println("16 threads on 8 connections:");
+        System.out.print(metrics.report());
+    }
+}
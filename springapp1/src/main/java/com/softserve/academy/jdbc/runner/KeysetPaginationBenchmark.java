@@ -0,0 +1,98 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.paging.ContinuationToken;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the latency of page 1 and page 10,000 for keyset pagination (StudentDAO.getStudentsPage)
+ * and for the equivalent LIMIT/OFFSET query on H2.
+ * Usage: KeysetPaginationBenchmark [pageSize] [repetitions]
+ */
+public class KeysetPaginationBenchmark {
+    private static final int DEEP_PAGE = 10_000;
+
+    public static void main(String[] args) throws SQLException {
+        int pageSize = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int rows = pageSize * DEEP_PAGE;
+
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:keyset;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(1)
+                .minIdle(1)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            StudentDAO studentDAO = new StudentDAO(pool);
+            List<Student> students = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+            }
+            long[] ids = studentDAO.addStudents(students, 1000).getGeneratedIds();
+
+            // The token a client would hold after reading page 9,999
+            String deepToken = ContinuationToken.encode(ids[(DEEP_PAGE - 1) * pageSize - 1]);
+            KeysetPage<Student> deep = studentDAO.getStudentsPage(deepToken, pageSize);
+            if (deep.getItems().size() != pageSize || deep.hasNext()) {
+                throw new IllegalStateException("Unexpected last page: " + deep);
+            }
+            try {
+                studentDAO.getStudentsPage(null, KeysetPage.MAX_PAGE_SIZE + 1);
+                throw new IllegalStateException("A page size over " + KeysetPage.MAX_PAGE_SIZE + " was accepted");
+            } catch (IllegalArgumentException expected) {
+                // rejected before the query runs
+            }
+
+            System.out.println("Students: " + rows + ", page size: " + pageSize + ", repetitions: " + repetitions);
+            for (int round = 0; round < 3; round++) {
+                boolean print = round == 2;
+                double keysetFirst = timeKeyset(studentDAO, null, pageSize, repetitions);
+                double keysetDeep = timeKeyset(studentDAO, deepToken, pageSize, repetitions);
+                double offsetFirst = timeOffset(pool, 0, pageSize, repetitions);
+                double offsetDeep = timeOffset(pool, (DEEP_PAGE - 1) * pageSize, pageSize, repetitions);
+                if (print) {
+                    System.out.printf("keyset  page 1: %8.1f us   page %,d: %8.1f us%n", keysetFirst, DEEP_PAGE, keysetDeep);
+                    System.out.printf("offset  page 1: %8.1f us   page %,d: %8.1f us%n", offsetFirst, DEEP_PAGE, offsetDeep);
+                }
+            }
+        }
+    }
+
+    private static double timeKeyset(StudentDAO studentDAO, String token, int pageSize, int repetitions)
+            throws SQLException {
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            studentDAO.getStudentsPage(token, pageSize);
+        }
+        return (System.nanoTime() - start) / 1e3 / repetitions;
+    }
+
+    private static double timeOffset(ConnectionPool pool, int offset, int pageSize, int repetitions)
+            throws SQLException {
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            try (Connection conn = pool.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement("SELECT * FROM student ORDER BY id LIMIT ? OFFSET ?")) {
+                pstmt.setInt(1, pageSize);
+                pstmt.setInt(2, offset);
+                List<Student> page = new ArrayList<>(pageSize);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        page.add(new Student(rs.getLong("id"), rs.getString("name"), rs.getString("email")));
+                    }
+                }
+            }
+        }
+        return (System.nanoTime() - start) / 1e3 / repetitions;
+    }
+}
@@ -0,0 +1,163 @@
+package com.softserve.academy.jdbc.runner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares DBRunner on the JVM with the native executable built by the native Maven profile. Each build
+ * runs the demo the given number of times; the table shows the median time until it had connected to H2
+ * and until it exited. Then each runs the load mode for the given number of seconds, and the table shows
+ * its throughput. Peak RSS is the VmHWM of /proc/[pid]/status, polled while the process runs, so it is
+ * only shown on Linux and, for the demo, may miss the last milliseconds of a run.
+ * The JVM build uses the classpath of this JVM. Exits with status 1 if a run fails.
+ * Usage: NativeImageComparison [executable] [runs] [loadSeconds]
+ */
+public class NativeImageComparison {
+    private static final String CONNECTED = "Successfully connected to H2 database";
+    private static final Pattern THROUGHPUT = Pattern.compile("Measured [0-9.]+ s: [0-9]+ operations, ([0-9]+) ops/s");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path executable = Path.of(args.length > 0 ? args[0] : "target/dbrunner");
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int loadSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        if (runs < 1 || loadSeconds < 1) {
+            throw new IllegalArgumentException("The number of runs and the load duration must be positive");
+        }
+
+        List<List<String>> builds = new ArrayList<>();
+        builds.add(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), DBRunner.class.getName()));
+        if (Files.isExecutable(executable)) {
+            builds.add(List.of(executable.toAbsolutePath().toString()));
+        } else {
+            System.out.println("No native executable at " + executable + ", run mvn -Pnative package with GraalVM");
+        }
+        String[] names = {"JVM", "native"};
+        List<String> load = List.of("load", "--threads=4", "--connections=4", "--warmup=1",
+                "--duration=" + loadSeconds);
+
+        System.out.printf("%-8s %14s %9s %13s %13s %9s%n", "build", "connected ms", "exit ms", "demo RSS MB",
+                "load RSS MB", "ops/s");
+        for (int build = 0; build < builds.size(); build++) {
+            List<String> command = builds.get(build);
+            long[] connected = new long[runs];
+            long[] exited = new long[runs];
+            long demoRss = 0;
+            Run run;
+            try {
+                // One discarded run warms the file cache
+                run(command, List.of());
+                for (int i = 0; i < runs; i++) {
+                    run = run(command, List.of());
+                    connected[i] = run.connectedMillis;
+                    exited[i] = run.exitMillis;
+                    demoRss = Math.max(demoRss, run.peakRssKb);
+                }
+                run = run(command, load);
+            } catch (IllegalStateException e) {
+                System.out.println(e.getMessage());
+                System.exit(1);
+                return;
+            }
+            Matcher matcher = THROUGHPUT.matcher(String.join("\n", run.output));
+            if (!matcher.find()) {
+                System.out.println("No throughput in the output of " + command + " " + load);
+                System.exit(1);
+            }
+            System.out.printf("%-8s %14d %9d %13s %13s %9s%n", names[build], median(connected), median(exited),
+                    megabytes(demoRss), megabytes(run.peakRssKb), matcher.group(1));
+        }
+    }
+
+    private static Run run(List<String> command, List<String> args) throws IOException, InterruptedException {
+        List<String> full = new ArrayList<>(command);
+        full.addAll(args);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(full).redirectErrorStream(true).start();
+        RssMonitor monitor = new RssMonitor(process);
+        monitor.start();
+
+        Run run = new Run();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(CONNECTED) && run.connectedMillis < 0) {
+                    run.connectedMillis = (System.nanoTime() - start) / 1_000_000;
+                }
+                run.output.add(line);
+            }
+        }
+        int exitCode = process.waitFor();
+        run.exitMillis = (System.nanoTime() - start) / 1_000_000;
+        monitor.join();
+        run.peakRssKb = monitor.peakKb;
+        if (exitCode != 0 || (args.isEmpty() && run.connectedMillis < 0)) {
+            List<String> tail = run.output.subList(Math.max(0, run.output.size() - 40), run.output.size());
+            throw new IllegalStateException(String.format("Run failed with exit code %d: %s%n%s", exitCode, full,
+                    String.join(System.lineSeparator(), tail)));
+        }
+        return run;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String megabytes(long kilobytes) {
+        return kilobytes > 0 ? String.format("%.1f", kilobytes / 1024.0) : "n/a";
+    }
+
+    private static final class Run {
+        private final List<String> output = new ArrayList<>();
+        private long connectedMillis = -1;
+        private long exitMillis;
+        private long peakRssKb;
+    }
+
+    /**
+     * Polls the high-water mark of the resident set of a process until it exits.
+     */
+    private static final class RssMonitor extends Thread {
+        private final Process process;
+        private final Path status;
+        private volatile long peakKb;
+
+        private RssMonitor(Process process) {
+            super("rss-monitor-" + process.pid());
+            this.process = process;
+            this.status = Path.of("/proc", Long.toString(process.pid()), "status");
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (process.isAlive()) {
+                try {
+                    for (String line : Files.readAllLines(status)) {
+                        if (line.startsWith("VmHWM:")) {
+                            peakKb = Math.max(peakKb, Long.parseLong(line.replaceAll("[^0-9]", "")));
+                        }
+                    }
+                    Thread.sleep(1);
+                } catch (IOException | NumberFormatException e) {
+                    // Not on Linux, or the process exited between the check and the read
+                    return;
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.StudentMapping;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.sqllog.SqlLog;
+import com.softserve.academy.jdbc.sqllog.SqlStatementStats;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Runs DAO calls through {@link SqlLog} on H2 and checks that every execution is aggregated under
+ * its statement with the right bind parameter, row and error counts, that exactly one line in
+ * {@code sampleInterval} is written, that with a zero threshold every statement is written as slow,
+ * and that a stalled sink makes the log drop events instead of blocking the DAOs. Then compares
+ * getStudentById on the bare pool with the logged provider and with a synchronous println of every
+ * statement to a file, which is what show-sql does. Exits with status 1 if a check fails.
+ * Usage: SqlLogRunner [students] [lookups]
+ */
+public class SqlLogRunner {
+    private static final String INSERT_STUDENT = "INSERT INTO student (name, email) VALUES (?, ?)";
+    private static final String SELECT_STUDENT = StudentMapping.SELECT + " WHERE id = ?";
+    private static final String INSERT_ENROLLMENT = "INSERT INTO enrollment (student_id, course_id, grade) "
+            + "VALUES (?, ?, ?)";
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        boolean passed = true;
+
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:sqllog;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(8)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            List<Long> ids;
+            Queue<String> lines = new ConcurrentLinkedQueue<>();
+            try (SqlLog log = SqlLog.builder().sampleInterval(1).slowThresholdMillis(60_000).top(3)
+                    .reportIntervalSeconds(0).sink(lines::add).build()) {
+                ConnectionProvider logged = log.instrument(pool);
+                StudentDAO studentDAO = new StudentDAO(logged);
+                EnrollmentDAO enrollmentDAO = new EnrollmentDAO(logged);
+                ids = new ArrayList<>();
+                for (int i = 0; i < studentCount / 2; i++) {
+                    ids.add(studentDAO.addStudent(new Student(0L, "Student " + i, "student" + i + "@example.com")));
+                }
+                List<Student> batch = new ArrayList<>();
+                for (int i = studentCount / 2; i < studentCount; i++) {
+                    batch.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+                }
+                studentDAO.addStudents(batch, 100);
+                for (long id : ids) {
+                    studentDAO.getStudentById(id);
+                }
+                long teacherId = new TeacherDAO(pool).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+                long courseId = new CourseDAO(pool).addCourse(new Course(0L, "Databases", teacherId));
+                enrollmentDAO.addEnrollment(new Enrollment(0L, ids.get(0), courseId, "A"));
+                try {
+                    enrollmentDAO.addEnrollment(new Enrollment(0L, ids.get(0), courseId, "B"));
+                } catch (SQLException e) {
+                    System.out.println("Duplicate enrollment rejected as expected");
+                }
+                passed &= check("events drained", log.awaitDrained(5_000));
+                for (SqlStatementStats stats : log.getTopStatements()) {
+                    System.out.println(stats);
+                }
+
+                int batches = (studentCount - studentCount / 2 + 99) / 100;
+                long executed = studentCount / 2 + batches + ids.size() + 2;
+                passed &= expect(log, INSERT_STUDENT, studentCount / 2 + batches, 0, studentCount, 2);
+                passed &= expect(log, SELECT_STUDENT, ids.size(), 0, 0, 1);
+                passed &= expect(log, INSERT_ENROLLMENT, 2, 1, 1, 3);
+                passed &= check("one line per statement at sample interval 1: " + lines.size(),
+                        lines.size() == executed && log.getWritten() == executed && log.getDropped() == 0);
+                passed &= check("every line is a JSON sql event", lines.stream()
+                        .allMatch(line -> line.startsWith("{\"event\":\"sql\",") && line.endsWith("\"}")));
+                passed &= check("batch lines carry the batch size", lines.stream()
+                        .filter(line -> line.contains("\"batch\":100,")).count() == batches);
+            }
+
+            passed &= checkSampling(pool, ids);
+            passed &= checkSlow(pool, ids);
+            passed &= checkDropping(pool, ids);
+            compareOverhead(pool, ids, lookups);
+        }
+        System.out.println(passed ? "All statements were logged correctly" : "SQL log check failed");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(String what, boolean ok) {
+        System.out.println((ok ? "OK    " : "FAIL  ") + what);
+        return ok;
+    }
+
+    private static boolean expect(SqlLog log, String sql, long executions, long errors, long rows, int params) {
+        SqlStatementStats stats = log.getTopStatements(Integer.MAX_VALUE).stream()
+                .filter(s -> s.getSql().equals(sql))
+                .findFirst()
+                .orElse(null);
+        boolean ok = stats != null && stats.getExecutions() == executions && stats.getErrors() == errors
+                && stats.getRows() == rows && stats.getParams() == params;
+        return check(sql + ": " + stats + " (expected executions=" + executions + ", errors=" + errors
+                + ", rows=" + rows + ", params=" + params + ")", ok);
+    }
+
+    private static boolean checkSampling(ConnectionPool pool, List<Long> ids) throws SQLException {
+        Queue<String> lines = new ConcurrentLinkedQueue<>();
+        try (SqlLog log = SqlLog.builder().sampleInterval(100).slowThresholdMillis(60_000)
+                .reportIntervalSeconds(0).sink(lines::add).build()) {
+            StudentDAO dao = new StudentDAO(log.instrument(pool));
+            for (int i = 0; i < 10_000; i++) {
+                dao.getStudentById(ids.get(i % ids.size()));
+            }
+            log.awaitDrained(5_000);
+            return check("10,000 lookups at sample interval 100 wrote " + lines.size() + " lines",
+                    lines.size() == 100);
+        }
+    }
+
+    private static boolean checkSlow(ConnectionPool pool, List<Long> ids) throws SQLException {
+        Queue<String> lines = new ConcurrentLinkedQueue<>();
+        try (SqlLog log = SqlLog.builder().sampleInterval(0).slowThresholdMillis(0)
+                .reportIntervalSeconds(0).sink(lines::add).build()) {
+            StudentDAO dao = new StudentDAO(log.instrument(pool));
+            for (int i = 0; i < 500; i++) {
+                dao.getStudentById(ids.get(i % ids.size()));
+            }
+            log.awaitDrained(5_000);
+            return check("500 lookups over a zero slow threshold wrote " + lines.size() + " slow lines",
+                    lines.size() == 500 && lines.stream().allMatch(line -> line.contains("\"slow\":true")));
+        }
+    }
+
+    /**
+     * Stalls the sink on the first line, so the consumer stops draining and the ring of 16 fills up.
+     */
+    private static boolean checkDropping(ConnectionPool pool, List<Long> ids) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        int lookups = 1_000;
+        boolean ok;
+        try (SqlLog log = SqlLog.builder().sampleInterval(1).capacity(16).reportIntervalSeconds(0)
+                .sink(line -> awaitQuietly(release)).build()) {
+            StudentDAO dao = new StudentDAO(log.instrument(pool));
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                dao.getStudentById(ids.get(i % ids.size()));
+            }
+            double millis = (System.nanoTime() - start) / 1e6;
+            release.countDown();
+            log.awaitDrained(5_000);
+            long executions = log.getTopStatements().stream().mapToLong(SqlStatementStats::getExecutions).sum();
+            ok = check(String.format("stalled sink: %d lookups in %.1f ms, %d aggregated, %d dropped", lookups,
+                    millis, executions, log.getDropped()),
+                    log.getDropped() > 0 && executions + log.getDropped() == lookups);
+        }
+        return ok;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The println baseline writes to a temporary file through an autoflushing stream, like System.out
+     * redirected to a file; the logs write to a discarding stream on their own thread.
+     */
+    private static void compareOverhead(ConnectionPool pool, List<Long> ids, int lookups) throws IOException,
+            SQLException {
+        StudentDAO bare = new StudentDAO(pool);
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        Path file = Files.createTempFile("show-sql", ".log");
+        PrintStream out = new PrintStream(new FileOutputStream(file.toFile()), true);
+        StudentDAO println = new StudentDAO(() -> printing(pool.getConnection(), out));
+        try (SqlLog sampled = SqlLog.builder().reportIntervalSeconds(0).sink(discard::println).build();
+             SqlLog every = SqlLog.builder().sampleInterval(1).reportIntervalSeconds(0).sink(discard::println)
+                     .build()) {
+            StudentDAO sampledDAO = new StudentDAO(sampled.instrument(pool));
+            StudentDAO everyDAO = new StudentDAO(every.instrument(pool));
+            for (int run = 0; run < 3; run++) {
+                double bareNanos = lookupNanos(bare, ids, lookups);
+                double printlnNanos = lookupNanos(println, ids, lookups);
+                double sampledNanos = lookupNanos(sampledDAO, ids, lookups);
+                double everyNanos = lookupNanos(everyDAO, ids, lookups);
+                if (run == 2) {
+                    System.out.printf("getStudentById, bare pool:                  %8.0f ns/op%n", bareNanos);
+                    System.out.printf("getStudentById, println on the caller:      %8.0f ns/op (%+.0f ns)%n",
+                            printlnNanos, printlnNanos - bareNanos);
+                    System.out.printf("getStudentById, SqlLog sample interval 100: %8.0f ns/op (%+.0f ns)%n",
+                            sampledNanos, sampledNanos - bareNanos);
+                    System.out.printf("getStudentById, SqlLog sample interval 1:   %8.0f ns/op (%+.0f ns), "
+                            + "%d dropped%n", everyNanos, everyNanos - bareNanos, every.getDropped());
+                }
+            }
+        } finally {
+            out.close();
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * What show-sql does: prints the SQL of every prepared statement on the calling thread.
+     */
+    private static Connection printing(Connection delegate, PrintStream out) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("prepareStatement")) {
+                        out.println(args[0]);
+                    }
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static double lookupNanos(StudentDAO dao, List<Long> ids, int lookups) throws SQLException {
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            dao.getStudentById(ids.get(i % ids.size()));
+        }
+        return (double) (System.nanoTime() - start) / lookups;
+    }
+}
@@ -0,0 +1,82 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures getStudentById/getCourseById on H2 with and without the prepared statement cache.
+ * Usage: StatementCacheBenchmark [lookups]
+ */
+public class StatementCacheBenchmark {
+    private static final int ROWS = 10_000;
+
+    public static void main(String[] args) throws SQLException {
+        int lookups = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+
+        // Warm up both variants before measuring
+        run("warm-up", 0, lookups / 10, false);
+        run("warm-up", 64, lookups / 10, false);
+
+        run("no cache", 0, lookups, true);
+        run("cache 64", 64, lookups, true);
+    }
+
+    private static void run(String label, int cacheSize, int lookups, boolean print) throws SQLException {
+        String url = "jdbc:h2:mem:stmt_cache_" + cacheSize + ";DB_CLOSE_DELAY=-1";
+        try (ConnectionPool pool = ConnectionPool.builder(url, "sa", "")
+                .maxSize(1)
+                .minIdle(1)
+                .statementCacheSize(cacheSize)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            StudentDAO studentDAO = new StudentDAO(pool);
+            CourseDAO courseDAO = new CourseDAO(pool);
+            long teacherId = new TeacherDAO(pool).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+
+            List<Student> students = new ArrayList<>(ROWS);
+            List<Course> courses = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+                courses.add(new Course(0L, "Course " + i, teacherId));
+            }
+            long[] studentIds = studentDAO.addStudents(students).getGeneratedIds();
+            long[] courseIds = courseDAO.addCourses(courses).getGeneratedIds();
+            long hitsBefore = pool.getStatementCacheStats().getHits();
+            long missesBefore = pool.getStatementCacheStats().getMisses();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                if ((i & 1) == 0) {
+                    studentDAO.getStudentById(studentIds[i % ROWS]);
+                } else {
+                    courseDAO.getCourseById(courseIds[i % ROWS]);
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (print) {
+                System.out.printf("%-9s %,d lookups in %7.1f ms  %,10.0f ops/s  %6.2f us/op  hits=%d misses=%d%n",
+                        label, lookups, elapsed / 1e6, lookups / (elapsed / 1e9), elapsed / 1e3 / lookups,
+                        pool.getStatementCacheStats().getHits() - hitsBefore,
+                        pool.getStatementCacheStats().getMisses() - missesBefore);
+            }
+            try (Connection conn = pool.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("DROP ALL OBJECTS");
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Compares peak heap usage of getAllEnrollments with the streaming reads of EnrollmentDAO.
+ * A file-based H2 database is used so that the table itself does not live on the heap.
+ * H2 only streams results from an embedded database with LAZY_QUERY_EXECUTION enabled,
+ * otherwise it materialises the whole result before the first row is returned.
+ * Usage: StreamingReadBenchmark [rows] [fetchSize]
+ */
+public class StreamingReadBenchmark {
+    public static void main(String[] args) throws SQLException, IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int fetchSize = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Path dir = Files.createTempDirectory("streaming-bench");
+        String url = "jdbc:h2:" + dir.resolve("university") + ";LAZY_QUERY_EXECUTION=1";
+
+        try (ConnectionPool pool = ConnectionPool.builder(url, "sa", "").maxSize(2).minIdle(1).build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            EnrollmentDAO enrollmentDAO = new EnrollmentDAO(pool);
+            loadEnrollments(pool, enrollmentDAO, rows);
+            System.out.println("Enrollments: " + rows + ", fetch size: " + fetchSize);
+
+            resetPeak();
+            long start = System.nanoTime();
+            List<Enrollment> all = enrollmentDAO.getAllEnrollments();
+            long listNanos = System.nanoTime() - start;
+            report("getAllEnrollments", all.size(), listNanos);
+            all = null;
+
+            resetPeak();
+            start = System.nanoTime();
+            long[] gradeA = new long[1];
+            try (Stream<Enrollment> stream = enrollmentDAO.streamEnrollments(fetchSize)) {
+                stream.filter(e -> "A".equals(e.getGrade())).forEach(e -> gradeA[0]++);
+            }
+            report("streamEnrollments", rows, System.nanoTime() - start);
+
+            resetPeak();
+            start = System.nanoTime();
+            long count = enrollmentDAO.forEachEnrollment(fetchSize, e -> gradeA[0]--);
+            report("forEachEnrollment", count, System.nanoTime() - start);
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    private static void loadEnrollments(ConnectionPool pool, EnrollmentDAO enrollmentDAO, int rows) throws SQLException {
+        // (student_id, course_id) is unique, so every student takes each of the courses once
+        int courseCount = 100;
+        long teacherId = new TeacherDAO(pool).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(new Course(0L, "Course " + i, teacherId));
+        }
+        long[] courseIds = new CourseDAO(pool).addCourses(courses).getGeneratedIds();
+        int studentCount = (rows + courseCount - 1) / courseCount;
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+        }
+        long[] studentIds = new StudentDAO(pool).addStudents(students, 1000).getGeneratedIds();
+        String[] grades = {"A", "B", "C", "D", "E", "F"};
+        List<Enrollment> chunk = new ArrayList<>(10_000);
+        for (int i = 0; i < rows; i++) {
+            chunk.add(new Enrollment(0L, studentIds[i / courseCount], courseIds[i % courseCount], grades[i % grades.length]));
+            if (chunk.size() == 10_000 || i == rows - 1) {
+                enrollmentDAO.addEnrollments(chunk, 1000);
+                chunk.clear();
+            }
+        }
+    }
+
+    private static void resetPeak() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static void report(String label, long rows, long nanos) {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.printf("%-18s %,10d rows  %8.1f ms  peak heap %,8.1f MB%n",
+                label, rows, nanos / 1e6, peak / (1024.0 * 1024.0));
+    }
+}
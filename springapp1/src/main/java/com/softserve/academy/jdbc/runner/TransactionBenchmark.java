@@ -0,0 +1,196 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.tx.TransactionManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Enrolls new students in five courses from a growing number of threads on a file-backed H2 database:
+ * in auto-commit mode, one statement and one commit at a time as before; in one transaction per
+ * student through {@link TransactionManager}; and with group commit on. H2 does not wait for the disk
+ * on commit, so every commit is delayed by a simulated log flush, and flushes wait for each other as
+ * on a single log device. The table shows the students enrolled and the commits per second.
+ * The transaction semantics themselves are checked by TransactionTest, TransactionManagerTest and
+ * GroupCommitterTest.
+ * Usage: TransactionBenchmark [flushMicros] [seconds]
+ */
+public class TransactionBenchmark {
+    private static final int[] CALLERS = {1, 4, 16};
+    private static final int COURSES = 5;
+    private static final Object LOG_DEVICE = new Object();
+
+    public static void main(String[] args) throws Exception {
+        long flushMicros = args.length > 0 ? Long.parseLong(args[0]) : 1_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+
+        Path dir = Files.createTempDirectory("tx");
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:file:" + dir.resolve("university"), "sa", "")
+                .maxSize(CALLERS[CALLERS.length - 1] + 2)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            long[] courseIds = createCourses(pool);
+            AtomicLong sequence = new AtomicLong();
+            AtomicLong flushes = new AtomicLong();
+            ConnectionProvider flushing = withLogFlush(pool, flushMicros, flushes);
+            System.out.printf("Simulated log flush: %d us, %d s per run; students enrolled in %d courses per "
+                    + "second, and commits per second%n", flushMicros, seconds, COURSES);
+            System.out.printf("%-8s %22s %22s %22s%n", "callers", "auto-commit", "unit of work", "group commit");
+            for (int callers : CALLERS) {
+                StringBuilder row = new StringBuilder(String.format("%-8d", callers));
+                for (int mode = 0; mode < 3; mode++) {
+                    try (TransactionManager manager = TransactionManager.builder(flushing)
+                            .groupCommit(mode == 2)
+                            .build()) {
+                        long before = flushes.get();
+                        double perSecond = enroll(manager, mode == 0, callers, seconds, courseIds, sequence);
+                        double commits = (flushes.get() - before) / (double) seconds;
+                        row.append(String.format(" %10.0f %11s", perSecond, String.format("(%.0f)", commits)));
+                    }
+                }
+                System.out.println(row);
+            }
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    private static long[] createCourses(ConnectionProvider provider) throws SQLException {
+        long teacherId = new TeacherDAO(provider).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+        CourseDAO courseDAO = new CourseDAO(provider);
+        long[] ids = new long[COURSES];
+        for (int i = 0; i < COURSES; i++) {
+            ids[i] = courseDAO.addCourse(new Course(0L, "Course " + i, teacherId));
+        }
+        return ids;
+    }
+
+    /**
+     * Adds a student and enrolls them in every course.
+     */
+    private static long enrollStudent(ConnectionProvider provider, long[] courseIds, long number)
+            throws SQLException {
+        long studentId = new StudentDAO(provider).addStudent(
+                new Student(0L, "Student " + number, "student" + number + "@example.com"));
+        EnrollmentDAO enrollmentDAO = new EnrollmentDAO(provider);
+        for (long courseId : courseIds) {
+            enrollmentDAO.addEnrollment(new Enrollment(0L, studentId, courseId, "A"));
+        }
+        return studentId;
+    }
+
+    /**
+     * Runs the callers for the given time, each enrolling new students, and returns the students per second.
+     */
+    private static double enroll(TransactionManager manager, boolean autoCommit, int callers, int seconds,
+                                 long[] courseIds, AtomicLong sequence) throws Exception {
+        AtomicLong enrolled = new AtomicLong();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < callers; c++) {
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        long number = sequence.incrementAndGet();
+                        if (autoCommit) {
+                            enrollStudent(manager, courseIds, number);
+                        } else {
+                            manager.inTransaction(() -> enrollStudent(manager, courseIds, number));
+                        }
+                        enrolled.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return enrolled.get() / (double) seconds;
+    }
+
+    /**
+     * Delays every commit by the given time, as a database waiting for its log to reach the disk would:
+     * explicit commits, and every statement executed in auto-commit mode. Flushes are serialized.
+     */
+    private static ConnectionProvider withLogFlush(ConnectionProvider provider, long micros, AtomicLong flushes) {
+        long nanos = TimeUnit.MICROSECONDS.toNanos(micros);
+        return () -> {
+            Connection conn = provider.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("commit")) {
+                            flush(nanos, flushes);
+                        }
+                        Object result = invoke(conn, method, args);
+                        if (method.getName().equals("prepareStatement")) {
+                            PreparedStatement statement = (PreparedStatement) result;
+                            return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                    new Class<?>[]{PreparedStatement.class}, (p, m, a) -> {
+                                        if (m.getName().equals("getConnection")) {
+                                            return proxy;
+                                        }
+                                        Object value = invoke(statement, m, a);
+                                        if (m.getName().startsWith("executeUpdate") && conn.getAutoCommit()) {
+                                            flush(nanos, flushes);
+                                        }
+                                        return value;
+                                    });
+                        }
+                        return result;
+                    });
+        };
+    }
+
+    private static void flush(long nanos, AtomicLong flushes) {
+        flushes.incrementAndGet();
+        synchronized (LOG_DEVICE) {
+            long end = System.nanoTime() + nanos;
+            while (System.nanoTime() < end) {
+                LockSupport.parkNanos(end - System.nanoTime());
+            }
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.dao.TranscriptDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares building transcripts the old way (getAllEnrollments plus getCourseById and
+ * getTeacherById per row) with the joined TranscriptDAO queries on H2.
+ * Usage: TranscriptBenchmark [students] [coursesPerStudent]
+ */
+public class TranscriptBenchmark {
+    public static void main(String[] args) throws SQLException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int coursesPerStudent = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int courseCount = 200;
+        int teacherCount = 40;
+
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:transcript;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(1)
+                .minIdle(1)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            StudentDAO studentDAO = new StudentDAO(pool);
+            TeacherDAO teacherDAO = new TeacherDAO(pool);
+            CourseDAO courseDAO = new CourseDAO(pool);
+            EnrollmentDAO enrollmentDAO = new EnrollmentDAO(pool);
+            TranscriptDAO transcriptDAO = new TranscriptDAO(pool);
+
+            List<Teacher> teachers = new ArrayList<>();
+            for (int i = 0; i < teacherCount; i++) {
+                teachers.add(new Teacher(0L, "Teacher " + i, "Department " + (i % 5)));
+            }
+            long[] teacherIds = teacherDAO.addTeachers(teachers).getGeneratedIds();
+            List<Course> courses = new ArrayList<>();
+            for (int i = 0; i < courseCount; i++) {
+                courses.add(new Course(0L, "Course " + i, teacherIds[i % teacherCount]));
+            }
+            long[] courseIds = courseDAO.addCourses(courses).getGeneratedIds();
+            List<Student> students = new ArrayList<>();
+            for (int i = 0; i < studentCount; i++) {
+                students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+            }
+            long[] studentIds = studentDAO.addStudents(students).getGeneratedIds();
+            List<Enrollment> enrollments = new ArrayList<>();
+            for (int i = 0; i < studentCount; i++) {
+                for (int j = 0; j < coursesPerStudent; j++) {
+                    enrollments.add(new Enrollment(0L, studentIds[i], courseIds[(i * 7 + j * 13) % courseCount], "B"));
+                }
+            }
+            enrollmentDAO.addEnrollments(enrollments);
+
+            int transcripts = 100;
+            List<Long> batch = new ArrayList<>();
+            for (int i = 0; i < transcripts; i++) {
+                batch.add(studentIds[i]);
+            }
+            System.out.println("Students: " + studentCount + ", enrollments: " + enrollments.size()
+                    + ", transcripts built: " + transcripts);
+            for (int round = 0; round < 3; round++) {
+                boolean print = round == 2;
+
+                long start = System.nanoTime();
+                int rows = 0;
+                for (int i = 0; i < transcripts; i++) {
+                    for (Enrollment enrollment : enrollmentDAO.getAllEnrollments()) {
+                        if (enrollment.getStudentId() == studentIds[i]) {
+                            Course course = courseDAO.getCourseById(enrollment.getCourseId());
+                            teacherDAO.getTeacherById(course.getTeacherId());
+                            rows++;
+                        }
+                    }
+                }
+                long nPlusOne = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int i = 0; i < transcripts; i++) {
+                    transcriptDAO.getTranscript(studentIds[i]);
+                }
+                long joined = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                transcriptDAO.getTranscripts(batch);
+                long batched = System.nanoTime() - start;
+
+                if (print) {
+                    System.out.printf("N+1 (getAll + by-id lookups): %9.2f ms per transcript (%d rows)%n",
+                            nPlusOne / 1e6 / transcripts, rows);
+                    System.out.printf("getTranscript (one join):     %9.2f ms per transcript%n", joined / 1e6 / transcripts);
+                    System.out.printf("getTranscripts (batched):     %9.2f ms per transcript%n", batched / 1e6 / transcripts);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.softserve.academy.jdbc.runner;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.writebehind.WriteBehindEnrollmentDAO;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Enters grades in bursts from a growing number of threads, 80% of them for a hot tenth of the
+ * enrollments, through EnrollmentDAO and through {@link WriteBehindEnrollmentDAO}. In-memory H2 answers
+ * without any I/O, so every statement is delayed by a simulated round trip; a batch costs one. The
+ * table shows the updates per second the callers see, the time close() takes to write the rest, and the
+ * UPDATE statements and round trips that reached the database.
+ * The write-behind semantics themselves are checked by WriteBehindEnrollmentDAOTest.
+ * Usage: WriteBehindBenchmark [roundTripMicros] [seconds]
+ */
+public class WriteBehindBenchmark {
+    private static final int ENROLLMENTS = 2_000;
+    private static final int[] CALLERS = {1, 4, 16};
+    private static final String[] GRADES = {"A", "B", "C", "D", "E", "F"};
+
+    public static void main(String[] args) throws Exception {
+        long roundTripMicros = args.length > 0 ? Long.parseLong(args[0]) : 200;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:writebehind;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(CALLERS[CALLERS.length - 1] + 2)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                DBRunner.createTables(conn);
+            }
+            List<Enrollment> enrollments = createEnrollments(pool);
+
+            AtomicLong roundTrips = new AtomicLong();
+            ConnectionProvider remote = withRoundTrip(pool, roundTripMicros, roundTrips);
+            System.out.printf("Round trip: %d us, %d s of grade entry per run%n", roundTripMicros, seconds);
+            System.out.printf("%-8s %-13s %12s %10s %10s %12s%n",
+                    "callers", "DAO", "updates/s", "close ms", "UPDATEs", "round trips");
+            for (int callers : CALLERS) {
+                long before = roundTrips.get();
+                double perSecond = enterGrades(new EnrollmentDAO(remote), callers, seconds, enrollments);
+                System.out.printf("%-8d %-13s %12.0f %10s %10d %12d%n", callers, "direct", perSecond, "-",
+                        (long) (perSecond * seconds), roundTrips.get() - before);
+
+                before = roundTrips.get();
+                WriteBehindEnrollmentDAO writeBehind = new WriteBehindEnrollmentDAO(remote);
+                perSecond = enterGrades(writeBehind, callers, seconds, enrollments);
+                long closeStart = System.nanoTime();
+                writeBehind.close();
+                long closeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - closeStart);
+                System.out.printf("%-8d %-13s %12.0f %10d %10d %12d%n", callers, "write-behind", perSecond,
+                        closeMillis, writeBehind.getWrittenUpdates(), roundTrips.get() - before);
+            }
+        }
+    }
+
+    private static List<Enrollment> createEnrollments(ConnectionProvider provider) throws SQLException {
+        long teacherId = new TeacherDAO(provider).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+        long courseId = new CourseDAO(provider).addCourse(new Course(0L, "Databases", teacherId));
+        StudentDAO studentDAO = new StudentDAO(provider);
+        EnrollmentDAO enrollmentDAO = new EnrollmentDAO(provider);
+        List<Enrollment> enrollments = new ArrayList<>(ENROLLMENTS);
+        for (int i = 0; i < ENROLLMENTS; i++) {
+            long studentId = studentDAO.addStudent(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+            long id = enrollmentDAO.addEnrollment(new Enrollment(0L, studentId, courseId, null));
+            enrollments.add(new Enrollment(id, studentId, courseId, null));
+        }
+        return enrollments;
+    }
+
+    private static Enrollment withGrade(Enrollment enrollment, String grade) {
+        return new Enrollment(enrollment.getId(), enrollment.getStudentId(), enrollment.getCourseId(), grade);
+    }
+
+    /**
+     * Runs the callers for the given time, each entering grades, and returns the updates per second.
+     */
+    private static double enterGrades(EnrollmentDAO dao, int callers, int seconds, List<Enrollment> enrollments)
+            throws Exception {
+        AtomicLong updates = new AtomicLong();
+        int hot = ENROLLMENTS / 10;
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < callers; c++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < end) {
+                        int index = random.nextInt(10) < 8 ? random.nextInt(hot) : random.nextInt(ENROLLMENTS);
+                        dao.updateEnrollment(withGrade(enrollments.get(index), GRADES[random.nextInt(GRADES.length)]));
+                        updates.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return updates.get() / (double) seconds;
+    }
+
+    /**
+     * Delays every statement execution, a batch included, by one round trip and counts them.
+     */
+    private static ConnectionProvider withRoundTrip(ConnectionProvider provider, long micros, AtomicLong roundTrips) {
+        long nanos = TimeUnit.MICROSECONDS.toNanos(micros);
+        return () -> {
+            Connection conn = provider.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(conn, method, args);
+                        if (method.getName().equals("prepareStatement")) {
+                            PreparedStatement statement = (PreparedStatement) result;
+                            return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                    new Class<?>[]{PreparedStatement.class}, (p, m, a) -> {
+                                        if (m.getName().startsWith("execute")) {
+                                            roundTrips.incrementAndGet();
+                                            sleep(nanos);
+                                        }
+                                        return m.getName().equals("getConnection") ? proxy : invoke(statement, m, a);
+                                    });
+                        }
+                        return result;
+                    });
+        };
+    }
+
+    private static void sleep(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            LockSupport.parkNanos(end - System.nanoTime());
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
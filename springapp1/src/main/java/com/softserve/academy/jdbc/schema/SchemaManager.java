@@ -0,0 +1,141 @@
+package com.softserve.academy.jdbc.schema;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SchemaManager creates the university schema from the classpath resource {@value #SCHEMA_RESOURCE}.
+ * The resource is the single definition of the tables, constraints and indexes used by the DAOs.
+ * The version declared in its "schema-version" header is recorded in the schema_version table.
+ */
+public final class SchemaManager {
+    public static final String SCHEMA_RESOURCE = "university.sql";
+    private static final String VERSION_MARKER = "-- schema-version:";
+
+    private SchemaManager() {
+    }
+
+    /**
+     * Creates the schema unless it already exists in the current version.
+     *
+     * @param conn The connection to create the schema with.
+     * @return True if the schema was created, false if it was already up to date.
+     * @throws SQLException If the schema cannot be created or an older, incompatible version exists.
+     */
+    public static boolean createSchema(Connection conn) throws SQLException {
+        Schema schema = loadSchema();
+        Integer installed = getInstalledVersion(conn);
+        if (installed != null) {
+            if (installed == schema.version) {
+                return false;
+            }
+            throw new SQLException("Database has schema version " + installed
+                    + " but " + SCHEMA_RESOURCE + " is version " + schema.version);
+        }
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : schema.statements) {
+                stmt.executeUpdate(sql);
+            }
+            stmt.executeUpdate("CREATE TABLE schema_version (version INT NOT NULL)");
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement("INSERT INTO schema_version (version) VALUES (?)")) {
+            pstmt.setInt(1, schema.version);
+            pstmt.executeUpdate();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the schema version declared in {@value #SCHEMA_RESOURCE}.
+     *
+     * @return The declared version.
+     */
+    public static int getSchemaVersion() {
+        return loadSchema().version;
+    }
+
+    /**
+     * Returns the SQL statements of {@value #SCHEMA_RESOURCE} in execution order, without comments.
+     *
+     * @return The schema statements.
+     */
+    public static List<String> getSchemaStatements() {
+        return loadSchema().statements;
+    }
+
+    private static Integer getInstalledVersion(Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        boolean exists = false;
+        for (String name : new String[]{"schema_version", "SCHEMA_VERSION"}) {
+            try (ResultSet rs = metaData.getTables(null, null, name, new String[]{"TABLE"})) {
+                exists |= rs.next();
+            }
+        }
+        if (!exists) {
+            return null;
+        }
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : null;
+        }
+    }
+
+    private static Schema loadSchema() {
+        InputStream in = SchemaManager.class.getClassLoader().getResourceAsStream(SCHEMA_RESOURCE);
+        if (in == null) {
+            throw new IllegalStateException("Schema resource " + SCHEMA_RESOURCE + " not found on the classpath");
+        }
+        int version = -1;
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.startsWith(VERSION_MARKER)) {
+                    version = Integer.parseInt(trimmed.substring(VERSION_MARKER.length()).trim());
+                    continue;
+                }
+                if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                    continue;
+                }
+                current.append(trimmed).append(' ');
+                if (trimmed.endsWith(";")) {
+                    String sql = current.toString().trim();
+                    statements.add(sql.substring(0, sql.length() - 1).trim());
+                    current.setLength(0);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + SCHEMA_RESOURCE, e);
+        }
+        if (version < 0) {
+            throw new IllegalStateException(SCHEMA_RESOURCE + " does not declare a schema-version");
+        }
+        if (current.toString().trim().length() > 0) {
+            throw new IllegalStateException(SCHEMA_RESOURCE + " ends with an unterminated statement");
+        }
+        return new Schema(version, statements);
+    }
+
+    private static final class Schema {
+        private final int version;
+        private final List<String> statements;
+
+        private Schema(int version, List<String> statements) {
+            this.version = version;
+            this.statements = List.copyOf(statements);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.softserve.academy.jdbc.sqllog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded ring of executed-statement events with many producers and one consumer.
+ * The slots are allocated once; a producer claims the next sequence number with a CAS, fills the
+ * slot and publishes it by storing the sequence in the slot's marker. When the consumer is a full
+ * ring behind, {@link #publish} drops the event and returns false instead of waiting, so statement
+ * execution never blocks on logging.
+ */
+final class SqlEventRing {
+    private final int mask;
+    private final Slot[] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong consumed = new AtomicLong(-1);
+
+    SqlEventRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.mask = capacity - 1;
+        this.slots = new Slot[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+    }
+
+    boolean publish(String sql, String thread, long epochMillis, long nanos, int params, int batchSize,
+                    long rows, boolean failed) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence + 1 - consumed.get() > slots.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        sequence++;
+        Slot slot = slots[(int) sequence & mask];
+        slot.sql = sql;
+        slot.thread = thread;
+        slot.epochMillis = epochMillis;
+        slot.nanos = nanos;
+        slot.params = params;
+        slot.batchSize = batchSize;
+        slot.rows = rows;
+        slot.failed = failed;
+        published.set((int) sequence & mask, sequence);
+        return true;
+    }
+
+    /**
+     * Hands the published events that follow the last consumed one to the handler, in order,
+     * and frees their slots. Only the consumer thread may call this.
+     *
+     * @return The number of events handled.
+     */
+    int drain(Handler handler, int max) {
+        long next = consumed.get() + 1;
+        int handled = 0;
+        while (handled < max && published.get((int) next & mask) == next) {
+            Slot slot = slots[(int) next & mask];
+            handler.handle(slot);
+            slot.sql = null;
+            slot.thread = null;
+            consumed.lazySet(next);
+            next++;
+            handled++;
+        }
+        return handled;
+    }
+
+    /**
+     * Tells whether the event after the last consumed one has been published. Only the consumer
+     * thread may call this.
+     */
+    boolean hasPublished() {
+        long next = consumed.get() + 1;
+        return published.get((int) next & mask) == next;
+    }
+
+    boolean isEmpty() {
+        return consumed.get() == claimed.get();
+    }
+
+    @FunctionalInterface
+    interface Handler {
+        void handle(Slot event);
+    }
+
+    static final class Slot {
+        String sql;
+        String thread;
+        long epochMillis;
+        long nanos;
+        int params;
+        int batchSize;
+        long rows;
+        boolean failed;
+    }
+}
@@ -0,0 +1,488 @@
+package com.softserve.academy.jdbc.sqllog;
+
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous, sampled log of the SQL statements executed through instrumented connections.
+ * <p>
+ * Statements run through {@link #instrument(ConnectionProvider)} or {@link #instrument(DataSource)} are
+ * timed and put into a preallocated ring buffer; the executing thread never formats or writes anything.
+ * A background thread takes the events off the ring, aggregates every one of them per SQL text, and
+ * writes one JSON line for every {@code sampleInterval}-th statement and for every statement that took
+ * at least the slow threshold. Every report interval it also writes the top statements by total time.
+ * If the ring is full, events are dropped and counted rather than slowing the caller down.
+ * Once the ring runs empty the background thread waits one linger period for more events, so a busy
+ * caller is drained in batches instead of waking it for every statement; after that it sleeps until a
+ * statement is recorded or the next report is due.
+ * <p>
+ * Example line:
+ * <pre>
+ * {"event":"sql","ts":1760000000000,"thread":"main","durationUs":812.4,"params":2,"batch":0,"rows":1,
+ *  "slow":false,"failed":false,"sql":"INSERT INTO student (name, email) VALUES (?, ?)"}
+ * </pre>
+ */
+public class SqlLog implements AutoCloseable {
+    private static final int DRAIN_LIMIT = 1_024;
+    private static final long LINGER_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int sampleInterval;
+    private final long slowThresholdNanos;
+    private final int top;
+    private final long reportIntervalNanos;
+    private final int maxStatements;
+    private final Consumer<String> sink;
+    private final SqlEventRing ring;
+    private final Thread consumer;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final Map<String, Aggregate> aggregates = new HashMap<>();
+    private final Object drainedLock = new Object();
+    private long received;
+    private long nextReportNanos;
+    private volatile boolean closed;
+    private volatile boolean consumerParked;
+
+    private SqlLog(Builder builder) {
+        this.sampleInterval = builder.sampleInterval;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(builder.slowThresholdMillis);
+        this.top = builder.top;
+        this.reportIntervalNanos = TimeUnit.SECONDS.toNanos(builder.reportIntervalSeconds);
+        this.maxStatements = builder.maxStatements;
+        this.sink = builder.sink;
+        this.ring = new SqlEventRing(builder.capacity);
+        this.nextReportNanos = System.nanoTime() + reportIntervalNanos;
+        this.consumer = new Thread(this::consume, "sql-log");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Wraps a provider so that the statements executed on its connections are logged.
+     *
+     * @param provider The provider to instrument.
+     * @return A provider to give to the DAOs instead.
+     */
+    public ConnectionProvider instrument(ConnectionProvider provider) {
+        if (provider == null) {
+            throw new IllegalArgumentException("Connection provider cannot be null");
+        }
+        return () -> SqlLoggingConnection.wrap(provider.getConnection(), this);
+    }
+
+    /**
+     * Wraps a data source, e.g. the one Hibernate uses, so that the statements executed on its
+     * connections are logged. Unwrapping the result reaches the original data source.
+     *
+     * @param dataSource The data source to instrument.
+     * @return A data source to use instead.
+     */
+    public DataSource instrument(DataSource dataSource) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Data source cannot be null");
+        }
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return SqlLoggingConnection.wrap(super.getConnection(), SqlLog.this);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return SqlLoggingConnection.wrap(super.getConnection(username, password), SqlLog.this);
+            }
+        };
+    }
+
+    /**
+     * Returns the statements with the highest total execution time so far.
+     *
+     * @param limit The maximum number of statements.
+     * @return The statements, the most expensive first.
+     */
+    public List<SqlStatementStats> getTopStatements(int limit) {
+        List<SqlStatementStats> all = new ArrayList<>();
+        synchronized (aggregates) {
+            for (Map.Entry<String, Aggregate> entry : aggregates.entrySet()) {
+                all.add(entry.getValue().toStats(entry.getKey()));
+            }
+        }
+        all.sort(Comparator.comparingLong(SqlStatementStats::getTotalNanos).reversed());
+        return all.size() > limit ? new ArrayList<>(all.subList(0, limit)) : all;
+    }
+
+    /**
+     * Returns the configured number of top statements.
+     *
+     * @return The statements, the most expensive first.
+     */
+    public List<SqlStatementStats> getTopStatements() {
+        return getTopStatements(top);
+    }
+
+    /**
+     * Returns the number of events dropped because the ring buffer was full.
+     *
+     * @return The dropped event count.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of statement lines written to the sink, sampled or slow.
+     *
+     * @return The written line count.
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * Waits until the background thread has processed every event published so far.
+     *
+     * @param timeoutMillis The maximum time to wait.
+     * @return True if the ring was drained in time.
+     */
+    public boolean awaitDrained(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (drainedLock) {
+            while (!ring.isEmpty()) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                try {
+                    drainedLock.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return ring.isEmpty();
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Processes the remaining events, writes the top statements once more and stops the background thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void record(String sql, long nanos, int params, int batchSize, long rows, boolean failed) {
+        if (sql == null || closed) {
+            return;
+        }
+        if (!ring.publish(sql, Thread.currentThread().getName(), System.currentTimeMillis(), nanos, params,
+                batchSize, rows, failed)) {
+            dropped.increment();
+        } else if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void consume() {
+        StringBuilder line = new StringBuilder(256);
+        SqlEventRing.Handler handler = event -> handle(event, line);
+        boolean lingered = true;
+        while (true) {
+            boolean stopping = closed;
+            int handled;
+            synchronized (aggregates) {
+                handled = ring.drain(handler, DRAIN_LIMIT);
+            }
+            if (reportIntervalNanos > 0 && System.nanoTime() >= nextReportNanos) {
+                writeTop();
+                nextReportNanos = System.nanoTime() + reportIntervalNanos;
+            }
+            if (handled > 0) {
+                lingered = false;
+                if (ring.isEmpty()) {
+                    synchronized (drainedLock) {
+                        drainedLock.notifyAll();
+                    }
+                }
+            } else if (stopping) {
+                break;
+            } else if (!lingered) {
+                lingered = true;
+                LockSupport.parkNanos(this, LINGER_NANOS);
+            } else {
+                park();
+            }
+        }
+        if (reportIntervalNanos > 0) {
+            writeTop();
+        }
+    }
+
+    /**
+     * Sleeps until {@link #record} publishes an event, the log is closed or the next report is due.
+     * The flag is raised before the ring is checked again, so an event published in between either
+     * is seen here or finds the flag raised and unparks this thread.
+     */
+    private void park() {
+        consumerParked = true;
+        if (!closed && !ring.hasPublished()) {
+            if (reportIntervalNanos > 0) {
+                LockSupport.parkNanos(this, nextReportNanos - System.nanoTime());
+            } else {
+                LockSupport.park(this);
+            }
+        }
+        consumerParked = false;
+    }
+
+    private void handle(SqlEventRing.Slot event, StringBuilder line) {
+        Aggregate aggregate = aggregates.get(event.sql);
+        if (aggregate == null && aggregates.size() < maxStatements) {
+            aggregate = new Aggregate();
+            aggregates.put(event.sql, aggregate);
+        }
+        if (aggregate != null) {
+            aggregate.add(event);
+        }
+        received++;
+        boolean slow = event.nanos >= slowThresholdNanos;
+        boolean sampled = sampleInterval > 0 && received % sampleInterval == 0;
+        if (!slow && !sampled) {
+            return;
+        }
+        line.setLength(0);
+        line.append("{\"event\":\"sql\",\"ts\":").append(event.epochMillis);
+        line.append(",\"thread\":");
+        appendJsonString(line, event.thread);
+        line.append(",\"durationUs\":").append(Math.round(event.nanos / 100.0) / 10.0);
+        line.append(",\"params\":").append(event.params);
+        line.append(",\"batch\":").append(event.batchSize);
+        if (event.rows >= 0) {
+            line.append(",\"rows\":").append(event.rows);
+        }
+        line.append(",\"slow\":").append(slow);
+        line.append(",\"failed\":").append(event.failed);
+        line.append(",\"sql\":");
+        appendJsonString(line, event.sql);
+        line.append('}');
+        write(line.toString());
+        written.increment();
+    }
+
+    private void writeTop() {
+        List<SqlStatementStats> statements = getTopStatements(top);
+        StringBuilder line = new StringBuilder(256);
+        for (int i = 0; i < statements.size(); i++) {
+            SqlStatementStats stats = statements.get(i);
+            line.setLength(0);
+            line.append("{\"event\":\"sql_top\",\"rank\":").append(i + 1);
+            line.append(",\"executions\":").append(stats.getExecutions());
+            line.append(",\"errors\":").append(stats.getErrors());
+            line.append(",\"totalMs\":").append(Math.round(stats.getTotalNanos() / 1e5) / 10.0);
+            line.append(",\"meanUs\":").append(Math.round(stats.getMeanNanos() / 100.0) / 10.0);
+            line.append(",\"maxUs\":").append(Math.round(stats.getMaxNanos() / 100.0) / 10.0);
+            line.append(",\"rows\":").append(stats.getRows());
+            line.append(",\"params\":").append(stats.getParams());
+            line.append(",\"sql\":");
+            appendJsonString(line, stats.getSql());
+            line.append('}');
+            write(line.toString());
+        }
+    }
+
+    private void write(String line) {
+        try {
+            sink.accept(line);
+        } catch (RuntimeException e) {
+            System.err.println("SQL log sink failed: " + e.getMessage());
+        }
+    }
+
+    private static void appendJsonString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Running totals of one SQL text, only touched by the background thread or under the aggregates lock.
+     */
+    private static final class Aggregate {
+        private long executions;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+        private int params;
+
+        void add(SqlEventRing.Slot event) {
+            executions++;
+            if (event.failed) {
+                errors++;
+            }
+            totalNanos += event.nanos;
+            maxNanos = Math.max(maxNanos, event.nanos);
+            if (event.rows > 0) {
+                rows += event.rows;
+            }
+            params = event.params;
+        }
+
+        SqlStatementStats toStats(String sql) {
+            return new SqlStatementStats(sql, executions, errors, totalNanos, maxNanos, rows, params);
+        }
+    }
+
+    /**
+     * Builder for {@link SqlLog}.
+     */
+    public static class Builder {
+        private int sampleInterval = 100;
+        private long slowThresholdMillis = 100;
+        private int top = 10;
+        private long reportIntervalSeconds = 60;
+        private int capacity = 8_192;
+        private int maxStatements = 10_000;
+        private Consumer<String> sink = System.out::println;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how many statements there are per logged one; 0 logs only slow statements.
+         */
+        public Builder sampleInterval(int sampleInterval) {
+            if (sampleInterval < 0) {
+                throw new IllegalArgumentException("Sample interval cannot be negative");
+            }
+            this.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        /**
+         * Sets the execution time from which every statement is logged, sampled or not.
+         */
+        public Builder slowThresholdMillis(long slowThresholdMillis) {
+            if (slowThresholdMillis < 0) {
+                throw new IllegalArgumentException("Slow threshold cannot be negative");
+            }
+            this.slowThresholdMillis = slowThresholdMillis;
+            return this;
+        }
+
+        /**
+         * Sets how many statements the periodic top report lists.
+         */
+        public Builder top(int top) {
+            if (top <= 0) {
+                throw new IllegalArgumentException("Top must be positive");
+            }
+            this.top = top;
+            return this;
+        }
+
+        /**
+         * Sets the time between top reports; 0 turns them off.
+         */
+        public Builder reportIntervalSeconds(long reportIntervalSeconds) {
+            if (reportIntervalSeconds < 0) {
+                throw new IllegalArgumentException("Report interval cannot be negative");
+            }
+            this.reportIntervalSeconds = reportIntervalSeconds;
+            return this;
+        }
+
+        /**
+         * Sets the number of events the ring buffer holds; rounded up to a power of two.
+         */
+        public Builder capacity(int capacity) {
+            if (capacity <= 0 || capacity > 1 << 30) {
+                throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+            }
+            this.capacity = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of distinct SQL texts aggregated; further ones are only logged.
+         */
+        public Builder maxStatements(int maxStatements) {
+            if (maxStatements <= 0) {
+                throw new IllegalArgumentException("Max statements must be positive");
+            }
+            this.maxStatements = maxStatements;
+            return this;
+        }
+
+        /**
+         * Sets where the JSON lines go; called from the background thread only.
+         */
+        public Builder sink(Consumer<String> sink) {
+            if (sink == null) {
+                throw new IllegalArgumentException("Sink cannot be null");
+            }
+            this.sink = sink;
+            return this;
+        }
+
+        /**
+         * Creates the log and starts its background thread.
+         *
+         * @return The started log; close it to flush and stop.
+         */
+        public SqlLog build() {
+            return new SqlLog(this);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.softserve.academy.jdbc.sqllog;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Logs the SQL of every Spring Boot application in this project through a {@link SqlLog} when
+ * {@code sqllog.enabled=true}, by wrapping its DataSource beans, so Hibernate's statements are covered
+ * without show-sql. Settings, with their defaults:
+ * <pre>
+ * sqllog.sample-interval=100          one in N statements is written; 0 writes only slow ones
+ * sqllog.slow-threshold-ms=100        statements at least this slow are always written
+ * sqllog.top=10                       statements in the periodic top report
+ * sqllog.report-interval-seconds=60   time between top reports; 0 turns them off
+ * sqllog.capacity=8192                events buffered before new ones are dropped
+ * </pre>
+ */
+@AutoConfiguration
+@ConditionalOnProperty(name = "sqllog.enabled", havingValue = "true")
+public class SqlLogAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public SqlLog sqlLog(Environment environment) {
+        return SqlLog.builder()
+                .sampleInterval(environment.getProperty("sqllog.sample-interval", Integer.class, 100))
+                .slowThresholdMillis(environment.getProperty("sqllog.slow-threshold-ms", Long.class, 100L))
+                .top(environment.getProperty("sqllog.top", Integer.class, 10))
+                .reportIntervalSeconds(environment.getProperty("sqllog.report-interval-seconds", Long.class, 60L))
+                .capacity(environment.getProperty("sqllog.capacity", Integer.class, 8_192))
+                .build();
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlLogDataSourceWrapper(ObjectProvider<SqlLog> sqlLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ? sqlLog.getObject().instrument((DataSource) bean) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package com.softserve.academy.jdbc.sqllog;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Proxy handlers that report every statement executed on a connection to a {@link SqlLog}.
+ * A prepared statement is reported under the SQL it was prepared with, a plain statement under
+ * the SQL passed to execute or, for a batch, to the last addBatch call. The bind parameter count
+ * is the highest parameter index set since the previous execution.
+ */
+final class SqlLoggingConnection implements InvocationHandler {
+    private final Connection delegate;
+    private final SqlLog log;
+
+    private SqlLoggingConnection(Connection delegate, SqlLog log) {
+        this.delegate = delegate;
+        this.log = log;
+    }
+
+    static Connection wrap(Connection delegate, SqlLog log) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new SqlLoggingConnection(delegate, log));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                break;
+        }
+        Object result = invokeDelegate(delegate, method, args);
+        switch (method.getName()) {
+            case "prepareStatement":
+                return StatementHandler.wrap((PreparedStatement) result, PreparedStatement.class, (String) args[0],
+                        (Connection) proxy, log);
+            case "createStatement":
+                return StatementHandler.wrap((Statement) result, Statement.class, null, (Connection) proxy, log);
+            default:
+                return result;
+        }
+    }
+
+    private static Object invokeDelegate(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement delegate;
+        private final String preparedSql;
+        private final Connection owner;
+        private final SqlLog log;
+        private String batchSql;
+        private int params;
+        private int batchSize;
+
+        private StatementHandler(Statement delegate, String preparedSql, Connection owner, SqlLog log) {
+            this.delegate = delegate;
+            this.preparedSql = preparedSql;
+            this.owner = owner;
+            this.log = log;
+        }
+
+        static <T extends Statement> T wrap(T delegate, Class<T> type, String preparedSql, Connection owner,
+                                            SqlLog log) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(delegate, preparedSql, owner, log)));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "getConnection":
+                    return owner;
+                case "addBatch":
+                    batchSize++;
+                    if (args != null && args.length == 1) {
+                        batchSql = (String) args[0];
+                    }
+                    return invokeDelegate(delegate, method, args);
+                case "clearBatch":
+                    batchSize = 0;
+                    return invokeDelegate(delegate, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            if (method.getDeclaringClass() == PreparedStatement.class && name.startsWith("set")
+                    && args != null && args[0] instanceof Integer) {
+                params = Math.max(params, (Integer) args[0]);
+                return invokeDelegate(delegate, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return invokeDelegate(delegate, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0]
+                    : preparedSql != null ? preparedSql : batchSql;
+            boolean batch = name.endsWith("Batch");
+            int statementParams = params;
+            int statementBatch = batch ? batchSize : 0;
+            params = 0;
+            if (batch) {
+                batchSize = 0;
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeDelegate(delegate, method, args);
+            } catch (Throwable e) {
+                log.record(sql, System.nanoTime() - start, statementParams, statementBatch, -1, true);
+                throw e;
+            }
+            long nanos = System.nanoTime() - start;
+            log.record(sql, nanos, statementParams, statementBatch, updateCount(result), false);
+            return result;
+        }
+
+        private static long updateCount(Object result) {
+            if (result instanceof Integer || result instanceof Long) {
+                return ((Number) result).longValue();
+            }
+            long rows = 0;
+            if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    rows += Math.max(0, count);
+                }
+                return rows;
+            }
+            if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    rows += Math.max(0, count);
+                }
+                return rows;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.softserve.academy.jdbc.sqllog;
+
+/**
+ * Aggregated executions of one SQL text, as reported by {@link SqlLog#getTopStatements()}.
+ * Counts every execution that reached the log, sampled or not.
+ */
+public final class SqlStatementStats {
+    private final String sql;
+    private final long executions;
+    private final long errors;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long rows;
+    private final int params;
+
+    SqlStatementStats(String sql, long executions, long errors, long totalNanos, long maxNanos, long rows,
+                      int params) {
+        this.sql = sql;
+        this.executions = executions;
+        this.errors = errors;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.rows = rows;
+        this.params = params;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return executions == 0 ? 0 : (double) totalNanos / executions;
+    }
+
+    /**
+     * Returns the number of rows changed by the updates and batches of this statement.
+     *
+     * @return The total update count.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of bind parameters of the statement, as seen on its last execution.
+     *
+     * @return The highest parameter index that was set.
+     */
+    public int getParams() {
+        return params;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SqlStatementStats{executions=%d, errors=%d, total=%.1fms, mean=%.1fus, max=%.1fus, "
+                        + "rows=%d, params=%d, sql=%s}", executions, errors, totalNanos / 1e6,
+                getMeanNanos() / 1e3, maxNanos / 1e3, rows, params, sql);
+    }
+}
@@ -0,0 +1,220 @@
+package com.softserve.academy.jdbc.tx;
+
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The committer thread of a {@link TransactionManager} with group commit on. It takes the first queued
+ * unit of work, waits up to the window for more, runs each of them behind a savepoint on one
+ * connection and commits the ones that succeeded with a single commit. The after-commit callbacks
+ * of the units that succeeded run after that commit; those of a failed unit are dropped with its writes.
+ */
+final class GroupCommitter implements AutoCloseable {
+    private final TransactionManager manager;
+    private final ConnectionProvider connectionProvider;
+    private final long windowNanos;
+    private final int maxGroupSize;
+    private final BlockingQueue<Unit<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread committer;
+    private volatile boolean closed;
+
+    GroupCommitter(TransactionManager manager, ConnectionProvider connectionProvider, long windowNanos,
+                   int maxGroupSize) {
+        this.manager = manager;
+        this.connectionProvider = connectionProvider;
+        this.windowNanos = windowNanos;
+        this.maxGroupSize = maxGroupSize;
+        this.committer = new Thread(this::run, "group-committer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * Queues the unit of work and waits until it is committed or has failed.
+     */
+    <T> T submit(TransactionCallback<T> work) throws SQLException {
+        Unit<T> unit = new Unit<>(work);
+        synchronized (this) {
+            if (closed) {
+                throw new SQLException("Transaction manager is closed");
+            }
+            queue.add(unit);
+        }
+        return unit.await();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        if (Thread.currentThread() == committer) {
+            return;
+        }
+        boolean interrupted = false;
+        while (committer.isAlive()) {
+            try {
+                committer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Unit<?>> group = new ArrayList<>(maxGroupSize);
+        while (true) {
+            try {
+                Unit<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (closed && queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                group.add(first);
+                collect(group);
+            } catch (InterruptedException e) {
+                // Nothing interrupts the committer on purpose; commit what was collected
+            }
+            if (!group.isEmpty()) {
+                commit(group);
+                group.clear();
+            }
+        }
+    }
+
+    private void collect(List<Unit<?>> group) throws InterruptedException {
+        queue.drainTo(group, maxGroupSize - group.size());
+        long deadline = System.nanoTime() + windowNanos;
+        while (group.size() < maxGroupSize) {
+            long remaining = deadline - System.nanoTime();
+            Unit<?> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            group.add(next);
+            queue.drainTo(group, maxGroupSize - group.size());
+        }
+    }
+
+    private void commit(List<Unit<?>> group) {
+        TransactionState state;
+        try {
+            state = manager.bind(connectionProvider.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            group.forEach(unit -> unit.fail(e));
+            return;
+        }
+        Connection conn = state.connection;
+        List<Unit<?>> done = new ArrayList<>(group.size());
+        try {
+            for (Unit<?> unit : group) {
+                if (runBehindSavepoint(conn, state, unit)) {
+                    done.add(unit);
+                }
+            }
+            if (!done.isEmpty()) {
+                conn.commit();
+                manager.recordCommit(done.size());
+                TransactionManager.runAfterCommit(state.afterCommit);
+            }
+            done.forEach(Unit::complete);
+        } catch (SQLException | RuntimeException e) {
+            // The commit failed, or a savepoint could not be rolled back: nothing of the group is kept
+            TransactionManager.rollback(conn, e);
+            manager.recordRollback(done.size());
+            group.forEach(unit -> unit.fail(e));
+        } finally {
+            manager.unbind();
+            try {
+                TransactionManager.release(conn);
+            } catch (SQLException e) {
+                System.err.println("Failed to release the group commit connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs the unit of work and keeps its writes, or rolls back to the savepoint before it and fails it.
+     *
+     * @return True if the unit of work succeeded.
+     * @throws SQLException If the savepoint cannot be set or rolled back to.
+     */
+    private boolean runBehindSavepoint(Connection conn, TransactionState state, Unit<?> unit) throws SQLException {
+        Savepoint savepoint = conn.setSavepoint();
+        int callbacks = state.afterCommit.size();
+        try {
+            unit.run();
+            if (state.rollbackOnly) {
+                throw new SQLException("Unit of work was rolled back because a joined transaction rolled back");
+            }
+            if (state.depth != 1) {
+                throw new IllegalStateException("Unit of work left a joined transaction active");
+            }
+            conn.releaseSavepoint(savepoint);
+            return true;
+        } catch (Throwable e) {
+            state.rollbackOnly = false;
+            state.depth = 1;
+            state.afterCommit.subList(callbacks, state.afterCommit.size()).clear();
+            conn.rollback(savepoint);
+            manager.recordRollback(1);
+            unit.fail(e);
+            return false;
+        }
+    }
+
+    private static final class Unit<T> {
+        private final TransactionCallback<T> work;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private T value;
+
+        private Unit(TransactionCallback<T> work) {
+            this.work = work;
+        }
+
+        void run() throws SQLException {
+            value = work.execute();
+        }
+
+        void complete() {
+            result.complete(value);
+        }
+
+        void fail(Throwable error) {
+            result.completeExceptionally(error);
+        }
+
+        T await() throws SQLException {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    throw (SQLException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new SQLException(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.softserve.academy.jdbc.tx;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Proxy handler for the connections handed out inside a transaction. They all share the
+ * transaction's connection: closing one leaves that connection open, and commit, rollback and
+ * turning auto-commit on are refused, since only the outermost transaction may end it.
+ * Rolling back to a savepoint is allowed.
+ */
+final class JoinedConnection implements InvocationHandler {
+    private final Connection delegate;
+    private boolean closed;
+
+    private JoinedConnection(Connection delegate) {
+        this.delegate = delegate;
+    }
+
+    static Connection wrap(Connection delegate) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new JoinedConnection(delegate));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                closed = true;
+                return null;
+            case "isClosed":
+                return closed || delegate.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "JoinedConnection{" + delegate + (closed ? ", closed" : "") + "}";
+            default:
+                break;
+        }
+        if (closed) {
+            throw new SQLException("Connection is closed");
+        }
+        switch (method.getName()) {
+            case "commit":
+                throw new SQLException("The transaction is committed by its TransactionManager");
+            case "rollback":
+                if (args == null) {
+                    throw new SQLException("The transaction is rolled back by its TransactionManager");
+                }
+                break;
+            case "setAutoCommit":
+                if ((Boolean) args[0]) {
+                    throw new SQLException("Auto-commit cannot be turned on inside a transaction");
+                }
+                return null;
+            default:
+                break;
+        }
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
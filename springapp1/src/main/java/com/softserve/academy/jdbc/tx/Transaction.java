@@ -0,0 +1,95 @@
+package com.softserve.academy.jdbc.tx;
+
+import java.sql.SQLException;
+
+/**
+ * A transaction begun by {@link TransactionManager#begin()}, to be used in a try-with-resources block
+ * on the thread that began it. Closing it without a commit rolls it back.
+ * <p>
+ * A transaction begun while another one is active on the thread joins it. Committing the joined
+ * transaction only ends it; its writes are committed by the outermost one. Rolling it back, or
+ * closing it without a commit, makes the outermost transaction roll back instead of committing.
+ */
+public final class Transaction implements AutoCloseable {
+    private final TransactionManager manager;
+    private final TransactionState state;
+    private final boolean outermost;
+    private boolean completed;
+
+    Transaction(TransactionManager manager, TransactionState state, boolean outermost) {
+        this.manager = manager;
+        this.state = state;
+        this.outermost = outermost;
+    }
+
+    /**
+     * Commits the transaction, or for a joined transaction leaves the commit to the outermost one.
+     *
+     * @throws SQLException If a database access error occurs, or a joined transaction rolled back; the
+     *                      transaction is rolled back in both cases.
+     */
+    public void commit() throws SQLException {
+        complete(true);
+    }
+
+    /**
+     * Rolls the transaction back, or for a joined transaction marks the outermost one for rollback.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void rollback() throws SQLException {
+        complete(false);
+    }
+
+    /**
+     * Rolls the transaction back unless it was committed or rolled back already. Closing the outermost
+     * transaction also ends the joined ones that are still active.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!completed) {
+            if (outermost) {
+                state.depth = 1;
+            }
+            complete(false);
+        }
+    }
+
+    /**
+     * @return False if this transaction joined one that was active when it began.
+     */
+    public boolean isOutermost() {
+        return outermost;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private void complete(boolean commit) throws SQLException {
+        checkActive();
+        completed = true;
+        if (outermost) {
+            manager.finish(state, commit);
+            return;
+        }
+        if (!commit) {
+            state.rollbackOnly = true;
+        }
+        state.depth--;
+    }
+
+    private void checkActive() {
+        if (completed) {
+            throw new IllegalStateException("Transaction is already completed");
+        }
+        if (!manager.isCurrent(state)) {
+            throw new IllegalStateException("Transaction belongs to another thread");
+        }
+        if (outermost && state.depth > 1) {
+            throw new IllegalStateException("A joined transaction is still active");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.softserve.academy.jdbc.tx;
+
+import java.sql.SQLException;
+
+/**
+ * A unit of work run in a transaction by {@link TransactionManager#inTransaction}.
+ * DAOs created on the transaction manager take part in the transaction.
+ *
+ * @param <T> The result type.
+ */
+@FunctionalInterface
+public interface TransactionCallback<T> {
+
+    /**
+     * Runs the unit of work. Throwing rolls it back.
+     *
+     * @return The result of the unit of work.
+     * @throws SQLException If a database access error occurs.
+     */
+    T execute() throws SQLException;
+}
@@ -0,0 +1,314 @@
+package com.softserve.academy.jdbc.tx;
+
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Unit-of-work transactions for the DAOs. A TransactionManager wraps the connection provider of the
+ * DAOs and is itself their provider: outside a transaction it hands out the provider's connections,
+ * which run in auto-commit mode as before, and inside one every DAO call on the thread uses the
+ * transaction's connection, so that all of them are committed together.
+ * <pre>{@code
+ * TransactionManager tx = new TransactionManager(pool);
+ * EnrollmentDAO enrollmentDAO = new EnrollmentDAO(tx);
+ * tx.inTransaction(() -> enrollmentDAO.addEnrollments(enrollments));
+ * }</pre>
+ * Transactions begun inside another one join it, see {@link Transaction}.
+ * <p>
+ * With group commit on, {@link #inTransaction} hands the unit of work to one committer thread
+ * instead of running it on the calling thread. The committer runs the units that arrive within the
+ * group commit window, each behind its own savepoint, on one connection and commits them with a
+ * single commit; every caller returns once the commit of its unit is done. A failing unit is rolled
+ * back to its savepoint and its caller gets the exception, while the rest of the group commits.
+ * Units of a group run one after another and see each other's writes before they are committed, so
+ * a unit must not wait for another thread. Transactions begun with {@link #begin()} are not grouped.
+ */
+public class TransactionManager implements ConnectionProvider, AutoCloseable {
+    private final ConnectionProvider connectionProvider;
+    private final ThreadLocal<TransactionState> current = new ThreadLocal<>();
+    private final GroupCommitter groupCommitter;
+
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder committedTransactions = new LongAdder();
+    private final LongAdder rolledBackTransactions = new LongAdder();
+
+    public TransactionManager(ConnectionProvider connectionProvider) {
+        this(builder(connectionProvider));
+    }
+
+    private TransactionManager(Builder builder) {
+        this.connectionProvider = builder.connectionProvider;
+        this.groupCommitter = builder.groupCommit
+                ? new GroupCommitter(this, connectionProvider,
+                TimeUnit.MICROSECONDS.toNanos(builder.groupCommitWindowMicros), builder.maxGroupSize)
+                : null;
+    }
+
+    /**
+     * @param connectionProvider The provider of the connections transactions run on.
+     * @return A builder for a transaction manager.
+     */
+    public static Builder builder(ConnectionProvider connectionProvider) {
+        return new Builder(connectionProvider);
+    }
+
+    /**
+     * Returns a connection of the transaction active on this thread, which stays open when closed,
+     * or outside a transaction a connection of the underlying provider.
+     *
+     * @return A connection ready for use.
+     * @throws SQLException If no connection can be obtained.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        TransactionState state = current.get();
+        return state != null ? JoinedConnection.wrap(state.connection) : connectionProvider.getConnection();
+    }
+
+    /**
+     * Begins a transaction on this thread, or joins the one that is active.
+     *
+     * @return The transaction; commit it, and close it in a finally or try-with-resources block.
+     * @throws SQLException If no connection can be obtained or auto-commit cannot be turned off.
+     */
+    public Transaction begin() throws SQLException {
+        TransactionState state = current.get();
+        if (state != null) {
+            state.depth++;
+            return new Transaction(this, state, false);
+        }
+        return new Transaction(this, bind(connectionProvider.getConnection()), true);
+    }
+
+    /**
+     * Runs the unit of work in a transaction and commits it, or rolls it back if it throws. Inside an
+     * active transaction it joins that one. With group commit on, the unit of work runs on the
+     * committer thread and may be committed together with the units of other callers.
+     *
+     * @param work The unit of work.
+     * @param <T>  The result type.
+     * @return The result of the unit of work.
+     * @throws SQLException If the unit of work or the commit fails.
+     */
+    public <T> T inTransaction(TransactionCallback<T> work) throws SQLException {
+        if (work == null) {
+            throw new IllegalArgumentException("Unit of work cannot be null");
+        }
+        if (groupCommitter != null && current.get() == null) {
+            return groupCommitter.submit(work);
+        }
+        try (Transaction transaction = begin()) {
+            T result = work.execute();
+            transaction.commit();
+            return result;
+        }
+    }
+
+    /**
+     * Registers a callback to run once the transaction active on this thread has committed, e.g. to
+     * invalidate a cache entry of a row it changed. The callback is dropped if the transaction rolls
+     * back; with group commit, also if only the unit of work that registered it fails. Callbacks run on
+     * the committing thread, in the order they were registered, and a failing one does not stop the rest.
+     *
+     * @param callback The callback.
+     * @throws IllegalStateException If no transaction is active on this thread.
+     */
+    public void afterCommit(Runnable callback) {
+        if (callback == null) {
+            throw new IllegalArgumentException("Callback cannot be null");
+        }
+        TransactionState state = current.get();
+        if (state == null) {
+            throw new IllegalStateException("No transaction is active on this thread");
+        }
+        state.afterCommit.add(callback);
+    }
+
+    /**
+     * @return True if a transaction is active on this thread.
+     */
+    public boolean isInTransaction() {
+        return current.get() != null;
+    }
+
+    public boolean isGroupCommit() {
+        return groupCommitter != null;
+    }
+
+    /**
+     * Returns the number of commits sent to the database. Without group commit it equals the number of
+     * committed transactions; with group commit one commit can cover many.
+     *
+     * @return The number of commits.
+     */
+    public long getCommits() {
+        return commits.sum();
+    }
+
+    /**
+     * @return The number of outermost transactions and grouped units of work that were committed.
+     */
+    public long getCommittedTransactions() {
+        return committedTransactions.sum();
+    }
+
+    /**
+     * @return The number of outermost transactions and grouped units of work that were rolled back.
+     */
+    public long getRolledBackTransactions() {
+        return rolledBackTransactions.sum();
+    }
+
+    /**
+     * Stops the group committer after the units of work already handed to it are committed.
+     * Without group commit this does nothing.
+     */
+    @Override
+    public void close() {
+        if (groupCommitter != null) {
+            groupCommitter.close();
+        }
+    }
+
+    TransactionState bind(Connection conn) throws SQLException {
+        try {
+            conn.setAutoCommit(false);
+        } catch (SQLException | RuntimeException e) {
+            conn.close();
+            throw e;
+        }
+        TransactionState state = new TransactionState(conn);
+        current.set(state);
+        return state;
+    }
+
+    void unbind() {
+        current.remove();
+    }
+
+    boolean isCurrent(TransactionState state) {
+        return current.get() == state;
+    }
+
+    /**
+     * Commits or rolls back the transaction of the state, unbinds it from this thread and releases its
+     * connection. A commit of a transaction marked rollback-only rolls back and throws. The after-commit
+     * callbacks run once the commit succeeded.
+     */
+    void finish(TransactionState state, boolean commit) throws SQLException {
+        current.remove();
+        Connection conn = state.connection;
+        try {
+            if (commit && !state.rollbackOnly) {
+                try {
+                    conn.commit();
+                } catch (SQLException | RuntimeException e) {
+                    rollback(conn, e);
+                    throw e;
+                }
+                recordCommit(1);
+                runAfterCommit(state.afterCommit);
+                return;
+            }
+            conn.rollback();
+            rolledBackTransactions.increment();
+            if (commit) {
+                throw new SQLException("Transaction was rolled back because a joined transaction rolled back");
+            }
+        } finally {
+            release(conn);
+        }
+    }
+
+    void recordCommit(int transactions) {
+        commits.increment();
+        committedTransactions.add(transactions);
+    }
+
+    void recordRollback(int transactions) {
+        rolledBackTransactions.add(transactions);
+    }
+
+    static void runAfterCommit(List<Runnable> callbacks) {
+        for (Runnable callback : callbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                System.err.println("After-commit callback failed: " + e);
+            }
+        }
+    }
+
+    /**
+     * Rolls back after a failed commit; a failure of the rollback is added to the original exception.
+     */
+    static void rollback(Connection conn, Exception cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException | RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    static void release(Connection conn) throws SQLException {
+        try {
+            conn.setAutoCommit(true);
+        } finally {
+            conn.close();
+        }
+    }
+
+    public static class Builder {
+        private final ConnectionProvider connectionProvider;
+        private boolean groupCommit;
+        private long groupCommitWindowMicros = 200;
+        private int maxGroupSize = 64;
+
+        private Builder(ConnectionProvider connectionProvider) {
+            if (connectionProvider == null) {
+                throw new IllegalArgumentException("Connection provider cannot be null");
+            }
+            this.connectionProvider = connectionProvider;
+        }
+
+        /**
+         * Turns group commit of {@link TransactionManager#inTransaction} on or off; it is off by default.
+         */
+        public Builder groupCommit(boolean groupCommit) {
+            this.groupCommit = groupCommit;
+            return this;
+        }
+
+        /**
+         * Sets how long the committer waits for more units of work after the first one of a group
+         * arrived. Units that arrive while a group is being committed form the next group even with 0.
+         */
+        public Builder groupCommitWindowMicros(long groupCommitWindowMicros) {
+            if (groupCommitWindowMicros < 0) {
+                throw new IllegalArgumentException("Group commit window cannot be negative");
+            }
+            this.groupCommitWindowMicros = groupCommitWindowMicros;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of units of work committed together.
+         */
+        public Builder maxGroupSize(int maxGroupSize) {
+            if (maxGroupSize <= 0) {
+                throw new IllegalArgumentException("Max group size must be positive");
+            }
+            this.maxGroupSize = maxGroupSize;
+            return this;
+        }
+
+        public TransactionManager build() {
+            return new TransactionManager(this);
+        }
+    }
+}
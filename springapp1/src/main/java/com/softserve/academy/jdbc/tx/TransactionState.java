@@ -0,0 +1,21 @@
+package com.softserve.academy.jdbc.tx;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The connection of the transaction bound to a thread, how many begin calls it is nested in,
+ * whether a nested transaction rolled back, which makes the outer one roll back as well, and the
+ * callbacks to run once it has committed.
+ */
+final class TransactionState {
+    final Connection connection;
+    int depth = 1;
+    boolean rollbackOnly;
+    final List<Runnable> afterCommit = new ArrayList<>();
+
+    TransactionState(Connection connection) {
+        this.connection = connection;
+    }
+}
@@ -0,0 +1,37 @@
+package com.softserve.academy.jdbc.workload;
+
+/**
+ * The DAO operations the workload driver can run, with their names in an operation mix.
+ */
+public enum Operation {
+    READ_BY_ID("read"),
+    GET_ALL("getAll"),
+    TRANSCRIPT("transcript"),
+    INSERT("insert"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @param key The name of the operation in an operation mix, e.g. "read".
+     * @return The operation.
+     * @throws IllegalArgumentException If there is no operation with that name.
+     */
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
@@ -0,0 +1,93 @@
+package com.softserve.academy.jdbc.workload;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Relative weights of the operations of a workload, e.g. {@code read=70,transcript=15,insert=5}.
+ * Operations without a weight are never run.
+ */
+public final class OperationMix {
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulative;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        this.operations = new Operation[weights.size()];
+        this.cumulative = new int[weights.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            operations[i] = entry.getKey();
+            cumulative[i] = total;
+            i++;
+        }
+    }
+
+    /**
+     * Parses a comma-separated list of {@code name=weight} pairs.
+     *
+     * @param mix The mix, e.g. "read=70,getAll=1,transcript=15,insert=5,update=7,delete=2".
+     * @return The mix.
+     * @throws IllegalArgumentException If a name is unknown, a weight is not a positive integer or the mix is empty.
+     */
+    public static OperationMix parse(String mix) {
+        if (mix == null || mix.isBlank()) {
+            throw new IllegalArgumentException("Operation mix cannot be empty");
+        }
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected name=weight but got: " + part);
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(pair[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Weight of " + pair[0] + " is not a number: " + pair[1]);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + pair[0] + " cannot be negative");
+            }
+            if (weight > 0) {
+                weights.merge(Operation.fromKey(pair[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix needs at least one positive weight");
+        }
+        return new OperationMix(weights);
+    }
+
+    /**
+     * Picks an operation with probability proportional to its weight.
+     *
+     * @param random The source of randomness of the calling worker.
+     * @return The operation to run next.
+     */
+    public Operation next(Random random) {
+        int value = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            if (out.length() > 0) {
+                out.append(',');
+            }
+            out.append(entry.getKey().getKey()).append('=').append(entry.getValue());
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,241 @@
+package com.softserve.academy.jdbc.workload;
+
+/**
+ * Settings of a {@link WorkloadDriver} run. Build one with {@link #builder()} or parse it from
+ * command-line options with {@link #fromArgs(String[])}.
+ */
+public final class WorkloadConfig {
+    public static final String DEFAULT_MIX = "read=70,getAll=1,transcript=15,insert=5,update=7,delete=2";
+
+    private final String url;
+    private final int threads;
+    private final int connections;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+    private final double rate;
+    private final OperationMix mix;
+    private final int students;
+    private final long seed;
+
+    private WorkloadConfig(Builder builder) {
+        this.url = builder.url;
+        this.threads = builder.threads;
+        this.connections = builder.connections;
+        this.durationSeconds = builder.durationSeconds;
+        this.warmupSeconds = builder.warmupSeconds;
+        this.rate = builder.rate;
+        this.mix = builder.mix;
+        this.students = builder.students;
+        this.seed = builder.seed;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parses {@code --name=value} options: url, threads, connections, duration and warmup in seconds,
+     * rate in operations per second (0 for a closed loop), mix, students and seed.
+     *
+     * @param args The options; missing ones keep their defaults.
+     * @return The configuration.
+     * @throws IllegalArgumentException If an option is unknown or its value is invalid.
+     */
+    public static WorkloadConfig fromArgs(String[] args) {
+        Builder builder = builder();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, equals);
+            String value = arg.substring(equals + 1);
+            try {
+                switch (name) {
+                    case "url":
+                        builder.url(value);
+                        break;
+                    case "threads":
+                        builder.threads(Integer.parseInt(value));
+                        break;
+                    case "connections":
+                        builder.connections(Integer.parseInt(value));
+                        break;
+                    case "duration":
+                        builder.durationSeconds(Integer.parseInt(value));
+                        break;
+                    case "warmup":
+                        builder.warmupSeconds(Integer.parseInt(value));
+                        break;
+                    case "rate":
+                        builder.rate(Double.parseDouble(value));
+                        break;
+                    case "mix":
+                        builder.mix(OperationMix.parse(value));
+                        break;
+                    case "students":
+                        builder.students(Integer.parseInt(value));
+                        break;
+                    case "seed":
+                        builder.seed(Long.parseLong(value));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: --" + name);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for --" + name + ": " + value);
+            }
+        }
+        return builder.build();
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    /**
+     * Returns the target arrival rate of an open-loop run.
+     *
+     * @return Operations per second over all threads, or 0 for a closed loop.
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    public OperationMix getMix() {
+        return mix;
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return "url=" + url + ", threads=" + threads + ", connections=" + connections + ", duration="
+                + durationSeconds + "s, warmup=" + warmupSeconds + "s, "
+                + (rate > 0 ? "open loop at " + rate + " ops/s" : "closed loop") + ", mix=" + mix
+                + ", students=" + students + ", seed=" + seed;
+    }
+
+    /**
+     * Builder for {@link WorkloadConfig}.
+     */
+    public static class Builder {
+        private String url = "jdbc:h2:mem:workload;DB_CLOSE_DELAY=-1";
+        private int threads = 8;
+        private int connections = 8;
+        private int durationSeconds = 10;
+        private int warmupSeconds = 2;
+        private double rate;
+        private OperationMix mix = OperationMix.parse(DEFAULT_MIX);
+        private int students = 10_000;
+        private long seed = 42;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the JDBC URL of the embedded H2 database; the schema is created in it.
+         */
+        public Builder url(String url) {
+            if (url == null || !url.startsWith("jdbc:h2:")) {
+                throw new IllegalArgumentException("URL must be an embedded H2 URL");
+            }
+            this.url = url;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("Threads must be positive");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder connections(int connections) {
+            if (connections <= 0) {
+                throw new IllegalArgumentException("Connections must be positive");
+            }
+            this.connections = connections;
+            return this;
+        }
+
+        public Builder durationSeconds(int durationSeconds) {
+            if (durationSeconds <= 0) {
+                throw new IllegalArgumentException("Duration must be positive");
+            }
+            this.durationSeconds = durationSeconds;
+            return this;
+        }
+
+        public Builder warmupSeconds(int warmupSeconds) {
+            if (warmupSeconds < 0) {
+                throw new IllegalArgumentException("Warmup cannot be negative");
+            }
+            this.warmupSeconds = warmupSeconds;
+            return this;
+        }
+
+        /**
+         * Sets the total arrival rate; each thread then starts its operations on a fixed schedule,
+         * whether or not the previous one has finished. 0 runs a closed loop instead.
+         */
+        public Builder rate(double rate) {
+            if (rate < 0 || Double.isNaN(rate)) {
+                throw new IllegalArgumentException("Rate cannot be negative");
+            }
+            this.rate = rate;
+            return this;
+        }
+
+        public Builder mix(OperationMix mix) {
+            if (mix == null) {
+                throw new IllegalArgumentException("Mix cannot be null");
+            }
+            this.mix = mix;
+            return this;
+        }
+
+        /**
+         * Sets the number of students loaded before the run, each with four enrollments.
+         */
+        public Builder students(int students) {
+            if (students <= 0) {
+                throw new IllegalArgumentException("Students must be positive");
+            }
+            this.students = students;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public WorkloadConfig build() {
+            return new WorkloadConfig(this);
+        }
+    }
+}
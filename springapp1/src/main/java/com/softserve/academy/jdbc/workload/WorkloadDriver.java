@@ -0,0 +1,237 @@
+package com.softserve.academy.jdbc.workload;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.dao.TranscriptDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.metrics.LatencyHistogram;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generates load on the JDBC DAOs against an embedded H2 database and measures it.
+ * <p>
+ * The driver creates the schema, loads the configured number of students with four enrollments each,
+ * and then runs the operation mix from the configured number of threads through a ConnectionPool.
+ * In a closed loop each thread starts its next operation as soon as the previous one finishes.
+ * With a rate, each thread starts operations on a fixed schedule instead, so a slow operation delays
+ * the ones behind it and that delay is counted in their response time, as it would be for real callers.
+ * Nothing is recorded during the warmup.
+ * <p>
+ * Reads and transcripts pick a loaded student at random; updates rename one. Inserts add new students,
+ * and deletes remove the students inserted by the run, oldest first, or miss if there are none.
+ */
+public final class WorkloadDriver {
+    private static final int TEACHERS = 50;
+    private static final int COURSES = 200;
+    private static final int ENROLLMENTS_PER_STUDENT = 4;
+
+    private final WorkloadConfig config;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Queue<Long> inserted = new ConcurrentLinkedQueue<>();
+    private final AtomicLong insertSequence = new AtomicLong();
+    private StudentDAO studentDAO;
+    private TranscriptDAO transcriptDAO;
+    private long[] studentIds;
+
+    private WorkloadDriver(WorkloadConfig config) {
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+    }
+
+    /**
+     * Runs a workload from start to end.
+     *
+     * @param config The workload.
+     * @return The measurements after the warmup.
+     * @throws SQLException         If the schema or the initial data cannot be created.
+     * @throws InterruptedException If interrupted while waiting for the workers.
+     */
+    public static WorkloadResult run(WorkloadConfig config) throws SQLException, InterruptedException {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        return new WorkloadDriver(config).execute();
+    }
+
+    private WorkloadResult execute() throws SQLException, InterruptedException {
+        try (ConnectionPool pool = ConnectionPool.builder(config.getUrl(), "sa", "")
+                .maxSize(config.getConnections())
+                .minIdle(config.getConnections())
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                SchemaManager.createSchema(conn);
+            }
+            studentDAO = new StudentDAO(pool);
+            transcriptDAO = new TranscriptDAO(pool);
+            load(pool);
+
+            long start = System.nanoTime();
+            long measureStart = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+            long end = measureStart + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+            ExecutorService workers = Executors.newFixedThreadPool(config.getThreads());
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < config.getThreads(); i++) {
+                    int worker = i;
+                    futures.add(workers.submit(() -> work(worker, start, measureStart, end)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Workload thread failed", e.getCause());
+            } finally {
+                workers.shutdownNow();
+            }
+            long elapsed = Math.max(System.nanoTime(), end) - measureStart;
+
+            Map<Operation, WorkloadResult.OperationStats> stats = new EnumMap<>(Operation.class);
+            for (Map.Entry<Operation, Recorder> entry : recorders.entrySet()) {
+                Recorder recorder = entry.getValue();
+                if (recorder.count.sum() > 0) {
+                    stats.put(entry.getKey(), new WorkloadResult.OperationStats(recorder.count.sum(),
+                            recorder.errors.sum(), recorder.responseTime.snapshot(), recorder.serviceTime.snapshot(),
+                            recorder.firstError.get()));
+                }
+            }
+            return new WorkloadResult(config, elapsed, stats, pool.getMetrics());
+        }
+    }
+
+    private void load(ConnectionPool pool) throws SQLException {
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < TEACHERS; i++) {
+            teachers.add(new Teacher(0L, "Teacher " + i, "Department " + i % 8));
+        }
+        long[] teacherIds = new TeacherDAO(pool).addTeachers(teachers).getGeneratedIds();
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            courses.add(new Course(0L, "Course " + i, teacherIds[i % TEACHERS]));
+        }
+        long[] courseIds = new CourseDAO(pool).addCourses(courses).getGeneratedIds();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < config.getStudents(); i++) {
+            students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+        }
+        studentIds = studentDAO.addStudents(students).getGeneratedIds();
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (int i = 0; i < studentIds.length; i++) {
+            for (int j = 0; j < ENROLLMENTS_PER_STUDENT; j++) {
+                enrollments.add(new Enrollment(0L, studentIds[i], courseIds[(i + j * 37) % COURSES], "B"));
+            }
+        }
+        new EnrollmentDAO(pool).addEnrollments(enrollments);
+    }
+
+    /**
+     * Runs operations until the end of the run. In an open loop the worker's schedule is offset by its
+     * index, so that the threads do not all start at the same instant.
+     */
+    private Void work(int worker, long start, long measureStart, long end) {
+        Random random = new Random(config.getSeed() + worker);
+        boolean openLoop = config.getRate() > 0;
+        long interval = openLoop ? Math.round(config.getThreads() * 1e9 / config.getRate()) : 0;
+        long scheduled = start + interval * worker / config.getThreads();
+        while (!Thread.currentThread().isInterrupted()) {
+            if (openLoop) {
+                long now;
+                while ((now = System.nanoTime()) < scheduled) {
+                    LockSupport.parkNanos(scheduled - now);
+                }
+            } else {
+                scheduled = System.nanoTime();
+            }
+            if (scheduled >= end) {
+                break;
+            }
+            Operation operation = config.getMix().next(random);
+            long began = System.nanoTime();
+            Throwable failure = null;
+            try {
+                perform(operation, random);
+            } catch (SQLException | RuntimeException e) {
+                failure = e;
+            }
+            long finished = System.nanoTime();
+            if (scheduled >= measureStart) {
+                recorders.get(operation).record(finished - scheduled, finished - began, failure);
+            }
+            scheduled += interval;
+        }
+        return null;
+    }
+
+    private void perform(Operation operation, Random random) throws SQLException {
+        long studentId = studentIds[random.nextInt(studentIds.length)];
+        switch (operation) {
+            case READ_BY_ID:
+                studentDAO.getStudentById(studentId);
+                break;
+            case GET_ALL:
+                studentDAO.getAllStudents();
+                break;
+            case TRANSCRIPT:
+                transcriptDAO.getTranscript(studentId);
+                break;
+            case INSERT:
+                long n = insertSequence.incrementAndGet();
+                inserted.add(studentDAO.addStudent(new Student(0L, "Load " + n, "load" + n + "@example.com")));
+                break;
+            case UPDATE:
+                studentDAO.updateStudent(new Student(studentId, "Renamed " + studentId,
+                        "renamed" + studentId + "@example.com"));
+                break;
+            case DELETE:
+                Long id = inserted.poll();
+                studentDAO.deleteStudent(id != null ? id : -1L);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled operation " + operation);
+        }
+    }
+
+    private static final class Recorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram responseTime = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final AtomicReference<String> firstError = new AtomicReference<>();
+
+        void record(long responseNanos, long serviceNanos, Throwable failure) {
+            count.increment();
+            responseTime.record(responseNanos);
+            serviceTime.record(serviceNanos);
+            if (failure != null) {
+                errors.increment();
+                firstError.compareAndSet(null, failure.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.softserve.academy.jdbc.workload;
+
+import com.softserve.academy.jdbc.metrics.HistogramSnapshot;
+import com.softserve.academy.jdbc.pool.PoolMetrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * What a {@link WorkloadDriver} run measured after its warmup, per operation.
+ * Response times are measured from the moment an operation was scheduled to start, so in an open-loop
+ * run they include the time it waited behind earlier operations that ran late; this is what callers
+ * arriving at that rate would see, without the coordinated omission of measuring only from the actual
+ * start. Service times are measured from the actual start. In a closed loop both are the same.
+ */
+public final class WorkloadResult {
+    private final WorkloadConfig config;
+    private final long elapsedNanos;
+    private final Map<Operation, OperationStats> operations;
+    private final PoolMetrics poolMetrics;
+
+    WorkloadResult(WorkloadConfig config, long elapsedNanos, Map<Operation, OperationStats> operations,
+                   PoolMetrics poolMetrics) {
+        this.config = config;
+        this.elapsedNanos = elapsedNanos;
+        this.operations = Collections.unmodifiableMap(operations);
+        this.poolMetrics = poolMetrics;
+    }
+
+    public WorkloadConfig getConfig() {
+        return config;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public Map<Operation, OperationStats> getOperations() {
+        return operations;
+    }
+
+    public PoolMetrics getPoolMetrics() {
+        return poolMetrics;
+    }
+
+    public long getCount() {
+        return operations.values().stream().mapToLong(OperationStats::getCount).sum();
+    }
+
+    public long getErrors() {
+        return operations.values().stream().mapToLong(OperationStats::getErrors).sum();
+    }
+
+    public double getThroughput() {
+        return getCount() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Formats the result as a table with one row per operation, latencies in milliseconds.
+     *
+     * @return The report.
+     */
+    public String report() {
+        StringBuilder out = new StringBuilder();
+        out.append("Workload: ").append(config).append('\n');
+        out.append(String.format("Measured %.1f s: %d operations, %.0f ops/s%s, %d errors (%.2f%%)%n",
+                elapsedNanos / 1e9, getCount(), getThroughput(),
+                config.getRate() > 0 ? String.format(" of %.0f scheduled", config.getRate()) : "",
+                getErrors(), percent(getErrors(), getCount())));
+        out.append(config.getRate() > 0
+                ? "Response times from the scheduled start (coordinated omission corrected), service p99 from "
+                + "the actual start:\n"
+                : "Closed loop: response and service times are the same:\n");
+        out.append(String.format("%-11s %9s %7s %9s %8s %8s %8s %8s %8s %11s%n", "operation", "count", "err%",
+                "ops/s", "p50", "p90", "p99", "p99.9", "max", "service p99"));
+        for (Map.Entry<Operation, OperationStats> entry : operations.entrySet()) {
+            OperationStats stats = entry.getValue();
+            HistogramSnapshot response = stats.getResponseTime();
+            out.append(String.format("%-11s %9d %7.2f %9.0f %8.3f %8.3f %8.3f %8.3f %8.3f %11.3f%n",
+                    entry.getKey().getKey(), stats.getCount(), percent(stats.getErrors(), stats.getCount()),
+                    stats.getCount() * 1e9 / elapsedNanos,
+                    millis(response.getPercentileNanos(50)), millis(response.getPercentileNanos(90)),
+                    millis(response.getPercentileNanos(99)), millis(response.getPercentileNanos(99.9)),
+                    millis(response.getMaxNanos()), millis(stats.getServiceTime().getPercentileNanos(99))));
+            if (stats.getFirstError() != null) {
+                out.append("            first error: ").append(stats.getFirstError()).append('\n');
+            }
+        }
+        out.append(poolMetrics).append('\n');
+        return out.toString();
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0 ? 0 : part * 100.0 / whole;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * The measurements of one operation.
+     */
+    public static final class OperationStats {
+        private final long count;
+        private final long errors;
+        private final HistogramSnapshot responseTime;
+        private final HistogramSnapshot serviceTime;
+        private final String firstError;
+
+        OperationStats(long count, long errors, HistogramSnapshot responseTime, HistogramSnapshot serviceTime,
+                       String firstError) {
+            this.count = count;
+            this.errors = errors;
+            this.responseTime = responseTime;
+            this.serviceTime = serviceTime;
+            this.firstError = firstError;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public HistogramSnapshot getResponseTime() {
+            return responseTime;
+        }
+
+        public HistogramSnapshot getServiceTime() {
+            return serviceTime;
+        }
+
+        /**
+         * @return The message of the first failure, or null if the operation never failed.
+         */
+        public String getFirstError() {
+            return firstError;
+        }
+    }
+}
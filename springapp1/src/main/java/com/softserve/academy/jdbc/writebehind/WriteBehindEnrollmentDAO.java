@@ -0,0 +1,589 @@
+package com.softserve.academy.jdbc.writebehind;
+
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.RowCallback;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.paging.KeysetPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * EnrollmentDAO that writes updateEnrollment behind the caller. Updates go into a bounded queue keyed
+ * by enrollment ID, where a later update of the same enrollment replaces the earlier one, and a flusher
+ * thread writes them with batched UPDATEs, one transaction per batch. A batch is written once it is
+ * full, once its oldest update waited for the flush interval, or when {@link #flush()} is called.
+ * <p>
+ * When the queue holds as many enrollments as its capacity, an update of another enrollment waits for
+ * the flusher to take a batch, up to the offer timeout. Reads through this DAO see the queued updates,
+ * and deleteEnrollment drops the queued update of the enrollment; reads through other DAOs see them only
+ * once they are written. Inserts are not queued.
+ * <p>
+ * {@link #close()} writes everything that is queued before it returns, and so does a shutdown hook if
+ * the JVM exits without closing the DAO. An update whose UPDATE fails is dropped; flush and close
+ * report such failures with an SQLException.
+ */
+public class WriteBehindEnrollmentDAO extends EnrollmentDAO implements AutoCloseable {
+    private static final String UPDATE_SQL =
+            "UPDATE enrollment SET student_id = ?, course_id = ?, grade = ? WHERE id = ?";
+
+    private final ConnectionProvider connectionProvider;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+
+    private final Object lock = new Object();
+    // Queued updates in the order of the first update since the flusher last took the enrollment
+    private final Map<Long, Pending> queued = new LinkedHashMap<>();
+    // The batch being written, for reads; deleteEnrollment removes entries from it
+    private final Map<Long, Enrollment> writing = new LinkedHashMap<>();
+    private final List<SQLException> unreportedFailures = new ArrayList<>();
+    private long sequence;
+    private long writingFirstSequence = Long.MAX_VALUE;
+    private long flushRequestedThrough;
+    private boolean closed;
+
+    private long updates;
+    private long coalescedUpdates;
+    private long writtenUpdates;
+    private long missingEnrollments;
+    private long failedUpdates;
+    private long batches;
+
+    private final Thread flusher;
+    private final Thread shutdownHook;
+
+    public WriteBehindEnrollmentDAO(ConnectionProvider connectionProvider) {
+        this(builder(connectionProvider));
+    }
+
+    private WriteBehindEnrollmentDAO(Builder builder) {
+        super(builder.connectionProvider);
+        this.connectionProvider = builder.connectionProvider;
+        this.capacity = builder.capacity;
+        this.batchSize = builder.batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(builder.flushIntervalMillis);
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(builder.offerTimeoutMillis);
+        this.flusher = new Thread(this::run, "enrollment-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        this.shutdownHook = new Thread(this::closeOnShutdown, "enrollment-write-behind-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * @param connectionProvider The provider of the connections for reads, inserts, deletes and batches.
+     * @return A builder for a write-behind enrollment DAO.
+     */
+    public static Builder builder(ConnectionProvider connectionProvider) {
+        return new Builder(connectionProvider);
+    }
+
+    /**
+     * Queues the update of an enrollment, replacing an update of the same enrollment that is still queued.
+     * Waits while the queue is full.
+     *
+     * @param enrollment The enrollment object with updated data.
+     * @return True once the update is queued; whether the enrollment exists is only known when it is
+     * written, see {@link #getMissingEnrollments()}.
+     * @throws SQLException If the queue stayed full for the offer timeout, the wait was interrupted, or
+     *                      the DAO is closed.
+     */
+    @Override
+    public boolean updateEnrollment(Enrollment enrollment) throws SQLException {
+        validateUpdate(enrollment);
+        Long id = enrollment.getId();
+        synchronized (lock) {
+            long deadline = System.nanoTime() + offerTimeoutNanos;
+            while (true) {
+                checkOpen();
+                Pending pending = queued.get(id);
+                if (pending != null) {
+                    pending.enrollment = enrollment;
+                    sequence++;
+                    coalescedUpdates++;
+                    break;
+                }
+                if (queued.size() < capacity) {
+                    queued.put(id, new Pending(enrollment, ++sequence, System.nanoTime()));
+                    if (queued.size() == 1 || batchDue()) {
+                        lock.notifyAll();
+                    }
+                    break;
+                }
+                awaitRoom(deadline);
+            }
+            updates++;
+        }
+        return true;
+    }
+
+    /**
+     * Drops the queued update of the enrollment, if any, and deletes it from the database.
+     *
+     * @param id The ID of the enrollment to be deleted.
+     * @return True if the enrollment was deleted, false otherwise.
+     * @throws SQLException If a database access error occurs.
+     */
+    @Override
+    public boolean deleteEnrollment(long id) throws SQLException {
+        synchronized (lock) {
+            queued.remove(id);
+            writing.remove(id);
+            lock.notifyAll();
+        }
+        return super.deleteEnrollment(id);
+    }
+
+    @Override
+    public Enrollment getEnrollmentById(long id) throws SQLException {
+        Enrollment unwritten = unwritten(id);
+        return unwritten != null ? unwritten : super.getEnrollmentById(id);
+    }
+
+    @Override
+    public List<Enrollment> getAllEnrollments() throws SQLException {
+        List<Enrollment> enrollments = super.getAllEnrollments();
+        enrollments.replaceAll(this::withUnwritten);
+        return enrollments;
+    }
+
+    @Override
+    public Stream<Enrollment> streamEnrollments(int fetchSize) throws SQLException {
+        return super.streamEnrollments(fetchSize).map(this::withUnwritten);
+    }
+
+    @Override
+    public long forEachEnrollment(int fetchSize, RowCallback<Enrollment> callback) throws SQLException {
+        return super.forEachEnrollment(fetchSize, enrollment -> callback.processRow(withUnwritten(enrollment)));
+    }
+
+    @Override
+    public KeysetPage<Enrollment> getEnrollmentsPage(String continuationToken, int pageSize) throws SQLException {
+        KeysetPage<Enrollment> page = super.getEnrollmentsPage(continuationToken, pageSize);
+        List<Enrollment> items = new ArrayList<>(page.getItems());
+        items.replaceAll(this::withUnwritten);
+        return new KeysetPage<>(items, page.getNextToken());
+    }
+
+    /**
+     * Writes every update queued before the call and waits until it is committed.
+     *
+     * @throws SQLException If updates failed since the last flush, or the wait was interrupted.
+     */
+    public void flush() throws SQLException {
+        synchronized (lock) {
+            long target = sequence;
+            flushRequestedThrough = Math.max(flushRequestedThrough, target);
+            lock.notifyAll();
+            try {
+                while (firstUnwrittenSequence() <= target && flusher.isAlive()) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for enrollment updates to be written", e);
+            }
+            reportFailures();
+        }
+    }
+
+    /**
+     * Stops accepting updates, writes everything that is queued and stops the flusher.
+     *
+     * @throws SQLException If updates failed since the last flush.
+     */
+    @Override
+    public void close() throws SQLException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is shutting down, possibly in the hook itself
+        }
+        synchronized (lock) {
+            reportFailures();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of enrollments with an update that is queued or being written.
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return queued.size() + writing.size();
+        }
+    }
+
+    /**
+     * @return The number of updates accepted by updateEnrollment.
+     */
+    public long getUpdates() {
+        synchronized (lock) {
+            return updates;
+        }
+    }
+
+    /**
+     * @return The number of updates that replaced a queued update of the same enrollment.
+     */
+    public long getCoalescedUpdates() {
+        synchronized (lock) {
+            return coalescedUpdates;
+        }
+    }
+
+    /**
+     * @return The number of UPDATE statements that were committed.
+     */
+    public long getWrittenUpdates() {
+        synchronized (lock) {
+            return writtenUpdates;
+        }
+    }
+
+    /**
+     * @return The number of committed UPDATEs that found no enrollment, e.g. one deleted elsewhere.
+     */
+    public long getMissingEnrollments() {
+        synchronized (lock) {
+            return missingEnrollments;
+        }
+    }
+
+    /**
+     * @return The number of updates dropped because their UPDATE failed.
+     */
+    public long getFailedUpdates() {
+        synchronized (lock) {
+            return failedUpdates;
+        }
+    }
+
+    /**
+     * @return The number of batches written.
+     */
+    public long getBatches() {
+        synchronized (lock) {
+            return batches;
+        }
+    }
+
+    private void run() {
+        List<Enrollment> batch = new ArrayList<>(batchSize);
+        while (true) {
+            synchronized (lock) {
+                writing.clear();
+                writingFirstSequence = Long.MAX_VALUE;
+                lock.notifyAll();
+                if (!takeBatch(batch)) {
+                    return;
+                }
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Waits until a batch is due and moves it from the queue to the batch being written.
+     *
+     * @return False once the DAO is closed and the queue is empty.
+     */
+    private boolean takeBatch(List<Enrollment> batch) {
+        while (true) {
+            Iterator<Pending> oldest = queued.values().iterator();
+            if (!oldest.hasNext()) {
+                if (closed) {
+                    return false;
+                }
+                waitQuietly(0);
+                continue;
+            }
+            Pending first = oldest.next();
+            long due = first.queuedAt + flushIntervalNanos - System.nanoTime();
+            if (batchDue() || due <= 0 || closed || first.sequence <= flushRequestedThrough) {
+                break;
+            }
+            waitQuietly(due);
+        }
+        Iterator<Map.Entry<Long, Pending>> entries = queued.entrySet().iterator();
+        while (entries.hasNext() && batch.size() < batchSize) {
+            Map.Entry<Long, Pending> entry = entries.next();
+            Pending pending = entry.getValue();
+            writingFirstSequence = Math.min(writingFirstSequence, pending.sequence);
+            writing.put(entry.getKey(), pending.enrollment);
+            batch.add(pending.enrollment);
+            entries.remove();
+        }
+        lock.notifyAll();
+        return true;
+    }
+
+    /**
+     * Writes the batch in one transaction. If the batch fails, its updates are written one at a time so
+     * that only the failing ones are dropped.
+     */
+    private void write(List<Enrollment> batch) {
+        int written = 0;
+        int missing = 0;
+        List<SQLException> failures = new ArrayList<>();
+        try (Connection conn = connectionProvider.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+                conn.setAutoCommit(false);
+                try {
+                    for (Enrollment enrollment : batch) {
+                        bindUpdate(pstmt, enrollment);
+                        pstmt.addBatch();
+                    }
+                    int[] counts = pstmt.executeBatch();
+                    conn.commit();
+                    for (int count : counts) {
+                        if (count == 0) {
+                            missing++;
+                        }
+                    }
+                    written = batch.size();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    pstmt.clearBatch();
+                    conn.setAutoCommit(true);
+                    for (Enrollment enrollment : batch) {
+                        try {
+                            bindUpdate(pstmt, enrollment);
+                            if (pstmt.executeUpdate() == 0) {
+                                missing++;
+                            }
+                            written++;
+                        } catch (SQLException rowFailure) {
+                            failures.add(rowFailure);
+                        }
+                    }
+                }
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | RuntimeException e) {
+            // Without a usable connection every update of the batch that was not written is lost
+            SQLException failure = e instanceof SQLException ? (SQLException) e : new SQLException(e);
+            for (int i = written + failures.size(); i < batch.size(); i++) {
+                failures.add(failure);
+            }
+        }
+        synchronized (lock) {
+            batches++;
+            writtenUpdates += written;
+            missingEnrollments += missing;
+            failedUpdates += failures.size();
+            unreportedFailures.addAll(failures);
+        }
+        for (SQLException failure : failures) {
+            System.err.println("Failed to write an enrollment update: " + failure.getMessage());
+        }
+    }
+
+    private void closeOnShutdown() {
+        try {
+            close();
+        } catch (SQLException e) {
+            System.err.println("Some enrollment updates were not written on shutdown: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits once for the flusher to take a batch from the full queue.
+     */
+    private void awaitRoom(long deadline) throws SQLException {
+        long remaining = deadline - System.nanoTime();
+        if (offerTimeoutNanos > 0 && remaining <= 0) {
+            throw new SQLException("Write-behind queue is full: " + capacity + " enrollments are waiting");
+        }
+        try {
+            if (offerTimeoutNanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            } else {
+                lock.wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for room in the write-behind queue", e);
+        }
+    }
+
+    /**
+     * @return True if the queue holds a full batch, or is full with fewer updates than a batch.
+     */
+    private boolean batchDue() {
+        return queued.size() >= Math.min(batchSize, capacity);
+    }
+
+    private void waitQuietly(long nanos) {
+        try {
+            if (nanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(lock, nanos);
+            } else {
+                lock.wait();
+            }
+        } catch (InterruptedException e) {
+            // Nothing interrupts the flusher on purpose; look at the queue again
+        }
+    }
+
+    private long firstUnwrittenSequence() {
+        Iterator<Pending> oldest = queued.values().iterator();
+        return Math.min(oldest.hasNext() ? oldest.next().sequence : Long.MAX_VALUE, writingFirstSequence);
+    }
+
+    private Enrollment unwritten(long id) {
+        synchronized (lock) {
+            Pending pending = queued.get(id);
+            return pending != null ? pending.enrollment : writing.get(id);
+        }
+    }
+
+    private Enrollment withUnwritten(Enrollment enrollment) {
+        Enrollment unwritten = unwritten(enrollment.getId());
+        return unwritten != null ? unwritten : enrollment;
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Write-behind enrollment DAO is closed");
+        }
+    }
+
+    private void reportFailures() throws SQLException {
+        if (unreportedFailures.isEmpty()) {
+            return;
+        }
+        SQLException failure = new SQLException(
+                unreportedFailures.size() + " enrollment updates failed and were dropped");
+        unreportedFailures.forEach(failure::addSuppressed);
+        unreportedFailures.clear();
+        throw failure;
+    }
+
+    private static void validateUpdate(Enrollment enrollment) {
+        if (enrollment == null) {
+            throw new IllegalArgumentException("Enrollment cannot be null");
+        }
+        if (enrollment.getId() <= 0) {
+            throw new IllegalArgumentException("Enrollment ID must be positive");
+        }
+    }
+
+    private static void bindUpdate(PreparedStatement pstmt, Enrollment enrollment) throws SQLException {
+        pstmt.setLong(1, enrollment.getStudentId());
+        pstmt.setLong(2, enrollment.getCourseId());
+        pstmt.setString(3, enrollment.getGrade());
+        pstmt.setLong(4, enrollment.getId());
+    }
+
+    /**
+     * The latest queued update of an enrollment. Its sequence and time are those of the first update
+     * since the flusher last took the enrollment, so later updates keep its place in the queue.
+     */
+    private static final class Pending {
+        private Enrollment enrollment;
+        private final long sequence;
+        private final long queuedAt;
+
+        private Pending(Enrollment enrollment, long sequence, long queuedAt) {
+            this.enrollment = enrollment;
+            this.sequence = sequence;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+    public static class Builder {
+        private final ConnectionProvider connectionProvider;
+        private int capacity = 10_000;
+        private int batchSize = 500;
+        private long flushIntervalMillis = 100;
+        private long offerTimeoutMillis = 0;
+
+        private Builder(ConnectionProvider connectionProvider) {
+            if (connectionProvider == null) {
+                throw new IllegalArgumentException("Connection provider cannot be null");
+            }
+            this.connectionProvider = connectionProvider;
+        }
+
+        /**
+         * Sets the maximum number of enrollments with a queued update.
+         */
+        public Builder capacity(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Capacity must be positive");
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of updates written in one batch and transaction.
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets how long an update may wait in the queue for a batch to fill up.
+         */
+        public Builder flushIntervalMillis(long flushIntervalMillis) {
+            if (flushIntervalMillis < 0) {
+                throw new IllegalArgumentException("Flush interval cannot be negative");
+            }
+            this.flushIntervalMillis = flushIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Sets how long updateEnrollment waits for room in a full queue; 0 waits as long as it takes.
+         */
+        public Builder offerTimeoutMillis(long offerTimeoutMillis) {
+            if (offerTimeoutMillis < 0) {
+                throw new IllegalArgumentException("Offer timeout cannot be negative");
+            }
+            this.offerTimeoutMillis = offerTimeoutMillis;
+            return this;
+        }
+
+        public WriteBehindEnrollmentDAO build() {
+            return new WriteBehindEnrollmentDAO(this);
+        }
+    }
+}
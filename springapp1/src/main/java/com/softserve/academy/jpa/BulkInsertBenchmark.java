@@ -0,0 +1,117 @@
+package com.softserve.academy.jpa;
+
+import hibernate.model.Course;
+import hibernate.model.Enrollment;
+import hibernate.model.Student;
+import hibernate.model.Teacher;
+import hibernate.repository.CourseRepository;
+import hibernate.repository.EnrollmentRepository;
+import hibernate.repository.StudentRepository;
+import hibernate.repository.TeacherRepository;
+import hibernate.service.BulkSaveService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Compares inserting students, courses and enrollments the way DemoApp does, one repository save
+ * and one transaction per row, with {@link BulkSaveService}, which saves each list in one
+ * transaction using batched INSERTs. Both paths insert the same rows into the same H2 database.
+ * Usage: BulkInsertBenchmark [students]
+ */
+public class BulkInsertBenchmark {
+    private static final int TEACHERS = 50;
+    private static final int STUDENTS_PER_COURSE = 10;
+    private static final int COURSES_PER_STUDENT = 4;
+
+    public static void main(String[] args) {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(JpaRunnerApplication.class,
+                H2Args.of("bulkinsert"))) {
+            TeacherRepository teacherRepository = context.getBean(TeacherRepository.class);
+            StudentRepository studentRepository = context.getBean(StudentRepository.class);
+            CourseRepository courseRepository = context.getBean(CourseRepository.class);
+            EnrollmentRepository enrollmentRepository = context.getBean(EnrollmentRepository.class);
+            BulkSaveService bulkSaveService = context.getBean(BulkSaveService.class);
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+            List<Teacher> teachers = new ArrayList<>();
+            for (int i = 0; i < TEACHERS; i++) {
+                teachers.add(teacherRepository.save(Teacher.builder()
+                        .firstName("Teacher").lastName("Number" + i).email("teacher" + i + "@example.com")
+                        .position("Professor").department("Department " + (i % 10))
+                        .build()));
+            }
+            int courseCount = Math.max(COURSES_PER_STUDENT, studentCount * COURSES_PER_STUDENT / STUDENTS_PER_COURSE);
+            System.out.println("Students: " + studentCount + ", courses: " + courseCount + ", enrollments: "
+                    + studentCount * COURSES_PER_STUDENT);
+            System.out.printf("%-34s %10s %12s %14s%n", "path", "rows", "rows/s", "statements");
+
+            // Warm-up, so neither path pays for class loading and query plan compilation
+            insert(statistics, "warm-up", teachers, studentCount, courseCount,
+                    rows -> rows.forEach(studentRepository::save),
+                    rows -> rows.forEach(courseRepository::save),
+                    rows -> rows.forEach(enrollmentRepository::save));
+            insert(statistics, "warm-up", teachers, studentCount, courseCount, bulkSaveService::saveStudents,
+                    bulkSaveService::saveCourses, bulkSaveService::saveEnrollments);
+
+            double perRow = insert(statistics, "save per row (DemoApp)", teachers, studentCount, courseCount,
+                    rows -> rows.forEach(studentRepository::save),
+                    rows -> rows.forEach(courseRepository::save),
+                    rows -> rows.forEach(enrollmentRepository::save));
+            double bulk = insert(statistics, "BulkSaveService", teachers, studentCount, courseCount,
+                    bulkSaveService::saveStudents, bulkSaveService::saveCourses, bulkSaveService::saveEnrollments);
+            System.out.printf("Speed-up: %.1fx%n", bulk / perRow);
+        }
+    }
+
+    /**
+     * Inserts the students, then the courses, then the enrollments, and prints the combined throughput.
+     *
+     * @return The number of rows inserted per second.
+     */
+    private static double insert(Statistics statistics, String path, List<Teacher> teachers, int studentCount,
+                                 int courseCount, Consumer<List<Student>> saveStudents,
+                                 Consumer<List<Course>> saveCourses, Consumer<List<Enrollment>> saveEnrollments) {
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            students.add(Student.builder()
+                    .firstName("Student").lastName("Number" + i).email("student" + i + "@example.com")
+                    .group("CS-" + (i % 40))
+                    .build());
+        }
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(Course.builder().title("Course " + i).teacher(teachers.get(i % teachers.size())).build());
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        saveStudents.accept(students);
+        saveCourses.accept(courses);
+        List<Enrollment> enrollments = new ArrayList<>(studentCount * COURSES_PER_STUDENT);
+        for (int i = 0; i < studentCount; i++) {
+            for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+                enrollments.add(Enrollment.builder()
+                        .student(students.get(i)).course(courses.get((i + j * 7) % courseCount)).grade("B")
+                        .build());
+            }
+        }
+        saveEnrollments.accept(enrollments);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int rows = students.size() + courses.size() + enrollments.size();
+        double rate = rows / seconds;
+        if (!path.equals("warm-up")) {
+            System.out.printf("%-34s %,10d %,12.0f %,14d%n", path, rows, rate, statistics.getPrepareStatementCount());
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,40 @@
+package com.softserve.academy.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line arguments that run the JPA setup of DemoApp on an in-memory H2 database.
+ * Command-line arguments take precedence over application.properties, which points at PostgreSQL.
+ */
+final class H2Args {
+    private H2Args() {
+    }
+
+    /**
+     * @param database The name of the in-memory database.
+     * @param extra    Further "--name=value" arguments; they replace the defaults of the same name, since
+     *                 Spring would join repeated options into one comma-separated value.
+     * @return The arguments to pass to SpringApplication.run.
+     */
+    static String[] of(String database, String... extra) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database=DEFAULT",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--sqllog.enabled=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--spring.sql.init.mode=never",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        for (String argument : extra) {
+            String prefix = argument.substring(0, argument.indexOf('=') + 1);
+            args.removeIf(arg -> arg.startsWith(prefix));
+            args.add(argument);
+        }
+        return args.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,15 @@
+package com.softserve.academy.jpa;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * The JPA setup of DemoApp without its CommandLineRunner, started by the benchmarks and runners
+ * in this package and by the JPA tests. Besides this package it scans the services in hibernate.service.
+ */
+@SpringBootApplication(scanBasePackages = {"com.softserve.academy.jpa", "hibernate.service"})
+@EnableJpaRepositories(basePackages = "hibernate.repository")
+@EntityScan(basePackages = "hibernate.model")
+public class JpaRunnerApplication {
+}
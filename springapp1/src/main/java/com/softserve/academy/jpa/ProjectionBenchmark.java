@@ -0,0 +1,181 @@
+package com.softserve.academy.jpa;
+
+import hibernate.model.Course;
+import hibernate.model.Enrollment;
+import hibernate.model.Student;
+import hibernate.projection.CourseListItem;
+import hibernate.projection.RosterEntry;
+import hibernate.projection.StudentSummary;
+import hibernate.projection.TranscriptLineView;
+import hibernate.repository.CourseRepository;
+import hibernate.repository.EnrollmentRepository;
+import hibernate.repository.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compares the list screens read as full entities with the same screens read through the
+ * projections in {@code hibernate.projection}, on H2 with the second-level and query caches off.
+ * Each read runs in its own read-only transaction and touches every column the screen shows.
+ * For each path it prints the latency, the bytes the thread allocated, which covers the entities,
+ * their persistence-context snapshots and the result rows, and the number of SQL statements.
+ * Usage: ProjectionBenchmark [students] [iterations]
+ */
+public class ProjectionBenchmark {
+    private static final int STUDENTS_PER_TEACHER = 100;
+    private static final int STUDENTS_PER_COURSE = 50;
+    private static final int COURSES_PER_STUDENT = 5;
+    private static final int PAGE_SIZE = 1_000;
+
+    public static void main(String[] args) {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(JpaRunnerApplication.class,
+                H2Args.of("projections",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false"))) {
+            populate(context.getBean(JdbcTemplate.class), studentCount);
+            run(context, iterations);
+        }
+    }
+
+    private static void run(ConfigurableApplicationContext context, int iterations) {
+        StudentRepository studentRepository = context.getBean(StudentRepository.class);
+        CourseRepository courseRepository = context.getBean(CourseRepository.class);
+        EnrollmentRepository enrollmentRepository = context.getBean(EnrollmentRepository.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        tx.setReadOnly(true);
+        Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        Measurement measurement = new Measurement(tx, statistics, iterations);
+        long courseId = 1;
+        long studentId = 1;
+
+        System.out.printf("%-44s %12s %14s %12s%n", "read", "us/op", "KB alloc/op", "SQL/op");
+        measurement.print("student page (" + PAGE_SIZE + "), entities", () -> {
+            List<Student> rows = studentRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(PAGE_SIZE));
+            return sum(rows, s -> s.getFirstName().length() + s.getLastName().length() + s.getEmail().length());
+        });
+        measurement.print("student page (" + PAGE_SIZE + "), StudentSummary", () -> {
+            List<StudentSummary> rows = studentRepository.findSummariesByIdGreaterThan(0L, Limit.of(PAGE_SIZE));
+            return sum(rows, s -> s.firstName().length() + s.lastName().length() + s.email().length());
+        });
+        measurement.print("course list, entities + teachers", () -> {
+            List<Course> rows = courseRepository.findAll();
+            return sum(rows, c -> c.getTitle().length() + c.getTeacher().getLastName().length());
+        });
+        measurement.print("course list, CourseListItem", () -> {
+            List<CourseListItem> rows = courseRepository.findListItems();
+            return sum(rows, c -> c.title().length() + c.teacherLastName().length());
+        });
+        measurement.print("roster, entities + students", () -> {
+            List<Enrollment> rows = enrollmentRepository.findByCourseId(courseId);
+            return sum(rows, e -> e.getGrade().length() + e.getStudent().getLastName().length());
+        });
+        measurement.print("roster, RosterEntry", () -> {
+            List<RosterEntry> rows = enrollmentRepository.findRosterEntriesByCourseId(courseId);
+            return sum(rows, e -> e.grade().length() + e.lastName().length());
+        });
+        measurement.print("transcript, entities + courses + teachers", () -> {
+            List<Enrollment> rows = enrollmentRepository.findByStudentId(studentId);
+            return sum(rows, e -> e.getGrade().length() + e.getCourse().getTitle().length()
+                    + e.getCourse().getTeacher().getLastName().length());
+        });
+        measurement.print("transcript, TranscriptLineView", () -> {
+            List<TranscriptLineView> rows = enrollmentRepository.findTranscriptLinesByStudentId(studentId);
+            return sum(rows, e -> e.getGrade().length() + e.getCourseTitle().length()
+                    + e.getTeacherLastName().length());
+        });
+    }
+
+    private static void populate(JdbcTemplate jdbc, int studentCount) {
+        int teacherCount = Math.max(1, studentCount / STUDENTS_PER_TEACHER);
+        int courseCount = Math.max(COURSES_PER_STUDENT, studentCount * COURSES_PER_STUDENT / STUDENTS_PER_COURSE);
+        List<Object[]> teachers = new ArrayList<>();
+        for (int i = 0; i < teacherCount; i++) {
+            teachers.add(new Object[]{i + 1, "Teacher", "Number" + i, "teacher" + i + "@example.com", "Professor",
+                    "Department " + (i % 20)});
+        }
+        jdbc.batchUpdate("INSERT INTO teachers (id, first_name, last_name, email, position, department) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", teachers);
+        List<Object[]> courses = new ArrayList<>();
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(new Object[]{i + 1, "Course " + i, i % teacherCount + 1});
+        }
+        jdbc.batchUpdate("INSERT INTO courses (id, title, teacher_id) VALUES (?, ?, ?)", courses);
+        List<Object[]> students = new ArrayList<>();
+        List<Object[]> enrollments = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            students.add(new Object[]{i + 1, "Student", "Number" + i, "student" + i + "@example.com",
+                    "CS-" + (i % 40)});
+            for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+                enrollments.add(new Object[]{enrollments.size() + 1, "B", i + 1, (i + j * 7) % courseCount + 1});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO students (id, first_name, last_name, email, group_name) "
+                + "VALUES (?, ?, ?, ?, ?)", students);
+        jdbc.batchUpdate("INSERT INTO enrollments (id, grades, student_id, course_id) VALUES (?, ?, ?, ?)",
+                enrollments);
+        System.out.println("Students: " + studentCount + ", teachers: " + teacherCount + ", courses: "
+                + courseCount + ", enrollments: " + enrollments.size());
+    }
+
+    private static <T> int sum(List<T> rows, ToIntFunction<T> columns) {
+        int total = 0;
+        for (T row : rows) {
+            total += columns.applyAsInt(row);
+        }
+        return total;
+    }
+
+    private static final class Measurement {
+        private final TransactionTemplate tx;
+        private final Statistics statistics;
+        private final int iterations;
+        private final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        private long blackhole;
+
+        private Measurement(TransactionTemplate tx, Statistics statistics, int iterations) {
+            this.tx = tx;
+            this.statistics = statistics;
+            this.iterations = iterations;
+        }
+
+        private void print(String read, Read body) {
+            for (int i = 0; i < Math.max(10, iterations / 5); i++) {
+                blackhole += tx.execute(status -> body.run());
+            }
+            statistics.clear();
+            long threadId = Thread.currentThread().getId();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                blackhole += tx.execute(status -> body.run());
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            System.out.printf("%-44s %,12.1f %,14.1f %12.1f%n", read,
+                    elapsed / 1e3 / iterations,
+                    allocated / 1024.0 / iterations,
+                    (double) statistics.getPrepareStatementCount() / iterations);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Read {
+        int run();
+    }
+}
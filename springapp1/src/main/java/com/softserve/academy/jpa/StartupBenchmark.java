@@ -0,0 +1,175 @@
+package com.softserve.academy.jpa;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the startup time of DemoApp in its default setup with the fast profile, then with the AOT
+ * initializer and then with the CDS archive that the fast-startup Maven profile builds. Every run is a
+ * new JVM on the classpath of this one, started through {@link StartupProbe}, against one H2 file database
+ * whose schema is created beforehand, so that the fast profile can validate it. The configurations take
+ * turns, after one discarded round, and the table shows the median of each phase and of the whole
+ * process, exit included. AOT and CDS are skipped when the generated initializer or the archive are
+ * missing; the archive is only used by the JVM when the classpath is the one it was recorded with.
+ * Exits with status 1 if a run fails.
+ * Usage: StartupBenchmark [runs] [archive]
+ */
+public class StartupBenchmark {
+    private static final String[] PHASES = {"jvm", "prepare", "definitions", "persistence", "beans", "runners",
+            "total"};
+    private static final String AOT_INITIALIZER = "com.softserve.academy.DemoApp__ApplicationContextInitializer";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        Path archive = Path.of(args.length > 1 ? args[1] : "target/demoapp.jsa");
+        if (runs < 1) {
+            throw new IllegalArgumentException("The number of runs must be positive");
+        }
+
+        Path directory = Files.createTempDirectory("startup-benchmark");
+        List<String> database = List.of(
+                "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("demo").toAbsolutePath(),
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database=H2",
+                "--sqllog.report-interval-seconds=0",
+                "--logging.level.root=WARN");
+        List<String> fast = concat(database, "--spring.profiles.active=fast",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+
+        List<Configuration> configurations = new ArrayList<>();
+        configurations.add(new Configuration("default", List.of(), database));
+        configurations.add(new Configuration("fast profile", List.of(), fast));
+        if (isPresent(AOT_INITIALIZER)) {
+            configurations.add(new Configuration("fast + AOT", List.of("-Dspring.aot.enabled=true"), fast));
+            if (Files.isRegularFile(archive)) {
+                configurations.add(new Configuration("fast + AOT + CDS", List.of("-Dspring.aot.enabled=true",
+                        "-XX:SharedArchiveFile=" + archive.toAbsolutePath()), fast));
+            } else {
+                System.out.println("No CDS archive at " + archive + ", run mvn -Pfast-startup package");
+            }
+        } else {
+            System.out.println("No AOT initializer on the classpath, run mvn -Pfast-startup package");
+        }
+
+        try {
+            run(List.of(), concat(database, "--spring.jpa.hibernate.ddl-auto=create"));
+            for (int round = 0; round <= runs; round++) {
+                for (Configuration configuration : configurations) {
+                    long[] phases = run(configuration.jvmOptions, configuration.args);
+                    if (round > 0) {
+                        configuration.samples.add(phases);
+                    }
+                }
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+            System.exit(1);
+        } finally {
+            for (Path file : Files.list(directory).toArray(Path[]::new)) {
+                Files.delete(file);
+            }
+            Files.delete(directory);
+        }
+
+        System.out.printf("Startup of DemoApp in ms, median of %d runs%n", runs);
+        StringBuilder header = new StringBuilder(String.format("%-18s", "configuration"));
+        for (String phase : PHASES) {
+            header.append(String.format(" %11s", phase));
+        }
+        System.out.println(header.append(String.format(" %11s", "process")));
+        for (Configuration configuration : configurations) {
+            StringBuilder row = new StringBuilder(String.format("%-18s", configuration.name));
+            for (int phase = 0; phase <= PHASES.length; phase++) {
+                row.append(String.format(" %11d", median(configuration.samples, phase)));
+            }
+            System.out.println(row);
+        }
+    }
+
+    /**
+     * Starts a StartupProbe JVM and waits for it to exit.
+     *
+     * @return The phases the probe printed, followed by the wall-clock time of the process.
+     */
+    private static long[] run(List<String> jvmOptions, List<String> args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupProbe.class.getName());
+        command.addAll(args);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> output = new ArrayList<>();
+        String probeLine = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+                if (line.startsWith(StartupProbe.PREFIX + " ")) {
+                    probeLine = line;
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        long processMillis = (System.nanoTime() - start) / 1_000_000;
+        if (exitCode != 0 || probeLine == null) {
+            output.subList(0, Math.max(0, output.size() - 40)).clear();
+            throw new IllegalStateException(String.format("Startup run failed with exit code %d: %s%n%s",
+                    exitCode, command, String.join(System.lineSeparator(), output)));
+        }
+
+        long[] phases = new long[PHASES.length + 1];
+        for (String field : probeLine.substring(StartupProbe.PREFIX.length() + 1).split(" ")) {
+            int separator = field.indexOf('=');
+            int phase = Arrays.asList(PHASES).indexOf(field.substring(0, separator));
+            phases[phase] = Long.parseLong(field.substring(separator + 1));
+        }
+        phases[PHASES.length] = processMillis;
+        return phases;
+    }
+
+    private static long median(List<long[]> samples, int phase) {
+        long[] values = samples.stream().mapToLong(sample -> sample[phase]).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, StartupBenchmark.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static List<String> concat(List<String> args, String... more) {
+        List<String> all = new ArrayList<>(args);
+        all.addAll(List.of(more));
+        return all;
+    }
+
+    private static final class Configuration {
+        private final String name;
+        private final List<String> jvmOptions;
+        private final List<String> args;
+        private final List<long[]> samples = new ArrayList<>();
+
+        private Configuration(String name, List<String> jvmOptions, List<String> args) {
+            this.name = name;
+            this.jvmOptions = jvmOptions;
+            this.args = args;
+        }
+    }
+}
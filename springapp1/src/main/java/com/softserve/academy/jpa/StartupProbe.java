@@ -0,0 +1,82 @@
+package com.softserve.academy.jpa;
+
+import com.softserve.academy.DemoApp;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+
+/**
+ * Starts DemoApp with the given arguments, closes it and prints one line with the time spent in each
+ * phase of the startup, in milliseconds, for {@link StartupBenchmark} to read:
+ * <ul>
+ *     <li>jvm: from the JVM start to main;</li>
+ *     <li>prepare: from main to the context refresh (environment, logging, context creation);</li>
+ *     <li>definitions: the bean factory post-processors, which scan and parse the configuration;</li>
+ *     <li>persistence: creating the EntityManagerFactory, including the DataSource and the schema check;</li>
+ *     <li>beans: the rest of the refresh;</li>
+ *     <li>runners: from the end of the refresh until the runners, DemoApp itself included, returned.</li>
+ * </ul>
+ * With -Dspring.aot.enabled=true it uses the initializer generated by the fast-startup Maven profile.
+ */
+public class StartupProbe {
+    static final String PREFIX = "STARTUP";
+
+    public static void main(String[] args) {
+        long main = System.currentTimeMillis();
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        SpringApplication application = new SpringApplication(DemoApp.class);
+        // The AOT initializer is looked up by the name of the main class, which would otherwise be this one
+        application.setMainApplicationClass(DemoApp.class);
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(10_000);
+        application.setApplicationStartup(startup);
+        long ready;
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            ready = System.currentTimeMillis();
+        }
+
+        long refreshStart = 0;
+        long refreshEnd = 0;
+        long definitions = 0;
+        long persistence = 0;
+        for (StartupTimeline.TimelineEvent event : startup.getBufferedTimeline().getEvents()) {
+            StartupStep step = event.getStartupStep();
+            switch (step.getName()) {
+                case "spring.context.refresh":
+                    refreshStart = millis(event.getStartTime());
+                    refreshEnd = millis(event.getEndTime());
+                    break;
+                case "spring.context.beans.post-process":
+                    definitions += event.getDuration().toMillis();
+                    break;
+                case "spring.beans.instantiate":
+                    for (StartupStep.Tag tag : step.getTags()) {
+                        // The factory bean itself is created as &entityManagerFactory
+                        if (tag.getKey().equals("beanName")
+                                && tag.getValue().replace("&", "").equals("entityManagerFactory")) {
+                            persistence += event.getDuration().toMillis();
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (refreshStart == 0) {
+            throw new IllegalStateException("The startup timeline has no context refresh");
+        }
+        long beans = Math.max(0, refreshEnd - refreshStart - definitions - persistence);
+        System.out.printf("%s jvm=%d prepare=%d definitions=%d persistence=%d beans=%d runners=%d total=%d%n",
+                PREFIX, main - jvmStart, refreshStart - main, definitions, persistence, beans, ready - refreshEnd,
+                ready - jvmStart);
+    }
+
+    private static long millis(Instant instant) {
+        return instant.toEpochMilli();
+    }
+}
@@ -0,0 +1,50 @@
+package com.softserve.academy.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque continuation tokens used by keyset pagination.
+ * A token carries the key of the last row of a page; the next page starts after that key.
+ * Clients must treat tokens as opaque strings and pass them back unchanged.
+ */
+public final class ContinuationToken {
+    private static final String PREFIX = "k1:";
+
+    private ContinuationToken() {
+    }
+
+    /**
+     * Creates the token for the page that follows the given key.
+     *
+     * @param lastKey The key of the last row of the current page.
+     * @return The continuation token.
+     */
+    public static String encode(long lastKey) {
+        byte[] raw = (PREFIX + lastKey).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * Returns the key after which the next page starts.
+     *
+     * @param token The continuation token, or null/empty for the first page.
+     * @return The key to seek after; 0 for the first page.
+     * @throws IllegalArgumentException If the token was not produced by {@link #encode(long)}.
+     */
+    public static long decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid continuation token");
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and Base64 errors are IllegalArgumentExceptions as well
+            throw new IllegalArgumentException("Invalid continuation token", e);
+        }
+    }
+}
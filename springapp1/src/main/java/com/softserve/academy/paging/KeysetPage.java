@@ -0,0 +1,83 @@
+package com.softserve.academy.paging;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * One page of a keyset ("seek after id") paginated read.
+ *
+ * @param <T> The type of the rows.
+ */
+public class KeysetPage<T> {
+    /**
+     * The largest page a client may request, so that a single request cannot make the database
+     * return, and the server hold, an unbounded number of rows.
+     */
+    public static final int MAX_PAGE_SIZE = 10_000;
+
+    private final List<T> items;
+    private final String nextToken;
+
+    public KeysetPage(List<T> items, String nextToken) {
+        if (items == null) {
+            throw new IllegalArgumentException("Items cannot be null");
+        }
+        this.items = Collections.unmodifiableList(items);
+        this.nextToken = nextToken;
+    }
+
+    /**
+     * Builds a page from a query that fetched up to pageSize + 1 rows ordered by key.
+     * The extra row only signals that another page exists and is not returned.
+     *
+     * @param fetched  The rows read, at most pageSize + 1.
+     * @param pageSize The requested page size.
+     * @param key      Extracts the key of a row.
+     * @return The page with a continuation token if more rows follow.
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int pageSize, ToLongFunction<T> key) {
+        if (fetched.size() <= pageSize) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, pageSize);
+        return new KeysetPage<>(items, ContinuationToken.encode(key.applyAsLong(items.get(pageSize - 1))));
+    }
+
+    /**
+     * Validates a requested page size.
+     *
+     * @param pageSize The requested page size.
+     * @throws IllegalArgumentException If the page size is not positive or exceeds {@link #MAX_PAGE_SIZE}.
+     */
+    public static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size cannot exceed " + MAX_PAGE_SIZE);
+        }
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the token for the next page.
+     *
+     * @return The continuation token, or null if this is the last page.
+     */
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPage{items=" + items.size() + ", nextToken=" + nextToken + "}";
+    }
+}
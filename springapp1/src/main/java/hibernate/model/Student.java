@@ -9,9 +9,15 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.Email;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@BatchSize(size = 25)
 @Table(name = "students")
 @Data
 @NoArgsConstructor
@@ -19,7 +25,8 @@ import jakarta.validation.constraints.Email;
 @Builder
 public class Student {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name")
@@ -41,6 +48,10 @@ public class Student {
     private String group;
 
     @OneToMany(mappedBy = "student", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 25)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Enrollment> enrollments = new ArrayList<>();
 
 }
@@ -5,12 +5,22 @@ import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
+// Teachers are cached read-only: they are created once and never updated through JPA,
+// so the cache needs no locking. Committing a change to a managed Teacher fails with "Can't update readonly object".
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@BatchSize(size = 25)
 @Table(name = "teachers")
 @Data
 @NoArgsConstructor
@@ -19,7 +29,8 @@ import java.util.List;
 
 public class Teacher {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teacher_seq")
+    @SequenceGenerator(name = "teacher_seq", sequenceName = "teachers_seq", allocationSize = 50)
     @NotNull(message = "ID cannot be null")
     private Long id;
 
@@ -46,6 +57,10 @@ public class Teacher {
     private String department;
 
     @OneToMany(mappedBy = "teacher", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 25)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Course> courses = new ArrayList<>();
 
 }
\ No newline at end of file
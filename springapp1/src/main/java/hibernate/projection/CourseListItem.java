@@ -0,0 +1,7 @@
+package hibernate.projection;
+
+/**
+ * Read-only row of the course list screen: a course with the name of its teacher.
+ */
+public record CourseListItem(Long id, String title, String teacherFirstName, String teacherLastName) {
+}
@@ -0,0 +1,7 @@
+package hibernate.projection;
+
+/**
+ * Read-only row of a course roster: one enrolled student and their grade.
+ */
+public record RosterEntry(Long enrollmentId, Long studentId, String firstName, String lastName, String grade) {
+}
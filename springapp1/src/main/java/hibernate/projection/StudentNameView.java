@@ -0,0 +1,12 @@
+package hibernate.projection;
+
+/**
+ * Interface projection of a student's id and name; Spring Data selects only these columns.
+ */
+public interface StudentNameView {
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+}
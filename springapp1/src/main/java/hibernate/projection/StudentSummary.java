@@ -0,0 +1,7 @@
+package hibernate.projection;
+
+/**
+ * Read-only row of the student list screen.
+ */
+public record StudentSummary(Long id, String firstName, String lastName, String email) {
+}
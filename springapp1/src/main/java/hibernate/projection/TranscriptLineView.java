@@ -0,0 +1,15 @@
+package hibernate.projection;
+
+/**
+ * Interface projection of one transcript line, backed by the aliases of
+ * {@link hibernate.repository.EnrollmentRepository#findTranscriptLinesByStudentId(Long)}.
+ */
+public interface TranscriptLineView {
+    Long getEnrollmentId();
+
+    String getCourseTitle();
+
+    String getTeacherLastName();
+
+    String getGrade();
+}
@@ -0,0 +1,74 @@
+package hibernate.repository;
+
+
+import com.softserve.academy.paging.ContinuationToken;
+import com.softserve.academy.paging.KeysetPage;
+import hibernate.model.Course;
+import hibernate.projection.CourseListItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CourseRepository extends JpaRepository<Course, Long> {
+
+    @EntityGraph(attributePaths = "teacher")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Course> findByTitle(String title);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    Optional<Course> findByTeacherId(Long teacherId);
+
+    List<Course> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Returns a course with its teacher and its full roster (enrollments and their students) in one query.
+     *
+     * @param id The id of the course.
+     * @return The course, or empty if there is none with that id.
+     */
+    @Query("SELECT DISTINCT c FROM Course c JOIN FETCH c.teacher "
+            + "LEFT JOIN FETCH c.enrollments e LEFT JOIN FETCH e.student WHERE c.id = :id")
+    Optional<Course> findWithRosterById(@Param("id") Long id);
+
+    /**
+     * Returns the courses of a teacher with their enrollments, in one query.
+     *
+     * @param teacherId The id of the teacher.
+     * @return The courses of the teacher.
+     */
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.enrollments WHERE c.teacher.id = :teacherId ORDER BY c.id")
+    List<Course> findWithEnrollmentsByTeacherId(@Param("teacherId") Long teacherId);
+
+    /**
+     * Returns the course list screen: every course with the name of its teacher, without loading entities.
+     *
+     * @return The courses ordered by id.
+     */
+    @Query("SELECT new hibernate.projection.CourseListItem(c.id, c.title, t.firstName, t.lastName) "
+            + "FROM Course c JOIN c.teacher t ORDER BY c.id")
+    List<CourseListItem> findListItems();
+
+    /**
+     * Returns one page of courses ordered by id, seeking past the last id of the previous page.
+     *
+     * @param continuationToken The token of the previous page, or null for the first page.
+     * @param pageSize          The maximum number of courses on the page.
+     * @return The page and the token of the next page, if any.
+     */
+    default KeysetPage<Course> findPage(String continuationToken, int pageSize) {
+        KeysetPage.checkPageSize(pageSize);
+        List<Course> rows = findByIdGreaterThanOrderByIdAsc(
+                ContinuationToken.decode(continuationToken), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, Course::getId);
+    }
+}
@@ -0,0 +1,66 @@
+package hibernate.repository;
+
+import com.softserve.academy.paging.ContinuationToken;
+import com.softserve.academy.paging.KeysetPage;
+import hibernate.model.Enrollment;
+import hibernate.projection.RosterEntry;
+import hibernate.projection.TranscriptLineView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+     /**
+      * Returns the transcript of a student: the enrollments with their course and its teacher, in one query.
+      */
+     @EntityGraph(attributePaths = {"course", "course.teacher"})
+     @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+     List<Enrollment> findByStudentId(Long studentId);
+
+     /**
+      * Returns the roster of a course: the enrollments with their student, in one query.
+      */
+     @EntityGraph(attributePaths = "student")
+     @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+     List<Enrollment> findByCourseId(Long courseId);
+
+     List<Enrollment> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+     /**
+      * Returns the roster of a course as read-only rows, ordered by student name, without loading entities.
+      */
+     @Query("SELECT new hibernate.projection.RosterEntry(e.id, s.id, s.firstName, s.lastName, e.grade) "
+             + "FROM Enrollment e JOIN e.student s WHERE e.course.id = :courseId ORDER BY s.lastName, s.firstName")
+     List<RosterEntry> findRosterEntriesByCourseId(@Param("courseId") Long courseId);
+
+     /**
+      * Returns the transcript of a student as read-only rows, ordered by course title, without loading entities.
+      */
+     @Query("SELECT e.id AS enrollmentId, c.title AS courseTitle, t.lastName AS teacherLastName, e.grade AS grade "
+             + "FROM Enrollment e JOIN e.course c JOIN c.teacher t WHERE e.student.id = :studentId ORDER BY c.title")
+     List<TranscriptLineView> findTranscriptLinesByStudentId(@Param("studentId") Long studentId);
+
+     /**
+      * Returns one page of enrollments ordered by id, seeking past the last id of the previous page.
+      *
+      * @param continuationToken The token of the previous page, or null for the first page.
+      * @param pageSize          The maximum number of enrollments on the page.
+      * @return The page and the token of the next page, if any.
+      */
+     default KeysetPage<Enrollment> findPage(String continuationToken, int pageSize) {
+          KeysetPage.checkPageSize(pageSize);
+          List<Enrollment> rows = findByIdGreaterThanOrderByIdAsc(
+                  ContinuationToken.decode(continuationToken), Limit.of(pageSize + 1));
+          return KeysetPage.of(rows, pageSize, Enrollment::getId);
+     }
+}
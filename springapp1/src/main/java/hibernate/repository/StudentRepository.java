@@ -0,0 +1,64 @@
+package hibernate.repository;
+
+import com.softserve.academy.paging.ContinuationToken;
+import com.softserve.academy.paging.KeysetPage;
+import hibernate.model.Student;
+import hibernate.projection.StudentNameView;
+import hibernate.projection.StudentSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+
+@Repository
+public interface StudentRepository extends JpaRepository<Student, Long> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Student> findByLastName(String name);
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    Optional<Student> findByEmail(String email);
+
+    List<Student> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT new hibernate.projection.StudentSummary(s.id, s.firstName, s.lastName, s.email) "
+            + "FROM Student s WHERE s.id > :id ORDER BY s.id")
+    List<StudentSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    List<StudentNameView> findByGroupOrderByLastNameAscFirstNameAsc(String group);
+
+    /**
+     * Returns one page of students ordered by id, seeking past the last id of the previous page.
+     *
+     * @param continuationToken The token of the previous page, or null for the first page.
+     * @param pageSize          The maximum number of students on the page.
+     * @return The page and the token of the next page, if any.
+     */
+    default KeysetPage<Student> findPage(String continuationToken, int pageSize) {
+        KeysetPage.checkPageSize(pageSize);
+        List<Student> rows = findByIdGreaterThanOrderByIdAsc(
+                ContinuationToken.decode(continuationToken), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, Student::getId);
+    }
+
+    /**
+     * Returns one page of the student list screen ordered by id, reading only the listed columns.
+     * The returned rows are not managed entities.
+     *
+     * @param continuationToken The token of the previous page, or null for the first page.
+     * @param pageSize          The maximum number of students on the page.
+     * @return The page and the token of the next page, if any.
+     */
+    default KeysetPage<StudentSummary> findSummaryPage(String continuationToken, int pageSize) {
+        KeysetPage.checkPageSize(pageSize);
+        List<StudentSummary> rows = findSummariesByIdGreaterThan(
+                ContinuationToken.decode(continuationToken), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, StudentSummary::id);
+    }
+}
@@ -1,8 +1,11 @@
 package hibernate.repository;
 
 import hibernate.model.Teacher;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,5 +16,6 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
     @Query("SELECT t FROM Teacher t WHERE t.firstName = ?1 AND t.lastName = ?2")
     Optional<Teacher> findBFirstNameAndLastName(String lastName);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Teacher> findByEmail(String email);
 }
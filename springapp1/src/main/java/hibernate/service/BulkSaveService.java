@@ -0,0 +1,80 @@
+package hibernate.service;
+
+import hibernate.model.Course;
+import hibernate.model.Enrollment;
+import hibernate.model.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Saves large numbers of new entities in one transaction using JDBC batching.
+ * The entities are persisted in chunks of {@code hibernate.jdbc.batch_size}; after each chunk the
+ * persistence context is flushed, so the chunk goes to the database as one batched INSERT, and
+ * cleared, so memory use does not grow with the number of rows.
+ * The saved entities get their generated IDs but are detached when the method returns.
+ * Referenced students, courses and teachers must already be saved.
+ * <p>
+ * The methods join the caller's transaction, and the persistence context they clear is the caller's:
+ * its pending changes are flushed, and every entity it loaded before the call is detached afterwards.
+ * The session skips the second-level cache while the entities are persisted and gets its previous
+ * cache mode back when the method returns.
+ */
+@Service
+public class BulkSaveService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    public BulkSaveService(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public void saveStudents(List<Student> students) {
+        persistAll(students);
+    }
+
+    @Transactional
+    public void saveCourses(List<Course> courses) {
+        persistAll(courses);
+    }
+
+    @Transactional
+    public void saveEnrollments(List<Enrollment> enrollments) {
+        persistAll(enrollments);
+    }
+
+    private void persistAll(List<?> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Entities cannot be null");
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try {
+            for (int i = 0; i < entities.size(); i++) {
+                entityManager.persist(entities.get(i));
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+    }
+}
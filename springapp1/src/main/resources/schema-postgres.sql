@@ -0,0 +1,15 @@
+-- Runs on PostgreSQL after Hibernate has updated the schema (spring.sql.init.platform=postgres,
+-- spring.jpa.defer-datasource-initialization=true).
+-- The ids come from the *_seq sequences (pooled-lo, increment 50). Tables that were filled before the
+-- sequences existed, with IDENTITY ids or by hand, would make the sequences hand out ids that are taken,
+-- so each sequence is moved past max(id) of its table; nextval then returns max(id) + 50.
+-- A sequence that is already past max(id) is left alone, so the script is safe to run on every start.
+-- The fast profile runs no init scripts; run this file once by hand before switching a database to it.
+SELECT setval('students_seq', (SELECT max(id) FROM students))
+WHERE (SELECT max(id) FROM students) >= (SELECT last_value FROM students_seq);
+SELECT setval('teachers_seq', (SELECT max(id) FROM teachers))
+WHERE (SELECT max(id) FROM teachers) >= (SELECT last_value FROM teachers_seq);
+SELECT setval('courses_seq', (SELECT max(id) FROM courses))
+WHERE (SELECT max(id) FROM courses) >= (SELECT last_value FROM courses_seq);
+SELECT setval('enrollments_seq', (SELECT max(id) FROM enrollments))
+WHERE (SELECT max(id) FROM enrollments) >= (SELECT last_value FROM enrollments_seq);
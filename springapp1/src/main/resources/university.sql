@@ -0,0 +1,46 @@
+-- University schema used by the JDBC DAOs (com.softserve.academy.jdbc).
+-- This file is the single source of the schema: DBRunner and every other runner create their
+-- tables from it through SchemaManager. Bump the version below whenever the schema changes.
+-- schema-version: 2
+
+CREATE TABLE student (
+                         id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                         name VARCHAR(255) NOT NULL,
+                         email VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE teacher (
+                         id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                         name VARCHAR(255) NOT NULL,
+                         department VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE course (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        title VARCHAR(255) NOT NULL,
+                        teacher_id BIGINT NOT NULL,
+                        FOREIGN KEY (teacher_id) REFERENCES teacher(id)
+);
+
+CREATE TABLE enrollment (
+                            id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                            student_id BIGINT NOT NULL,
+                            course_id BIGINT NOT NULL,
+                            grade VARCHAR(255),
+                            FOREIGN KEY (student_id) REFERENCES student(id),
+                            FOREIGN KEY (course_id) REFERENCES course(id),
+                            -- A student enrolls in a course once; the index also serves lookups by student_id
+                            CONSTRAINT uq_enrollment_student_course UNIQUE (student_id, course_id)
+);
+
+-- Rosters (TranscriptDAO.getRoster) and course deletes look enrollments up by course
+CREATE INDEX idx_enrollment_course_id ON enrollment (course_id);
+
+-- Courses of a teacher and teacher deletes
+CREATE INDEX idx_course_teacher_id ON course (teacher_id);
+
+-- CourseDAO.getCoursesByTitle
+CREATE INDEX idx_course_title ON course (title);
+
+-- TeacherDAO.getTeachersByName
+CREATE INDEX idx_teacher_name ON teacher (name);
@@ -0,0 +1,168 @@
+package com.softserve.academy.jdbc.cache;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void loadedEntityIsServedFromTheCache() throws Exception {
+        TinyLfuCache<String> cache = TinyLfuCache.builder().build();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get(1, id -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get(1, id -> "v" + loads.incrementAndGet()));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(1, cache.getStats().getMisses());
+    }
+
+    @Test
+    void missingEntityIsNotCached() throws Exception {
+        TinyLfuCache<String> cache = TinyLfuCache.builder().build();
+
+        assertNull(cache.get(1, id -> null));
+        assertEquals(0, cache.size());
+        assertEquals("v", cache.get(1, id -> "v"));
+    }
+
+    @Test
+    void invalidatedEntityIsLoadedAgain() throws Exception {
+        TinyLfuCache<String> cache = TinyLfuCache.builder().build();
+        cache.get(1, id -> "old");
+        cache.get(2, id -> "other");
+
+        cache.invalidate(1);
+
+        assertEquals("new", cache.get(1, id -> "new"));
+        assertEquals("other", cache.get(2, id -> "unexpected"));
+        assertEquals(1, cache.getStats().getInvalidations());
+    }
+
+    @Test
+    void loadThatRacedWithAnInvalidationIsNotCached() throws Exception {
+        TinyLfuCache<String> cache = TinyLfuCache.builder().build();
+
+        // The row is read, then updated and invalidated before the load finishes
+        String loaded = cache.get(1, id -> {
+            cache.invalidate(id);
+            return "old";
+        });
+
+        assertEquals("old", loaded);
+        assertEquals(0, cache.size());
+        assertEquals("new", cache.get(1, id -> "new"));
+    }
+
+    @Test
+    void invalidateAllDiscardsEntriesAndLoadsInFlight() throws Exception {
+        TinyLfuCache<String> cache = TinyLfuCache.builder().build();
+        cache.get(1, id -> "one");
+        cache.get(2, id -> "two");
+
+        cache.get(3, id -> {
+            cache.invalidateAll();
+            return "three";
+        });
+
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getStats().getInvalidations());
+    }
+
+    @Test
+    void expiredEntityIsLoadedAgain() throws Exception {
+        TinyLfuCache<String> cache = TinyLfuCache.builder().timeToLiveMillis(1).build();
+        cache.get(1, id -> "old");
+        Thread.sleep(5);
+
+        assertEquals("new", cache.get(1, id -> "new"));
+        assertEquals(1, cache.getStats().getExpirations());
+    }
+
+    @Test
+    void oneOffReadDoesNotEvictAFrequentEntity() throws Exception {
+        TinyLfuCache<String> cache = TinyLfuCache.builder().maximumSize(1).build();
+        for (int i = 0; i < 3; i++) {
+            cache.get(1, id -> "frequent");
+        }
+
+        assertEquals("rare", cache.get(2, id -> "rare"));
+
+        assertEquals("frequent", cache.get(1, id -> "unexpected"));
+        assertEquals(1, cache.getStats().getRejections());
+        assertEquals(0, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void cachedCoursesMatchTheDatabaseAfterConcurrentUpdates() throws Exception {
+        int courseCount = 200;
+        try (ConnectionPool pool = ConnectionPool.builder("jdbc:h2:mem:tiny-lfu-test;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(4)
+                .build()) {
+            try (Connection conn = pool.getConnection()) {
+                SchemaManager.createSchema(conn);
+            }
+            long teacherId = new TeacherDAO(pool).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+            List<Course> courses = new ArrayList<>();
+            for (int i = 0; i < courseCount; i++) {
+                courses.add(new Course(0L, "Course " + i, teacherId));
+            }
+            long[] courseIds = new CourseDAO(pool).addCourses(courses).getGeneratedIds();
+            CourseDAO plain = new CourseDAO(pool);
+            CachingCourseDAO cached = new CachingCourseDAO(pool,
+                    TinyLfuCache.builder().maximumSize(courseCount).timeToLiveMillis(0).build());
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 2; t++) {
+                    futures.add(executor.submit(() -> {
+                        while (running.get()) {
+                            cached.getCourseById(courseIds[ThreadLocalRandom.current().nextInt(20)]);
+                        }
+                        return null;
+                    }));
+                }
+                // Renames the courses the readers keep loading, so that loads and updates overlap
+                futures.add(executor.submit(() -> {
+                    for (int version = 0; version < 500; version++) {
+                        long id = courseIds[ThreadLocalRandom.current().nextInt(20)];
+                        cached.updateCourse(new Course(id, "Course v" + version, teacherId));
+                    }
+                    return null;
+                }));
+                futures.get(2).get();
+                running.set(false);
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            for (long id : courseIds) {
+                assertEquals(plain.getCourseById(id), cached.getCourseById(id));
+            }
+        }
+    }
+}
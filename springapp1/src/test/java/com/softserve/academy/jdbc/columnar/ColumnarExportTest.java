@@ -0,0 +1,135 @@
+package com.softserve.academy.jdbc.columnar;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Exports the university tables of an in-memory H2 database and reads every file back.
+ */
+class ColumnarExportTest {
+    @TempDir
+    Path dir;
+
+    private Connection conn;
+    private StudentDAO studentDAO;
+    private TeacherDAO teacherDAO;
+    private CourseDAO courseDAO;
+    private EnrollmentDAO enrollmentDAO;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:h2:mem:columnar-export-test", "sa", "");
+        SchemaManager.createSchema(conn);
+        studentDAO = new StudentDAO(conn);
+        teacherDAO = new TeacherDAO(conn);
+        courseDAO = new CourseDAO(conn);
+        enrollmentDAO = new EnrollmentDAO(conn);
+
+        long teacherId = teacherDAO.addTeacher(new Teacher(0L, "Łukasz Żółć, PhD", "Informatyka \"Stosowana\""));
+        long courseId = courseDAO.addCourse(new Course(0L, "Databases", teacherId));
+        List<Student> students = new ArrayList<>();
+        students.add(new Student(0L, "", "empty.name@example.com"));
+        for (int i = 1; i < 2_500; i++) {
+            students.add(new Student(0L, "Student " + i % 100, "student" + i + "@example.com"));
+        }
+        String[] grades = {"A", "B", null};
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (long studentId : studentDAO.addStudents(students).getGeneratedIds()) {
+            enrollments.add(new Enrollment(0L, studentId, courseId, grades[enrollments.size() % grades.length]));
+        }
+        enrollmentDAO.addEnrollments(enrollments);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    @Test
+    void studentsReadBack() throws SQLException, IOException {
+        Path file = dir.resolve("student.ucol");
+        long rows = ColumnarExport.exportStudents(studentDAO, file);
+
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            assertEquals("student", reader.getTableName());
+            assertEquals(ColumnarExport.STUDENT_COLUMNS, reader.getColumns());
+            assertEquals(rows, reader.getRowCount());
+            PrimitiveIterator.OfLong ids = reader.longColumn("id");
+            Iterator<String> names = reader.stringColumn("name");
+            Iterator<String> emails = reader.stringColumn("email");
+            for (Student student : studentDAO.getAllStudents()) {
+                assertEquals(student, new Student(ids.nextLong(), names.next(), emails.next()));
+            }
+            assertFalse(ids.hasNext());
+        }
+    }
+
+    @Test
+    void teachersAndCoursesReadBack() throws SQLException, IOException {
+        Path teacherFile = dir.resolve("teacher.ucol");
+        Path courseFile = dir.resolve("course.ucol");
+        ColumnarExport.exportTeachers(teacherDAO, teacherFile);
+        ColumnarExport.exportCourses(courseDAO, courseFile);
+
+        try (ColumnarReader reader = ColumnarReader.open(teacherFile)) {
+            PrimitiveIterator.OfLong ids = reader.longColumn("id");
+            Iterator<String> names = reader.stringColumn("name");
+            Iterator<String> departments = reader.stringColumn("department");
+            for (Teacher teacher : teacherDAO.getAllTeachers()) {
+                assertEquals(teacher, new Teacher(ids.nextLong(), names.next(), departments.next()));
+            }
+            assertFalse(ids.hasNext());
+        }
+        try (ColumnarReader reader = ColumnarReader.open(courseFile)) {
+            PrimitiveIterator.OfLong ids = reader.longColumn("id");
+            Iterator<String> titles = reader.stringColumn("title");
+            PrimitiveIterator.OfLong teacherIds = reader.longColumn("teacher_id");
+            for (Course course : courseDAO.getAllCourses()) {
+                assertEquals(course, new Course(ids.nextLong(), titles.next(), teacherIds.nextLong()));
+            }
+            assertFalse(ids.hasNext());
+        }
+    }
+
+    @Test
+    void enrollmentsWithNullGradesReadBack() throws SQLException, IOException {
+        Path file = dir.resolve("enrollment.ucol");
+        ColumnarExport.exportEnrollments(enrollmentDAO, file);
+
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            PrimitiveIterator.OfLong ids = reader.longColumn("id");
+            PrimitiveIterator.OfLong studentIds = reader.longColumn("student_id");
+            PrimitiveIterator.OfLong courseIds = reader.longColumn("course_id");
+            Iterator<String> grades = reader.stringColumn("grade");
+            for (Enrollment enrollment : enrollmentDAO.getAllEnrollments()) {
+                assertEquals(enrollment, new Enrollment(ids.nextLong(), studentIds.nextLong(), courseIds.nextLong(),
+                        grades.next()));
+            }
+            assertFalse(ids.hasNext());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.softserve.academy.jdbc.columnar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarRoundTripTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void longExtremesAndNegativeDeltasReadBack() throws IOException {
+        long[] numbers = {Long.MAX_VALUE, Long.MIN_VALUE, 0, -1, 1, Long.MIN_VALUE, Long.MAX_VALUE,
+                1_000_000_000_000L, -42, -42, 7};
+        Path file = dir.resolve("numbers.ucol");
+        try (ColumnarWriter writer = ColumnarWriter.create(file, "numbers", List.of(Column.ofLong("number")), 3)) {
+            for (long number : numbers) {
+                writer.setLong(0, number);
+                writer.endRow();
+            }
+        }
+
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            assertEquals(numbers.length, reader.getRowCount());
+            assertEquals(4, reader.getRowGroupCount());
+            PrimitiveIterator.OfLong column = reader.longColumn("number");
+            for (long number : numbers) {
+                assertEquals(number, column.nextLong());
+            }
+            assertFalse(column.hasNext());
+        }
+    }
+
+    @Test
+    void nullEmptyAndNonAsciiStringsReadBack() throws IOException {
+        String[] texts = {null, "", "zażółć gęślą jaźń", "日本語", "emoji 😀", "a,b\"c\nd", null, "", "plain"};
+        Path file = dir.resolve("texts.ucol");
+        try (ColumnarWriter writer = ColumnarWriter.create(file, "texts", List.of(Column.ofString("text")), 4)) {
+            for (String text : texts) {
+                writer.setString(0, text);
+                writer.endRow();
+            }
+        }
+
+        assertEquals(Arrays.asList(texts), readStrings(file, "text"));
+    }
+
+    @Test
+    void unsetStringIsNull() throws IOException {
+        Path file = dir.resolve("unset.ucol");
+        List<Column> columns = List.of(Column.ofLong("id"), Column.ofString("grade"));
+        try (ColumnarWriter writer = ColumnarWriter.create(file, "enrollment", columns)) {
+            writer.setLong(0, 1);
+            writer.setString(1, "A");
+            writer.endRow();
+            writer.setLong(0, 2);
+            writer.endRow();
+        }
+
+        assertEquals(Arrays.asList("A", null), readStrings(file, "grade"));
+    }
+
+    @Test
+    void unsetLongIsRejected() throws IOException {
+        try (ColumnarWriter writer = ColumnarWriter.create(dir.resolve("unset-long.ucol"), "t",
+                List.of(Column.ofLong("id"), Column.ofString("name")))) {
+            writer.setString(1, "name");
+            assertThrows(IllegalStateException.class, writer::endRow);
+            writer.setLong(0, 1);
+            writer.endRow();
+        }
+    }
+
+    /**
+     * The label column gains a new distinct value in every row, so it outgrows the dictionary and switches
+     * to plain encoding part way through; the repeated column keeps its dictionary throughout.
+     */
+    @Test
+    void dictionarySwitchesToPlainEncoding() throws IOException {
+        int rows = ColumnarWriter.MAX_DICTIONARY_SIZE + 10_000;
+        Path file = dir.resolve("labels.ucol");
+        List<Column> columns = List.of(Column.ofString("label"), Column.ofString("repeated"));
+        try (ColumnarWriter writer = ColumnarWriter.create(file, "labels", columns, 1_000)) {
+            for (int i = 0; i < rows; i++) {
+                writer.setString(0, "label " + i);
+                writer.setString(1, i % 7 == 0 ? null : "value " + i % 5);
+                writer.endRow();
+            }
+        }
+
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            assertEquals(columns, reader.getColumns());
+            assertEquals(rows, reader.getRowCount());
+            Iterator<String> labels = reader.stringColumn("label");
+            Iterator<String> repeated = reader.stringColumn("repeated");
+            for (int i = 0; i < rows; i++) {
+                assertEquals("label " + i, labels.next());
+                assertEquals(i % 7 == 0 ? null : "value " + i % 5, repeated.next());
+            }
+            assertFalse(labels.hasNext());
+        }
+    }
+
+    @Test
+    void emptyFileReadsBack() throws IOException {
+        Path file = dir.resolve("empty.ucol");
+        try (ColumnarWriter ignored = ColumnarWriter.create(file, "empty", List.of(Column.ofLong("id")))) {
+            // no rows
+        }
+
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            assertEquals("empty", reader.getTableName());
+            assertEquals(List.of(Column.ofLong("id")), reader.getColumns());
+            assertEquals(0, reader.getRowCount());
+            assertEquals(0, reader.getRowGroupCount());
+            assertFalse(reader.longColumn("id").hasNext());
+        }
+    }
+
+    private static List<String> readStrings(Path file, String column) throws IOException {
+        List<String> values = new ArrayList<>();
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            reader.stringColumn(column).forEachRemaining(values::add);
+        }
+        return values;
+    }
+}
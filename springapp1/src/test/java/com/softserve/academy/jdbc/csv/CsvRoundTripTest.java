@@ -0,0 +1,100 @@
+package com.softserve.academy.jdbc.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRoundTripTest {
+
+    @Test
+    void quotedFieldsReadBack() throws IOException {
+        List<List<String>> records = List.of(
+                List.of("id", "name", "department"),
+                List.of("1", "Brown, John", "Computer \"Science\""),
+                List.of("2", "line\nbreak", "carriage\r\nreturn"),
+                List.of("3", "\"", ","));
+
+        assertEquals(records, roundTrip(records));
+    }
+
+    @Test
+    void nonAsciiFieldsReadBack() throws IOException {
+        List<List<String>> records = List.of(
+                List.of("Łukasz Żółć", "Informatyka \"Stosowana\""),
+                List.of("日本語", "emoji 😀"));
+
+        assertEquals(records, roundTrip(records));
+    }
+
+    @Test
+    void nullIsWrittenAsEmptyField() throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter csv = new CsvWriter(out)) {
+            csv.writeRecord("1", null, "");
+        }
+
+        assertEquals("1,,\n", out.toString());
+        assertEquals(List.of(List.of("1", "", "")), readAll(out.toString()));
+    }
+
+    @Test
+    void lineEndingsAndBlankLines() throws IOException {
+        try (CsvReader csv = new CsvReader(new StringReader("a,b\r\n\r\nc,d\re,f\n\n"))) {
+            assertEquals(List.of("a", "b"), csv.readRecord());
+            assertEquals(1, csv.getLineNumber());
+            assertEquals(List.of("c", "d"), csv.readRecord());
+            assertEquals(3, csv.getLineNumber());
+            assertEquals(List.of("e", "f"), csv.readRecord());
+            assertEquals(4, csv.getLineNumber());
+            assertNull(csv.readRecord());
+        }
+    }
+
+    @Test
+    void fieldLongerThanTheBuffer() throws IOException {
+        String longField = "x,\"".repeat(50_000);
+        List<List<String>> records = List.of(List.of("1", longField), List.of("2", "short"));
+
+        assertEquals(records, roundTrip(records));
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertEquals(List.of(), readAll(""));
+    }
+
+    @Test
+    void unterminatedQuotedFieldIsRejected() {
+        IOException e = assertThrows(IOException.class, () -> readAll("a,b\n\"open,field\n"));
+        assertEquals("Unterminated quoted field starting on line 2", e.getMessage());
+    }
+
+    private static List<List<String>> roundTrip(List<List<String>> records) throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter csv = new CsvWriter(out)) {
+            for (List<String> record : records) {
+                csv.writeRecord(record.toArray(new String[0]));
+            }
+        }
+        return readAll(out.toString());
+    }
+
+    private static List<List<String>> readAll(String text) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader csv = new CsvReader(new StringReader(text))) {
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,181 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Partial-failure contract of the batch add* methods, which all go through {@link BatchInserter}.
+ */
+class BatchInserterTest {
+    private Connection conn;
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+    private long[] studentIds;
+    private long courseId;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:h2:mem:batch-inserter-test", "sa", "");
+        SchemaManager.createSchema(conn);
+        long teacherId = new TeacherDAO(conn).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+        courseId = new CourseDAO(conn).addCourse(new Course(0L, "Databases", teacherId));
+        studentIds = new StudentDAO(conn).addStudents(students(10)).getGeneratedIds();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    @Test
+    void duplicateInTheMiddleOfAChunkFailsOnlyThatRow() throws SQLException {
+        List<Enrollment> enrollments = enrollments(10);
+        // Row 5 repeats the (student, course) pair of row 1, in the second chunk of four
+        enrollments.set(5, new Enrollment(0L, studentIds[1], courseId, "B"));
+
+        BatchResult result = new EnrollmentDAO(countingCommits(conn)).addEnrollments(enrollments, 4);
+
+        assertEquals(Set.of(5), result.getFailures().keySet());
+        assertInstanceOf(SQLException.class, result.getFailures().get(5));
+        assertEquals(BatchResult.NO_ID, result.getGeneratedId(5));
+        assertEquals(9, result.getSuccessCount());
+        long[] ids = result.getGeneratedIds();
+        assertEquals(9, Arrays.stream(ids).filter(id -> id != BatchResult.NO_ID).distinct().count());
+        assertEquals(9, count("SELECT COUNT(*) FROM enrollment"));
+        assertEquals(studentIds[4], new EnrollmentDAO(conn).getEnrollmentById(ids[4]).getStudentId());
+    }
+
+    @Test
+    void failedChunkIsReplayedRowByRowAndEachRowCommitted() throws SQLException {
+        List<Enrollment> enrollments = enrollments(8);
+        enrollments.set(2, new Enrollment(0L, studentIds[0], courseId, "B"));
+
+        BatchResult result = new EnrollmentDAO(countingCommits(conn)).addEnrollments(enrollments, 4);
+
+        assertEquals(Set.of(2), result.getFailures().keySet());
+        // The first chunk is rolled back and replayed: three single-row commits, then one for the second chunk
+        assertEquals(4, commits.get());
+        assertTrue(conn.getAutoCommit());
+    }
+
+    @Test
+    void autoCommitConnectionCommitsEveryChunk() throws SQLException {
+        BatchResult result = new EnrollmentDAO(countingCommits(conn)).addEnrollments(enrollments(10), 4);
+
+        assertFalse(result.hasFailures());
+        assertEquals(3, commits.get());
+        assertTrue(conn.getAutoCommit());
+        assertEquals(10, count("SELECT COUNT(*) FROM enrollment"));
+    }
+
+    @Test
+    void rowsJoinTheCallersTransaction() throws SQLException {
+        conn.setAutoCommit(false);
+        List<Enrollment> enrollments = enrollments(10);
+        enrollments.set(6, new Enrollment(0L, studentIds[3], courseId, "B"));
+
+        BatchResult result = new EnrollmentDAO(countingCommits(conn)).addEnrollments(enrollments, 4);
+
+        assertEquals(Set.of(6), result.getFailures().keySet());
+        assertEquals(0, commits.get());
+        assertEquals(0, rollbacks.get());
+        assertFalse(conn.getAutoCommit());
+        assertEquals(9, count("SELECT COUNT(*) FROM enrollment"));
+        conn.rollback();
+        conn.setAutoCommit(true);
+        assertEquals(0, count("SELECT COUNT(*) FROM enrollment"));
+    }
+
+    @Test
+    void invalidAndRejectedRowsAreReportedByIndex() throws SQLException {
+        List<Student> students = students(5);
+        students.set(1, null);
+        students.set(3, new Student(0L, "Student 3", "e".repeat(300)));
+        students.add(new Student(0L, "x".repeat(300), "long@example.com"));
+
+        BatchResult result = new StudentDAO(conn).addStudents(students, 2);
+
+        assertEquals(Set.of(1, 3, 5), result.getFailures().keySet());
+        assertInstanceOf(IllegalArgumentException.class, result.getFailures().get(1));
+        assertInstanceOf(SQLException.class, result.getFailures().get(3));
+        assertInstanceOf(SQLException.class, result.getFailures().get(5));
+        assertNotEquals(BatchResult.NO_ID, result.getGeneratedId(4));
+        assertEquals(13, count("SELECT COUNT(*) FROM student"));
+    }
+
+    @Test
+    void emptyListInsertsNothing() throws SQLException {
+        BatchResult result = new StudentDAO(countingCommits(conn)).addStudents(List.of());
+
+        assertEquals(0, result.size());
+        assertEquals(0, commits.get());
+    }
+
+    private List<Student> students(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+        }
+        return students;
+    }
+
+    private List<Enrollment> enrollments(int count) {
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            enrollments.add(new Enrollment(0L, studentIds[i], courseId, "A"));
+        }
+        return enrollments;
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Wraps the connection so that full commits and rollbacks are counted; savepoint rollbacks are not.
+     */
+    private Connection countingCommits(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("commit")) {
+                        commits.incrementAndGet();
+                    } else if (method.getName().equals("rollback") && args == null) {
+                        rollbacks.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
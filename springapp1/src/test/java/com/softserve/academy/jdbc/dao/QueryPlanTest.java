@@ -0,0 +1,269 @@
+package com.softserve.academy.jdbc.dao;
+
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import com.softserve.academy.paging.ContinuationToken;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs EXPLAIN on every query the DAOs issue against a database of realistic size and fails on
+ * any plan that scans a whole table.
+ * The DAOs are called through a recording connection, so the statements and parameters that are
+ * explained are exactly the ones the DAOs execute. INSERTs and the unfiltered getAll reads are not
+ * checked, because they cannot use an index by design.
+ */
+class QueryPlanTest {
+    private static final int STUDENTS = 20_000;
+    private static final int TEACHERS = STUDENTS / 40;
+    private static final int COURSES = STUDENTS / 10;
+    private static final int COURSES_PER_STUDENT = 5;
+    private static final String TABLE_SCAN = ".tableScan";
+
+    private static ConnectionPool pool;
+    private static long[] studentIds;
+    private static long[] teacherIds;
+    private static long[] courseIds;
+
+    private Recorder recorder;
+    private String token;
+
+    @BeforeAll
+    static void populate() throws SQLException {
+        pool = ConnectionPool.builder("jdbc:h2:mem:query-plan-test;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(1)
+                .minIdle(1)
+                .build();
+        try (Connection conn = pool.getConnection()) {
+            SchemaManager.createSchema(conn);
+        }
+
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < TEACHERS; i++) {
+            teachers.add(new Teacher(0L, "Teacher " + i, "Department " + (i % 20)));
+        }
+        teacherIds = new TeacherDAO(pool).addTeachers(teachers).getGeneratedIds();
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            courses.add(new Course(0L, "Course " + i, teacherIds[i % TEACHERS]));
+        }
+        courseIds = new CourseDAO(pool).addCourses(courses).getGeneratedIds();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+        }
+        studentIds = new StudentDAO(pool).addStudents(students, 1000).getGeneratedIds();
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+                enrollments.add(new Enrollment(0L, studentIds[i], courseIds[(i + j * 7) % COURSES], "B"));
+            }
+        }
+        new EnrollmentDAO(pool).addEnrollments(enrollments, 1000);
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void closePool() {
+        pool.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        recorder = new Recorder(pool);
+        token = ContinuationToken.encode(studentIds[STUDENTS / 2]);
+    }
+
+    @Test
+    void studentQueriesUseAnIndex() throws SQLException {
+        StudentDAO studentDAO = new StudentDAO(recorder);
+        Student student = studentDAO.getStudentById(studentIds[STUDENTS / 2]);
+        studentDAO.updateStudent(student);
+        studentDAO.getStudentsPage(token, 20);
+        studentDAO.deleteStudent(studentDAO.addStudent(new Student(0L, "Temporary", "temporary@example.com")));
+
+        assertNoTableScans(4);
+    }
+
+    @Test
+    void teacherQueriesUseAnIndex() throws SQLException {
+        TeacherDAO teacherDAO = new TeacherDAO(recorder);
+        Teacher teacher = teacherDAO.getTeacherById(teacherIds[TEACHERS / 2]);
+        teacherDAO.updateTeacher(teacher);
+        teacherDAO.getTeachersByName(teacher.getName());
+        teacherDAO.getTeachersPage(token, 20);
+        teacherDAO.deleteTeacher(teacherDAO.addTeacher(new Teacher(0L, "Temporary", "Temporary")));
+
+        assertNoTableScans(5);
+    }
+
+    @Test
+    void courseQueriesUseAnIndex() throws SQLException {
+        CourseDAO courseDAO = new CourseDAO(recorder);
+        Course course = courseDAO.getCourseById(courseIds[COURSES / 2]);
+        courseDAO.updateCourse(course);
+        courseDAO.getCoursesByTitle(course.getTitle());
+        courseDAO.getCoursesPage(token, 20);
+        courseDAO.deleteCourse(courseDAO.addCourse(new Course(0L, "Temporary", teacherIds[0])));
+
+        assertNoTableScans(5);
+    }
+
+    @Test
+    void enrollmentQueriesUseAnIndex() throws SQLException {
+        EnrollmentDAO enrollmentDAO = new EnrollmentDAO(recorder);
+        long studentId = new StudentDAO(pool).addStudent(new Student(0L, "Temporary", "temporary@example.com"));
+        try {
+            Enrollment enrollment = enrollmentDAO.getEnrollmentById(
+                    enrollmentDAO.getEnrollmentsPage(token, 1).getItems().get(0).getId());
+            enrollmentDAO.updateEnrollment(enrollment);
+            enrollmentDAO.getEnrollmentsPage(token, 20);
+            enrollmentDAO.deleteEnrollment(enrollmentDAO.addEnrollment(
+                    new Enrollment(0L, studentId, courseIds[COURSES / 2], "C")));
+        } finally {
+            new StudentDAO(pool).deleteStudent(studentId);
+        }
+
+        assertNoTableScans(4);
+    }
+
+    @Test
+    void transcriptQueriesUseAnIndex() throws SQLException {
+        TranscriptDAO transcriptDAO = new TranscriptDAO(recorder);
+        transcriptDAO.getTranscript(studentIds[STUDENTS / 2]);
+        transcriptDAO.getRoster(courseIds[COURSES / 2]);
+        List<Long> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(studentIds[i * 7]);
+        }
+        transcriptDAO.getTranscripts(batch);
+
+        assertNoTableScans(3);
+    }
+
+    /**
+     * Explains every recorded query that filters rows and fails with the SQL and plan of each one
+     * that reads a whole table.
+     *
+     * @param expectedQueries How many indexable statements the test is expected to have issued,
+     *                        so that a DAO change that moves a query out of sight does not go unnoticed.
+     */
+    private void assertNoTableScans(int expectedQueries) throws SQLException {
+        List<String> scans = new ArrayList<>();
+        int checked = 0;
+        try (Connection conn = pool.getConnection()) {
+            for (Map.Entry<String, Map<Integer, Object>> query : recorder.queries.entrySet()) {
+                String sql = query.getKey();
+                if (!isIndexable(sql)) {
+                    continue;
+                }
+                checked++;
+                String plan = explain(conn, sql, query.getValue());
+                if (plan.contains(TABLE_SCAN)) {
+                    scans.add(sql + "\n" + plan);
+                }
+            }
+        }
+        assertFalse(recorder.queries.isEmpty());
+        assertEquals(List.of(), scans);
+        assertEquals(expectedQueries, checked);
+    }
+
+    private static boolean isIndexable(String sql) {
+        String upper = sql.trim().toUpperCase();
+        return !upper.startsWith("INSERT") && upper.contains(" WHERE ");
+    }
+
+    private static String explain(Connection conn, String sql, Map<Integer, Object> parameters) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("EXPLAIN " + sql)) {
+            for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                pstmt.setObject(parameter.getKey(), parameter.getValue());
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString().trim();
+        }
+    }
+
+    /**
+     * A connection provider that remembers each distinct SQL statement prepared through it,
+     * together with the parameters it was first executed with.
+     */
+    private static final class Recorder implements ConnectionProvider {
+        private final ConnectionProvider delegate;
+        private final Map<String, Map<Integer, Object>> queries = new LinkedHashMap<>();
+
+        private Recorder(ConnectionProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection conn = delegate.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(conn, method, args);
+                        if (method.getName().equals("prepareStatement")) {
+                            return record((String) args[0], (PreparedStatement) result);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement record(String sql, PreparedStatement pstmt) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            InvocationHandler handler = (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    parameters.put((Integer) args[0], args[1]);
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.startsWith("execute") || name.equals("addBatch")) {
+                    queries.putIfAbsent(sql, new TreeMap<>(parameters));
+                }
+                return invoke(pstmt, method, args);
+            };
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, handler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.softserve.academy.jdbc.pool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionPoolTest {
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private String url;
+    private Connection admin;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:h2:mem:pool-test-" + DATABASES.incrementAndGet();
+        // Keeps the in-memory database alive while the pool's connections come and go
+        admin = DriverManager.getConnection(url, "sa", "");
+        try (Statement stmt = admin.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE item (id INT PRIMARY KEY)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        admin.close();
+    }
+
+    @Test
+    void checkoutTimesOutWhenThePoolIsExhausted() throws SQLException {
+        try (ConnectionPool pool = ConnectionPool.builder(url, "sa", "")
+                .maxSize(1)
+                .minIdle(0)
+                .connectionTimeoutMillis(100)
+                .build()) {
+            try (Connection held = pool.getConnection()) {
+                long start = System.nanoTime();
+                assertThrows(SQLTimeoutException.class, pool::getConnection);
+                assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 90);
+                assertEquals(1, pool.getMetrics().getTimeouts());
+                assertEquals(1, pool.getMetrics().getActiveConnections());
+            }
+            try (Connection conn = pool.getConnection()) {
+                assertTrue(conn.isValid(1));
+            }
+            assertEquals(1, pool.getMetrics().getTotalConnections());
+        }
+    }
+
+    @Test
+    void waitingCallerGetsTheReturnedConnection() throws Exception {
+        try (ConnectionPool pool = ConnectionPool.builder(url, "sa", "").maxSize(1).minIdle(1).build()) {
+            Connection held = pool.getConnection();
+            CompletableFuture<Long> waiter = CompletableFuture.supplyAsync(() -> {
+                try (Connection conn = pool.getConnection()) {
+                    return sessionId(conn);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Thread.sleep(50);
+            long heldSession = sessionId(held);
+            held.close();
+
+            assertEquals(heldSession, waiter.get(5, TimeUnit.SECONDS));
+            assertEquals(0, pool.getMetrics().getTimeouts());
+        }
+    }
+
+    @Test
+    void idleConnectionIsNotValidatedWithinTheValidationInterval() throws SQLException {
+        try (ConnectionPool pool = ConnectionPool.builder(url, "sa", "")
+                .maxSize(1)
+                .minIdle(0)
+                .validationIntervalMillis(60_000)
+                .build()) {
+            long idle;
+            try (Connection conn = pool.getConnection()) {
+                idle = sessionId(conn);
+            }
+            abortSession(idle);
+            // The pool trusts a connection that was used moments ago and hands the broken one out
+            try (Connection conn = pool.getConnection()) {
+                assertThrows(SQLException.class, () -> sessionId(conn));
+            }
+        }
+    }
+
+    @Test
+    void brokenConnectionIsReplacedAfterTheValidationInterval() throws Exception {
+        try (ConnectionPool pool = ConnectionPool.builder(url, "sa", "")
+                .maxSize(1)
+                .minIdle(0)
+                .validationIntervalMillis(20)
+                .build()) {
+            long broken;
+            try (Connection conn = pool.getConnection()) {
+                broken = sessionId(conn);
+            }
+            abortSession(broken);
+            Thread.sleep(50);
+
+            try (Connection conn = pool.getConnection()) {
+                assertNotEquals(broken, sessionId(conn));
+            }
+            assertEquals(1, pool.getMetrics().getTotalConnections());
+        }
+    }
+
+    @Test
+    void releaseRollsBackAndRestoresAutoCommit() throws SQLException {
+        try (ConnectionPool pool = ConnectionPool.builder(url, "sa", "").maxSize(1).minIdle(1).build()) {
+            long session;
+            try (Connection conn = pool.getConnection()) {
+                session = sessionId(conn);
+                conn.setAutoCommit(false);
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.executeUpdate("INSERT INTO item (id) VALUES (1)");
+                }
+            }
+
+            try (Connection conn = pool.getConnection();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM item")) {
+                assertEquals(session, sessionId(conn));
+                assertTrue(conn.getAutoCommit());
+                rs.next();
+                assertEquals(0, rs.getLong(1));
+            }
+        }
+    }
+
+    @Test
+    void connectionHeldPastTheThresholdIsReportedOnce() throws Exception {
+        try (ConnectionPool pool = ConnectionPool.builder(url, "sa", "")
+                .maxSize(2)
+                .minIdle(0)
+                .leakDetectionThresholdMillis(50)
+                .build()) {
+            try (Connection returned = pool.getConnection()) {
+                assertTrue(returned.isValid(1));
+            }
+            try (Connection leaked = pool.getConnection()) {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (pool.getMetrics().getLeaksDetected() == 0 && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertEquals(1, pool.getMetrics().getLeaksDetected());
+                Thread.sleep(150);
+                assertEquals(1, pool.getMetrics().getLeaksDetected());
+            }
+        }
+    }
+
+    private static long sessionId(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT SESSION_ID()")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void abortSession(long sessionId) throws SQLException {
+        try (Statement stmt = admin.createStatement()) {
+            stmt.execute("CALL ABORT_SESSION(" + sessionId + ")");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.softserve.academy.jdbc.pool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The statement cache as the DAOs use it, through the connections of a {@link SingleConnectionProvider}.
+ * The physical connection records every statement the driver prepares, so that reuse and closing can
+ * be checked on the driver's statements rather than on the cache's wrappers.
+ */
+class StatementCacheTest {
+    private static final String SELECT_A = "SELECT id FROM item WHERE id = ?";
+    private static final String SELECT_B = "SELECT id FROM item WHERE id > ?";
+    private static final String SELECT_C = "SELECT COUNT(*) FROM item";
+
+    private Connection physical;
+    private final List<PreparedStatement> prepared = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        physical = DriverManager.getConnection("jdbc:h2:mem:statement-cache-test", "sa", "");
+        try (Statement stmt = physical.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE item (id INT PRIMARY KEY)");
+            stmt.executeUpdate("INSERT INTO item (id) VALUES (1), (2), (3)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        physical.close();
+    }
+
+    @Test
+    void closedStatementIsReusedWithItsParametersCleared() throws SQLException {
+        SingleConnectionProvider provider = new SingleConnectionProvider(recording(physical), 4);
+        try (Connection conn = provider.getConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(SELECT_A)) {
+                pstmt.setInt(1, 2);
+                assertEquals(2, single(pstmt));
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(SELECT_A)) {
+                assertThrows(SQLException.class, pstmt::executeQuery);
+                pstmt.setInt(1, 3);
+                assertEquals(3, single(pstmt));
+                assertSame(conn, pstmt.getConnection());
+            }
+        }
+
+        assertEquals(1, prepared.size());
+        assertFalse(prepared.get(0).isClosed());
+        assertEquals(1, provider.getStatementCacheStats().getHits());
+        assertEquals(1, provider.getStatementCacheStats().getMisses());
+    }
+
+    @Test
+    void busyStatementGetsAThrowawayCopy() throws SQLException {
+        SingleConnectionProvider provider = new SingleConnectionProvider(recording(physical), 4);
+        try (Connection conn = provider.getConnection()) {
+            PreparedStatement busy = conn.prepareStatement(SELECT_B);
+            busy.setInt(1, 0);
+            try (ResultSet cursor = busy.executeQuery()) {
+                cursor.next();
+                try (PreparedStatement copy = conn.prepareStatement(SELECT_B)) {
+                    copy.setInt(1, 2);
+                    assertEquals(3, single(copy));
+                }
+                // The copy is not cached: closing it closes the driver's statement
+                assertTrue(prepared.get(1).isClosed());
+                assertTrue(cursor.next());
+            }
+            busy.close();
+            assertFalse(prepared.get(0).isClosed());
+
+            try (PreparedStatement again = conn.prepareStatement(SELECT_B)) {
+                again.setInt(1, 1);
+                assertEquals(2, single(again));
+            }
+        }
+
+        assertEquals(2, prepared.size());
+        assertEquals(1, provider.getStatementCacheStats().getHits());
+        assertEquals(2, provider.getStatementCacheStats().getMisses());
+    }
+
+    @Test
+    void leastRecentlyUsedStatementIsEvictedAndClosed() throws SQLException {
+        SingleConnectionProvider provider = new SingleConnectionProvider(recording(physical), 2);
+        try (Connection conn = provider.getConnection()) {
+            conn.prepareStatement(SELECT_A).close();
+            conn.prepareStatement(SELECT_B).close();
+            // Touching A makes B the least recently used one
+            conn.prepareStatement(SELECT_A).close();
+            conn.prepareStatement(SELECT_C).close();
+        }
+
+        assertEquals(3, prepared.size());
+        assertFalse(prepared.get(0).isClosed());
+        assertTrue(prepared.get(1).isClosed());
+        assertFalse(prepared.get(2).isClosed());
+        assertEquals(1, provider.getStatementCacheStats().getEvictions());
+    }
+
+    @Test
+    void statementInUseIsNotEvicted() throws SQLException {
+        SingleConnectionProvider provider = new SingleConnectionProvider(recording(physical), 1);
+        try (Connection conn = provider.getConnection();
+             PreparedStatement held = conn.prepareStatement(SELECT_A)) {
+            conn.prepareStatement(SELECT_B).close();
+
+            held.setInt(1, 1);
+            assertEquals(1, single(held));
+            assertFalse(prepared.get(0).isClosed());
+        }
+        assertEquals(0, provider.getStatementCacheStats().getEvictions());
+    }
+
+    @Test
+    void staleReferenceCannotUseTheReturnedStatement() throws SQLException {
+        SingleConnectionProvider provider = new SingleConnectionProvider(recording(physical), 4);
+        try (Connection conn = provider.getConnection()) {
+            PreparedStatement first = conn.prepareStatement(SELECT_A);
+            first.close();
+            try (PreparedStatement second = conn.prepareStatement(SELECT_A)) {
+                assertNotSame(first, second);
+                assertTrue(first.isClosed());
+                assertThrows(SQLException.class, () -> first.setInt(1, 1));
+                assertFalse(second.isClosed());
+            }
+        }
+    }
+
+    private static int single(PreparedStatement pstmt) throws SQLException {
+        try (ResultSet rs = pstmt.executeQuery()) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * Wraps the connection so that every statement the driver prepares is recorded.
+     */
+    private Connection recording(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("prepareStatement")) {
+                        prepared.add((PreparedStatement) result);
+                    }
+                    return result;
+                });
+    }
+}
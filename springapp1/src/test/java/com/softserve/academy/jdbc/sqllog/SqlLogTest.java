@@ -0,0 +1,130 @@
+package com.softserve.academy.jdbc.sqllog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlLogTest {
+    private static final String SQL = "SELECT id FROM student WHERE id = ?";
+
+    @Test
+    void idleConsumerParksUntilTheNextReport() throws Exception {
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        AtomicReference<Thread> consumer = new AtomicReference<>();
+        try (SqlLog log = SqlLog.builder().sampleInterval(1).reportIntervalSeconds(3_600).sink(line -> {
+            consumer.set(Thread.currentThread());
+            lines.add(line);
+        }).build()) {
+            log.record(SQL, 1_000, 1, 0, 1, false);
+            assertNotNull(lines.poll(5, TimeUnit.SECONDS));
+
+            awaitParked(consumer.get(), log, Thread.State.TIMED_WAITING);
+            // Past the linger period, the consumer sleeps until the next report
+            Thread.sleep(20);
+            awaitParked(consumer.get(), log, Thread.State.TIMED_WAITING);
+
+            // Only record can wake it well before the report is due an hour from now
+            log.record(SQL, 2_000, 1, 0, 1, false);
+            assertNotNull(lines.poll(5, TimeUnit.SECONDS));
+            assertEquals(2, log.getTopStatements().get(0).getExecutions());
+        }
+    }
+
+    @Test
+    void consumerWithoutReportsParksUntilAStatementIsRecorded() throws Exception {
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        AtomicReference<Thread> consumer = new AtomicReference<>();
+        try (SqlLog log = SqlLog.builder().sampleInterval(1).reportIntervalSeconds(0).sink(line -> {
+            consumer.set(Thread.currentThread());
+            lines.add(line);
+        }).build()) {
+            for (int round = 0; round < 3; round++) {
+                log.record(SQL, 1_000, 1, 0, 1, false);
+                assertNotNull(lines.poll(5, TimeUnit.SECONDS));
+                awaitParked(consumer.get(), log, Thread.State.WAITING);
+            }
+            assertEquals(3, log.getTopStatements().get(0).getExecutions());
+        }
+    }
+
+    @Test
+    void awaitDrainedWaitsOnTheMonitorUntilTheConsumerCatchesUp() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (SqlLog log = SqlLog.builder().sampleInterval(1).reportIntervalSeconds(0).sink(line -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).build()) {
+            // The consumer blocks in the sink on the first event, so the second one stays in the ring
+            log.record(SQL, 1_000, 1, 0, 1, false);
+            log.record(SQL, 1_000, 1, 0, 1, false);
+
+            AtomicReference<Thread> waiter = new AtomicReference<>();
+            CompletableFuture<Boolean> drained = CompletableFuture.supplyAsync(() -> {
+                waiter.set(Thread.currentThread());
+                return log.awaitDrained(10_000);
+            });
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((waiter.get() == null || waiter.get().getState() != Thread.State.TIMED_WAITING)
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(Thread.State.TIMED_WAITING, waiter.get().getState());
+            assertFalse(drained.isDone());
+
+            release.countDown();
+            assertTrue(drained.get(5, TimeUnit.SECONDS));
+            List<SqlStatementStats> statements = log.getTopStatements();
+            assertEquals(2, statements.get(0).getExecutions());
+        }
+    }
+
+    @Test
+    void awaitDrainedGivesUpAfterTheTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (SqlLog log = SqlLog.builder().sampleInterval(1).reportIntervalSeconds(0).sink(line -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).build()) {
+            log.record(SQL, 1_000, 1, 0, 1, false);
+            log.record(SQL, 1_000, 1, 0, 1, false);
+
+            long start = System.nanoTime();
+            assertFalse(log.awaitDrained(50));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 40);
+            release.countDown();
+            assertTrue(log.awaitDrained(5_000));
+        }
+    }
+
+    /**
+     * Waits for the consumer to park on the log after its linger period.
+     */
+    private static void awaitParked(Thread consumer, SqlLog log, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((consumer.getState() != state || LockSupport.getBlocker(consumer) != log)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(state, consumer.getState());
+        assertSame(log, LockSupport.getBlocker(consumer));
+    }
+}
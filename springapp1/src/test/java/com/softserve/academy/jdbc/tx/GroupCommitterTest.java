@@ -0,0 +1,147 @@
+package com.softserve.academy.jdbc.tx;
+
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Group commit through {@link TransactionManager#inTransaction}. The window is long and the group size
+ * equals the number of callers, so all units of work of a test are committed as one group.
+ */
+class GroupCommitterTest {
+    private static final int CALLERS = 8;
+
+    private ConnectionPool pool;
+    private TransactionManager manager;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = ConnectionPool.builder("jdbc:h2:mem:group-committer-test;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(2)
+                .build();
+        try (Connection conn = pool.getConnection()) {
+            SchemaManager.createSchema(conn);
+        }
+        manager = TransactionManager.builder(pool)
+                .groupCommit(true)
+                .groupCommitWindowMicros(5_000_000)
+                .maxGroupSize(CALLERS)
+                .build();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        executor.shutdown();
+        manager.close();
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        pool.close();
+    }
+
+    @Test
+    void failingUnitsAreRolledBackToTheirSavepointAndTheRestCommitted() throws Exception {
+        StudentDAO studentDAO = new StudentDAO(manager);
+        Set<Integer> callbacks = new ConcurrentSkipListSet<>();
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            int unit = i;
+            results.add(executor.submit(() -> manager.inTransaction(() -> {
+                long id = studentDAO.addStudent(new Student(0L, "Student " + unit, "student" + unit + "@example.com"));
+                manager.afterCommit(() -> callbacks.add(unit));
+                if (unit % 3 == 1) {
+                    throw new SQLException("Failing unit of work " + unit);
+                }
+                return id;
+            })));
+        }
+
+        Set<Integer> failed = new TreeSet<>();
+        for (int i = 0; i < CALLERS; i++) {
+            try {
+                assertTrue(results.get(i).get() > 0);
+            } catch (ExecutionException e) {
+                assertInstanceOf(SQLException.class, e.getCause());
+                assertEquals("Failing unit of work " + i, e.getCause().getMessage());
+                failed.add(i);
+            }
+        }
+
+        assertEquals(Set.of(1, 4, 7), failed);
+        assertEquals(Set.of(0, 2, 3, 5, 6), callbacks);
+        assertEquals(1, manager.getCommits());
+        assertEquals(5, manager.getCommittedTransactions());
+        assertEquals(3, manager.getRolledBackTransactions());
+        assertEquals(5, count("SELECT COUNT(*) FROM student"));
+        assertEquals(0, count("SELECT COUNT(*) FROM student WHERE name IN ('Student 1', 'Student 4', 'Student 7')"));
+    }
+
+    @Test
+    void unitWithARolledBackJoinedTransactionFailsAlone() throws Exception {
+        StudentDAO studentDAO = new StudentDAO(manager);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            int unit = i;
+            results.add(executor.submit(() -> manager.inTransaction(() -> {
+                long id = studentDAO.addStudent(new Student(0L, "Student " + unit, "student" + unit + "@example.com"));
+                if (unit == 0) {
+                    // The joined transaction is rolled back, which marks the unit rollback-only
+                    try (Transaction joined = manager.begin()) {
+                        joined.rollback();
+                    }
+                }
+                return id;
+            })));
+        }
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> results.get(0).get());
+        assertInstanceOf(SQLException.class, e.getCause());
+        for (int i = 1; i < CALLERS; i++) {
+            assertTrue(results.get(i).get() > 0);
+        }
+        assertEquals(1, manager.getCommits());
+        assertEquals(CALLERS - 1, count("SELECT COUNT(*) FROM student"));
+        assertEquals(0, count("SELECT COUNT(*) FROM student WHERE name = 'Student 0'"));
+    }
+
+    @Test
+    void closedManagerRefusesNewUnits() {
+        manager.close();
+
+        assertThrows(SQLException.class, () -> manager.inTransaction(() -> null));
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
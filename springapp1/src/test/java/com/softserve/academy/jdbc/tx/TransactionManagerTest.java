@@ -0,0 +1,229 @@
+package com.softserve.academy.jdbc.tx;
+
+import com.softserve.academy.jdbc.cache.CachingStudentDAO;
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionManagerTest {
+    private ConnectionPool pool;
+    private TransactionManager manager;
+    private StudentDAO studentDAO;
+    private long courseId;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = ConnectionPool.builder("jdbc:h2:mem:transaction-manager-test;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(4)
+                .build();
+        try (Connection conn = pool.getConnection()) {
+            SchemaManager.createSchema(conn);
+        }
+        long teacherId = new TeacherDAO(pool).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+        courseId = new CourseDAO(pool).addCourse(new Course(0L, "Databases", teacherId));
+        manager = new TransactionManager(pool);
+        studentDAO = new StudentDAO(manager);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        pool.close();
+    }
+
+    @Test
+    void joinedUnitOfWorkIsCommittedWithTheOuterOneInOneCommit() throws SQLException {
+        long studentId = manager.inTransaction(() -> {
+            long id = addStudent("Joined");
+            manager.inTransaction(() -> new EnrollmentDAO(manager).addEnrollment(
+                    new Enrollment(0L, id, courseId, "B")));
+            assertEquals(0, manager.getCommits());
+            return id;
+        });
+
+        assertNotNull(studentDAO.getStudentById(studentId));
+        assertEquals(1, count("SELECT COUNT(*) FROM enrollment"));
+        assertEquals(1, manager.getCommits());
+        assertEquals(1, manager.getCommittedTransactions());
+    }
+
+    @Test
+    void failedJoinedUnitOfWorkRollsTheOuterOneBack() throws SQLException {
+        AtomicLong written = new AtomicLong();
+        assertThrows(SQLException.class, () -> manager.inTransaction(() -> {
+            written.set(addStudent("Outer"));
+            try {
+                manager.inTransaction(() -> {
+                    throw new SQLException("Failure in a joined transaction");
+                });
+            } catch (SQLException e) {
+                // Swallowed on purpose: the outer transaction must still roll back
+            }
+            return null;
+        }));
+
+        assertFalse(manager.isInTransaction());
+        assertEquals(0, manager.getCommits());
+        assertEquals(1, manager.getRolledBackTransactions());
+        assertEquals(0, count("SELECT COUNT(*) FROM student WHERE id = " + written.get()));
+    }
+
+    @Test
+    void exceptionOfTheUnitOfWorkRollsItBackAndIsRethrown() throws SQLException {
+        AtomicLong written = new AtomicLong();
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> manager.inTransaction(() -> {
+            written.set(addStudent("Failing"));
+            throw new IllegalStateException("Failing unit of work");
+        }));
+
+        assertEquals("Failing unit of work", e.getMessage());
+        assertEquals(0, count("SELECT COUNT(*) FROM student WHERE id = " + written.get()));
+    }
+
+    @Test
+    void daosCannotEndAManagedTransaction() throws SQLException {
+        try (Transaction transaction = manager.begin()) {
+            try (Connection conn = manager.getConnection()) {
+                assertThrows(SQLException.class, conn::commit);
+                assertThrows(SQLException.class, conn::rollback);
+                assertThrows(SQLException.class, () -> conn.setAutoCommit(true));
+            }
+            // Closing the DAO's connection leaves the transaction's connection open
+            addStudent("Still open");
+            transaction.commit();
+        }
+        assertEquals(1, count("SELECT COUNT(*) FROM student"));
+    }
+
+    @Test
+    void outsideATransactionStatementsRunInAutoCommitMode() throws SQLException {
+        assertFalse(manager.isInTransaction());
+        try (Connection conn = manager.getConnection()) {
+            assertTrue(conn.getAutoCommit());
+        }
+        long id = addStudent("Auto");
+
+        assertEquals(1, count("SELECT COUNT(*) FROM student WHERE id = " + id));
+        assertEquals(0, manager.getCommits());
+    }
+
+    @Test
+    void afterCommitCallbacksRunAfterTheCommitInOrder() throws SQLException {
+        List<String> callbacks = new ArrayList<>();
+        manager.inTransaction(() -> {
+            manager.afterCommit(() -> callbacks.add("first"));
+            manager.inTransaction(() -> {
+                manager.afterCommit(() -> callbacks.add("joined"));
+                return null;
+            });
+            manager.afterCommit(() -> {
+                throw new IllegalStateException("Failing callback");
+            });
+            manager.afterCommit(() -> callbacks.add("last"));
+            callbacks.add("work");
+            return null;
+        });
+
+        assertEquals(List.of("work", "first", "joined", "last"), callbacks);
+    }
+
+    @Test
+    void afterCommitCallbacksAreDroppedOnRollback() throws SQLException {
+        List<String> callbacks = new ArrayList<>();
+        try (Transaction transaction = manager.begin()) {
+            manager.afterCommit(() -> callbacks.add("rolled back"));
+            transaction.rollback();
+        }
+        try (Transaction outer = manager.begin()) {
+            manager.afterCommit(() -> callbacks.add("rollback-only"));
+            manager.begin().rollback();
+            assertThrows(SQLException.class, outer::commit);
+        }
+
+        assertEquals(List.of(), callbacks);
+    }
+
+    @Test
+    void afterCommitNeedsAnActiveTransaction() {
+        assertThrows(IllegalStateException.class, () -> manager.afterCommit(() -> {
+        }));
+    }
+
+    @Test
+    void cachingDaoDoesNotKeepARowReadBeforeTheCommit() throws SQLException {
+        CachingStudentDAO cachingDAO = new CachingStudentDAO(manager);
+        long id = cachingDAO.addStudent(new Student(0L, "Cached", "cached@example.com"));
+
+        manager.inTransaction(() -> {
+            cachingDAO.updateStudent(new Student(id, "Renamed", "cached@example.com"));
+            // Another thread caches the old row while the update is not committed yet
+            CompletableFuture.runAsync(() -> {
+                try {
+                    assertEquals("Cached", cachingDAO.getStudentById(id).getName());
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).join();
+            assertEquals("Renamed", cachingDAO.getStudentById(id).getName());
+            return null;
+        });
+
+        assertEquals("Renamed", cachingDAO.getStudentById(id).getName());
+    }
+
+    @Test
+    void cachingDaoDoesNotCacheUncommittedRows() throws SQLException {
+        CachingStudentDAO cachingDAO = new CachingStudentDAO(manager);
+        long id = cachingDAO.addStudent(new Student(0L, "Cached", "cached@example.com"));
+
+        try (Transaction transaction = manager.begin()) {
+            cachingDAO.updateStudent(new Student(id, "Renamed", "cached@example.com"));
+            assertEquals("Renamed", cachingDAO.getStudentById(id).getName());
+            transaction.rollback();
+        }
+
+        assertEquals("Cached", cachingDAO.getStudentById(id).getName());
+        assertNull(cachingDAO.getStudentById(id + 1));
+    }
+
+    private long addStudent(String name) throws SQLException {
+        return studentDAO.addStudent(new Student(0L, name, name.toLowerCase().replace(' ', '.') + "@example.com"));
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
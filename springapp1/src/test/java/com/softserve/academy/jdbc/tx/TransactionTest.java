@@ -0,0 +1,158 @@
+package com.softserve.academy.jdbc.tx;
+
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionTest {
+    private ConnectionPool pool;
+    private TransactionManager manager;
+    private StudentDAO studentDAO;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = ConnectionPool.builder("jdbc:h2:mem:transaction-test;DB_CLOSE_DELAY=-1", "sa", "").maxSize(4).build();
+        try (Connection conn = pool.getConnection()) {
+            SchemaManager.createSchema(conn);
+        }
+        manager = new TransactionManager(pool);
+        studentDAO = new StudentDAO(manager);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        pool.close();
+    }
+
+    @Test
+    void closingWithoutACommitRollsBack() throws SQLException {
+        long id;
+        try (Transaction transaction = manager.begin()) {
+            id = addStudent("Uncommitted");
+            assertTrue(transaction.isOutermost());
+        }
+
+        assertNull(studentDAO.getStudentById(id));
+        assertFalse(manager.isInTransaction());
+        assertEquals(1, manager.getRolledBackTransactions());
+    }
+
+    @Test
+    void joinedTransactionIsCommittedByTheOutermostOne() throws SQLException {
+        long id;
+        try (Transaction outer = manager.begin()) {
+            try (Transaction inner = manager.begin()) {
+                assertFalse(inner.isOutermost());
+                id = addStudent("Joined");
+                inner.commit();
+            }
+            assertEquals(0, manager.getCommits());
+            outer.commit();
+        }
+
+        assertNotNull(studentDAO.getStudentById(id));
+        assertEquals(1, manager.getCommits());
+    }
+
+    @Test
+    void rollingBackTheOuterTransactionUndoesTheJoinedOne() throws SQLException {
+        long id;
+        try (Transaction outer = manager.begin()) {
+            try (Transaction inner = manager.begin()) {
+                id = addStudent("Joined");
+                inner.commit();
+            }
+            outer.rollback();
+        }
+
+        assertNull(studentDAO.getStudentById(id));
+        assertEquals(0, manager.getCommits());
+    }
+
+    @Test
+    void rolledBackJoinedTransactionMakesTheOuterCommitFail() throws SQLException {
+        long id;
+        try (Transaction outer = manager.begin()) {
+            id = addStudent("Outer");
+            try (Transaction inner = manager.begin()) {
+                inner.rollback();
+            }
+            assertThrows(SQLException.class, outer::commit);
+            assertTrue(outer.isCompleted());
+        }
+
+        assertNull(studentDAO.getStudentById(id));
+        assertEquals(1, manager.getRolledBackTransactions());
+    }
+
+    @Test
+    void joinedTransactionClosedWithoutACommitMarksTheOuterOneRollbackOnly() throws SQLException {
+        try (Transaction outer = manager.begin()) {
+            manager.begin().close();
+            assertThrows(SQLException.class, outer::commit);
+        }
+        assertEquals(0, manager.getCommits());
+    }
+
+    @Test
+    void outermostTransactionCannotEndWhileAJoinedOneIsActive() throws SQLException {
+        try (Transaction outer = manager.begin()) {
+            Transaction inner = manager.begin();
+            assertThrows(IllegalStateException.class, outer::commit);
+            inner.commit();
+            outer.commit();
+        }
+        assertEquals(1, manager.getCommits());
+    }
+
+    @Test
+    void completedTransactionCannotBeCompletedAgain() throws SQLException {
+        try (Transaction transaction = manager.begin()) {
+            transaction.commit();
+            assertThrows(IllegalStateException.class, transaction::commit);
+            assertThrows(IllegalStateException.class, transaction::rollback);
+        }
+        assertEquals(1, manager.getCommits());
+    }
+
+    @Test
+    void transactionCannotBeUsedOnAnotherThread() throws SQLException {
+        try (Transaction transaction = manager.begin()) {
+            CompletableFuture<Exception> failure = CompletableFuture.supplyAsync(() -> {
+                try {
+                    transaction.commit();
+                    return null;
+                } catch (SQLException | RuntimeException e) {
+                    return e;
+                }
+            });
+            assertInstanceOf(IllegalStateException.class, failure.join());
+            assertFalse(transaction.isCompleted());
+            transaction.commit();
+        }
+    }
+
+    private long addStudent(String name) throws SQLException {
+        return studentDAO.addStudent(new Student(0L, name, name.toLowerCase() + "@example.com"));
+    }
+}
@@ -0,0 +1,312 @@
+package com.softserve.academy.jdbc.writebehind;
+
+import com.softserve.academy.jdbc.dao.CourseDAO;
+import com.softserve.academy.jdbc.dao.EnrollmentDAO;
+import com.softserve.academy.jdbc.dao.StudentDAO;
+import com.softserve.academy.jdbc.dao.TeacherDAO;
+import com.softserve.academy.jdbc.example.Course;
+import com.softserve.academy.jdbc.example.Enrollment;
+import com.softserve.academy.jdbc.example.Student;
+import com.softserve.academy.jdbc.example.Teacher;
+import com.softserve.academy.jdbc.pool.ConnectionPool;
+import com.softserve.academy.jdbc.pool.ConnectionProvider;
+import com.softserve.academy.jdbc.schema.SchemaManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The flush interval is a minute, so nothing is written before a batch fills up or flush or close is
+ * called, except in the tests that stall the database to hold a batch in the middle of being written.
+ */
+class WriteBehindEnrollmentDAOTest {
+    private static final int ENROLLMENTS = 1_000;
+
+    private ConnectionPool pool;
+    private EnrollmentDAO direct;
+    private List<Enrollment> enrollments;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = ConnectionPool.builder("jdbc:h2:mem:write-behind-test;DB_CLOSE_DELAY=-1", "sa", "")
+                .maxSize(4)
+                .build();
+        try (Connection conn = pool.getConnection()) {
+            SchemaManager.createSchema(conn);
+        }
+        long teacherId = new TeacherDAO(pool).addTeacher(new Teacher(0L, "Dr. Brown", "Computer Science"));
+        long courseId = new CourseDAO(pool).addCourse(new Course(0L, "Databases", teacherId));
+        StudentDAO studentDAO = new StudentDAO(pool);
+        direct = new EnrollmentDAO(pool);
+        enrollments = new ArrayList<>(ENROLLMENTS);
+        for (int i = 0; i < ENROLLMENTS; i++) {
+            long studentId = studentDAO.addStudent(new Student(0L, "Student " + i, "student" + i + "@example.com"));
+            long id = direct.addEnrollment(new Enrollment(0L, studentId, courseId, null));
+            enrollments.add(new Enrollment(id, studentId, courseId, null));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        pool.close();
+    }
+
+    @Test
+    void laterUpdateOfAnEnrollmentReplacesTheQueuedOne() throws SQLException {
+        Enrollment enrollment = enrollments.get(0);
+        try (WriteBehindEnrollmentDAO writeBehind = slowFlush(pool).build()) {
+            for (String grade : List.of("A", "B", "C", "D")) {
+                writeBehind.updateEnrollment(withGrade(enrollment, grade));
+            }
+            assertEquals(1, writeBehind.getPendingCount());
+            assertEquals(4, writeBehind.getUpdates());
+            assertEquals(3, writeBehind.getCoalescedUpdates());
+
+            writeBehind.flush();
+
+            assertEquals(0, writeBehind.getPendingCount());
+            assertEquals(1, writeBehind.getWrittenUpdates());
+            assertEquals(1, writeBehind.getBatches());
+            assertEquals("D", direct.getEnrollmentById(enrollment.getId()).getGrade());
+        }
+    }
+
+    @Test
+    void readsThroughTheDaoSeeQueuedUpdates() throws SQLException {
+        Enrollment updated = withGrade(enrollments.get(0), "A");
+        try (WriteBehindEnrollmentDAO writeBehind = slowFlush(pool).build()) {
+            writeBehind.updateEnrollment(updated);
+
+            assertEquals(updated, writeBehind.getEnrollmentById(updated.getId()));
+            assertTrue(writeBehind.getAllEnrollments().contains(updated));
+            assertEquals(updated, writeBehind.getEnrollmentsPage(null, 10).getItems().get(0));
+            try (Stream<Enrollment> stream = writeBehind.streamEnrollments(100)) {
+                assertEquals(1, stream.filter(updated::equals).count());
+            }
+            List<Enrollment> visited = new ArrayList<>();
+            writeBehind.forEachEnrollment(100, visited::add);
+            assertTrue(visited.contains(updated));
+            // Other DAOs see the update only once it is written
+            assertNull(direct.getEnrollmentById(updated.getId()).getGrade());
+        }
+    }
+
+    @Test
+    void readsThroughTheDaoSeeTheBatchBeingWritten() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch database = new CountDownLatch(1);
+        Enrollment first = enrollments.get(0);
+        Enrollment second = enrollments.get(1);
+        try (WriteBehindEnrollmentDAO writeBehind = slowFlush(stalled(requested, database)).batchSize(2).build()) {
+            writeBehind.updateEnrollment(withGrade(first, "A"));
+            writeBehind.updateEnrollment(withGrade(second, "B"));
+            // The batch is full, so the flusher takes it and waits for a connection
+            assertTrue(requested.await(5, TimeUnit.SECONDS));
+
+            assertEquals(2, writeBehind.getPendingCount());
+            assertEquals("A", writeBehind.getEnrollmentById(first.getId()).getGrade());
+            assertEquals("B", writeBehind.getEnrollmentById(second.getId()).getGrade());
+            assertNull(direct.getEnrollmentById(first.getId()).getGrade());
+
+            // A newer update of an enrollment in the batch is queued again and read instead
+            writeBehind.updateEnrollment(withGrade(first, "C"));
+            assertEquals("C", writeBehind.getEnrollmentById(first.getId()).getGrade());
+
+            database.countDown();
+            writeBehind.flush();
+
+            assertEquals(0, writeBehind.getPendingCount());
+            assertEquals(3, writeBehind.getWrittenUpdates());
+            assertEquals("C", direct.getEnrollmentById(first.getId()).getGrade());
+            assertEquals("B", direct.getEnrollmentById(second.getId()).getGrade());
+        }
+    }
+
+    @Test
+    void fullQueueRejectsAnUpdateOfAnotherEnrollmentAfterTheOfferTimeout() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch database = new CountDownLatch(1);
+        try (WriteBehindEnrollmentDAO writeBehind = slowFlush(stalled(requested, database))
+                .capacity(4)
+                .batchSize(4)
+                .offerTimeoutMillis(200)
+                .build()) {
+            // The flusher takes the first four and waits for the database; the next four fill the queue
+            update(writeBehind, 0, 4, "B");
+            assertTrue(requested.await(5, TimeUnit.SECONDS));
+            update(writeBehind, 4, 8, "B");
+
+            long start = System.nanoTime();
+            assertThrows(SQLException.class, () -> writeBehind.updateEnrollment(withGrade(enrollments.get(8), "B")));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+
+            // An update of a queued enrollment replaces it and needs no room
+            writeBehind.updateEnrollment(withGrade(enrollments.get(4), "C"));
+
+            database.countDown();
+            writeBehind.flush();
+
+            assertEquals("B", direct.getEnrollmentById(enrollments.get(0).getId()).getGrade());
+            assertEquals("C", direct.getEnrollmentById(enrollments.get(4).getId()).getGrade());
+            assertEquals("B", direct.getEnrollmentById(enrollments.get(7).getId()).getGrade());
+            assertNull(direct.getEnrollmentById(enrollments.get(8).getId()).getGrade());
+        }
+    }
+
+    @Test
+    void fullQueueHoldsTheCallerBackUntilTheFlusherTakesABatch() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch database = new CountDownLatch(1);
+        try (WriteBehindEnrollmentDAO writeBehind = slowFlush(stalled(requested, database))
+                .capacity(4)
+                .batchSize(4)
+                .build()) {
+            update(writeBehind, 0, 4, "B");
+            assertTrue(requested.await(5, TimeUnit.SECONDS));
+            update(writeBehind, 4, 8, "B");
+
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            Thread caller = new Thread(() -> {
+                try {
+                    writeBehind.updateEnrollment(withGrade(enrollments.get(8), "B"));
+                } catch (SQLException e) {
+                    failure.set(e);
+                }
+            });
+            caller.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (caller.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertEquals(Thread.State.WAITING, caller.getState());
+            assertEquals(8, writeBehind.getUpdates());
+
+            database.countDown();
+            caller.join(5_000);
+
+            assertEquals(Thread.State.TERMINATED, caller.getState());
+            assertNull(failure.get());
+            writeBehind.flush();
+            assertEquals(9, writeBehind.getWrittenUpdates());
+            assertEquals("B", direct.getEnrollmentById(enrollments.get(8).getId()).getGrade());
+        }
+    }
+
+    @Test
+    void deleteDropsTheQueuedUpdate() throws SQLException {
+        Enrollment deleted = enrollments.get(0);
+        try (WriteBehindEnrollmentDAO writeBehind = slowFlush(pool).build()) {
+            writeBehind.updateEnrollment(withGrade(deleted, "E"));
+
+            assertTrue(writeBehind.deleteEnrollment(deleted.getId()));
+
+            assertEquals(0, writeBehind.getPendingCount());
+            assertNull(writeBehind.getEnrollmentById(deleted.getId()));
+            writeBehind.flush();
+            assertEquals(0, writeBehind.getBatches());
+            assertNull(direct.getEnrollmentById(deleted.getId()));
+        }
+    }
+
+    @Test
+    void flushWritesEverythingQueuedBeforeIt() throws SQLException {
+        try (WriteBehindEnrollmentDAO writeBehind = slowFlush(pool).batchSize(100).build()) {
+            update(writeBehind, 0, 250, "D");
+
+            writeBehind.flush();
+
+            assertEquals(0, writeBehind.getPendingCount());
+            assertEquals(250, writeBehind.getWrittenUpdates());
+            assertEquals(3, writeBehind.getBatches());
+            assertEquals(250, countGraded("D"));
+        }
+    }
+
+    @Test
+    void closeWritesEverythingQueuedAndRefusesLaterUpdates() throws SQLException {
+        WriteBehindEnrollmentDAO writeBehind = slowFlush(pool).batchSize(100).build();
+        update(writeBehind, 0, ENROLLMENTS, "D");
+
+        writeBehind.close();
+
+        assertEquals(ENROLLMENTS, writeBehind.getWrittenUpdates());
+        assertEquals(10, writeBehind.getBatches());
+        assertEquals(ENROLLMENTS, countGraded("D"));
+        assertThrows(SQLException.class, () -> writeBehind.updateEnrollment(withGrade(enrollments.get(0), "A")));
+    }
+
+    @Test
+    void failingUpdateIsReportedAndTheRestOfItsBatchWritten() throws SQLException {
+        Enrollment invalid = new Enrollment(enrollments.get(1).getId(), enrollments.get(1).getStudentId(),
+                Long.MAX_VALUE, "A");
+        try (WriteBehindEnrollmentDAO writeBehind = slowFlush(pool).build()) {
+            writeBehind.updateEnrollment(withGrade(enrollments.get(0), "E"));
+            writeBehind.updateEnrollment(invalid);
+            writeBehind.updateEnrollment(withGrade(enrollments.get(2), "E"));
+
+            SQLException e = assertThrows(SQLException.class, writeBehind::flush);
+
+            assertEquals(1, e.getSuppressed().length);
+            assertEquals(1, writeBehind.getFailedUpdates());
+            assertEquals(2, writeBehind.getWrittenUpdates());
+            assertEquals("E", direct.getEnrollmentById(enrollments.get(0).getId()).getGrade());
+            assertEquals("E", direct.getEnrollmentById(enrollments.get(2).getId()).getGrade());
+            assertEquals(enrollments.get(1), direct.getEnrollmentById(invalid.getId()));
+        }
+    }
+
+    private static WriteBehindEnrollmentDAO.Builder slowFlush(ConnectionProvider provider) {
+        return WriteBehindEnrollmentDAO.builder(provider).flushIntervalMillis(60_000);
+    }
+
+    /**
+     * Counts down requested on every connection request and hands out connections once the database latch
+     * is released, or after ten seconds, so that close() does not hang when a test fails before the release.
+     */
+    private ConnectionProvider stalled(CountDownLatch requested, CountDownLatch database) {
+        return () -> {
+            requested.countDown();
+            try {
+                database.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted", e);
+            }
+            return pool.getConnection();
+        };
+    }
+
+    private void update(WriteBehindEnrollmentDAO writeBehind, int from, int to, String grade) throws SQLException {
+        for (int i = from; i < to; i++) {
+            writeBehind.updateEnrollment(withGrade(enrollments.get(i), grade));
+        }
+    }
+
+    private long countGraded(String grade) throws SQLException {
+        return direct.getAllEnrollments().stream()
+                .filter(enrollment -> grade.equals(enrollment.getGrade()))
+                .count();
+    }
+
+    private static Enrollment withGrade(Enrollment enrollment, String grade) {
+        return new Enrollment(enrollment.getId(), enrollment.getStudentId(), enrollment.getCourseId(), grade);
+    }
+}
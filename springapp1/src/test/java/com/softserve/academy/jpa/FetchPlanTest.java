@@ -0,0 +1,163 @@
+package com.softserve.academy.jpa;
+
+import hibernate.model.Course;
+import hibernate.model.Enrollment;
+import hibernate.model.Student;
+import hibernate.model.Teacher;
+import hibernate.repository.CourseRepository;
+import hibernate.repository.EnrollmentRepository;
+import hibernate.repository.StudentRepository;
+import hibernate.repository.TeacherRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the exact number of SQL statements each roster and transcript use case issues, including
+ * every association it reads. The second-level and query caches are switched off, so the counts
+ * reflect the fetch plans alone. Each use case runs in its own transaction, so lazy associations
+ * can load, and starts with an empty persistence context.
+ */
+@SpringBootTest(classes = JpaRunnerApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:fetchplans;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FetchPlanTest {
+    private static final int TEACHERS = 30;
+    private static final int COURSES_PER_TEACHER = 2;
+    private static final int STUDENTS = 200;
+    private static final int COURSES_PER_STUDENT = 3;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private long courseId;
+    private long studentId;
+    private long teacherId;
+    private long enrollmentId;
+    private String title;
+
+    @BeforeAll
+    void populate() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Course> courses = new ArrayList<>();
+        for (int t = 0; t < TEACHERS; t++) {
+            Teacher teacher = teacherRepository.save(Teacher.builder()
+                    .firstName("Teacher").lastName("Number" + t).email("teacher" + t + "@example.com")
+                    .position("Professor").department("Department")
+                    .build());
+            for (int c = 0; c < COURSES_PER_TEACHER; c++) {
+                courses.add(courseRepository.save(Course.builder()
+                        .title("Course " + t + "-" + c).teacher(teacher)
+                        .build()));
+            }
+        }
+        List<Student> students = new ArrayList<>();
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (int s = 0; s < STUDENTS; s++) {
+            Student student = studentRepository.save(Student.builder()
+                    .firstName("Student").lastName("Number" + s).email("student" + s + "@example.com").group("CS-78")
+                    .build());
+            students.add(student);
+            for (int c = 0; c < COURSES_PER_STUDENT; c++) {
+                enrollments.add(enrollmentRepository.save(Enrollment.builder()
+                        .student(student).course(courses.get((s + c * 7) % courses.size())).grade("A")
+                        .build()));
+            }
+        }
+        courseId = courses.get(0).getId();
+        studentId = students.get(0).getId();
+        teacherId = courses.get(0).getTeacher().getId();
+        enrollmentId = enrollments.get(0).getId();
+        title = courses.get(0).getTitle();
+    }
+
+    @Test
+    void rosterLoadsStudentsWithTheEnrollments() {
+        assertStatements(1, () ->
+                enrollmentRepository.findByCourseId(courseId).forEach(e -> e.getStudent().getLastName()));
+    }
+
+    @Test
+    void transcriptLoadsCoursesAndTeachersWithTheEnrollments() {
+        assertStatements(1, () ->
+                enrollmentRepository.findByStudentId(studentId)
+                        .forEach(e -> e.getCourse().getTeacher().getLastName()));
+    }
+
+    @Test
+    void courseRosterLoadsTeacherAndStudentsWithTheCourse() {
+        assertStatements(1, () -> {
+            Course course = courseRepository.findWithRosterById(courseId).orElseThrow();
+            course.getTeacher().getLastName();
+            course.getEnrollments().forEach(e -> e.getStudent().getLastName());
+        });
+    }
+
+    @Test
+    void coursesByTitleLoadTheirTeachers() {
+        assertStatements(1, () ->
+                courseRepository.findByTitle(title).forEach(c -> c.getTeacher().getLastName()));
+    }
+
+    @Test
+    void teachersCoursesLoadTheirEnrollments() {
+        assertStatements(1, () ->
+                courseRepository.findWithEnrollmentsByTeacherId(teacherId).forEach(c -> c.getEnrollments().size()));
+    }
+
+    @Test
+    void courseListsOfAllTeachersAreBatchFetched() {
+        // 30 teachers: one query for the teachers, then their course lists in batches of 25
+        assertStatements(1 + 2, () -> teacherRepository.findAll().forEach(t -> t.getCourses().size()));
+    }
+
+    @Test
+    void studentsOfAnEnrollmentPageAreBatchFetched() {
+        // 20 enrollments of 7 students: one query for the page, then the students in one batch
+        assertStatements(1 + 1, () ->
+                enrollmentRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(20))
+                        .forEach(e -> e.getStudent().getLastName()));
+    }
+
+    @Test
+    void enrollmentByIdLeavesItsAssociationsUnloaded() {
+        assertStatements(1, () -> enrollmentRepository.findById(enrollmentId).orElseThrow().getGrade());
+    }
+
+    private void assertStatements(long expected, Runnable useCase) {
+        statistics.clear();
+        tx.executeWithoutResult(status -> useCase.run());
+        assertEquals(expected, statistics.getPrepareStatementCount());
+    }
+}
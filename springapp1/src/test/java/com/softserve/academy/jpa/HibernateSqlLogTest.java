@@ -0,0 +1,63 @@
+package com.softserve.academy.jpa;
+
+import com.softserve.academy.jdbc.sqllog.SqlLog;
+import com.softserve.academy.jdbc.sqllog.SqlStatementStats;
+import hibernate.model.Student;
+import hibernate.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the SQL log configured by SqlLogAutoConfiguration sees Hibernate's statements: every
+ * findByEmail query and every row of the batched inserts.
+ */
+@SpringBootTest(classes = JpaRunnerApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:sqllog;DB_CLOSE_DELAY=-1",
+                "sqllog.enabled=true",
+                "sqllog.sample-interval=50",
+                "sqllog.report-interval-seconds=0"})
+@ActiveProfiles("h2")
+class HibernateSqlLogTest {
+    private static final int STUDENTS = 200;
+
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private SqlLog log;
+
+    @Test
+    void hibernateStatementsGoThroughTheLog() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(Student.builder()
+                    .firstName("Student").lastName("Green").email("student" + i + "@example.com").group("CS-78")
+                    .build());
+        }
+        studentRepository.saveAll(students);
+        for (Student student : students) {
+            studentRepository.findByEmail(student.getEmail());
+        }
+        assertTrue(log.awaitDrained(5_000));
+
+        long selects = 0;
+        long inserted = 0;
+        for (SqlStatementStats stats : log.getTopStatements(Integer.MAX_VALUE)) {
+            if (stats.getSql().startsWith("select") && stats.getSql().endsWith("where s1_0.email=?")) {
+                selects += stats.getExecutions();
+            } else if (stats.getSql().startsWith("insert into students")) {
+                inserted += stats.getRows();
+            }
+        }
+        assertEquals(STUDENTS, selects);
+        assertEquals(STUDENTS, inserted);
+    }
+}
@@ -0,0 +1,126 @@
+package com.softserve.academy.jpa;
+
+import hibernate.model.Course;
+import hibernate.model.Enrollment;
+import hibernate.model.Student;
+import hibernate.model.Teacher;
+import hibernate.repository.CourseRepository;
+import hibernate.repository.EnrollmentRepository;
+import hibernate.repository.StudentRepository;
+import hibernate.repository.TeacherRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the second-level and query caches configured in ehcache.xml serve repeated repository
+ * lookups without any SQL, counted by the Hibernate statistics.
+ */
+@SpringBootTest(classes = JpaRunnerApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:l2cache;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SecondLevelCacheTest {
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate tx;
+    private SessionFactory sessionFactory;
+    private Teacher teacher;
+    private Course course;
+    private final List<Student> students = new ArrayList<>();
+    private final List<Enrollment> enrollments = new ArrayList<>();
+
+    @BeforeAll
+    void populate() {
+        tx = new TransactionTemplate(transactionManager);
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        teacher = teacherRepository.save(Teacher.builder()
+                .firstName("Ivan").lastName("Brown").email("ivan.brown@example.com")
+                .position("Professor").department("Computer Science")
+                .build());
+        course = courseRepository.save(Course.builder().title("Spring Boot Basics").teacher(teacher).build());
+        for (String name : new String[]{"Bob", "Alice", "Carol"}) {
+            Student student = studentRepository.save(Student.builder()
+                    .firstName(name).lastName("Green").email(name.toLowerCase() + "@example.com").group("CS-78")
+                    .build());
+            students.add(student);
+            enrollments.add(enrollmentRepository.save(Enrollment.builder()
+                    .student(student).course(course).grade("A")
+                    .build()));
+        }
+    }
+
+    @Test
+    void repeatedLookupsIssueNoSql() {
+        Statistics statistics = sessionFactory.getStatistics();
+        sessionFactory.getCache().evictAllRegions();
+
+        statistics.clear();
+        lookups();
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+
+        for (int round = 2; round <= 3; round++) {
+            statistics.clear();
+            lookups();
+            assertEquals(0, statistics.getPrepareStatementCount(), "statements in round " + round);
+            assertEquals(0, statistics.getSecondLevelCacheMissCount(), "cache misses in round " + round);
+            assertEquals(0, statistics.getQueryCacheMissCount(), "query cache misses in round " + round);
+        }
+    }
+
+    @Test
+    void queryCacheSeesARenamedCourse() {
+        Course renamed = courseRepository.save(Course.builder().title("Hibernate Basics").teacher(teacher).build());
+        assertEquals(1, courseRepository.findByTitle("Hibernate Basics").size());
+
+        tx.executeWithoutResult(status -> courseRepository.findById(renamed.getId()).orElseThrow()
+                .setTitle("Hibernate Advanced"));
+
+        assertTrue(courseRepository.findByTitle("Hibernate Basics").isEmpty());
+        assertEquals(1, courseRepository.findByTitle("Hibernate Advanced").size());
+    }
+
+    /**
+     * Looks entities up by id, through the cacheable finders and through the cached collections.
+     */
+    private void lookups() {
+        teacherRepository.findById(teacher.getId());
+        courseRepository.findById(course.getId());
+        studentRepository.findById(students.get(0).getId());
+        enrollmentRepository.findById(enrollments.get(0).getId());
+        courseRepository.findByTitle("Spring Boot Basics");
+        teacherRepository.findByEmail("ivan.brown@example.com");
+        studentRepository.findByEmail("bob@example.com");
+        enrollmentRepository.findByCourseId(course.getId());
+        tx.executeWithoutResult(status -> {
+            teacherRepository.findById(teacher.getId()).orElseThrow().getCourses().size();
+            courseRepository.findById(course.getId()).orElseThrow().getEnrollments().size();
+            studentRepository.findById(students.get(0).getId()).orElseThrow().getEnrollments().size();
+        });
+    }
+}
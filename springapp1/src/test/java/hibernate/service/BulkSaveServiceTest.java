@@ -0,0 +1,93 @@
+package hibernate.service;
+
+import com.softserve.academy.jpa.JpaRunnerApplication;
+import hibernate.model.Student;
+import hibernate.model.Teacher;
+import hibernate.repository.StudentRepository;
+import hibernate.repository.TeacherRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(classes = JpaRunnerApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:bulksave;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("h2")
+class BulkSaveServiceTest {
+    @Autowired
+    private BulkSaveService bulkSaveService;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void savedEntitiesGetTheirIds() {
+        List<Student> students = students("Bulk", 120);
+
+        bulkSaveService.saveStudents(students);
+
+        for (Student student : students) {
+            assertNotNull(student.getId());
+        }
+        assertEquals(120, studentRepository.findByLastName("Bulk").size());
+    }
+
+    @Test
+    void callersCacheModeIsRestored() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setCacheMode(CacheMode.GET);
+
+            bulkSaveService.saveStudents(students("Cached", 3));
+
+            assertEquals(CacheMode.GET, session.getCacheMode());
+        });
+    }
+
+    @Test
+    void callersEntitiesAreDetachedAndTheirChangesFlushed() {
+        Teacher saved = teacherRepository.save(Teacher.builder()
+                .firstName("Ivan").lastName("Brown").email("ivan.brown@example.com")
+                .position("Professor").department("Computer Science")
+                .build());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Teacher teacher = entityManager.find(Teacher.class, saved.getId());
+            teacher.setDepartment("Mathematics");
+
+            bulkSaveService.saveStudents(students("Detached", 3));
+
+            assertFalse(entityManager.contains(teacher));
+        });
+        assertEquals("Mathematics", teacherRepository.findById(saved.getId()).orElseThrow().getDepartment());
+    }
+
+    private static List<Student> students(String lastName, int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(Student.builder()
+                    .firstName("Student").lastName(lastName)
+                    .email(lastName.toLowerCase() + i + "@example.com").group("CS-78")
+                    .build());
+        }
+        return students;
+    }
+}
@@ -1,14 +0,0 @@
-package hibernate.repository;
-
-import hibernate.model.Enrollment;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-
-@Repository
-public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
-
-     List<Enrollment> findByStudentId(Long studentId);
-     List<Enrollment> findByCourseId(Long courseId);
-}
@@ -1,15 +0,0 @@
-package hibernate.repository;
-
-import hibernate.model.Student;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-import java.util.Optional;
-
-
-@Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
-    List<Student> findByLastName(String name);
-    Optional<Student> findByEmail(String email);
-}